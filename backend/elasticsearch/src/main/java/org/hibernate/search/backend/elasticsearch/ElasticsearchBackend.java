@@ -22,4 +22,11 @@ public interface ElasticsearchBackend extends Backend {
 	 */
 	<T> T getClient(Class<T> clientClass);
 
+	/**
+	 * @return Statistics about the data transferred between this backend and the Elasticsearch cluster,
+	 * useful in particular to assess the benefits of
+	 * {@link org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings#GZIP_COMPRESSION compression}.
+	 */
+	ElasticsearchTransferStatistics getTransferStatistics();
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch;
+
+/**
+ * Statistics about the data transferred between an Elasticsearch backend and the cluster.
+ * <p>
+ * Only request and response bodies are taken into account: HTTP headers are not.
+ * When compression is disabled, compressed and uncompressed figures are identical.
+ *
+ * @see org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings#GZIP_COMPRESSION
+ */
+public interface ElasticsearchTransferStatistics {
+
+	/**
+	 * @return The number of bytes of JSON produced for request bodies, before compression.
+	 */
+	long getRequestUncompressedBytes();
+
+	/**
+	 * @return The number of bytes actually sent for request bodies, after compression.
+	 */
+	long getRequestSentBytes();
+
+	/**
+	 * @return The number of bytes actually received for response bodies, before decompression.
+	 */
+	long getResponseReceivedBytes();
+
+	/**
+	 * @return The number of bytes of JSON read from response bodies, after decompression.
+	 */
+	long getResponseUncompressedBytes();
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum IndexLifecycleStrategyConfiguration {
+
+	/**
+	 * Do not touch indexes on startup: indexes are expected to exist and to match the mapping.
+	 */
+	NONE("none"),
+
+	/**
+	 * Check that indexes exist and that their mapping and analysis settings match the expected ones,
+	 * failing on startup otherwise.
+	 */
+	VALIDATE("validate"),
+
+	/**
+	 * Create indexes that do not exist yet, leaving existing indexes untouched.
+	 */
+	CREATE_IF_MISSING("create-if-missing"),
+
+	/**
+	 * Create indexes that do not exist yet, and update the mapping and analysis settings of existing indexes.
+	 * <p>
+	 * Updating analysis settings requires closing the index temporarily,
+	 * which is only done when the existing settings do not match the expected ones.
+	 * Incompatible mapping changes will fail.
+	 */
+	UPDATE("update"),
+
+	/**
+	 * Drop existing indexes and re-create them on startup, losing all indexed data.
+	 */
+	DROP_AND_CREATE("drop-and-create");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private IndexLifecycleStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+
+	public static IndexLifecycleStrategyConfiguration fromExternalRepresentation(String strategy) {
+		for ( IndexLifecycleStrategyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( strategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownIndexLifecycleStrategyConfiguration( strategy );
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum RefreshStrategyConfiguration {
+
+	/**
+	 * Do not refresh indexes after writes: changes become visible after the next periodic refresh.
+	 */
+	NONE("none"),
+
+	/**
+	 * Wait for the next periodic refresh before considering writes complete.
+	 */
+	WAIT_FOR("wait_for"),
+
+	/**
+	 * Refresh indexes explicitly after writes, once per index and per batch of changesets.
+	 */
+	IMMEDIATE("immediate");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private RefreshStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static RefreshStrategyConfiguration fromExternalRepresentation(String refreshStrategy) {
+		for ( RefreshStrategyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( refreshStrategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownRefreshStrategyConfiguration( refreshStrategy );
+	}
+}
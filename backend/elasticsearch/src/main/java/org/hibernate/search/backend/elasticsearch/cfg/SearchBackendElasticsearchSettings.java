@@ -47,6 +47,51 @@ private SearchBackendElasticsearchSettings() {
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The maximum number of bulkable works (document additions, updates and deletions)
+	 * sent in a single {@code _bulk} request.
+	 */
+	public static final String MAX_BULK_SIZE = "max_bulk_size";
+
+	/**
+	 * The default refresh strategy for work plans: {@code none}, {@code wait_for} or {@code immediate}.
+	 * <p>
+	 * Mass indexing and other streamed works never trigger a refresh.
+	 */
+	public static final String REFRESH_STRATEGY = "refresh_strategy";
+
+	/**
+	 * The maximum number of requests each work orchestrator sends to the cluster concurrently.
+	 * <p>
+	 * Defaults to the value of {@link #MAX_TOTAL_CONNECTION}.
+	 */
+	public static final String MAX_CONCURRENT_REQUESTS = "max_concurrent_requests";
+
+	/**
+	 * The time, in seconds, Elasticsearch keeps the context of a scroll alive between two chunks.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * What to do with indexes on startup: {@code none}, {@code validate}, {@code create-if-missing},
+	 * {@code update} or {@code drop-and-create}.
+	 * <p>
+	 * Indexes are checked, created or updated concurrently.
+	 *
+	 * @see IndexLifecycleStrategyConfiguration
+	 */
+	public static final String INDEX_LIFECYCLE_STRATEGY = "index_lifecycle_strategy";
+
+	/**
+	 * Whether request bodies should be compressed using GZIP,
+	 * and compressed responses should be requested from the cluster.
+	 * <p>
+	 * Compression saves bandwidth at the cost of CPU on both sides;
+	 * see {@link org.hibernate.search.backend.elasticsearch.ElasticsearchBackend#getTransferStatistics()}
+	 * to assess how much is saved.
+	 */
+	public static final String GZIP_COMPRESSION = "gzip_compression";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -66,5 +111,10 @@ private Defaults() {
 		public static final String DISCOVERY_SCHEME = "http";
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+		public static final int MAX_BULK_SIZE = 100;
+		public static final RefreshStrategyConfiguration REFRESH_STRATEGY = RefreshStrategyConfiguration.IMMEDIATE;
+		public static final int SCROLL_TIMEOUT = 60;
+		public static final IndexLifecycleStrategyConfiguration INDEX_LIFECYCLE_STRATEGY = IndexLifecycleStrategyConfiguration.DROP_AND_CREATE;
+		public static final boolean GZIP_COMPRESSION = false;
 	}
 }
@@ -11,13 +11,17 @@
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
 import org.elasticsearch.client.sniff.NodesSniffer;
 import org.elasticsearch.client.sniff.Sniffer;
@@ -101,6 +105,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.DISCOVERY_SCHEME )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> GZIP_COMPRESSION =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.GZIP_COMPRESSION )
+					.asBoolean()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.GZIP_COMPRESSION )
+					.build();
+
 	/* TODO ElasticsearchHttpClientConfigurer
 	private ServiceManager serviceManager;
 
@@ -119,17 +129,25 @@ public void stop() {
 	public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
 			GsonProvider initialGsonProvider) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
+		boolean gzipCompression = GZIP_COMPRESSION.get( propertySource );
 
-		RestClient restClient = createClient( propertySource, requestTimeoutMs );
+		RestClient restClient = createClient( propertySource, requestTimeoutMs, gzipCompression );
 		Sniffer sniffer = createSniffer( restClient, propertySource );
 
-		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS, initialGsonProvider );
+		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS,
+				gzipCompression, initialGsonProvider );
 	}
 
-	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis) {
+	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis,
+			boolean gzipCompression) {
 		ServerUris hosts = ServerUris.fromStrings( HOST.get( propertySource ) );
 
-		return RestClient.builder( hosts.asHostsArray() )
+		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() );
+		if ( gzipCompression ) {
+			// Responses are decompressed in ElasticsearchClientImpl
+			builder.setDefaultHeaders( new Header[] { new BasicHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" ) } );
+		}
+		return builder
 				/*
 				 * Note: this timeout is currently only used on retries,
 				 * but should we start using the synchronous methods of RestClient,
@@ -10,6 +10,7 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -20,7 +21,9 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -30,9 +33,11 @@
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.sniff.Sniffer;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyReader;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
@@ -44,6 +49,7 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
@@ -63,15 +69,20 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean gzipCompression;
+
+	private final ElasticsearchTransferStatisticsImpl transferStatistics = new ElasticsearchTransferStatisticsImpl();
+
 	private volatile GsonProvider gsonProvider;
 
 	public ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, int requestTimeoutValue, TimeUnit requestTimeoutUnit,
-			GsonProvider initialGsonProvider) {
+			boolean gzipCompression, GsonProvider initialGsonProvider) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = Executors.newScheduledThreadPool( "Elasticsearch request timeout executor" );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
+		this.gzipCompression = gzipCompression;
 		this.gsonProvider = initialGsonProvider;
 	}
 
@@ -91,6 +102,26 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 		return result;
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyReader<T> bodyReader) {
+		if ( requestLog.isTraceEnabled() ) {
+			// Trace logs include the full response body, so we need the full JSON tree anyway
+			return submit( request ).thenApply( response -> readBody( response, bodyReader ) );
+		}
+		CompletableFuture<Response> responseFuture = Futures.create( () -> send( request ) );
+		if ( requestLog.isDebugEnabled() ) {
+			long startTime = System.nanoTime();
+			responseFuture.thenAccept( response -> log( request, startTime, response.getStatusLine().getStatusCode(),
+					response.getStatusLine().getReasonPhrase() ) );
+		}
+		return responseFuture.thenApply( response -> streamBody( response, bodyReader ) );
+	}
+
+	@Override
+	public ElasticsearchTransferStatistics getTransferStatistics() {
+		return transferStatistics;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> clientClass) {
@@ -107,7 +138,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, gzipCompression, transferStatistics );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -185,6 +216,34 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
+	private <T> T streamBody(Response response, ElasticsearchResponseBodyReader<T> bodyReader) {
+		HttpEntity entity = response.getEntity();
+		try ( Reader reader = entity == null
+					? new StringReader( "{}" )
+					: new InputStreamReader( getContent( entity ), getCharset( entity ) );
+				JsonReader jsonReader = new JsonReader( reader ) ) {
+			// Same as Gson.fromJson
+			jsonReader.setLenient( true );
+			return bodyReader.read( jsonReader );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse(
+					response.getStatusLine().getStatusCode(),
+					response.getStatusLine().getReasonPhrase(),
+					e );
+		}
+	}
+
+	private <T> T readBody(ElasticsearchResponse response, ElasticsearchResponseBodyReader<T> bodyReader) {
+		JsonObject body = response.getBody();
+		try ( JsonReader jsonReader = new JsonReader( new StringReader( body == null ? "{}" : body.toString() ) ) ) {
+			return bodyReader.read( jsonReader );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+	}
+
 	private JsonObject parseBody(Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
@@ -193,12 +252,29 @@ private JsonObject parseBody(Response response) throws IOException {
 
 		Gson gson = gsonProvider.getGson();
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = getContent( entity );
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	/*
+	 * The RestClient does not decompress responses by itself,
+	 * so we need to do it when the cluster honored our "Accept-Encoding" header.
+	 */
+	private InputStream getContent(HttpEntity entity) throws IOException {
+		InputStream content = new CountingInputStream( entity.getContent(), transferStatistics.responseReceivedBytes );
+		if ( isGzipEncoded( entity ) ) {
+			content = new GZIPInputStream( content );
+		}
+		return new CountingInputStream( content, transferStatistics.responseUncompressedBytes );
+	}
+
+	private static boolean isGzipEncoded(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		return contentEncoding != null && "gzip".equalsIgnoreCase( contentEncoding.getValue() );
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -221,6 +297,13 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		}
 	}
 
+	private void log(ElasticsearchRequest request, long start, int statusCode, String statusMessage) {
+		long executionTimeNs = System.nanoTime() - start;
+		long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( executionTimeNs );
+		requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(), executionTimeMs,
+				statusCode, statusMessage );
+	}
+
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
@@ -28,12 +28,13 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip,
+			ElasticsearchTransferStatisticsImpl statistics) throws IOException {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip, statistics );
 	}
 
 }
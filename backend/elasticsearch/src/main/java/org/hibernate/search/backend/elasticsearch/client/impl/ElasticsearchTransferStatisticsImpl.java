@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
+
+final class ElasticsearchTransferStatisticsImpl implements ElasticsearchTransferStatistics {
+
+	final LongAdder requestUncompressedBytes = new LongAdder();
+	final LongAdder requestSentBytes = new LongAdder();
+	final LongAdder responseReceivedBytes = new LongAdder();
+	final LongAdder responseUncompressedBytes = new LongAdder();
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "requestUncompressedBytes=" ).append( requestUncompressedBytes )
+				.append( ", requestSentBytes=" ).append( requestSentBytes )
+				.append( ", responseReceivedBytes=" ).append( responseReceivedBytes )
+				.append( ", responseUncompressedBytes=" ).append( responseUncompressedBytes )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getRequestUncompressedBytes() {
+		return requestUncompressedBytes.sum();
+	}
+
+	@Override
+	public long getRequestSentBytes() {
+		return requestSentBytes.sum();
+	}
+
+	@Override
+	public long getResponseReceivedBytes() {
+		return responseReceivedBytes.sum();
+	}
+
+	@Override
+	public long getResponseUncompressedBytes() {
+		return responseUncompressedBytes.sum();
+	}
+}
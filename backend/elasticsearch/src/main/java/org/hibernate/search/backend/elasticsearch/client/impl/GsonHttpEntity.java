@@ -14,9 +14,11 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.ContentEncoder;
@@ -55,6 +57,11 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * When GZIP compression is enabled, the encoded bytes are compressed
+ * as they are written to the buffer pages, so compression
+ * is just as progressive as encoding.
+ * The content length reported in that case is the compressed length.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +70,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HttpHeaders.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +91,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean gzip;
+	private final ElasticsearchTransferStatisticsImpl statistics;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -118,15 +129,19 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip,
+			ElasticsearchTransferStatisticsImpl statistics) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( statistics, "statistics" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.gzip = gzip;
+		this.statistics = statistics;
 		this.contentLength = -1;
+		this.writer = createWriter();
 		attemptOnePassEncoding();
 	}
 
@@ -153,6 +168,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzip ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -170,16 +188,29 @@ public void writeTo(OutputStream out) throws IOException {
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
+		 * This method is not used to send the request (the HTTP client uses produceContent()),
+		 * but for instance to compute a digest of the content, so it does not update transfer statistics.
+		 *
 		 * Note we don't close the counting stream or the writer,
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
+		GZIPOutputStream gzipStream = null;
+		OutputStream uncompressedStream = countingStream;
+		if ( gzip ) {
+			gzipStream = new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE );
+			uncompressedStream = gzipStream;
+		}
+		Writer writer = new OutputStreamWriter( uncompressedStream, CHARSET );
 		for ( JsonObject bodyPart : bodyParts ) {
 			gson.toJson( bodyPart, writer );
 			writer.append( '\n' );
 		}
 		writer.flush();
+		if ( gzipStream != null ) {
+			// Writes the trailer, but does not close the underlying stream
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -200,7 +231,12 @@ public void close() throws IOException {
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.close();
+		this.writer = createWriter();
+	}
+
+	private ProgressiveCharBufferWriter createWriter() {
+		return new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, gzip );
 	}
 
 	/**
@@ -219,7 +255,7 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer.finish();
 			// The buffer's current content size is the final content size,
 			// as we know the entire content has been encoded already,
 			// and we also know no content was consumed from the buffer yet.
@@ -271,6 +307,8 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		//Terminate the compressed stream, if any
+		writer.finish();
 		writer.flushToOutput();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
@@ -279,12 +317,19 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// If we haven't aborted yet, we finished!
 		encoder.complete();
 
+		// Count each completed send exactly once
+		statistics.requestUncompressedBytes.add( writer.getUncompressedByteCount() );
+		statistics.requestSentBytes.add( writer.getOutputByteCount() );
+
 		// Design note: we could finally know the content length in bytes at this point
 		// (we had an accumulator in previous versions) but that's always pointless
 		// as the HTTP CLient will request the size before starting produce content.
 
 		//Allow to repeat the content rendering from the beginning:
 		this.nextBodyToEncodeIndex = 0;
+		//The compressed stream, if any, was terminated: we need a new writer to repeat the rendering.
+		this.writer.close();
+		this.writer = createWriter();
 	}
 
 	private void hintContentLength(long contentLength) {
@@ -30,6 +30,7 @@ private Paths() {
 	public static final URLEncodedString _MAPPING = URLEncodedString.fromString( "_mapping" );
 	public static final URLEncodedString _REFRESH = URLEncodedString.fromString( "_refresh" );
 	public static final URLEncodedString _SEARCH = URLEncodedString.fromString( "_search" );
+	public static final URLEncodedString _MSEARCH = URLEncodedString.fromString( "_msearch" );
 	public static final URLEncodedString _TEMPLATE = URLEncodedString.fromString( "_template" );
 	public static final URLEncodedString _CLUSTER = URLEncodedString.fromString( "_cluster" );
 	public static final URLEncodedString _BULK = URLEncodedString.fromString( "_bulk" );
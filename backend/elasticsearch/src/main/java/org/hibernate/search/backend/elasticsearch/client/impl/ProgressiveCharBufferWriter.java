@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,6 +28,10 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the encoded bytes can be compressed using the GZIP format
+ * before they are stored in the buffer pages,
+ * so that compression happens progressively too.
  *
  * @author Sanne Grinovero
  * @author Yoann Rodiere
@@ -71,10 +77,36 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private boolean flowControlPushingBack = false;
 
+	/**
+	 * When compressing, a buffer for the encoded (but not yet compressed) bytes;
+	 * {@code null} otherwise.
+	 */
+	private final ByteBuffer uncompressedBuffer;
+
+	/**
+	 * When compressing, the deflater turning the content of {@link #uncompressedBuffer} into buffer pages.
+	 * Lazily initialized, so that we only allocate native memory when something is actually written.
+	 */
+	private Deflater deflater;
+
+	private final CRC32 crc;
+
+	private boolean finished = false;
+
+	private long uncompressedByteCount = 0L;
+
+	private long outputByteCount = 0L;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		this.uncompressedBuffer = gzip ? ByteBuffer.allocate( pageSize ) : null;
+		this.crc = gzip ? new CRC32() : null;
 	}
 
 	/**
@@ -128,7 +160,40 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() throws IOException {
-		// Nothing to do
+		if ( deflater != null ) {
+			// Release native memory
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Signal that all the content has been written,
+	 * so that the compressed stream, if any, can be terminated.
+	 * <p>
+	 * Must be called before {@link #flushToOutput()} when compressing.
+	 * This method does not write anything to the {@link #setOutput(ContentEncoder) output}
+	 * and may safely be called multiple times.
+	 *
+	 * @throws IOException when encoding fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( uncompressedBuffer == null || finished ) {
+			return;
+		}
+		startCompressionIfNecessary();
+		deflater.finish();
+		while ( !deflater.finished() ) {
+			deflateToCurrentPage();
+		}
+		long checksum = crc.getValue();
+		writeToPages( new byte[] {
+				// GZIP trailer: CRC32 then uncompressed size modulo 2^32, both in little-endian order
+				(byte) checksum, (byte) ( checksum >> 8 ), (byte) ( checksum >> 16 ), (byte) ( checksum >> 24 ),
+				(byte) uncompressedByteCount, (byte) ( uncompressedByteCount >> 8 ),
+				(byte) ( uncompressedByteCount >> 16 ), (byte) ( uncompressedByteCount >> 24 )
+		} );
+		finished = true;
 	}
 
 	/**
@@ -193,7 +258,26 @@ public int byteBufferContentSize() {
 		return contentSize;
 	}
 
+	/**
+	 * @return The number of bytes the content was encoded to before compression, if any.
+	 * Only accurate once all the content has been written to the {@link #setOutput(ContentEncoder) output}.
+	 */
+	public long getUncompressedByteCount() {
+		return uncompressedBuffer == null ? outputByteCount : uncompressedByteCount;
+	}
+
+	/**
+	 * @return The number of bytes written to the {@link #setOutput(ContentEncoder) output} so far.
+	 */
+	public long getOutputByteCount() {
+		return outputByteCount;
+	}
+
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( uncompressedBuffer != null ) {
+			writeToUncompressedBuffer( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -203,16 +287,24 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
+				moveFullCurrentPage();
+			}
+			else {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+		}
+	}
+
+	private void writeToUncompressedBuffer(CharBuffer input) throws IOException {
+		startCompressionIfNecessary();
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.isUnderflow() || coderResult.isOverflow() ) {
+				deflateUncompressedBuffer();
+				if ( coderResult.isUnderflow() ) {
+					return;
 				}
 			}
 			else {
@@ -223,6 +315,75 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void startCompressionIfNecessary() throws IOException {
+		if ( deflater != null ) {
+			return;
+		}
+		// "nowrap": GZIP uses raw deflate data, with its own header and trailer
+		deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		writeToPages( new byte[] {
+				// GZIP header: magic number, "deflate" method, no flags, no modification time, no extra flags, unknown OS
+				(byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+		} );
+	}
+
+	private void deflateUncompressedBuffer() throws IOException {
+		uncompressedBuffer.flip();
+		int length = uncompressedBuffer.remaining();
+		if ( length > 0 ) {
+			byte[] array = uncompressedBuffer.array();
+			int offset = uncompressedBuffer.arrayOffset() + uncompressedBuffer.position();
+			crc.update( array, offset, length );
+			uncompressedByteCount += length;
+			deflater.setInput( array, offset, length );
+			while ( !deflater.needsInput() ) {
+				deflateToCurrentPage();
+			}
+		}
+		uncompressedBuffer.clear();
+	}
+
+	private void deflateToCurrentPage() throws IOException {
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		int position = currentPage.position();
+		int deflated = deflater.deflate( currentPage.array(), currentPage.arrayOffset() + position, currentPage.remaining() );
+		currentPage.position( position + deflated );
+		if ( !currentPage.hasRemaining() ) {
+			moveFullCurrentPage();
+		}
+	}
+
+	private void writeToPages(byte[] bytes) throws IOException {
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				moveFullCurrentPage();
+			}
+		}
+	}
+
+	private void moveFullCurrentPage() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -268,6 +429,7 @@ private boolean write(ByteBuffer buffer) throws IOException {
 			return true;
 		}
 		final int actuallyWritten = output.write( buffer );
+		outputByteCount += actuallyWritten;
 		return toWrite == actuallyWritten;
 	}
 
@@ -6,8 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.concurrent.CompletableFuture;
 
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
 /**
  * An Elasticsearch client, allowing to perform requests to a remote cluster.
  *
@@ -22,6 +28,34 @@ public interface ElasticsearchClient {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * Execute a request and stream the response body to the given reader,
+	 * instead of building the full JSON tree of the response.
+	 * <p>
+	 * The status of the response is not checked: the reader is given the response body regardless of the status.
+	 * <p>
+	 * The default implementation builds the full tree anyway, then streams it:
+	 * implementations are expected to override it.
+	 *
+	 * @param request A request to execute asynchronously
+	 * @param bodyReader A reader for the response body.
+	 * @param <T> The type of the result of reading.
+	 * @return The future that will ultimately hold the result of reading the response body
+	 * (or throw an exception if an error occurred or if the request timed out).
+	 */
+	default <T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyReader<T> bodyReader) {
+		return submit( request ).thenApply( response -> {
+			JsonObject body = response.getBody();
+			String bodyAsString = body == null ? "{}" : body.toString();
+			try ( JsonReader reader = new JsonReader( new StringReader( bodyAsString ) ) ) {
+				return bodyReader.read( reader );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		} );
+	}
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
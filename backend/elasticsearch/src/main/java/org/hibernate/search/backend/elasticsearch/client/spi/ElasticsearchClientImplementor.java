@@ -8,6 +8,7 @@
 
 import java.io.Closeable;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
 /**
@@ -17,4 +18,9 @@ public interface ElasticsearchClientImplementor extends ElasticsearchClient, Clo
 
 	void init(GsonProvider gsonProvider);
 
+	/**
+	 * @return Statistics about the data transferred by this client.
+	 */
+	ElasticsearchTransferStatistics getTransferStatistics();
+
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A reader consuming the body of an Elasticsearch response as a stream of JSON tokens,
+ * without building the full JSON tree.
+ *
+ * @param <T> The type of the result of reading.
+ * @see ElasticsearchClient#submit(ElasticsearchRequest, ElasticsearchResponseBodyReader)
+ */
+@FunctionalInterface
+public interface ElasticsearchResponseBodyReader<T> {
+
+	/**
+	 * @param reader A reader positioned at the beginning of the response body.
+	 * If the response does not have a body, the reader will return an empty JSON object.
+	 * @return The result of reading.
+	 * @throws IOException If the response body cannot be read.
+	 */
+	T read(JsonReader reader) throws IOException;
+
+}
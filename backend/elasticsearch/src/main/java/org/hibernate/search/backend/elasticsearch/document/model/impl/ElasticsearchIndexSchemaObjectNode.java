@@ -53,4 +53,17 @@ public String getAbsolutePath(String relativeFieldName) {
 	public ObjectFieldStorage getStorage() {
 		return storage;
 	}
+
+	/**
+	 * @return {@code true} if this object or one of its ancestors is stored as a nested document,
+	 * {@code false} otherwise.
+	 */
+	public boolean isInNestedDocument() {
+		for ( ElasticsearchIndexSchemaObjectNode node = this; node != null; node = node.parent ) {
+			if ( ObjectFieldStorage.NESTED.equals( node.storage ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -12,7 +12,9 @@
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisDefinitionContainerContextImpl;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.cfg.IndexLifecycleStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.cfg.MultiTenancyStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.SearchBackendElasticsearchSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
@@ -31,6 +33,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchStubWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -63,6 +66,41 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<RefreshStrategyConfiguration> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.REFRESH_STRATEGY )
+					.as( RefreshStrategyConfiguration.class, RefreshStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.REFRESH_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_CONCURRENT_REQUESTS =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.MAX_CONCURRENT_REQUESTS )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<IndexLifecycleStrategyConfiguration> INDEX_LIFECYCLE_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEX_LIFECYCLE_STRATEGY )
+					.as( IndexLifecycleStrategyConfiguration.class, IndexLifecycleStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEX_LIFECYCLE_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_TOTAL_CONNECTION =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.MAX_TOTAL_CONNECTION )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.MAX_TOTAL_CONNECTION )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> LOG_JSON_PRETTY_PRINTING =
 			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.LOG_JSON_PRETTY_PRINTING )
 					.asBoolean()
@@ -112,7 +150,14 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			return new ElasticsearchBackendImpl(
 					client, name, workFactory, userFacingGson,
 					analysisDefinitionRegistry,
-					multiTenancyStrategy
+					multiTenancyStrategy,
+					MAX_BULK_SIZE.get( propertySource ),
+					getRefreshStrategy( name, propertySource ),
+					// Sending more concurrent requests than there are connections would be pointless
+					MAX_CONCURRENT_REQUESTS.get( propertySource )
+							.orElseGet( () -> MAX_TOTAL_CONNECTION.get( propertySource ) ),
+					SCROLL_TIMEOUT.get( propertySource ),
+					INDEX_LIFECYCLE_STRATEGY.get( propertySource )
 			);
 		}
 		catch (RuntimeException e) {
@@ -144,6 +189,24 @@ private MultiTenancyStrategy getMultiTenancyStrategy(String backendName, Configu
 		}
 	}
 
+	private DocumentRefreshStrategy getRefreshStrategy(String backendName, ConfigurationPropertySource propertySource) {
+		RefreshStrategyConfiguration refreshStrategyConfiguration = REFRESH_STRATEGY.get( propertySource );
+
+		switch ( refreshStrategyConfiguration ) {
+			case NONE:
+				return DocumentRefreshStrategy.NONE;
+			case WAIT_FOR:
+				return DocumentRefreshStrategy.WAIT_FOR;
+			case IMMEDIATE:
+				return DocumentRefreshStrategy.IMMEDIATE;
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported refresh strategy '%2$s' for backend '%1$s'",
+						backendName, refreshStrategyConfiguration
+				) );
+		}
+	}
+
 	private ElasticsearchAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventContext backendContext,
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		try {
@@ -13,10 +13,14 @@
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.cfg.IndexLifecycleStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
 import org.hibernate.search.engine.backend.Backend;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
@@ -25,7 +29,8 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchStubWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -57,6 +62,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	private final ElasticsearchWorkOrchestrator streamOrchestrator;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkOrchestrator administrationOrchestrator;
 
 	private final Map<String, String> hibernateSearchIndexNamesByElasticsearchIndexNames = new ConcurrentHashMap<>();
 
@@ -67,17 +73,30 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 	ElasticsearchBackendImpl(ElasticsearchClientImplementor client, String name, ElasticsearchWorkFactory workFactory,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int maxBulkSize,
+			DocumentRefreshStrategy refreshStrategy,
+			int maxConcurrentRequests,
+			int scrollTimeout,
+			IndexLifecycleStrategyConfiguration indexLifecycleStrategyConfiguration) {
 		this.client = client;
 		this.name = name;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.streamOrchestrator = new ElasticsearchStubWorkOrchestrator( client );
-		this.queryOrchestrator = new ElasticsearchStubWorkOrchestrator( client );
+		this.streamOrchestrator = new ElasticsearchBatchingWorkOrchestrator(
+				"Backend " + name + " - Stream", client, workFactory, maxBulkSize, maxConcurrentRequests
+		);
+		this.queryOrchestrator = new ElasticsearchParallelWorkOrchestrator( client, maxConcurrentRequests );
+		// Index administration works for different indexes are independent: execute them concurrently
+		this.administrationOrchestrator = new ElasticsearchParallelWorkOrchestrator( client, maxConcurrentRequests );
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
-				eventContext, client, workFactory, multiTenancyStrategy, streamOrchestrator
+				eventContext, client, workFactory, multiTenancyStrategy, maxBulkSize, refreshStrategy,
+				maxConcurrentRequests, streamOrchestrator,
+				new ElasticsearchIndexLifecycleStrategy(
+						indexLifecycleStrategyConfiguration, workFactory, administrationOrchestrator
+				)
 		);
 		this.searchContext = new SearchBackendContext(
 				eventContext, workFactory, userFacingGson,
@@ -91,7 +110,7 @@ public String apply(String elasticsearchIndexName) {
 						return result;
 					}
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, queryOrchestrator, scrollTimeout
 		);
 	}
 
@@ -113,6 +132,11 @@ public <T> T getClient(Class<T> clientClass) {
 		return client.unwrap( clientClass );
 	}
 
+	@Override
+	public ElasticsearchTransferStatistics getTransferStatistics() {
+		return client.getTransferStatistics();
+	}
+
 	@Override
 	public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManagerBuilder(
 			String hibernateSearchIndexName, boolean multiTenancyEnabled, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
@@ -152,6 +176,7 @@ public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( ElasticsearchWorkOrchestrator::close, streamOrchestrator );
 			closer.push( ElasticsearchWorkOrchestrator::close, queryOrchestrator );
+			closer.push( ElasticsearchWorkOrchestrator::close, administrationOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( ElasticsearchClientImplementor::close, client );
 		}
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
@@ -29,17 +30,19 @@ public class ElasticsearchIndexDocumentWorkExecutor implements IndexDocumentWork
 	private final URLEncodedString indexName;
 	private final URLEncodedString typeName;
 	private final String tenantId;
+	private final DocumentRefreshStrategy refreshStrategy;
 
 	ElasticsearchIndexDocumentWorkExecutor(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
 			URLEncodedString indexName, URLEncodedString typeName,
-			SessionContextImplementor sessionContext) {
+			SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexName = indexName;
 		this.typeName = typeName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.refreshStrategy = refreshStrategy;
 	}
 
 	@Override
@@ -52,7 +55,8 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		ElasticsearchWork<?> work = factory.add( indexName, typeName, elasticsearchId, routingKey, document );
+		ElasticsearchWork<?> work = factory.add( indexName, typeName, elasticsearchId, routingKey, document,
+				refreshStrategy );
 		return orchestrator.submit( work );
 	}
 }
@@ -64,10 +64,6 @@ public ElasticsearchIndexManagerImpl build() {
 		ElasticsearchIndexModel model = schemaRootNodeBuilder
 				.build( hibernateSearchIndexName, encodedElasticsearchIndexName, settingsBuilder );
 
-		// TODO make sure index initialization is performed in parallel for all indexes?
-		indexingBackendContext.initializeIndex( encodedElasticsearchIndexName, encodedTypeName, model )
-				.join();
-
 		return new ElasticsearchIndexManagerImpl(
 				indexingBackendContext, searchBackendContext,
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -15,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
@@ -55,7 +57,12 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.typeName = typeName;
 		this.model = model;
-		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator();
+		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator( hibernateSearchIndexName );
+	}
+
+	@Override
+	public CompletableFuture<?> start() {
+		return indexingBackendContext.initializeIndex( elasticsearchIndexName, typeName, model );
 	}
 
 	@Override
@@ -73,6 +80,13 @@ public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionC
 		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext );
 	}
 
+	@Override
+	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext,
+				refreshStrategy );
+	}
+
 	@Override
 	public IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
 		return indexingBackendContext.createDocumentWorkExecutor( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext );
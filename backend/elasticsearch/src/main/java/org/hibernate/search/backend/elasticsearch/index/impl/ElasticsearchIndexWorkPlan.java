@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
@@ -35,19 +36,21 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	private final URLEncodedString indexName;
 	private final URLEncodedString typeName;
 	private final String tenantId;
+	private final DocumentRefreshStrategy refreshStrategy;
 
 	private final List<ElasticsearchWork<?>> works = new ArrayList<>();
 
 	ElasticsearchIndexWorkPlan(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
 			URLEncodedString indexName, URLEncodedString typeName,
-			SessionContextImplementor sessionContext) {
+			SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexName = indexName;
 		this.typeName = typeName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.refreshStrategy = refreshStrategy;
 	}
 
 	@Override
@@ -61,7 +64,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, typeName, elasticsearchId, routingKey, document ) );
+		collect( factory.add( indexName, typeName, elasticsearchId, routingKey, document, refreshStrategy ) );
 	}
 
 	@Override
@@ -75,7 +78,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, typeName, elasticsearchId, routingKey, document ) );
+		collect( factory.update( indexName, typeName, elasticsearchId, routingKey, document, refreshStrategy ) );
 	}
 
 	@Override
@@ -83,7 +86,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, referenceProvider.getIdentifier() );
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey ) );
+		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey, refreshStrategy ) );
 	}
 
 	@Override
@@ -6,18 +6,18 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
-import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchStubWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -30,19 +30,31 @@ public class IndexingBackendContext {
 	private final ElasticsearchClient client;
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int maxBulkSize;
+	private final DocumentRefreshStrategy defaultRefreshStrategy;
+	private final int maxConcurrentRequests;
 
 	private final ElasticsearchWorkOrchestrator streamOrchestrator;
+	private final ElasticsearchIndexLifecycleStrategy indexLifecycleStrategy;
 
 	public IndexingBackendContext(EventContext eventContext,
 			ElasticsearchClient client,
 			ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator streamOrchestrator) {
+			int maxBulkSize,
+			DocumentRefreshStrategy defaultRefreshStrategy,
+			int maxConcurrentRequests,
+			ElasticsearchWorkOrchestrator streamOrchestrator,
+			ElasticsearchIndexLifecycleStrategy indexLifecycleStrategy) {
 		this.eventContext = eventContext;
 		this.client = client;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.maxBulkSize = maxBulkSize;
+		this.defaultRefreshStrategy = defaultRefreshStrategy;
+		this.maxConcurrentRequests = maxConcurrentRequests;
 		this.streamOrchestrator = streamOrchestrator;
+		this.indexLifecycleStrategy = indexLifecycleStrategy;
 	}
 
 	@Override
@@ -56,26 +68,30 @@ EventContext getEventContext() {
 
 	CompletableFuture<?> initializeIndex(URLEncodedString indexName, URLEncodedString typeName,
 			ElasticsearchIndexModel model) {
-		ElasticsearchWork<?> dropWork = workFactory.dropIndexIfExists( indexName );
-		ElasticsearchWork<?> createWork = workFactory.createIndex(
-				indexName, typeName,
-				model.getMapping(), model.getSettings()
-		);
-		return streamOrchestrator.submit( Arrays.asList( dropWork, createWork ) );
+		return indexLifecycleStrategy.onStart( indexName, typeName, model );
 	}
 
-	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator() {
-		return new ElasticsearchStubWorkOrchestrator( client );
+	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator(String indexName) {
+		return new ElasticsearchBatchingWorkOrchestrator(
+				"Index " + indexName + " - Work plans", client, workFactory, maxBulkSize, maxConcurrentRequests
+		);
 	}
 
 	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
 			ElasticsearchWorkOrchestrator orchestrator,
 			URLEncodedString indexName, URLEncodedString typeName,
 			SessionContextImplementor sessionContext) {
+		return createWorkPlan( orchestrator, indexName, typeName, sessionContext, defaultRefreshStrategy );
+	}
+
+	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
+			ElasticsearchWorkOrchestrator orchestrator,
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, typeName, sessionContext );
+				indexName, typeName, sessionContext, refreshStrategy );
 	}
 
 	IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
@@ -84,8 +100,9 @@ IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWork
 			SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
+		// Mass indexing: don't refresh after each document, the index will be flushed and refreshed at the end
 		return new ElasticsearchIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, typeName, sessionContext );
+				indexName, typeName, sessionContext, DocumentRefreshStrategy.NONE );
 	}
 
 	IndexWorkExecutor createWorkExecutor(URLEncodedString indexName) {
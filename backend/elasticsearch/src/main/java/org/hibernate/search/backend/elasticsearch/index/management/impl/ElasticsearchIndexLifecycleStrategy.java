@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.management.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.IndexLifecycleStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
+import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Implements the index lifecycle strategies,
+ * i.e. what happens to Elasticsearch indexes when Hibernate Search starts.
+ * <p>
+ * Every operation is asynchronous, so that the indexes of an application can be checked, created or updated
+ * concurrently.
+ */
+public final class ElasticsearchIndexLifecycleStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final IndexLifecycleStrategyConfiguration configuration;
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+	private final ElasticsearchSchemaValidator schemaValidator;
+
+	public ElasticsearchIndexLifecycleStrategy(IndexLifecycleStrategyConfiguration configuration,
+			ElasticsearchWorkFactory workFactory, ElasticsearchWorkOrchestrator orchestrator) {
+		this.configuration = configuration;
+		this.schemaAccessor = new ElasticsearchSchemaAccessor( workFactory, orchestrator );
+		this.schemaValidator = new ElasticsearchSchemaValidator();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "configuration=" ).append( configuration )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * @param indexName The name of the index in Elasticsearch.
+	 * @param typeName The name of the type in Elasticsearch.
+	 * @param model The model of the index, defining the expected mapping and settings.
+	 * @return A future that will complete when the index is ready to be used.
+	 */
+	public CompletableFuture<?> onStart(URLEncodedString indexName, URLEncodedString typeName,
+			ElasticsearchIndexModel model) {
+		RootTypeMapping mapping = model.getMapping();
+		IndexSettings settings = model.getSettings();
+		switch ( configuration ) {
+			case NONE:
+				return CompletableFuture.completedFuture( null );
+			case VALIDATE:
+				return schemaAccessor.indexExists( indexName )
+						.thenCompose( exists -> {
+							if ( !exists ) {
+								throw log.indexMissing( indexName, configuration.getExternalRepresentation() );
+							}
+							return validate( indexName, typeName, mapping, settings );
+						} );
+			case CREATE_IF_MISSING:
+				return schemaAccessor.createIndexIfAbsent( indexName, typeName, mapping, settings );
+			case UPDATE:
+				return schemaAccessor.createIndexIfAbsent( indexName, typeName, mapping, settings )
+						.thenCompose( created -> created
+								? CompletableFuture.completedFuture( null )
+								: update( indexName, typeName, mapping, settings )
+						);
+			case DROP_AND_CREATE:
+				return schemaAccessor.dropAndCreateIndex( indexName, typeName, mapping, settings );
+			default:
+				throw new AssertionFailure( "Unexpected index lifecycle strategy: " + configuration );
+		}
+	}
+
+	private CompletableFuture<?> validate(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping expectedMapping, IndexSettings expectedSettings) {
+		// Retrieve the mapping and settings concurrently
+		CompletableFuture<RootTypeMapping> mappingFuture = schemaAccessor.getCurrentMapping( indexName, typeName );
+		CompletableFuture<IndexSettings> settingsFuture = schemaAccessor.getCurrentSettings( indexName );
+		return mappingFuture.thenCombine( settingsFuture, (actualMapping, actualSettings) -> {
+			schemaValidator.validate( indexName, expectedMapping, expectedSettings, actualMapping, actualSettings );
+			return null;
+		} );
+	}
+
+	private CompletableFuture<?> update(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping expectedMapping, IndexSettings expectedSettings) {
+		return schemaAccessor.getCurrentSettings( indexName )
+				.thenCompose( actualSettings -> {
+					if ( schemaValidator.isSettingsValid( indexName, expectedSettings, actualSettings ) ) {
+						// Avoid closing the index if we don't have to
+						return CompletableFuture.completedFuture( null );
+					}
+					return schemaAccessor.updateSettings( indexName, expectedSettings );
+				} )
+				.thenCompose( ignored -> schemaAccessor.putMapping( indexName, typeName, expectedMapping ) )
+				.handle( Futures.handler( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						throw log.schemaUpdateFailed( indexName, throwable );
+					}
+					return null;
+				} ) );
+	}
+
+}
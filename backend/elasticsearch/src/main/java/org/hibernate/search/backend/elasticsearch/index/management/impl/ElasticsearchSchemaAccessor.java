@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.management.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
+import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A utility implementing primitives for the various index lifecycle strategies.
+ * <p>
+ * All methods are asynchronous: they submit works to the orchestrator and return immediately.
+ */
+final class ElasticsearchSchemaAccessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator orchestrator;
+
+	ElasticsearchSchemaAccessor(ElasticsearchWorkFactory workFactory, ElasticsearchWorkOrchestrator orchestrator) {
+		this.workFactory = workFactory;
+		this.orchestrator = orchestrator;
+	}
+
+	CompletableFuture<Boolean> indexExists(URLEncodedString indexName) {
+		return orchestrator.submit( workFactory.indexExists( indexName ) );
+	}
+
+	/**
+	 * @return A future returning {@code true} if the index was created, {@code false} if it already existed.
+	 */
+	CompletableFuture<Boolean> createIndexIfAbsent(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping, IndexSettings settings) {
+		return orchestrator.submit( workFactory.createIndexIfAbsent( indexName, typeName, mapping, settings ) );
+	}
+
+	CompletableFuture<?> dropAndCreateIndex(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping, IndexSettings settings) {
+		ElasticsearchWork<?> dropWork = workFactory.dropIndexIfExists( indexName );
+		ElasticsearchWork<?> createWork = workFactory.createIndex( indexName, typeName, mapping, settings );
+		return orchestrator.submit( Arrays.asList( dropWork, createWork ) );
+	}
+
+	CompletableFuture<RootTypeMapping> getCurrentMapping(URLEncodedString indexName, URLEncodedString typeName) {
+		return orchestrator.submit( workFactory.getIndexTypeMapping( indexName, typeName ) );
+	}
+
+	CompletableFuture<IndexSettings> getCurrentSettings(URLEncodedString indexName) {
+		return orchestrator.submit( workFactory.getIndexSettings( indexName ) );
+	}
+
+	CompletableFuture<?> putMapping(URLEncodedString indexName, URLEncodedString typeName, RootTypeMapping mapping) {
+		return orchestrator.submit( workFactory.putIndexTypeMapping( indexName, typeName, mapping ) );
+	}
+
+	/**
+	 * Update the settings of an index, closing it beforehand and re-opening it afterwards,
+	 * since analysis settings cannot be updated on an open index.
+	 * <p>
+	 * The index is re-opened even if the update fails.
+	 */
+	CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
+		return orchestrator.submit( workFactory.closeIndex( indexName ) )
+				.thenCompose( ignored -> {
+					log.closedIndex( indexName );
+					return Futures.whenCompleteExecute(
+							orchestrator.submit( workFactory.putIndexSettings( indexName, settings ) ),
+							() -> orchestrator.submit( workFactory.openIndex( indexName ) )
+									.thenRun( () -> log.openedIndex( indexName ) )
+					);
+				} );
+	}
+
+}
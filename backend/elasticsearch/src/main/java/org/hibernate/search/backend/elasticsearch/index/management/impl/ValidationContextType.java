@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.management.impl;
+
+enum ValidationContextType {
+
+	INDEX,
+	MAPPING_PROPERTY,
+	MAPPING_PROPERTY_FIELD,
+	ANALYZER,
+	NORMALIZER,
+	CHAR_FILTER,
+	TOKENIZER,
+	TOKEN_FILTER;
+
+}
\ No newline at end of file
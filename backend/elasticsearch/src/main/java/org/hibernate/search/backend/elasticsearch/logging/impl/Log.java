@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.document.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
 import org.hibernate.search.engine.search.SearchPredicate;
@@ -35,6 +36,7 @@
 import org.jboss.logging.annotations.ValidIdRanges;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 @MessageLogger(projectCode = MessageConstants.PROJECT_CODE)
 @ValidIdRanges({
@@ -335,4 +337,69 @@ SearchException conflictingFieldTypesForProjection(String absoluteFieldPath,
 			value = "Multiple conflicting types for identifier: '%1$s' vs. '%2$s'.")
 	SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValueConverter<?> component1,
 			ToDocumentIdentifierValueConverter<?> component2, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 50,
+			value = "Elasticsearch bulked request failed. Request metadata: '%1$s'. Response: '%2$s'.")
+	SearchException elasticsearchBulkedRequestFailed(JsonObject requestMetadata, JsonObject response);
+
+	@Message(id = ID_OFFSET_3 + 51,
+			value = "Unable to submit work: the work orchestrator is closed.")
+	SearchException orchestratorClosed();
+
+	@Message(id = ID_OFFSET_3 + 52,
+			value = "Unknown refresh strategy '%1$s'.")
+	SearchException unknownRefreshStrategyConfiguration(String refreshStrategy);
+
+	@Message(id = ID_OFFSET_3 + 53,
+			value = "Invalid search cursor: '%1$s'. Cursors can only be used with the query they were retrieved from.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 54,
+			value = "Unable to clear scroll '%1$s'; the scroll context will be released when it times out.")
+	void unableToClearScroll(String scrollId, @Cause Throwable e);
+
+	@Message(id = ID_OFFSET_3 + 55,
+			value = "Query '%2$s' exceeded the timeout of %1$sms.")
+	SearchException searchTimedOut(long timeoutInMilliseconds, String query);
+
+	@Message(id = ID_OFFSET_3 + 56,
+			value = "Elasticsearch request failed: %1$s on path '%2$s' returned status %3$d '%4$s'. Response body: '%5$s'.")
+	SearchException elasticsearchRequestFailed(String method, String path, int statusCode, String statusMessage,
+			JsonObject responseBody);
+
+	@Message(id = ID_OFFSET_3 + 57,
+			value = "Unknown index lifecycle strategy '%1$s'.")
+	SearchException unknownIndexLifecycleStrategyConfiguration(String strategy);
+
+	@Message(id = ID_OFFSET_3 + 58,
+			value = "Index '%1$s' does not exist. With the '%2$s' index lifecycle strategy,"
+					+ " indexes must be created before Hibernate Search starts.")
+	SearchException indexMissing(URLEncodedString indexName, String strategy);
+
+	@Message(id = ID_OFFSET_3 + 59,
+			value = "Validation of the schema of index '%1$s' failed:%2$s")
+	SearchException schemaValidationFailed(URLEncodedString indexName, String validationMessages);
+
+	@Message(id = ID_OFFSET_3 + 60,
+			value = "Unable to update the schema of index '%1$s'.")
+	SearchException schemaUpdateFailed(URLEncodedString indexName, @Cause Throwable cause);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 61,
+			value = "Closed index '%1$s' in order to update its analysis settings.")
+	void closedIndex(URLEncodedString indexName);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 62,
+			value = "Re-opened index '%1$s'.")
+	void openedIndex(URLEncodedString indexName);
+
+	@Message(id = ID_OFFSET_3 + 63,
+			value = "Elasticsearch search request failed. Error: '%1$s'.")
+	SearchException elasticsearchSearchFailed(JsonElement error);
+
+	@Message(id = ID_OFFSET_3 + 64,
+			value = "Invalid Elasticsearch multi-search response: expected %1$d responses, got %2$d.")
+	SearchException invalidMultiSearchResponseCount(int expectedCount, int actualCount);
 }
@@ -0,0 +1,412 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+
+/**
+ * An orchestrator that batches changesets together and sends bulkable works in {@code _bulk} requests.
+ * <p>
+ * Changesets are queued, then processed in batches: consecutive bulkable works of all the changesets in a batch
+ * are grouped in bulks of at most {@code maxBulkSize} works.
+ * Bulks are sent concurrently, up to {@code maxConcurrentRequests} at a time,
+ * ordering being only preserved between works touching the same document.
+ * Indexes touched by works using the {@link DocumentRefreshStrategy#IMMEDIATE} refresh strategy
+ * are refreshed once, at the end of the batch, and changesets are only considered complete after that refresh.
+ * <p>
+ * Inspired by {@code BatchingSharedElasticsearchWorkOrchestrator} and {@code DefaultElasticsearchWorkBulker}
+ * in Search 5.
+ */
+public class ElasticsearchBatchingWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchStubWorkExecutionContext context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final int maxBulkSize;
+	private final int maxConcurrentRequests;
+
+	private final BlockingQueue<Changeset> queue = new LinkedBlockingQueue<>( Executors.QUEUE_MAX_LENGTH );
+	private final AtomicBoolean processing = new AtomicBoolean( false );
+	private final ExecutorService executor;
+
+	private volatile boolean closed = false;
+	/**
+	 * Completed when all the changesets submitted so far are complete.
+	 * Changesets may complete out of order, since those that do not require a refresh do not wait for the others.
+	 * Protected by synchronization on submission.
+	 */
+	private CompletableFuture<?> pendingChangesetsFuture = CompletableFuture.completedFuture( null );
+
+	public ElasticsearchBatchingWorkOrchestrator(String name, ElasticsearchClient client,
+			ElasticsearchWorkFactory workFactory, int maxBulkSize, int maxConcurrentRequests) {
+		this.context = new ElasticsearchStubWorkExecutionContext( client );
+		this.workFactory = workFactory;
+		this.maxBulkSize = maxBulkSize;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.executor = Executors.newFixedThreadPool( 1, name );
+	}
+
+	@Override
+	public void close() {
+		CompletableFuture<?> future;
+		synchronized ( this ) {
+			closed = true;
+			future = pendingChangesetsFuture;
+		}
+		// Once all changesets are complete, no request is in progress
+		future.handle( (result, throwable) -> null ).join();
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The result of a changeset is the result of its last work
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		CompletableFuture<?> future = enqueue( Collections.singletonList( work ) );
+		return (CompletableFuture<T>) future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		return enqueue( new ArrayList<>( works ) );
+	}
+
+	private CompletableFuture<Object> enqueue(List<ElasticsearchWork<?>> works) {
+		Changeset changeset = new Changeset( works );
+		synchronized ( this ) {
+			if ( closed ) {
+				changeset.future.completeExceptionally( log.orchestratorClosed() );
+				return changeset.future;
+			}
+			try {
+				// Blocks when the queue is full, to apply back pressure on the submitting threads
+				queue.put( changeset );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				changeset.future.completeExceptionally( e );
+				return changeset.future;
+			}
+			pendingChangesetsFuture = CompletableFuture.allOf( pendingChangesetsFuture, changeset.future );
+		}
+		ensureProcessing();
+		return changeset.future;
+	}
+
+	private void ensureProcessing() {
+		if ( processing.compareAndSet( false, true ) ) {
+			executor.execute( this::processNextBatch );
+		}
+	}
+
+	private void processNextBatch() {
+		List<Changeset> batch = new ArrayList<>();
+		queue.drainTo( batch );
+		if ( batch.isEmpty() ) {
+			processing.set( false );
+			// A changeset may have been queued after we drained the queue, but before we reset the flag
+			if ( !queue.isEmpty() ) {
+				ensureProcessing();
+			}
+			return;
+		}
+		CompletableFuture<?> batchFuture;
+		try {
+			batchFuture = executeBatch( batch );
+		}
+		catch (RuntimeException e) {
+			// Should not happen, but let's not hang the orchestrator
+			for ( Changeset changeset : batch ) {
+				changeset.future.completeExceptionally( e );
+			}
+			batchFuture = CompletableFuture.completedFuture( null );
+		}
+		// Process the next batch once this one is done, from the orchestrator thread
+		batchFuture.whenComplete( (result, throwable) -> scheduleNextBatch() );
+	}
+
+	private void scheduleNextBatch() {
+		try {
+			executor.execute( this::processNextBatch );
+		}
+		catch (RejectedExecutionException e) {
+			// The orchestrator was closed after the last changeset was completed: nothing left to process
+			if ( !closed ) {
+				throw e;
+			}
+		}
+	}
+
+	private CompletableFuture<?> executeBatch(List<Changeset> batch) {
+		BatchPlanBuilder planBuilder = new BatchPlanBuilder();
+		for ( Changeset changeset : batch ) {
+			for ( ElasticsearchWork<?> work : changeset.works ) {
+				changeset.workFutures.add( planBuilder.add( work ) );
+				changeset.requiresRefresh = changeset.requiresRefresh || requiresRefresh( work );
+			}
+		}
+		CompletableFuture<?> writeFuture = planBuilder.build();
+
+		CompletableFuture<?> refreshFuture = writeFuture;
+		Set<URLEncodedString> indexesToRefresh = planBuilder.indexesToRefresh;
+		if ( !indexesToRefresh.isEmpty() ) {
+			// A single refresh for the whole batch
+			ElasticsearchWork<?> refreshWork = workFactory.refresh( indexesToRefresh );
+			refreshFuture = writeFuture.thenCompose( ignored -> Futures.create( () -> refreshWork.execute( context ) ) );
+		}
+
+		for ( Changeset changeset : batch ) {
+			CompletableFuture<?> changesetWritesFuture = CompletableFuture.allOf(
+					changeset.workFutures.toArray( new CompletableFuture<?>[changeset.workFutures.size()] )
+			);
+			if ( changeset.requiresRefresh ) {
+				CompletableFuture.allOf( changesetWritesFuture, refreshFuture )
+						.whenComplete( Futures.handler( (result, throwable) -> {
+							changeset.complete( throwable );
+						} ) );
+			}
+			else {
+				// No need to wait for the refresh, nor for the other changesets
+				changesetWritesFuture.whenComplete( Futures.handler( (result, throwable) -> {
+					changeset.complete( null );
+				} ) );
+			}
+		}
+		return refreshFuture.handle( (result, throwable) -> null );
+	}
+
+	private static boolean requiresRefresh(ElasticsearchWork<?> work) {
+		return work instanceof BulkableElasticsearchWork
+				&& DocumentRefreshStrategy.IMMEDIATE.equals( ( (BulkableElasticsearchWork<?>) work ).getRefreshStrategy() );
+	}
+
+	private static final class DocumentKey {
+
+		private final URLEncodedString indexName;
+		private final String documentId;
+
+		private DocumentKey(BulkableElasticsearchWork<?> work) {
+			this.indexName = work.getIndexName();
+			this.documentId = work.getDocumentId();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return indexName.equals( other.indexName ) && documentId.equals( other.documentId );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * indexName.hashCode() + documentId.hashCode();
+		}
+	}
+
+	/**
+	 * Turns the works of a batch into steps (bulks or standalone works) executed concurrently,
+	 * with the following constraints:
+	 * <ul>
+	 * <li>a step touching a document only starts after previous steps touching the same document are complete;</li>
+	 * <li>non-bulkable works (index creation, purge, flush, ...) act as barriers:
+	 * they start after all previous steps are complete, and following steps start after they are complete;</li>
+	 * <li>at most {@code maxConcurrentRequests} steps are executed concurrently:
+	 * step {@code n} starts after step {@code n - maxConcurrentRequests} is complete.</li>
+	 * </ul>
+	 */
+	private final class BatchPlanBuilder {
+
+		private final Set<URLEncodedString> indexesToRefresh = new LinkedHashSet<>();
+		private final List<BulkableElasticsearchWork<?>> bulkedWorks = new ArrayList<>();
+		private final List<CompletableFuture<Object>> bulkedWorkFutures = new ArrayList<>();
+
+		// Steps never complete exceptionally: failures are reported through each work's future
+		private final List<CompletableFuture<?>> steps = new ArrayList<>();
+		private final Map<DocumentKey, CompletableFuture<?>> latestStepByDocument = new HashMap<>();
+		private CompletableFuture<?> barrier = CompletableFuture.completedFuture( null );
+		private int firstStepAfterBarrier = 0;
+
+		CompletableFuture<Object> add(ElasticsearchWork<?> work) {
+			CompletableFuture<Object> workFuture = new CompletableFuture<>();
+			if ( work instanceof BulkableElasticsearchWork ) {
+				BulkableElasticsearchWork<?> bulkableWork = (BulkableElasticsearchWork<?>) work;
+				if ( requiresRefresh( bulkableWork ) ) {
+					indexesToRefresh.add( bulkableWork.getIndexName() );
+				}
+				bulkedWorks.add( bulkableWork );
+				bulkedWorkFutures.add( workFuture );
+				if ( bulkedWorks.size() >= maxBulkSize ) {
+					flushBulk();
+				}
+			}
+			else {
+				flushBulk();
+				addBarrier( work, workFuture );
+			}
+			return workFuture;
+		}
+
+		CompletableFuture<?> build() {
+			flushBulk();
+			return CompletableFuture.allOf( steps.toArray( new CompletableFuture<?>[steps.size()] ) );
+		}
+
+		private void addBarrier(ElasticsearchWork<?> work, CompletableFuture<Object> workFuture) {
+			List<CompletableFuture<?>> dependencies = new ArrayList<>( steps.subList( firstStepAfterBarrier, steps.size() ) );
+			dependencies.add( barrier );
+			CompletableFuture<?> step = addStep( dependencies, () -> Futures.create( () -> work.execute( context ) )
+					.whenComplete( Futures.copyHandler( workFuture ) ) );
+			barrier = step;
+			firstStepAfterBarrier = steps.size();
+			// All following steps depend on the barrier
+			latestStepByDocument.clear();
+		}
+
+		private void flushBulk() {
+			if ( bulkedWorks.isEmpty() ) {
+				return;
+			}
+			List<BulkableElasticsearchWork<?>> works = new ArrayList<>( bulkedWorks );
+			List<CompletableFuture<Object>> futures = new ArrayList<>( bulkedWorkFutures );
+			bulkedWorks.clear();
+			bulkedWorkFutures.clear();
+
+			List<CompletableFuture<?>> dependencies = new ArrayList<>();
+			dependencies.add( barrier );
+			List<DocumentKey> documentKeys = new ArrayList<>( works.size() );
+			for ( BulkableElasticsearchWork<?> work : works ) {
+				DocumentKey documentKey = new DocumentKey( work );
+				documentKeys.add( documentKey );
+				CompletableFuture<?> previousStep = latestStepByDocument.get( documentKey );
+				if ( previousStep != null ) {
+					dependencies.add( previousStep );
+				}
+			}
+
+			CompletableFuture<?> step;
+			if ( works.size() == 1 ) {
+				// No need for the overhead of a bulk request: the work checks the response status itself
+				BulkableElasticsearchWork<?> work = works.get( 0 );
+				CompletableFuture<Object> workFuture = futures.get( 0 );
+				step = addStep( dependencies, () -> Futures.create( () -> work.execute( context ) )
+						.whenComplete( Futures.copyHandler( workFuture ) ) );
+			}
+			else {
+				ElasticsearchWork<JsonArray> bulkWork = workFactory.bulk( works );
+				step = addStep( dependencies, () -> Futures.create( () -> bulkWork.execute( context ) )
+						.handle( Futures.handler( (items, throwable) -> {
+							dispatchBulkResult( works, futures, items, throwable );
+							return null;
+						} ) ) );
+			}
+			for ( DocumentKey documentKey : documentKeys ) {
+				latestStepByDocument.put( documentKey, step );
+			}
+		}
+
+		private <T> CompletableFuture<?> addStep(List<CompletableFuture<?>> dependencies,
+				Supplier<CompletableFuture<T>> execution) {
+			int stepCount = steps.size();
+			if ( stepCount >= maxConcurrentRequests ) {
+				// Bound the number of concurrent requests
+				dependencies.add( steps.get( stepCount - maxConcurrentRequests ) );
+			}
+			CompletableFuture<?> step = CompletableFuture.allOf( dependencies.toArray( new CompletableFuture<?>[dependencies.size()] ) )
+					.thenCompose( ignored -> execution.get() )
+					.handle( (result, throwable) -> null );
+			steps.add( step );
+			return step;
+		}
+
+		private void dispatchBulkResult(List<BulkableElasticsearchWork<?>> works, List<CompletableFuture<Object>> futures,
+				JsonArray items, Throwable throwable) {
+			for ( int i = 0; i < works.size(); i++ ) {
+				CompletableFuture<Object> future = futures.get( i );
+				if ( throwable != null ) {
+					future.completeExceptionally( throwable );
+					continue;
+				}
+				try {
+					future.complete( works.get( i ).handleBulkResult( items.get( i ).getAsJsonObject() ) );
+				}
+				catch (RuntimeException e) {
+					future.completeExceptionally( e );
+				}
+			}
+		}
+	}
+
+	private static final class Changeset {
+
+		private final List<ElasticsearchWork<?>> works;
+		private final List<CompletableFuture<Object>> workFutures = new ArrayList<>();
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+		private boolean requiresRefresh = false;
+
+		private Changeset(List<ElasticsearchWork<?>> works) {
+			this.works = works;
+		}
+
+		void complete(Throwable refreshFailure) {
+			Object result = null;
+			for ( CompletableFuture<Object> workFuture : workFutures ) {
+				try {
+					result = workFuture.join();
+				}
+				catch (RuntimeException e) {
+					future.completeExceptionally( e.getCause() != null ? e.getCause() : e );
+					return;
+				}
+			}
+			if ( refreshFailure != null ) {
+				future.completeExceptionally( refreshFailure );
+			}
+			else {
+				future.complete( result );
+			}
+		}
+	}
+}
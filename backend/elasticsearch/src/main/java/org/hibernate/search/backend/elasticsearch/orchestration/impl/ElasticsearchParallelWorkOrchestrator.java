@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing changesets concurrently, without any ordering guarantee between changesets.
+ * <p>
+ * Works within a changeset are executed one after another.
+ * At most {@code maxConcurrentChangesets} changesets are executed at the same time;
+ * other changesets are queued until a previous changeset completes.
+ * When the queue is full, submitting threads block until a changeset completes.
+ * <p>
+ * Suitable for works that do not depend on each other, such as queries.
+ */
+public class ElasticsearchParallelWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchStubWorkExecutionContext context;
+	private final int maxConcurrentChangesets;
+	// Bounds the number of changesets that were submitted but are not complete yet, queued or in flight
+	private final Semaphore capacity;
+
+	// Protected by synchronization on this
+	private final Queue<Changeset> pending = new ArrayDeque<>();
+	private int inFlight = 0;
+	private boolean closed = false;
+	private CompletableFuture<Void> allCompleteFuture;
+
+	public ElasticsearchParallelWorkOrchestrator(ElasticsearchClient client, int maxConcurrentChangesets) {
+		this.context = new ElasticsearchStubWorkExecutionContext( client );
+		this.maxConcurrentChangesets = maxConcurrentChangesets;
+		this.capacity = new Semaphore( maxConcurrentChangesets + Executors.QUEUE_MAX_LENGTH );
+	}
+
+	@Override
+	public void close() {
+		CompletableFuture<Void> future;
+		synchronized ( this ) {
+			closed = true;
+			if ( inFlight == 0 ) {
+				return;
+			}
+			allCompleteFuture = new CompletableFuture<>();
+			future = allCompleteFuture;
+		}
+		// Let changesets that were already submitted complete
+		future.join();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The result of a changeset is the result of its last work
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		CompletableFuture<?> future = enqueue( Collections.singletonList( work ) );
+		return (CompletableFuture<T>) future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		return enqueue( new ArrayList<>( works ) );
+	}
+
+	private CompletableFuture<Object> enqueue(List<ElasticsearchWork<?>> works) {
+		Changeset changeset = new Changeset( works );
+		try {
+			// Blocks when the queue is full, to apply back pressure on the submitting threads
+			capacity.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			changeset.future.completeExceptionally( e );
+			return changeset.future;
+		}
+		synchronized ( this ) {
+			if ( closed ) {
+				capacity.release();
+				changeset.future.completeExceptionally( log.orchestratorClosed() );
+				return changeset.future;
+			}
+			if ( inFlight >= maxConcurrentChangesets ) {
+				pending.add( changeset );
+				return changeset.future;
+			}
+			++inFlight;
+		}
+		execute( changeset );
+		return changeset.future;
+	}
+
+	private void execute(Changeset changeset) {
+		CompletableFuture<?> sequence = CompletableFuture.completedFuture( null );
+		for ( ElasticsearchWork<?> work : changeset.works ) {
+			sequence = sequence.thenCompose( Futures.safeComposer( ignored -> work.execute( context ) ) );
+		}
+		sequence.whenComplete( Futures.copyHandler( changeset.future ) )
+				.whenComplete( (result, throwable) -> onChangesetComplete() );
+	}
+
+	private void onChangesetComplete() {
+		capacity.release();
+		Changeset next;
+		CompletableFuture<Void> futureToComplete = null;
+		synchronized ( this ) {
+			next = pending.poll();
+			if ( next == null ) {
+				--inFlight;
+				if ( inFlight == 0 && allCompleteFuture != null ) {
+					futureToComplete = allCompleteFuture;
+				}
+			}
+		}
+		if ( next != null ) {
+			// Keep the slot for the next pending changeset
+			execute( next );
+		}
+		else if ( futureToComplete != null ) {
+			futureToComplete.complete( null );
+		}
+	}
+
+	private static final class Changeset {
+
+		private final List<ElasticsearchWork<?>> works;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private Changeset(List<ElasticsearchWork<?>> works) {
+			this.works = works;
+		}
+	}
+}
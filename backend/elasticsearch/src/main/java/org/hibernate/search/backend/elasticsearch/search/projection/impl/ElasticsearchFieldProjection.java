@@ -26,29 +26,50 @@
 class ElasticsearchFieldProjection<F, T> implements ElasticsearchSearchProjection<F, T> {
 
 	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
+	private static final JsonArrayAccessor REQUEST_STORED_FIELDS_ACCESSOR = JsonAccessor.root().property( "stored_fields" ).asArray();
+	private static final JsonArrayAccessor REQUEST_DOCVALUE_FIELDS_ACCESSOR = JsonAccessor.root().property( "docvalue_fields" ).asArray();
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asObject();
+	private static final JsonObjectAccessor HIT_FIELDS_ACCESSOR = JsonAccessor.root().property( "fields" ).asObject();
 
 	private final String absoluteFieldPath;
+	private final ElasticsearchFieldValueSource valueSource;
+	private final JsonArrayAccessor requestAccessor;
 	private final UnknownTypeJsonAccessor hitFieldValueAccessor;
 
 	private final FromDocumentFieldValueConverter<? super F, T> converter;
 	private final ElasticsearchFieldCodec<F> codec;
 
-	ElasticsearchFieldProjection(String absoluteFieldPath,
+	ElasticsearchFieldProjection(String absoluteFieldPath, ElasticsearchFieldValueSource valueSource,
 			FromDocumentFieldValueConverter<? super F, T> converter,
 			ElasticsearchFieldCodec<F> codec) {
 		this.absoluteFieldPath = absoluteFieldPath;
-		this.hitFieldValueAccessor = HIT_SOURCE_ACCESSOR.path( absoluteFieldPath );
+		this.valueSource = valueSource;
+		switch ( valueSource ) {
+			case STORED_FIELDS:
+				this.requestAccessor = REQUEST_STORED_FIELDS_ACCESSOR;
+				// Elasticsearch returns an array of values, even for single-valued fields
+				this.hitFieldValueAccessor = HIT_FIELDS_ACCESSOR.property( absoluteFieldPath ).asArray().element( 0 );
+				break;
+			case DOCVALUE_FIELDS:
+				this.requestAccessor = REQUEST_DOCVALUE_FIELDS_ACCESSOR;
+				this.hitFieldValueAccessor = HIT_FIELDS_ACCESSOR.property( absoluteFieldPath ).asArray().element( 0 );
+				break;
+			case SOURCE:
+			default:
+				this.requestAccessor = REQUEST_SOURCE_ACCESSOR;
+				this.hitFieldValueAccessor = HIT_SOURCE_ACCESSOR.path( absoluteFieldPath );
+				break;
+		}
 		this.converter = converter;
 		this.codec = codec;
 	}
 
 	@Override
 	public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
-		JsonArray source = REQUEST_SOURCE_ACCESSOR.getOrCreate( requestBody, JsonArray::new );
+		JsonArray fieldPaths = requestAccessor.getOrCreate( requestBody, JsonArray::new );
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
-		if ( !source.contains( fieldPathJson ) ) {
-			source.add( fieldPathJson );
+		if ( !fieldPaths.contains( fieldPathJson ) ) {
+			fieldPaths.add( fieldPathJson );
 		}
 	}
 
@@ -76,6 +97,7 @@ public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", valueSource=" ).append( valueSource )
 				.append( "]" );
 		return sb.toString();
 	}
@@ -15,20 +15,22 @@
 public class ElasticsearchFieldProjectionBuilder<F, T> implements FieldProjectionBuilder<T> {
 
 	private final String absoluteFieldPath;
+	private final ElasticsearchFieldValueSource valueSource;
 
 	private final FromDocumentFieldValueConverter<? super F, T> converter;
 	private final ElasticsearchFieldCodec<F> codec;
 
-	public ElasticsearchFieldProjectionBuilder(String absoluteFieldPath,
+	public ElasticsearchFieldProjectionBuilder(String absoluteFieldPath, ElasticsearchFieldValueSource valueSource,
 			FromDocumentFieldValueConverter<? super F, T> converter,
 			ElasticsearchFieldCodec<F> codec) {
 		this.absoluteFieldPath = absoluteFieldPath;
+		this.valueSource = valueSource;
 		this.converter = converter;
 		this.codec = codec;
 	}
 
 	@Override
 	public SearchProjection<T> build() {
-		return new ElasticsearchFieldProjection<>( absoluteFieldPath, converter, codec );
+		return new ElasticsearchFieldProjection<>( absoluteFieldPath, valueSource, converter, codec );
 	}
 }
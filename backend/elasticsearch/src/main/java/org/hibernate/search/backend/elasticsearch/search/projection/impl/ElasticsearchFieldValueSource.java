@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.projection.impl;
+
+/**
+ * Where Elasticsearch should fetch the value of a field from when projecting on that field.
+ */
+public enum ElasticsearchFieldValueSource {
+
+	/**
+	 * Use {@code _source} filtering.
+	 * <p>
+	 * Always available, but Elasticsearch has to load and parse the whole {@code _source} of each hit.
+	 */
+	SOURCE,
+
+	/**
+	 * Use {@code stored_fields}.
+	 * <p>
+	 * Requires the field to be stored, which is the case of projectable fields.
+	 */
+	STORED_FIELDS,
+
+	/**
+	 * Use {@code docvalue_fields}.
+	 * <p>
+	 * Requires doc values to be enabled on the field, which is the case of sortable fields,
+	 * and to contain the original value, which is not the case of normalized fields for example.
+	 */
+	DOCVALUE_FIELDS
+
+}
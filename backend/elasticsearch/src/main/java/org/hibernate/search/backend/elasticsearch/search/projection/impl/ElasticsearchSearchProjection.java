@@ -31,7 +31,8 @@
 	 * so that blocking mapper operations (if any) do not pollute backend threads.
 	 *
 	 * @param projectionHitMapper The projection hit mapper used to transform hits to entities.
-	 * @param responseBody The full body of the response.
+	 * @param responseBody The body of the response, excluding hits.
+	 * Response bodies are streamed: properties located after the hits in the response will be missing.
 	 * @param hit The part of the response body relevant to the hit to extract.
 	 * @param context An execution context for the extraction.
 	 * @return The element extracted from the hit. Might be a key referring to an object that will be loaded by the
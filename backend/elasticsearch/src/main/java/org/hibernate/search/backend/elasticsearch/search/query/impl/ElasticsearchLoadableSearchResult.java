@@ -10,15 +10,20 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchChunk;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.spi.SimpleSearchChunk;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
 
+import com.google.gson.JsonArray;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -36,20 +41,57 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final JsonArray lastHitSortValues;
+	private final String scrollId;
+	private final boolean timedOut;
 
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, JsonArray lastHitSortValues, String scrollId,
+			boolean timedOut) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.lastHitSortValues = lastHitSortValues;
+		this.scrollId = scrollId;
+		this.timedOut = timedOut;
+	}
+
+	long getHitCount() {
+		return hitCount;
+	}
+
+	String getScrollId() {
+		return scrollId;
+	}
+
+	boolean isTimedOut() {
+		return timedOut;
 	}
 
 	SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return new SimpleSearchResult<>( hitCount, loadHitsBlocking( sessionContext ), timedOut );
+	}
+
+	SearchChunk<T> loadChunkBlocking(SessionContextImplementor sessionContext, int chunkSize) {
+		// A chunk with fewer hits than requested is necessarily the last one
+		ElasticsearchSearchCursor nextCursor = extractedData.size() < chunkSize || lastHitSortValues == null
+				? null : new ElasticsearchSearchCursor( lastHitSortValues );
+		return new SimpleSearchChunk<>( hitCount, loadHitsBlocking( sessionContext ), nextCursor, timedOut );
+	}
+
+	CompletableFuture<SearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> new SimpleSearchResult<>( hitCount, transform( sessionContext, loadingResult ), timedOut ) );
+	}
+
+	private List<T> loadHitsBlocking(SessionContextImplementor sessionContext) {
+		return transform( sessionContext, projectionHitMapper.loadBlocking() );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	private List<T> transform(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -63,6 +105,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return loadedHits;
 	}
 }
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import org.hibernate.search.engine.search.SearchCursor;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A cursor pointing after a given hit, identified by its sort values,
+ * to be passed to Elasticsearch as the {@code search_after} parameter.
+ */
+final class ElasticsearchSearchCursor implements SearchCursor {
+
+	private final JsonArray sortValues;
+
+	ElasticsearchSearchCursor(JsonArray sortValues) {
+		this.sortValues = sortValues;
+	}
+
+	JsonArray getSortValues() {
+		return sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[sortValues=" + sortValues + "]";
+	}
+}
@@ -6,26 +6,49 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchMultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchChunk;
+import org.hibernate.search.engine.search.SearchCursor;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 
 /**
  * @author Yoann Rodiere
  */
-public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
+public class ElasticsearchSearchQuery<T> implements BatchableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SORT_PROPERTY = "sort";
+	private static final String SEARCH_AFTER_PROPERTY = "search_after";
+	private static final String TIMEOUT_PROPERTY = "timeout";
+	private static final JsonPrimitive SCORE_SORT_JSON = new JsonPrimitive( "_score" );
+	private static final JsonObject TIEBREAKER_SORT_JSON = new JsonObject();
+	static {
+		TIEBREAKER_SORT_JSON.addProperty( "_uid", "asc" );
+	}
 
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
@@ -34,16 +57,22 @@
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final int scrollTimeout;
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
 
 	private Long firstResultIndex;
 	private Long maxResultsCount;
+	private long timeoutInMilliseconds = 0L;
+	private boolean truncateOnTimeout = false;
 
 	public ElasticsearchSearchQuery(ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			Set<String> routingKeys,
-			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			int scrollTimeout,
+			ElasticsearchSearchQueryBatchExecutor batchExecutor) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.indexNames = indexNames;
@@ -51,6 +80,8 @@ public ElasticsearchSearchQuery(ElasticsearchWorkFactory workFactory,
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.batchExecutor = batchExecutor;
 	}
 
 	@Override
@@ -63,6 +94,23 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void setExactHitCountRequired(boolean exactHitCountRequired) {
+		// Elasticsearch always computes an exact hit count for now
+	}
+
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutInMilliseconds = timeUnit.toMillis( timeout );
+		this.truncateOnTimeout = false;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutInMilliseconds = timeUnit.toMillis( timeout );
+		this.truncateOnTimeout = true;
+	}
+
 	@Override
 	public String getQueryString() {
 		return payload.toString();
@@ -75,21 +123,29 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search(
-				indexNames, routingKeys,
-				payload, searchResultExtractor,
-				firstResultIndex, maxResultsCount );
-		return queryOrchestrator.submit( work ).join()
+		return queryOrchestrator.submit( createSearchWork() )
+				.thenApply( this::checkTimeout )
+				.join()
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Blocking mappers (e.g. relying on JDBC) only support loading from the user thread;
+				 * executeAsync() loads from the thread completing the search instead, and documents it.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		return queryOrchestrator.submit( createSearchWork() )
+				.thenApply( this::checkTimeout )
+				.thenCompose( loadableResult -> loadableResult.loadAsync( sessionContext ) );
+	}
+
+	@Override
+	public SearchQueryBatchExecutor getBatchExecutor() {
+		return batchExecutor;
+	}
+
 	@Override
 	public long executeCount() {
 		JsonObject filteredPayload = new JsonObject();
@@ -101,4 +157,109 @@ public long executeCount() {
 		ElasticsearchWork<Long> work = workFactory.count( indexNames, routingKeys, filteredPayload );
 		return queryOrchestrator.submit( work ).join();
 	}
+
+	@Override
+	public SearchChunk<T> executeChunk(int chunkSize) {
+		return doExecuteChunk( null, chunkSize );
+	}
+
+	@Override
+	public SearchChunk<T> executeChunk(SearchCursor cursor, int chunkSize) {
+		if ( !( cursor instanceof ElasticsearchSearchCursor ) ) {
+			throw log.invalidSearchCursor( cursor );
+		}
+		return doExecuteChunk( ( (ElasticsearchSearchCursor) cursor ).getSortValues(), chunkSize );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new ElasticsearchSearchScroll<>(
+				workFactory, queryOrchestrator,
+				indexNames, sessionContext, routingKeys,
+				payload, searchResultExtractor,
+				chunkSize, scrollTimeout
+		);
+	}
+
+	void contributeToMultiSearch(ElasticsearchMultiSearchWork.Builder builder) {
+		builder.search(
+				indexNames, routingKeys,
+				createSearchPayload(), searchResultExtractor,
+				firstResultIndex, maxResultsCount );
+	}
+
+	@SuppressWarnings("unchecked") // The loadable result was extracted by the result extractor of this query
+	SearchResult<T> loadBlocking(ElasticsearchLoadableSearchResult<?> loadableResult) {
+		return checkTimeout( (ElasticsearchLoadableSearchResult<T>) loadableResult ).loadBlocking( sessionContext );
+	}
+
+	@SuppressWarnings("unchecked") // The loadable result was extracted by the result extractor of this query
+	CompletionStage<SearchResult<T>> loadAsync(ElasticsearchLoadableSearchResult<?> loadableResult) {
+		return checkTimeout( (ElasticsearchLoadableSearchResult<T>) loadableResult ).loadAsync( sessionContext );
+	}
+
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> createSearchWork() {
+		return workFactory.search(
+				indexNames, routingKeys,
+				createSearchPayload(), searchResultExtractor,
+				firstResultIndex, maxResultsCount );
+	}
+
+	private SearchChunk<T> doExecuteChunk(JsonArray searchAfter, int chunkSize) {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search(
+				indexNames, routingKeys,
+				createChunkPayload( searchAfter ), searchResultExtractor,
+				null, (long) chunkSize );
+		// See execute() regarding the thread in which loading must happen
+		return checkTimeout( queryOrchestrator.submit( work ).join() ).loadChunkBlocking( sessionContext, chunkSize );
+	}
+
+	private JsonObject createSearchPayload() {
+		if ( timeoutInMilliseconds <= 0L ) {
+			return payload;
+		}
+		JsonObject searchPayload = payload.deepCopy();
+		addTimeout( searchPayload );
+		return searchPayload;
+	}
+
+	private void addTimeout(JsonObject searchPayload) {
+		if ( timeoutInMilliseconds > 0L ) {
+			/*
+			 * Each shard stops collecting hits after this timeout,
+			 * and the response is flagged with "timed_out": true.
+			 */
+			searchPayload.addProperty( TIMEOUT_PROPERTY, timeoutInMilliseconds + "ms" );
+		}
+	}
+
+	private ElasticsearchLoadableSearchResult<T> checkTimeout(ElasticsearchLoadableSearchResult<T> loadableResult) {
+		if ( loadableResult.isTimedOut() && !truncateOnTimeout ) {
+			throw log.searchTimedOut( timeoutInMilliseconds, getQueryString() );
+		}
+		return loadableResult;
+	}
+
+	private JsonObject createChunkPayload(JsonArray searchAfter) {
+		JsonObject chunkPayload = payload.deepCopy();
+		addTimeout( chunkPayload );
+
+		/*
+		 * search_after requires a total order on hits:
+		 * add a tiebreaker to the sort, which defaults to sorting by score.
+		 */
+		JsonArray sort = chunkPayload.has( SORT_PROPERTY ) ? chunkPayload.getAsJsonArray( SORT_PROPERTY ) : null;
+		if ( sort == null ) {
+			sort = new JsonArray();
+			sort.add( SCORE_SORT_JSON );
+			chunkPayload.add( SORT_PROPERTY, sort );
+		}
+		sort.add( TIEBREAKER_SORT_JSON );
+
+		if ( searchAfter != null ) {
+			chunkPayload.add( SEARCH_AFTER_PROPERTY, searchAfter );
+		}
+
+		return chunkPayload;
+	}
 }
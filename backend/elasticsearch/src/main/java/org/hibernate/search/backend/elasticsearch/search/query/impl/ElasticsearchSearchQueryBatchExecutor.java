@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchMultiSearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+
+/**
+ * Executes batches of Elasticsearch search queries in a single {@code _msearch} request,
+ * so that a batch only costs one round trip to the cluster.
+ */
+class ElasticsearchSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryBatchExecutor(ElasticsearchWorkFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queryOrchestrator=" + queryOrchestrator + "]";
+	}
+
+	@Override
+	public List<SearchResult<?>> execute(List<BatchableSearchQuery<?>> queries) {
+		if ( queries.size() == 1 ) {
+			// No need for a multi-search
+			return Collections.singletonList( queries.get( 0 ).execute() );
+		}
+
+		List<ElasticsearchSearchQuery<?>> elasticsearchQueries = toElasticsearchQueries( queries );
+		List<ElasticsearchLoadableSearchResult<?>> loadableResults =
+				queryOrchestrator.submit( createMultiSearchWork( elasticsearchQueries ) ).join();
+
+		List<SearchResult<?>> results = new ArrayList<>( elasticsearchQueries.size() );
+		for ( int i = 0; i < elasticsearchQueries.size(); i++ ) {
+			// See ElasticsearchSearchQuery.execute() regarding the thread in which loading must happen
+			results.add( elasticsearchQueries.get( i ).loadBlocking( loadableResults.get( i ) ) );
+		}
+		return results;
+	}
+
+	@Override
+	public CompletableFuture<List<SearchResult<?>>> executeAsync(List<BatchableSearchQuery<?>> queries) {
+		if ( queries.size() == 1 ) {
+			return queries.get( 0 ).executeAsync().toCompletableFuture()
+					.thenApply( result -> Collections.<SearchResult<?>>singletonList( result ) );
+		}
+
+		List<ElasticsearchSearchQuery<?>> elasticsearchQueries = toElasticsearchQueries( queries );
+		return queryOrchestrator.submit( createMultiSearchWork( elasticsearchQueries ) )
+				.thenCompose( loadableResults -> {
+					List<CompletableFuture<? extends SearchResult<?>>> resultFutures = new ArrayList<>( loadableResults.size() );
+					for ( int i = 0; i < elasticsearchQueries.size(); i++ ) {
+						resultFutures.add( elasticsearchQueries.get( i ).loadAsync( loadableResults.get( i ) )
+								.toCompletableFuture() );
+					}
+					return allOf( resultFutures );
+				} );
+	}
+
+	private ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> createMultiSearchWork(
+			List<ElasticsearchSearchQuery<?>> queries) {
+		ElasticsearchMultiSearchWork.Builder builder = workFactory.multiSearch();
+		for ( ElasticsearchSearchQuery<?> query : queries ) {
+			query.contributeToMultiSearch( builder );
+		}
+		return builder.build();
+	}
+
+	private static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<? extends T>> futures) {
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) )
+				.thenApply( ignored -> {
+					List<T> results = new ArrayList<>( futures.size() );
+					for ( CompletableFuture<? extends T> future : futures ) {
+						results.add( future.join() );
+					}
+					return results;
+				} );
+	}
+
+	private static List<ElasticsearchSearchQuery<?>> toElasticsearchQueries(List<BatchableSearchQuery<?>> queries) {
+		List<ElasticsearchSearchQuery<?>> result = new ArrayList<>( queries.size() );
+		for ( BatchableSearchQuery<?> query : queries ) {
+			// Only queries created by this backend return this executor
+			result.add( (ElasticsearchSearchQuery<?>) query );
+		}
+		return result;
+	}
+}
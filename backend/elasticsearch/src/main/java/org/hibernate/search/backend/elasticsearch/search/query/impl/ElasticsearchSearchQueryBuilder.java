@@ -20,7 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchQuery;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 
 import com.google.gson.JsonArray;
@@ -32,33 +32,39 @@
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int scrollTimeout;
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
 
 	private final Set<URLEncodedString> indexNames;
 	private final SessionContextImplementor sessionContext;
 	private final Set<String> routingKeys;
 
 	private final ElasticsearchSearchQueryElementCollector elementCollector;
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LoadingContext<?, ?> loadingContext;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
 
 	ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
+			ElasticsearchSearchQueryBatchExecutor batchExecutor,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper,
+			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
+		this.batchExecutor = batchExecutor;
 
 		this.indexNames = indexNames;
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
 
 		this.elementCollector = new ElasticsearchSearchQueryElementCollector();
-		this.projectionHitMapper = projectionHitMapper;
+		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
 	}
 
@@ -90,14 +96,22 @@ private SearchQuery<T> build() {
 
 		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
 
+		boolean sourceRequested = payload.has( "_source" );
+		if ( !sourceRequested ) {
+			// No projection needs the source: don't let Elasticsearch send it
+			payload.addProperty( "_source", false );
+		}
+
 		ElasticsearchSearchResultExtractor<T> searchResultExtractor =
-				new ElasticsearchSearchResultExtractorImpl<>( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+				new ElasticsearchSearchResultExtractorImpl<>( loadingContext, rootProjection, sourceRequested,
+						searchProjectionExecutionContext );
 
 		return new ElasticsearchSearchQuery<>(
 				workFactory, queryOrchestrator,
 				indexNames, sessionContext, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				scrollTimeout, batchExecutor
 		);
 	}
 
@@ -19,7 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchReferenceProjection;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchProjection;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilderFactory;
 
@@ -41,35 +41,35 @@
 
 	@Override
 	public <O> SearchQueryBuilder<O, ElasticsearchSearchQueryElementCollector> asObject(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, O> projectionHitMapper) {
+			SessionContextImplementor sessionContext, LoadingContext<?, O> loadingContext) {
 		return createSearchQueryBuilder(
-				sessionContext, projectionHitMapper,
+				sessionContext, loadingContext,
 				new ElasticsearchObjectProjection<>( searchBackendContext.getDocumentReferenceExtractorHelper() )
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> asReference(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper) {
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext) {
 		return createSearchQueryBuilder(
-				sessionContext, projectionHitMapper,
+				sessionContext, loadingContext,
 				new ElasticsearchReferenceProjection<>( searchBackendContext.getDocumentReferenceExtractorHelper() )
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> asProjection(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			SearchProjection<T> projection) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper,
+		return createSearchQueryBuilder( sessionContext, loadingContext,
 				searchProjectionFactory.toImplementation( projection ) );
 	}
 
 	@Override
 	public SearchQueryBuilder<List<?>, ElasticsearchSearchQueryElementCollector> asProjections(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			SearchProjection<?>... projections) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper, createRootProjection( projections ) );
+		return createSearchQueryBuilder( sessionContext, loadingContext, createRootProjection( projections ) );
 	}
 
 	private ElasticsearchSearchProjection<?, List<?>> createRootProjection(SearchProjection<?>[] projections) {
@@ -83,12 +83,12 @@ private ElasticsearchSearchProjection<?, List<?>> createRootProjection(SearchPro
 	}
 
 	private <T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		return searchBackendContext.createSearchQueryBuilder(
 				searchTargetModel.getElasticsearchIndexNames(),
 				sessionContext,
-				projectionHitMapper, rootProjection
+				loadingContext, rootProjection
 		);
 	}
 }
@@ -6,68 +6,190 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Extracts search results from a streamed Elasticsearch response.
+ * <p>
+ * Hits are parsed one at a time and handed over to projections right away,
+ * so that we never build the JSON tree of the whole response,
+ * which can be very large when fetching many hits.
+ */
 public class ElasticsearchSearchResultExtractorImpl<T> implements ElasticsearchSearchResultExtractor<T> {
 
-	private static final JsonObjectAccessor HITS_ACCESSOR =
-			JsonAccessor.root().property( "hits" ).asObject();
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String HITS_PROPERTY = "hits";
+	private static final String HITS_TOTAL_PROPERTY = "total";
+	private static final String HITS_TOTAL_VALUE_PROPERTY = "value";
+	private static final String HIT_SOURCE_PROPERTY = "_source";
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
+			JsonAccessor.root().property( "timed_out" ).asBoolean();
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
+	private static final JsonAccessor<JsonElement> ERROR_ACCESSOR =
+			JsonAccessor.root().property( "error" );
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).asLong();
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
 
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LoadingContext<?, ?> loadingContext;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
+	private final boolean sourceRequested;
 
 	private final SearchProjectionExtractContext searchProjectionExecutionContext;
 
+	private final JsonParser jsonParser = new JsonParser();
+
+	/**
+	 * @param loadingContext The loading context, providing a projection hit mapper for each execution.
+	 * @param rootProjection The root projection.
+	 * @param sourceRequested Whether projections need the {@code _source} of hits;
+	 * if not, the {@code _source} of hits will be skipped when reading the response.
+	 * @param searchProjectionExecutionContext The context for projections.
+	 */
 	public ElasticsearchSearchResultExtractorImpl(
-			ProjectionHitMapper<?, ?> projectionHitMapper,
+			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, T> rootProjection,
+			boolean sourceRequested,
 			SearchProjectionExtractContext searchProjectionExecutionContext) {
-		this.projectionHitMapper = projectionHitMapper;
+		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
+		this.sourceRequested = sourceRequested;
 		this.searchProjectionExecutionContext = searchProjectionExecutionContext;
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody) {
-		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	public ElasticsearchLoadableSearchResult<T> extract(JsonReader responseReader) throws IOException {
+		// Everything except the hits
+		JsonObject responseBody = new JsonObject();
+		// The query may be executed multiple times, possibly concurrently: use a new mapper for each execution
+		HitsReadingState hitsState = new HitsReadingState( loadingContext.createProjectionHitMapper() );
+
+		responseReader.beginObject();
+		while ( responseReader.hasNext() ) {
+			String property = responseReader.nextName();
+			if ( HITS_PROPERTY.equals( property ) && responseReader.peek() == JsonToken.BEGIN_OBJECT ) {
+				readHits( responseReader, responseBody, hitsState );
+			}
+			else {
+				responseBody.add( property, jsonParser.parse( responseReader ) );
+			}
+		}
+		responseReader.endObject();
 
-		final List<Object> extractedData = hitCount > 0 ? extractHits( responseBody ) : Collections.emptyList();
+		// Failed searches, in particular failed items of a multi-search response, hold an error instead of hits
+		JsonElement error = ERROR_ACCESSOR.get( responseBody ).orElse( null );
+		if ( error != null ) {
+			throw log.elasticsearchSearchFailed( error );
+		}
 
-		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData );
-	}
+		// Only available for scrolls
+		String scrollId = SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
+
+		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).orElse( false );
 
-	@SuppressWarnings("unchecked")
-	private List<Object> extractHits(JsonObject responseBody) {
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+		return new ElasticsearchLoadableSearchResult<>( hitsState.projectionHitMapper, rootProjection,
+				hitsState.hitCount, hitsState.extractedData, hitsState.lastHitSortValues, scrollId, timedOut );
+	}
 
-		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
+	private void readHits(JsonReader reader, JsonObject responseBody, HitsReadingState state) throws IOException {
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String property = reader.nextName();
+			if ( HITS_TOTAL_PROPERTY.equals( property ) ) {
+				state.hitCount = readHitCount( reader );
+			}
+			else if ( HITS_PROPERTY.equals( property ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					JsonObject hit = readHit( reader );
+					state.extractedData.add( rootProjection.extract( state.projectionHitMapper, responseBody, hit,
+							searchProjectionExecutionContext ) );
+					// Only available if the request defines a sort, which is the case for chunked execution
+					state.lastHitSortValues = HIT_SORT_ACCESSOR.get( hit ).orElse( null );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+	}
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
+	private long readHitCount(JsonReader reader) throws IOException {
+		JsonToken token = reader.peek();
+		if ( token == JsonToken.NUMBER ) {
+			return reader.nextLong();
+		}
+		else if ( token == JsonToken.BEGIN_OBJECT ) {
+			// Elasticsearch 7+: { "value": <count>, "relation": "eq" }
+			long hitCount = 0L;
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				if ( HITS_TOTAL_VALUE_PROPERTY.equals( reader.nextName() ) && reader.peek() == JsonToken.NUMBER ) {
+					hitCount = reader.nextLong();
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return hitCount;
+		}
+		else {
+			reader.skipValue();
+			return 0L;
+		}
+	}
 
-			extractedData.add( rootProjection.extract( projectionHitMapper, responseBody, hitObject,
-					searchProjectionExecutionContext ) );
+	private JsonObject readHit(JsonReader reader) throws IOException {
+		JsonObject hit = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String property = reader.nextName();
+			if ( !sourceRequested && HIT_SOURCE_PROPERTY.equals( property ) ) {
+				reader.skipValue();
+			}
+			else {
+				hit.add( property, jsonParser.parse( reader ) );
+			}
 		}
+		reader.endObject();
+		return hit;
+	}
 
-		return extractedData;
+	private static final class HitsReadingState {
+		private final ProjectionHitMapper<?, ?> projectionHitMapper;
+		private long hitCount = 0L;
+		private final List<Object> extractedData = new ArrayList<>();
+		private JsonArray lastHitSortValues = null;
+
+		private HitsReadingState(ProjectionHitMapper<?, ?> projectionHitMapper) {
+			this.projectionHitMapper = projectionHitMapper;
+		}
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API.
+ * <p>
+ * The scroll context is kept alive on the cluster between two chunks,
+ * for at most {@code scrollTimeout} seconds, and released on {@link #close()}.
+ *
+ * @param <T> The type of hits.
+ */
+class ElasticsearchSearchScroll<T> implements SearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final int chunkSize;
+	private final int scrollTimeout;
+
+	private String scrollId;
+	private long lastHitCount;
+	private boolean exhausted = false;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames,
+			SessionContextImplementor sessionContext,
+			Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, int scrollTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.sessionContext = sessionContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+		this.scrollTimeout = scrollTimeout;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( exhausted ) {
+			return new SimpleSearchResult<>( lastHitCount, Collections.emptyList() );
+		}
+
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work;
+		if ( scrollId == null ) {
+			work = workFactory.scroll( indexNames, routingKeys, payload, searchResultExtractor, chunkSize, scrollTimeout );
+		}
+		else {
+			work = workFactory.scrollNext( scrollId, scrollTimeout, searchResultExtractor );
+		}
+		ElasticsearchLoadableSearchResult<T> loadableResult = queryOrchestrator.submit( work ).join();
+
+		// The scroll ID may change from one chunk to the next
+		scrollId = loadableResult.getScrollId();
+		lastHitCount = loadableResult.getHitCount();
+
+		// Loading must happen in the user thread: see ElasticsearchSearchQuery.execute()
+		SearchResult<T> result = loadableResult.loadBlocking( sessionContext );
+		if ( result.getHits().size() < chunkSize ) {
+			// Release the scroll context as soon as possible
+			close();
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		exhausted = true;
+		if ( scrollId == null ) {
+			return;
+		}
+		String scrollIdToClear = scrollId;
+		scrollId = null;
+		queryOrchestrator.submit( workFactory.clearScroll( scrollIdToClear ) )
+				.exceptionally( Futures.handler( throwable -> {
+					log.unableToClearScroll( scrollIdToClear, throwable );
+					return null;
+				} ) )
+				.join();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[payload=" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+}
@@ -17,7 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.util.EventContext;
 
 import com.google.gson.Gson;
@@ -30,6 +30,8 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final int scrollTimeout;
+	private final ElasticsearchSearchQueryBatchExecutor batchExecutor;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -40,12 +42,15 @@ public SearchBackendContext(EventContext eventContext,
 			Gson userFacingGson,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator) {
+			ElasticsearchWorkOrchestrator orchestrator,
+			int scrollTimeout) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.scrollTimeout = scrollTimeout;
+		this.batchExecutor = new ElasticsearchSearchQueryBatchExecutor( workFactory, orchestrator );
 
 		this.documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -80,12 +85,12 @@ SearchProjectionBackendContext getSearchProjectionBackendContext() {
 	<T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper,
+			LoadingContext<?, ?> loadingContext,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
-				workFactory, orchestrator, multiTenancyStrategy,
-				indexNames, sessionContext, projectionHitMapper, rootProjection
+				workFactory, orchestrator, multiTenancyStrategy, scrollTimeout, batchExecutor,
+				indexNames, sessionContext, loadingContext, rootProjection
 		);
 	}
 
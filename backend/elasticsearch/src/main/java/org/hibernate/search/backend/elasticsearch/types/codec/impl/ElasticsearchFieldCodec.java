@@ -30,4 +30,22 @@
 	 * in doubt.
 	 */
 	boolean isCompatibleWith(ElasticsearchFieldCodec<?> other);
+
+	/**
+	 * @return {@code true} if values returned by Elasticsearch when requesting this field
+	 * through {@code docvalue_fields} can be passed to {@link #decode(JsonElement)},
+	 * {@code false} otherwise.
+	 */
+	default boolean supportsDocValueFields() {
+		return false;
+	}
+
+	/**
+	 * @return {@code true} if values returned by Elasticsearch when requesting this field
+	 * through {@code stored_fields} can be passed to {@link #decode(JsonElement)},
+	 * {@code false} otherwise.
+	 */
+	default boolean supportsStoredFields() {
+		return false;
+	}
 }
@@ -38,4 +38,14 @@ public Long decode(JsonElement element) {
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
 	}
+
+	@Override
+	public boolean supportsDocValueFields() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsStoredFields() {
+		return true;
+	}
 }
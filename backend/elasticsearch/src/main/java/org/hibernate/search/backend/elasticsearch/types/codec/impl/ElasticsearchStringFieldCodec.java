@@ -39,4 +39,14 @@ public String decode(JsonElement element) {
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
 	}
+
+	@Override
+	public boolean supportsDocValueFields() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsStoredFields() {
+		return true;
+	}
 }
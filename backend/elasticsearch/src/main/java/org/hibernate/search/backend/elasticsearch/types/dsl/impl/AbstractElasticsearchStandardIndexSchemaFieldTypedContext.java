@@ -11,6 +11,8 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaNodeContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaObjectNode;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldValueSource;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.converter.FromDocumentFieldValueConverter;
 import org.hibernate.search.engine.backend.document.converter.ToDocumentFieldValueConverter;
@@ -80,6 +82,37 @@ protected static boolean resolveDefault(Projectable projectable) {
 		}
 	}
 
+	/**
+	 * Avoid _source filtering when possible:
+	 * Elasticsearch has to load and parse the whole _source of each hit in that case,
+	 * which is costly for narrow projections on wide documents.
+	 * Doc values are preferred over stored fields as they are column-oriented.
+	 *
+	 * @param parentNode The parent of the field.
+	 * @param stored Whether the field is stored.
+	 * @param docValues Whether doc values are enabled for the field and contain the original value,
+	 * i.e. without any normalization applied.
+	 * @param codec The codec of the field.
+	 * @return Where projections on the field should fetch its value from.
+	 */
+	protected static ElasticsearchFieldValueSource resolveProjectionValueSource(
+			ElasticsearchIndexSchemaObjectNode parentNode, boolean stored, boolean docValues,
+			ElasticsearchFieldCodec<?> codec) {
+		if ( parentNode.isInNestedDocument() ) {
+			// Stored fields and doc values of nested documents are not returned with the root document
+			return ElasticsearchFieldValueSource.SOURCE;
+		}
+		else if ( docValues && codec.supportsDocValueFields() ) {
+			return ElasticsearchFieldValueSource.DOCVALUE_FIELDS;
+		}
+		else if ( stored && codec.supportsStoredFields() ) {
+			return ElasticsearchFieldValueSource.STORED_FIELDS;
+		}
+		else {
+			return ElasticsearchFieldValueSource.SOURCE;
+		}
+	}
+
 	protected static boolean resolveDefault(Sortable sortable) {
 		switch ( sortable ) {
 			case DEFAULT:
@@ -53,7 +53,9 @@ protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<Instant> h
 				parentNode, codec,
 				new ElasticsearchStandardFieldPredicateBuilderFactory<>( dslToIndexConverter, codec ),
 				new ElasticsearchStandardFieldSortBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
-				new ElasticsearchStandardFieldProjectionBuilderFactory<>( resolvedProjectable, indexToProjectionConverter, codec )
+				new ElasticsearchStandardFieldProjectionBuilderFactory<>( resolvedProjectable,
+						resolveProjectionValueSource( parentNode, resolvedProjectable, resolvedSortable, codec ),
+						indexToProjectionConverter, codec )
 		);
 
 		JsonAccessor<JsonElement> jsonAccessor = JsonAccessor.root().property( relativeFieldName );
@@ -106,6 +106,9 @@ protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<String> he
 
 		mapping.setStore( resolvedProjectable );
 
+		// Normalizers alter the value stored in doc values, and in stored fields for keywords
+		boolean docValuesHoldOriginalValue = analyzerName == null && normalizerName == null && resolvedSortable;
+		boolean storedFieldHoldsOriginalValue = normalizerName == null && resolvedProjectable;
 
 		ToDocumentFieldValueConverter<?, ? extends String> dslToIndexConverter =
 				helper.createDslToIndexConverter();
@@ -117,7 +120,9 @@ protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<String> he
 				parentNode, codec,
 				new ElasticsearchStandardFieldPredicateBuilderFactory<>( dslToIndexConverter, codec ),
 				new ElasticsearchStandardFieldSortBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
-				new ElasticsearchStandardFieldProjectionBuilderFactory<>( resolvedProjectable, indexToProjectionConverter, codec )
+				new ElasticsearchStandardFieldProjectionBuilderFactory<>( resolvedProjectable,
+						resolveProjectionValueSource( parentNode, storedFieldHoldsOriginalValue, docValuesHoldOriginalValue, codec ),
+						indexToProjectionConverter, codec )
 		);
 
 		JsonAccessor<JsonElement> jsonAccessor = JsonAccessor.root().property( relativeFieldName );
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchDistanceToFieldProjectionBuilder;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldProjectionBuilder;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldValueSource;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.engine.backend.document.converter.FromDocumentFieldValueConverter;
 import org.hibernate.search.engine.logging.spi.EventContexts;
@@ -47,7 +48,9 @@ public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(String ab
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 
-		return (FieldProjectionBuilder<T>) new ElasticsearchFieldProjectionBuilder<>( absoluteFieldPath, converter, codec );
+		return (FieldProjectionBuilder<T>) new ElasticsearchFieldProjectionBuilder<>( absoluteFieldPath,
+				// Geo points are returned in a different format from stored fields and doc values
+				ElasticsearchFieldValueSource.SOURCE, converter, codec );
 	}
 
 	@Override
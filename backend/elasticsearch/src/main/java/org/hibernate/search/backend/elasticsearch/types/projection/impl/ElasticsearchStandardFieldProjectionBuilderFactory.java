@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldProjectionBuilder;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldValueSource;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.engine.backend.document.converter.FromDocumentFieldValueConverter;
 import org.hibernate.search.engine.logging.spi.EventContexts;
@@ -23,14 +24,17 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final boolean projectable;
+	private final ElasticsearchFieldValueSource valueSource;
 
 	private final FromDocumentFieldValueConverter<? super F, ?> converter;
 	private final ElasticsearchFieldCodec<F> codec;
 
 	public ElasticsearchStandardFieldProjectionBuilderFactory(boolean projectable,
+			ElasticsearchFieldValueSource valueSource,
 			FromDocumentFieldValueConverter<? super F, ?> converter,
 			ElasticsearchFieldCodec<F> codec) {
 		this.projectable = projectable;
+		this.valueSource = valueSource;
 		this.converter = converter;
 		this.codec = codec;
 	}
@@ -46,7 +50,7 @@ public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(String ab
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 
-		return (FieldProjectionBuilder<T>) new ElasticsearchFieldProjectionBuilder<>( absoluteFieldPath, converter, codec );
+		return (FieldProjectionBuilder<T>) new ElasticsearchFieldProjectionBuilder<>( absoluteFieldPath, valueSource, converter, codec );
 	}
 
 	@Override
@@ -69,6 +73,7 @@ public boolean isDslCompatibleWith(ElasticsearchFieldProjectionBuilderFactory ob
 		ElasticsearchStandardFieldProjectionBuilderFactory<?> other = (ElasticsearchStandardFieldProjectionBuilderFactory<?>) obj;
 
 		return projectable == other.projectable
+				&& valueSource == other.valueSource
 				&& converter.isCompatibleWith( other.converter )
 				&& codec.isCompatibleWith( other.codec );
 	}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work that can be sent as part of a {@code _bulk} request,
+ * as well as on its own.
+ *
+ * @author Yoann Rodiere
+ */
+public interface BulkableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	URLEncodedString getIndexName();
+
+	/**
+	 * @return The identifier of the document touched by this work.
+	 */
+	String getDocumentId();
+
+	/**
+	 * @return The strategy determining when the changes applied by this work become visible to search queries.
+	 * Bulk requests wait for a refresh if at least one of their works uses {@link DocumentRefreshStrategy#WAIT_FOR}.
+	 */
+	DocumentRefreshStrategy getRefreshStrategy();
+
+	JsonObject getBulkableActionMetadata();
+
+	/**
+	 * @return The body of the bulk action, or {@code null} if the action has no body (deletes).
+	 */
+	JsonObject getBulkableActionBody();
+
+	/**
+	 * @param bulkResponseItem The part of the bulk JSON response relevant to this work
+	 * @return The result of this work
+	 */
+	T handleBulkResult(JsonObject bulkResponseItem);
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work sending multiple {@link BulkableElasticsearchWork}s in a single {@code _bulk} request.
+ * <p>
+ * The result is the array of bulk response items, in the same order as the bulked works.
+ */
+public class ElasticsearchBulkWork implements ElasticsearchWork<JsonArray> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+
+	private final ElasticsearchRequest request;
+	private final int size;
+
+	public ElasticsearchBulkWork(List<? extends BulkableElasticsearchWork<?>> works) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK );
+		boolean waitForRefresh = false;
+		for ( BulkableElasticsearchWork<?> work : works ) {
+			waitForRefresh = waitForRefresh || DocumentRefreshStrategy.WAIT_FOR.equals( work.getRefreshStrategy() );
+			builder.body( work.getBulkableActionMetadata() );
+			JsonObject actionBody = work.getBulkableActionBody();
+			if ( actionBody != null ) {
+				builder.body( actionBody );
+			}
+		}
+		if ( waitForRefresh ) {
+			// The refresh parameter applies to the whole bulk request
+			builder.param( "refresh", "wait_for" );
+		}
+		this.request = builder.build();
+		this.size = works.size();
+	}
+
+	@Override
+	public CompletableFuture<JsonArray> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request ).thenApply( this::handleResponse );
+	}
+
+	private JsonArray handleResponse(ElasticsearchResponse response) {
+		int statusCode = response.getStatusCode();
+		// Failures of individual items are reported in the items, but the whole request may be rejected too
+		if ( !ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+			throw log.elasticsearchRequestFailed( request.getMethod(), request.getPath(),
+					statusCode, response.getStatusMessage(), response.getBody() );
+		}
+		return BULK_ITEMS.get( response.getBody() ).orElseGet( JsonArray::new );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "size=" ).append( size )
+				.append( "]" )
+				.toString();
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A work administering an index: existence check, creation, mapping update, ...
+ * <p>
+ * Contrary to {@link ElasticsearchStubWork}, the response status is checked:
+ * failing to set up an index must be reported to the user.
+ *
+ * @param <T> The type of the result of the work.
+ */
+public class ElasticsearchIndexAdministrationWork<T> implements ElasticsearchWork<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchRequest request;
+	private final Predicate<ElasticsearchResponse> successAssessor;
+	private final Function<ElasticsearchResponse, T> resultFunction;
+
+	public ElasticsearchIndexAdministrationWork(ElasticsearchRequest request) {
+		this( request, ElasticsearchIndexAdministrationWork::isSuccess, ignored -> null );
+	}
+
+	public ElasticsearchIndexAdministrationWork(ElasticsearchRequest request,
+			Predicate<ElasticsearchResponse> successAssessor,
+			Function<ElasticsearchResponse, T> resultFunction) {
+		this.request = request;
+		this.successAssessor = successAssessor;
+		this.resultFunction = resultFunction;
+	}
+
+	@Override
+	public CompletableFuture<T> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request ).thenApply( this::handleResponse );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request=" ).append( request )
+				.append( "]" )
+				.toString();
+	}
+
+	static boolean isSuccess(ElasticsearchResponse response) {
+		int statusCode = response.getStatusCode();
+		return 200 <= statusCode && statusCode < 300;
+	}
+
+	private T handleResponse(ElasticsearchResponse response) {
+		if ( !successAssessor.test( response ) ) {
+			throw log.elasticsearchRequestFailed( request.getMethod(), request.getPath(),
+					response.getStatusCode(), response.getStatusMessage(), response.getBody() );
+		}
+		return resultFunction.apply( response );
+	}
+}
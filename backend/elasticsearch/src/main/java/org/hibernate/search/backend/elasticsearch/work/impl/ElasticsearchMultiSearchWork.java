@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A work sending multiple searches in a single {@code _msearch} request.
+ * <p>
+ * The result is the list of search results, in the same order as the searches.
+ * Each item of the response is streamed to the result extractor of the corresponding search.
+ */
+public class ElasticsearchMultiSearchWork implements ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String RESPONSES_PROPERTY = "responses";
+
+	private final ElasticsearchRequest request;
+	private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors;
+
+	private ElasticsearchMultiSearchWork(ElasticsearchRequest request,
+			List<ElasticsearchSearchResultExtractor<?>> resultExtractors) {
+		this.request = request;
+		this.resultExtractors = resultExtractors;
+	}
+
+	@Override
+	public CompletableFuture<List<ElasticsearchLoadableSearchResult<?>>> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request, this::extract );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "size=" ).append( resultExtractors.size() )
+				.append( "]" )
+				.toString();
+	}
+
+	private List<ElasticsearchLoadableSearchResult<?>> extract(JsonReader responseReader) throws IOException {
+		List<ElasticsearchLoadableSearchResult<?>> results = new ArrayList<>( resultExtractors.size() );
+		int responseCount = 0;
+
+		responseReader.beginObject();
+		while ( responseReader.hasNext() ) {
+			String property = responseReader.nextName();
+			if ( RESPONSES_PROPERTY.equals( property ) && responseReader.peek() == JsonToken.BEGIN_ARRAY ) {
+				responseReader.beginArray();
+				while ( responseReader.hasNext() ) {
+					if ( responseCount < resultExtractors.size() ) {
+						results.add( resultExtractors.get( responseCount ).extract( responseReader ) );
+					}
+					else {
+						responseReader.skipValue();
+					}
+					++responseCount;
+				}
+				responseReader.endArray();
+			}
+			else {
+				responseReader.skipValue();
+			}
+		}
+		responseReader.endObject();
+
+		// The whole request failed, or Elasticsearch did not execute every search
+		if ( responseCount != resultExtractors.size() ) {
+			throw log.invalidMultiSearchResponseCount( resultExtractors.size(), responseCount );
+		}
+
+		return results;
+	}
+
+	public static class Builder {
+
+		private final ElasticsearchRequest.Builder requestBuilder = ElasticsearchRequest.post()
+				.pathComponent( Paths._MSEARCH );
+		private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors = new ArrayList<>();
+
+		Builder() {
+		}
+
+		public Builder search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+				JsonObject payload, ElasticsearchSearchResultExtractor<?> searchResultExtractor,
+				Long offset, Long limit) {
+			// Each search is a header line, targeting the indexes, followed by the search body
+			JsonObject header = new JsonObject();
+			header.addProperty( "index", indexNames.stream().map( name -> name.original )
+					.collect( Collectors.joining( "," ) ) );
+			if ( !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
+			}
+
+			JsonObject body = payload;
+			if ( offset != null || limit != null ) {
+				// The payload may be shared with other searches: don't alter it
+				body = payload.deepCopy();
+				if ( offset != null ) {
+					body.addProperty( "from", offset );
+				}
+				if ( limit != null ) {
+					body.addProperty( "size", limit );
+				}
+			}
+
+			requestBuilder.body( header );
+			requestBuilder.body( body );
+			resultExtractors.add( searchResultExtractor );
+			return this;
+		}
+
+		public ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> build() {
+			return new ElasticsearchMultiSearchWork( requestBuilder.build(), new ArrayList<>( resultExtractors ) );
+		}
+	}
+}
@@ -6,12 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<T> {
 
-	ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody);
+	/**
+	 * @param responseReader A reader positioned at the beginning of the response body.
+	 * @return The search result.
+	 * @throws IOException If the response body cannot be read.
+	 */
+	ElasticsearchLoadableSearchResult<T> extract(JsonReader responseReader) throws IOException;
 
 }
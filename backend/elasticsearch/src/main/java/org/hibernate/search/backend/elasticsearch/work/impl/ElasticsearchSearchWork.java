@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+
+/**
+ * A search work, i.e. a search or scroll request.
+ * <p>
+ * Search responses can be large, so they are streamed to the result extractor
+ * instead of being parsed into a JSON tree.
+ *
+ * @param <T> The type of hits.
+ */
+public class ElasticsearchSearchWork<T> implements ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
+
+	private final ElasticsearchRequest request;
+	private final ElasticsearchSearchResultExtractor<T> resultExtractor;
+
+	public ElasticsearchSearchWork(ElasticsearchRequest request, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+		this.request = request;
+		this.resultExtractor = resultExtractor;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchLoadableSearchResult<T>> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request, resultExtractor::extract );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request=" ).append( request )
+				.append( "]" )
+				.toString();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchStubBulkableWork implements BulkableElasticsearchWork<Void> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<Integer> STATUS = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final JsonAccessor<JsonElement> ERROR = JsonAccessor.root().property( "error" );
+
+	private static final int NOT_FOUND_STATUS = 404;
+
+	private final URLEncodedString indexName;
+	private final String documentId;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final ElasticsearchRequest request;
+	private final JsonObject actionMetadata;
+	private final JsonObject actionBody;
+	private final boolean ignoreNotFound;
+
+	public ElasticsearchStubBulkableWork(URLEncodedString indexName, String documentId,
+			DocumentRefreshStrategy refreshStrategy,
+			ElasticsearchRequest request, JsonObject actionMetadata, JsonObject actionBody, boolean ignoreNotFound) {
+		this.indexName = indexName;
+		this.documentId = documentId;
+		this.refreshStrategy = refreshStrategy;
+		this.request = request;
+		this.actionMetadata = actionMetadata;
+		this.actionBody = actionBody;
+		this.ignoreNotFound = ignoreNotFound;
+	}
+
+	@Override
+	public CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+		// Executed outside of a bulk: check the response status just like a bulk item status
+		return context.getClient().submit( request ).thenApply( this::handleResponse );
+	}
+
+	@Override
+	public URLEncodedString getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public String getDocumentId() {
+		return documentId;
+	}
+
+	@Override
+	public DocumentRefreshStrategy getRefreshStrategy() {
+		return refreshStrategy;
+	}
+
+	@Override
+	public JsonObject getBulkableActionMetadata() {
+		return actionMetadata;
+	}
+
+	@Override
+	public JsonObject getBulkableActionBody() {
+		return actionBody;
+	}
+
+	@Override
+	public Void handleBulkResult(JsonObject bulkResponseItem) {
+		// The item has a single property named after the action type: "index", "delete", ...
+		for ( Map.Entry<String, JsonElement> entry : bulkResponseItem.entrySet() ) {
+			JsonObject actionResult = entry.getValue().getAsJsonObject();
+			if ( ERROR.get( actionResult ).isPresent() ) {
+				int status = STATUS.get( actionResult ).orElse( 0 );
+				if ( !ignoreNotFound || status != NOT_FOUND_STATUS ) {
+					throw log.elasticsearchBulkedRequestFailed( actionMetadata, actionResult );
+				}
+			}
+		}
+		return null;
+	}
+
+	private Void handleResponse(ElasticsearchResponse response) {
+		int statusCode = response.getStatusCode();
+		if ( !ElasticsearchClientUtils.isSuccessCode( statusCode )
+				&& ( !ignoreNotFound || statusCode != NOT_FOUND_STATUS ) ) {
+			throw log.elasticsearchRequestFailed( request.getMethod(), request.getPath(),
+					statusCode, response.getStatusMessage(), response.getBody() );
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request=" ).append( request )
+				.append( "]" )
+				.toString();
+	}
+}
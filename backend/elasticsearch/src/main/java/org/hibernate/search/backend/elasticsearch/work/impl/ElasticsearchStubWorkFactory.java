@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
@@ -18,8 +22,10 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
@@ -28,6 +34,13 @@
  */
 public class ElasticsearchStubWorkFactory implements ElasticsearchWorkFactory {
 
+	private static final int OK_STATUS = 200;
+	private static final int BAD_REQUEST_STATUS = 400;
+	private static final int NOT_FOUND_STATUS = 404;
+
+	private static final JsonAccessor<String> ERROR_TYPE = JsonAccessor.root().property( "error" )
+			.asObject().property( "type" ).asString();
+
 	private final GsonProvider gsonProvider;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
@@ -40,69 +53,158 @@ public ElasticsearchStubWorkFactory(GsonProvider gsonProvider, MultiTenancyStrat
 	public ElasticsearchWork<?> dropIndexIfExists(URLEncodedString indexName) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
 				.pathComponent( indexName );
-		return new ElasticsearchStubWork<>( builder.build() );
+		return new ElasticsearchIndexAdministrationWork<>(
+				builder.build(),
+				// The index may not exist yet
+				response -> ElasticsearchIndexAdministrationWork.isSuccess( response )
+						|| response.getStatusCode() == NOT_FOUND_STATUS,
+				ignored -> null
+		);
 	}
 
 	@Override
 	public ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedString typeName,
 			RootTypeMapping mapping,
 			IndexSettings settings) {
-		Gson gson = gsonProvider.getGsonNoSerializeNulls();
+		return new ElasticsearchIndexAdministrationWork<>( createIndexRequest( indexName, typeName, mapping, settings ) );
+	}
 
-		JsonObject mappingMap = new JsonObject();
-		mappingMap.add( typeName.original, gson.toJsonTree( mapping ) );
+	@Override
+	public ElasticsearchWork<Boolean> createIndexIfAbsent(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping, IndexSettings settings) {
+		return new ElasticsearchIndexAdministrationWork<>(
+				createIndexRequest( indexName, typeName, mapping, settings ),
+				response -> ElasticsearchIndexAdministrationWork.isSuccess( response ) || isIndexAlreadyExists( response ),
+				ElasticsearchIndexAdministrationWork::isSuccess
+		);
+	}
 
-		JsonObject payload = new JsonObject();
-		payload.add( "mappings", mappingMap );
-		payload.add( "settings", gson.toJsonTree( settings ) );
+	@Override
+	public ElasticsearchWork<Boolean> indexExists(URLEncodedString indexName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.head()
+				.pathComponent( indexName );
+		return new ElasticsearchIndexAdministrationWork<>(
+				builder.build(),
+				response -> response.getStatusCode() == OK_STATUS || response.getStatusCode() == NOT_FOUND_STATUS,
+				response -> response.getStatusCode() == OK_STATUS
+		);
+	}
 
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+	@Override
+	public ElasticsearchWork<RootTypeMapping> getIndexTypeMapping(URLEncodedString indexName, URLEncodedString typeName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.get()
 				.pathComponent( indexName )
-				.body( payload );
-		return new ElasticsearchStubWork<>( builder.build() );
+				.pathComponent( Paths._MAPPING )
+				.pathComponent( typeName );
+		// The response is in the form { "<index>": { "mappings": { "<type>": { ... } } } }
+		JsonAccessor<JsonObject> mappingAccessor = JsonAccessor.root().property( indexName.original )
+				.asObject().property( "mappings" )
+				.asObject().property( typeName.original )
+				.asObject();
+		return new ElasticsearchIndexAdministrationWork<>(
+				builder.build(),
+				ElasticsearchIndexAdministrationWork::isSuccess,
+				response -> mappingAccessor.get( response.getBody() )
+						.map( json -> gsonProvider.getGson().fromJson( json, RootTypeMapping.class ) )
+						.orElse( null )
+		);
+	}
+
+	@Override
+	public ElasticsearchWork<IndexSettings> getIndexSettings(URLEncodedString indexName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.get()
+				.pathComponent( indexName )
+				.pathComponent( Paths._SETTINGS );
+		// The response is in the form { "<index>": { "settings": { "index": { ... } } } }
+		JsonAccessor<JsonObject> settingsAccessor = JsonAccessor.root().property( indexName.original )
+				.asObject().property( "settings" )
+				.asObject().property( "index" )
+				.asObject();
+		return new ElasticsearchIndexAdministrationWork<>(
+				builder.build(),
+				ElasticsearchIndexAdministrationWork::isSuccess,
+				response -> settingsAccessor.get( response.getBody() )
+						.map( json -> gsonProvider.getGson().fromJson( json, IndexSettings.class ) )
+						.orElseGet( IndexSettings::new )
+		);
 	}
 
 	@Override
-	public ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey, JsonObject document) {
+	public ElasticsearchWork<?> putIndexTypeMapping(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping) {
+		Gson gson = gsonProvider.getGsonNoSerializeNulls();
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
 				.pathComponent( indexName )
+				.pathComponent( Paths._MAPPING )
 				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "routing", routingKey );
-		}
-		return new ElasticsearchStubWork<>( builder.build() );
+				.body( gson.toJsonTree( mapping ).getAsJsonObject() );
+		return new ElasticsearchIndexAdministrationWork<>( builder.build() );
 	}
 
 	@Override
-	public ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey, JsonObject document) {
+	public ElasticsearchWork<?> putIndexSettings(URLEncodedString indexName, IndexSettings settings) {
+		Gson gson = gsonProvider.getGsonNoSerializeNulls();
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
 				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "routing", routingKey );
-		}
-		return new ElasticsearchStubWork<>( builder.build() );
+				.pathComponent( Paths._SETTINGS )
+				.body( gson.toJsonTree( settings ).getAsJsonObject() );
+		return new ElasticsearchIndexAdministrationWork<>( builder.build() );
 	}
 
 	@Override
-	public ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey) {
+	public ElasticsearchWork<?> closeIndex(URLEncodedString indexName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( indexName )
+				.pathComponent( Paths._CLOSE );
+		return new ElasticsearchIndexAdministrationWork<>( builder.build() );
+	}
+
+	@Override
+	public ElasticsearchWork<?> openIndex(URLEncodedString indexName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( indexName )
+				.pathComponent( Paths._OPEN );
+		return new ElasticsearchIndexAdministrationWork<>( builder.build() );
+	}
+
+	@Override
+	public BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, DocumentRefreshStrategy refreshStrategy) {
+		return index( indexName, typeName, id, routingKey, document, refreshStrategy );
+	}
+
+	@Override
+	public BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, DocumentRefreshStrategy refreshStrategy) {
+		return index( indexName, typeName, id, routingKey, document, refreshStrategy );
+	}
+
+	@Override
+	public BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, DocumentRefreshStrategy refreshStrategy) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
 				.pathComponent( indexName )
 				.pathComponent( typeName )
 				.pathComponent( URLEncodedString.fromString( id ) );
-		builder.param( "refresh", true );
 		if ( routingKey != null ) {
 			builder.param( "routing", routingKey );
 		}
+		addRefreshParam( builder, refreshStrategy );
+		JsonObject actionMetadata = bulkActionMetadata( "delete", indexName, typeName, id, routingKey );
+		// Deleting a document that does not exist is not an error
+		return new ElasticsearchStubBulkableWork( indexName, id, refreshStrategy, builder.build(), actionMetadata, null, true );
+	}
+
+	@Override
+	public ElasticsearchWork<JsonArray> bulk(List<? extends BulkableElasticsearchWork<?>> works) {
+		return new ElasticsearchBulkWork( works );
+	}
+
+	@Override
+	public ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._REFRESH );
 		return new ElasticsearchStubWork<>( builder.build() );
 	}
 
@@ -128,12 +230,12 @@ public ElasticsearchWork<?> flush(URLEncodedString indexName) {
 				.pathComponent( indexName )
 				.pathComponent( Paths._FLUSH );
 		ElasticsearchWork<?> flushWork = new ElasticsearchStubWork<>( builder.build() );
-		builder = ElasticsearchRequest.post()
-				.pathComponent( indexName )
-				.pathComponent( Paths._REFRESH );
-		ElasticsearchWork<Object> refreshWork = new ElasticsearchStubWork<>( builder.build() );
-		return context -> flushWork.execute( context )
-					.thenCompose( ignored -> refreshWork.execute( context ) );
+		ElasticsearchWork<?> refreshWork = refresh( Collections.singleton( indexName ) );
+		// Refreshing does not depend on flushing: send both requests concurrently
+		return context -> CompletableFuture.allOf(
+				flushWork.execute( context ),
+				refreshWork.execute( context )
+		).thenApply( ignored -> null );
 	}
 
 	@Override
@@ -164,14 +266,60 @@ public <T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> search(Set<UR
 			builder.param( "routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
 
-		/* TODO scroll
-		if ( scrollSize != null && scrollTimeout != null ) {
-			builder.param( "size", scrollSize );
-			builder.param( "scroll", scrollTimeout );
+		return new ElasticsearchSearchWork<>( builder.build(), searchResultExtractor );
+	}
+
+	@Override
+	public ElasticsearchMultiSearchWork.Builder multiSearch() {
+		return new ElasticsearchMultiSearchWork.Builder();
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> scroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, int scrollTimeout) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._SEARCH )
+				.param( "size", chunkSize )
+				.param( "scroll", scrollTimeout + "s" )
+				.body( payload );
+
+		if ( !routingKeys.isEmpty() ) {
+			builder.param( "routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
-		*/
 
-		return new ElasticsearchStubWork<>( builder.build(), searchResultExtractor::extract );
+		return new ElasticsearchSearchWork<>( builder.build(), searchResultExtractor );
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> scrollNext(String scrollId, int scrollTimeout,
+			ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+		JsonObject body = new JsonObject();
+		body.addProperty( "scroll", scrollTimeout + "s" );
+		body.addProperty( "scroll_id", scrollId );
+
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( body );
+
+		return new ElasticsearchSearchWork<>( builder.build(), searchResultExtractor );
+	}
+
+	@Override
+	public ElasticsearchWork<?> clearScroll(String scrollId) {
+		JsonArray scrollIds = new JsonArray();
+		scrollIds.add( scrollId );
+		JsonObject body = new JsonObject();
+		body.add( "scroll_id", scrollIds );
+
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( body );
+
+		return new ElasticsearchStubWork<>( builder.build() );
 	}
 
 	@Override
@@ -187,4 +335,70 @@ public ElasticsearchWork<Long> count(Set<URLEncodedString> indexNames, Set<Strin
 
 		return new ElasticsearchStubWork<>( builder.build(), JsonAccessor.root().property( "count" ).asLong() );
 	}
+
+	private BulkableElasticsearchWork<?> index(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, DocumentRefreshStrategy refreshStrategy) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+				.pathComponent( indexName )
+				.pathComponent( typeName )
+				.pathComponent( URLEncodedString.fromString( id ) )
+				.body( document );
+		if ( routingKey != null ) {
+			builder.param( "routing", routingKey );
+		}
+		addRefreshParam( builder, refreshStrategy );
+		JsonObject actionMetadata = bulkActionMetadata( "index", indexName, typeName, id, routingKey );
+		return new ElasticsearchStubBulkableWork( indexName, id, refreshStrategy, builder.build(), actionMetadata, document, false );
+	}
+
+	private ElasticsearchRequest createIndexRequest(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping, IndexSettings settings) {
+		Gson gson = gsonProvider.getGsonNoSerializeNulls();
+
+		JsonObject mappingMap = new JsonObject();
+		mappingMap.add( typeName.original, gson.toJsonTree( mapping ) );
+
+		JsonObject payload = new JsonObject();
+		payload.add( "mappings", mappingMap );
+		payload.add( "settings", gson.toJsonTree( settings ) );
+
+		return ElasticsearchRequest.put()
+				.pathComponent( indexName )
+				.body( payload )
+				.build();
+	}
+
+	private static boolean isIndexAlreadyExists(ElasticsearchResponse response) {
+		if ( response.getStatusCode() != BAD_REQUEST_STATUS || response.getBody() == null ) {
+			return false;
+		}
+		String errorType = ERROR_TYPE.get( response.getBody() ).orElse( null );
+		// ES 6 reports "resource_already_exists_exception", ES 5 "index_already_exists_exception"
+		return "resource_already_exists_exception".equals( errorType )
+				|| "index_already_exists_exception".equals( errorType );
+	}
+
+	private static void addRefreshParam(ElasticsearchRequest.Builder builder, DocumentRefreshStrategy refreshStrategy) {
+		/*
+		 * Only relevant when the work is sent on its own.
+		 * Immediate refreshes are handled by the orchestrator, so that they can be coalesced.
+		 */
+		if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			builder.param( "refresh", "wait_for" );
+		}
+	}
+
+	private static JsonObject bulkActionMetadata(String action, URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey) {
+		JsonObject parameters = new JsonObject();
+		parameters.addProperty( "_index", indexName.original );
+		parameters.addProperty( "_type", typeName.original );
+		parameters.addProperty( "_id", id );
+		if ( routingKey != null ) {
+			parameters.addProperty( "_routing", routingKey );
+		}
+		JsonObject actionMetadata = new JsonObject();
+		actionMetadata.add( action, parameters );
+		return actionMetadata;
+	}
 }
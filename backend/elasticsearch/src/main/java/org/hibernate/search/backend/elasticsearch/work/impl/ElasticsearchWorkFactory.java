@@ -6,13 +6,16 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 /**
@@ -26,11 +29,39 @@ public interface ElasticsearchWorkFactory {
 	ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedString typeName, RootTypeMapping mapping,
 			IndexSettings settings);
 
-	ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	/**
+	 * @return A work returning {@code true} if the index was created, {@code false} if it already existed.
+	 */
+	ElasticsearchWork<Boolean> createIndexIfAbsent(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping, IndexSettings settings);
 
-	ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	ElasticsearchWork<Boolean> indexExists(URLEncodedString indexName);
 
-	ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+	ElasticsearchWork<RootTypeMapping> getIndexTypeMapping(URLEncodedString indexName, URLEncodedString typeName);
+
+	ElasticsearchWork<IndexSettings> getIndexSettings(URLEncodedString indexName);
+
+	ElasticsearchWork<?> putIndexTypeMapping(URLEncodedString indexName, URLEncodedString typeName,
+			RootTypeMapping mapping);
+
+	ElasticsearchWork<?> putIndexSettings(URLEncodedString indexName, IndexSettings settings);
+
+	ElasticsearchWork<?> closeIndex(URLEncodedString indexName);
+
+	ElasticsearchWork<?> openIndex(URLEncodedString indexName);
+
+	BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document,
+			DocumentRefreshStrategy refreshStrategy);
+
+	BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document,
+			DocumentRefreshStrategy refreshStrategy);
+
+	BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey,
+			DocumentRefreshStrategy refreshStrategy);
+
+	ElasticsearchWork<JsonArray> bulk(List<? extends BulkableElasticsearchWork<?>> works);
+
+	ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames);
 
 	ElasticsearchWork<?> deleteAll(URLEncodedString indexName, String tenantId);
 
@@ -42,6 +73,17 @@ <T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> search(Set<URLEncode
 			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
 			Long offset, Long limit);
 
+	ElasticsearchMultiSearchWork.Builder multiSearch();
+
+	<T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> scroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, int scrollTimeout);
+
+	<T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> scrollNext(String scrollId, int scrollTimeout,
+			ElasticsearchSearchResultExtractor<T> searchResultExtractor);
+
+	ElasticsearchWork<?> clearScroll(String scrollId);
+
 	ElasticsearchWork<Long> count(Set<URLEncodedString> indexNames, Set<String> routingKeys, JsonObject payload);
 
 }
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	private final ElasticsearchTransferStatisticsImpl statistics = new ElasticsearchTransferStatisticsImpl();
+
+	@Test
+	public void gzip_produceContent() throws IOException {
+		List<JsonObject> bodyParts = bulk( 10_000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true, statistics ) ) {
+			// Too large for the one-pass encoding: the length is unknown
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+
+			byte[] compressed = produceContent( entity );
+			assertThat( gunzip( compressed ) ).isEqualTo( encode( bodyParts ) );
+			assertThat( statistics.getRequestSentBytes() ).isEqualTo( compressed.length );
+			assertThat( statistics.getRequestUncompressedBytes() )
+					.isEqualTo( encode( bodyParts ).getBytes( StandardCharsets.UTF_8 ).length );
+		}
+	}
+
+	@Test
+	public void gzip_produceContent_smallBody() throws IOException {
+		List<JsonObject> bodyParts = bulk( 1 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true, statistics ) ) {
+			// The compressed length is known upfront
+			long contentLength = entity.getContentLength();
+
+			byte[] compressed = produceContent( entity );
+			assertThat( compressed ).hasSize( (int) contentLength );
+			assertThat( gunzip( compressed ) ).isEqualTo( encode( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void gzip_writeTo() throws IOException {
+		List<JsonObject> bodyParts = bulk( 10_000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true, statistics ) ) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo( out );
+			assertThat( gunzip( out.toByteArray() ) ).isEqualTo( encode( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void statistics_countedOncePerSend() throws IOException {
+		List<JsonObject> bodyParts = bulk( 10_000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true, statistics ) ) {
+			// Writing the content to compute a digest is not a send
+			entity.writeTo( new ByteArrayOutputStream() );
+			assertThat( statistics.getRequestSentBytes() ).isZero();
+			assertThat( statistics.getRequestUncompressedBytes() ).isZero();
+
+			byte[] compressed = produceContent( entity );
+			assertThat( statistics.getRequestSentBytes() ).isEqualTo( compressed.length );
+
+			// Sending the request again, e.g. to another node, is counted again
+			entity.close();
+			produceContent( entity );
+			assertThat( statistics.getRequestSentBytes() ).isEqualTo( 2L * compressed.length );
+		}
+	}
+
+	/**
+	 * Produce the content with small, varying write windows,
+	 * so that flow control pushes back often.
+	 */
+	private static byte[] produceContent(GsonHttpEntity entity) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.nextWriteAcceptLimit = loopCounter++ % 3;
+			entity.produceContent( encoder, null );
+		}
+		return encoder.content.toByteArray();
+	}
+
+	/**
+	 * @return Body parts that do not compress too well,
+	 * so that the compressor does not hold the whole content in its internal buffers.
+	 */
+	private static List<JsonObject> bulk(int size) {
+		Random random = new Random( 42L );
+		List<JsonObject> bodyParts = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			JsonObject bodyPart = new JsonObject();
+			bodyPart.addProperty( "id", i );
+			bodyPart.addProperty( "text", "Some text \u00e9\u20ac " + Long.toHexString( random.nextLong() ) );
+			bodyParts.add( bodyPart );
+		}
+		return bodyParts;
+	}
+
+	private static String encode(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			GSON.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+		try ( InputStream stream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[256];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				uncompressed.write( buffer, 0, read );
+			}
+		}
+		return new String( uncompressed.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int nextWriteAcceptLimit = 0;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toRead = Math.min( src.remaining(), nextWriteAcceptLimit );
+			byte[] bytes = new byte[toRead];
+			src.get( bytes );
+			content.write( bytes, 0, toRead );
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Completed multiple times" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
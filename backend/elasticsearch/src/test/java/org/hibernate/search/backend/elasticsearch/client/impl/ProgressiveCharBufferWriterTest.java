@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import org.apache.http.nio.ContentEncoder;
+
+public class ProgressiveCharBufferWriterTest {
+
+	private static final int CHAR_BUFFER_SIZE = 32;
+	private static final int PAGE_SIZE = 16;
+
+	@Test
+	public void gzip_empty() throws IOException {
+		checkGzipRoundTrip( "", Integer.MAX_VALUE );
+	}
+
+	@Test
+	public void gzip_singlePage() throws IOException {
+		checkGzipRoundTrip( "{}\n", Integer.MAX_VALUE );
+	}
+
+	@Test
+	public void gzip_multiPage() throws IOException {
+		checkGzipRoundTrip( randomContent( 10_000 ), Integer.MAX_VALUE );
+	}
+
+	@Test
+	public void gzip_multiPage_flowControl() throws IOException {
+		// The output accepts between 0 and 2 bytes per write
+		checkGzipRoundTrip( randomContent( 10_000 ), 3 );
+	}
+
+	@Test
+	public void gzip_multiByteCharacters_flowControl() throws IOException {
+		// Characters encoded to 2, 3 and 4 bytes, some of them split across the char buffer boundary
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < 1_000; i++ ) {
+			builder.append( "a\u00e9\u20ac\uD802\uDD04" );
+		}
+		checkGzipRoundTrip( builder.toString(), 3 );
+	}
+
+	@Test
+	public void gzip_outputSetLater() throws IOException {
+		// Content is buffered until an output is set, as on the first attempt to encode a request body
+		String content = randomContent( 1_000 );
+		ProgressiveCharBufferWriter writer = new ProgressiveCharBufferWriter(
+				StandardCharsets.UTF_8, CHAR_BUFFER_SIZE, PAGE_SIZE, true
+		);
+		writer.write( content );
+		writer.finish();
+		assertThat( writer.isFlowControlPushingBack() ).isTrue();
+		int bufferedSize = writer.byteBufferContentSize();
+
+		HeapContentEncoder output = new HeapContentEncoder( 3 );
+		writer.setOutput( output );
+		do {
+			writer.flushToOutput();
+			output.nextWrite();
+		}
+		while ( writer.isFlowControlPushingBack() );
+		writer.close();
+
+		byte[] compressed = output.getContent();
+		assertThat( compressed ).hasSize( bufferedSize );
+		assertThat( gunzip( compressed ) ).isEqualTo( content );
+		assertThat( writer.getOutputByteCount() ).isEqualTo( compressed.length );
+		assertThat( writer.getUncompressedByteCount() ).isEqualTo( content.getBytes( StandardCharsets.UTF_8 ).length );
+	}
+
+	@Test
+	public void noGzip_flowControl() throws IOException {
+		String content = randomContent( 1_000 );
+		ProgressiveCharBufferWriter writer = new ProgressiveCharBufferWriter(
+				StandardCharsets.UTF_8, CHAR_BUFFER_SIZE, PAGE_SIZE
+		);
+		byte[] output = writeAll( writer, content, 3 );
+
+		assertThat( new String( output, StandardCharsets.UTF_8 ) ).isEqualTo( content );
+		assertThat( writer.getOutputByteCount() ).isEqualTo( output.length );
+		assertThat( writer.getUncompressedByteCount() ).isEqualTo( output.length );
+	}
+
+	private void checkGzipRoundTrip(String content, int maxWriteSize) throws IOException {
+		ProgressiveCharBufferWriter writer = new ProgressiveCharBufferWriter(
+				StandardCharsets.UTF_8, CHAR_BUFFER_SIZE, PAGE_SIZE, true
+		);
+		byte[] compressed = writeAll( writer, content, maxWriteSize );
+
+		assertThat( gunzip( compressed ) ).isEqualTo( content );
+		assertThat( writer.getOutputByteCount() ).isEqualTo( compressed.length );
+		assertThat( writer.getUncompressedByteCount() ).isEqualTo( content.getBytes( StandardCharsets.UTF_8 ).length );
+	}
+
+	/**
+	 * Write the content in small chunks, the way {@link GsonHttpEntity} does:
+	 * when flow control pushes back, resume pending writes before writing anything else.
+	 */
+	private static byte[] writeAll(ProgressiveCharBufferWriter writer, String content, int maxWriteSize)
+			throws IOException {
+		HeapContentEncoder output = new HeapContentEncoder( maxWriteSize );
+		writer.setOutput( output );
+		int chunkSize = 100;
+		for ( int start = 0; start < content.length(); start += chunkSize ) {
+			writer.write( content, start, Math.min( chunkSize, content.length() - start ) );
+			writer.flush();
+			while ( writer.isFlowControlPushingBack() ) {
+				output.nextWrite();
+				writer.resumePendingWrites();
+			}
+		}
+		writer.finish();
+		do {
+			output.nextWrite();
+			writer.flushToOutput();
+		}
+		while ( writer.isFlowControlPushingBack() );
+		writer.close();
+		return output.getContent();
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+		try ( InputStream stream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[256];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				uncompressed.write( buffer, 0, read );
+			}
+		}
+		return new String( uncompressed.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return Content that does not compress too well, so that the compressed output spans many pages.
+	 */
+	private static String randomContent(int length) {
+		Random random = new Random( 42L );
+		StringBuilder builder = new StringBuilder( length );
+		for ( int i = 0; i < length; i++ ) {
+			builder.append( (char) ( 'a' + random.nextInt( 26 ) ) );
+		}
+		return builder.toString();
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private final int maxWriteSize;
+		private int writeCount = 0;
+		private int nextWriteAcceptLimit;
+
+		HeapContentEncoder(int maxWriteSize) {
+			this.maxWriteSize = maxWriteSize;
+			nextWrite();
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toRead = Math.min( src.remaining(), nextWriteAcceptLimit );
+			byte[] bytes = new byte[toRead];
+			src.get( bytes );
+			content.write( bytes, 0, toRead );
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			// Not used
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return false;
+		}
+
+		void nextWrite() {
+			if ( maxWriteSize == Integer.MAX_VALUE ) {
+				nextWriteAcceptLimit = Integer.MAX_VALUE;
+			}
+			else {
+				// Small, varying write windows, including empty ones
+				nextWriteAcceptLimit = writeCount++ % maxWriteSize;
+			}
+		}
+
+		byte[] getContent() {
+			return content.toByteArray();
+		}
+	}
+}
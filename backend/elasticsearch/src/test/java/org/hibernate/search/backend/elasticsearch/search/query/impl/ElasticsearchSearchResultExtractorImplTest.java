@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchSearchResultExtractorImplTest extends EasyMockSupport {
+
+	@SuppressWarnings("unchecked")
+	private final LoadingContext<Object, Object> loadingContextMock = createMock( LoadingContext.class );
+	@SuppressWarnings("unchecked")
+	private final ProjectionHitMapper<Object, Object> projectionHitMapperMock = createMock( ProjectionHitMapper.class );
+
+	private final RecordingProjection projection = new RecordingProjection();
+
+	@Test
+	public void hitCount_number() throws IOException {
+		SearchResult<JsonObject> result = extract( true,
+				"{ 'took': 1, 'timed_out': false,"
+				+ " 'hits': { 'total': 2, 'max_score': 1.0, 'hits': ["
+				+ "   { '_id': '1', '_source': { 'string': 'text1' } },"
+				+ "   { '_id': '2', '_source': { 'string': 'text2' } }"
+				+ " ] } }"
+		);
+
+		assertThat( result.getHitCount() ).isEqualTo( 2L );
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.getHits() ).containsExactly(
+				json( "{ '_id': '1', '_source': { 'string': 'text1' } }" ),
+				json( "{ '_id': '2', '_source': { 'string': 'text2' } }" )
+		);
+	}
+
+	@Test
+	public void hitCount_object() throws IOException {
+		// Elasticsearch 7+
+		SearchResult<JsonObject> result = extract( true,
+				"{ 'hits': { 'total': { 'value': 3, 'relation': 'eq' }, 'hits': [ { '_id': '1' } ] } }"
+		);
+		assertThat( result.getHitCount() ).isEqualTo( 3L );
+		assertThat( result.getHits() ).containsExactly( json( "{ '_id': '1' }" ) );
+
+		// The order of properties is not guaranteed
+		result = extract( true,
+				"{ 'hits': { 'hits': [], 'total': { 'relation': 'gte', 'value': 10000 } } }"
+		);
+		assertThat( result.getHitCount() ).isEqualTo( 10_000L );
+		assertThat( result.getHits() ).isEmpty();
+	}
+
+	@Test
+	public void source_skipped() throws IOException {
+		SearchResult<JsonObject> result = extract( false,
+				"{ 'hits': { 'total': 1, 'hits': ["
+				+ "   { '_id': '1', '_source': { 'string': 'text1', 'nested': [ { 'string': 'text2' } ] }, 'sort': [ 1 ] }"
+				+ " ] } }"
+		);
+
+		// Only the source is skipped
+		assertThat( result.getHits() ).containsExactly( json( "{ '_id': '1', 'sort': [ 1 ] }" ) );
+	}
+
+	@Test
+	public void responseBody() throws IOException {
+		// Properties after the hits are read too, properties before the hits are available to projections
+		SearchResult<JsonObject> result = extract( true,
+				"{ 'took': 1, 'hits': { 'total': 1, 'hits': [ { '_id': '1' } ] }, 'timed_out': true }"
+		);
+
+		assertThat( result.isTimedOut() ).isTrue();
+		assertThat( projection.responseBodies ).containsExactly( json( "{ 'took': 1 }" ) );
+	}
+
+	@Test
+	public void error() {
+		SubTest.expectException(
+				"Response with an error instead of hits",
+				() -> extract( true, "{ 'error': { 'type': 'some_exception', 'reason': 'Some reason' }, 'status': 400 }" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch search request failed" )
+				.hasMessageContaining( "Some reason" );
+	}
+
+	private SearchResult<JsonObject> extract(boolean sourceRequested, String responseBody) throws IOException {
+		SearchProjectionExtractContext extractContext =
+				new ElasticsearchSearchQueryElementCollector().toSearchProjectionExecutionContext();
+		ElasticsearchSearchResultExtractorImpl<JsonObject> extractor = new ElasticsearchSearchResultExtractorImpl<>(
+				loadingContextMock, projection, sourceRequested, extractContext
+		);
+
+		resetAll();
+		EasyMock.expect( loadingContextMock.createProjectionHitMapper() ).andReturn( projectionHitMapperMock );
+		// Hits are not entities: nothing is loaded
+		EasyMock.expect( projectionHitMapperMock.loadBlocking() ).andReturn( null );
+		replayAll();
+		SearchResult<JsonObject> result;
+		try ( JsonReader reader = new JsonReader( new StringReader( responseBody ) ) ) {
+			// Single quotes make test data more readable
+			reader.setLenient( true );
+			result = extractor.extract( reader ).loadBlocking( null );
+		}
+		verifyAll();
+		return result;
+	}
+
+	private static JsonObject json(String json) {
+		JsonReader reader = new JsonReader( new StringReader( json ) );
+		reader.setLenient( true );
+		return new JsonParser().parse( reader ).getAsJsonObject();
+	}
+
+	private static class RecordingProjection implements ElasticsearchSearchProjection<JsonObject, JsonObject> {
+		private final List<JsonObject> responseBodies = new ArrayList<>();
+
+		@Override
+		public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
+			// Not used
+		}
+
+		@Override
+		public JsonObject extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody,
+				JsonObject hit, SearchProjectionExtractContext context) {
+			responseBodies.add( responseBody.deepCopy() );
+			return hit;
+		}
+
+		@Override
+		public JsonObject transform(LoadingResult<?> loadingResult, JsonObject extractedData,
+				SearchProjectionTransformContext context) {
+			return extractedData;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum IndexSortOrderConfiguration {
+
+	/**
+	 * Documents are stored in ascending order of the index sort field.
+	 */
+	ASC("asc"),
+
+	/**
+	 * Documents are stored in descending order of the index sort field.
+	 */
+	DESC("desc");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private IndexSortOrderConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static IndexSortOrderConfiguration fromExternalRepresentation(String sortOrder) {
+		for ( IndexSortOrderConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( sortOrder ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownIndexSortOrder( sortOrder );
+	}
+}
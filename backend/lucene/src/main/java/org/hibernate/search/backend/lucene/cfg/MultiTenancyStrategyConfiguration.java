@@ -21,7 +21,12 @@ public enum MultiTenancyStrategyConfiguration {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * Each tenant is stored in its own index, with its own directory and index writer.
+	 */
+	INDEX_PER_TENANT("index_per_tenant");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -38,6 +43,9 @@ public static MultiTenancyStrategyConfiguration fromExternalRepresentation(Strin
 		else if ( DISCRIMINATOR.externalRepresentation.equals( multiTenancyStrategy ) ) {
 			return DISCRIMINATOR;
 		}
+		else if ( INDEX_PER_TENANT.externalRepresentation.equals( multiTenancyStrategy ) ) {
+			return INDEX_PER_TENANT;
+		}
 		else {
 			throw log.unknownMultiTenancyStrategyConfiguration( multiTenancyStrategy );
 		}
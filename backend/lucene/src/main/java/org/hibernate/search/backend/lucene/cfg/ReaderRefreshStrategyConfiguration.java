@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum ReaderRefreshStrategyConfiguration {
+
+	/**
+	 * The shared index reader is refreshed when a query is executed, if the index changed since the last refresh.
+	 */
+	ON_DEMAND("on_demand"),
+
+	/**
+	 * The shared index reader is refreshed in the background at a fixed interval.
+	 * Queries never trigger a refresh.
+	 */
+	PERIODIC("periodic"),
+
+	/**
+	 * The shared index reader is refreshed when a query is executed,
+	 * but only if the last refresh is older than the configured interval.
+	 */
+	MAX_STALENESS("max_staleness");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private ReaderRefreshStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static ReaderRefreshStrategyConfiguration fromExternalRepresentation(String readerRefreshStrategy) {
+		for ( ReaderRefreshStrategyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( readerRefreshStrategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownReaderRefreshStrategyConfiguration( readerRefreshStrategy );
+	}
+}
@@ -21,14 +21,173 @@ private SearchBackendLuceneSettings() {
 	 */
 	public static final String LUCENE_VERSION = "lucene_version";
 
+	/**
+	 * The directory provider, responsible for creating the Lucene directory of each index.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.hibernate.search.backend.lucene.index.spi.DirectoryProvider},
+	 * or one of the following built-in names:
+	 * <ul>
+	 * <li>{@code local_directory}: indexes are stored in the local filesystem, under {@link #ROOT_DIRECTORY},
+	 * and accessed through memory-mapped files.</li>
+	 * <li>{@code local_directory_nio}: indexes are stored in the local filesystem, under {@link #ROOT_DIRECTORY},
+	 * and accessed through positional reads, which do not consume virtual address space.</li>
+	 * <li>{@code local_heap}: indexes are stored in the JVM heap, and lost when the application stops.</li>
+	 * </ul>
+	 */
 	public static final String DIRECTORY_PROVIDER = "directory_provider";
 
+	/**
+	 * The root directory of indexes, for the local filesystem directory providers.
+	 * <p>
+	 * Defaults to the current working directory.
+	 */
 	public static final String ROOT_DIRECTORY = "root_directory";
 
+	/**
+	 * Whether memory-mapped files should be loaded into physical memory when they are opened,
+	 * for the {@code local_directory} directory provider.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_MMAP_PRELOAD}.
+	 */
+	public static final String DIRECTORY_MMAP_PRELOAD = "directory.mmap.preload";
+
+	/**
+	 * Whether small, freshly flushed segments should be kept in memory until they are merged,
+	 * for the local filesystem directory providers.
+	 * <p>
+	 * This reduces I/O when changes are frequently made visible to queries before being committed,
+	 * see {@link #INDEXING_COMMIT_INTERVAL}.
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_ENABLED}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_ENABLED = "directory.nrt_caching.enabled";
+
+	/**
+	 * The maximum expected size of merged segments kept in memory, in megabytes,
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB = "directory.nrt_caching.max_merge_size_mb";
+
+	/**
+	 * The maximum memory used to keep segments in memory for each index, in megabytes,
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_CACHED_MB}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_CACHED_MB = "directory.nrt_caching.max_cached_mb";
+
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
+	/**
+	 * The maximum number of tenant indexes kept open for each index,
+	 * when the {@link MultiTenancyStrategyConfiguration#INDEX_PER_TENANT index per tenant} multi-tenancy strategy is used.
+	 * <p>
+	 * Tenant indexes are opened on first use; when this limit is exceeded,
+	 * the least recently used tenant indexes are closed as soon as they are no longer in use.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES}.
+	 */
+	public static final String MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES = "multi_tenancy.max_open_tenant_indexes";
+
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The number of threads used to execute search queries.
+	 * <p>
+	 * Defaults to the number of available processors.
+	 */
+	public static final String QUERY_THREAD_POOL_SIZE = "query.thread_pool_size";
+
+	/**
+	 * The maximum number of search queries waiting for a thread.
+	 * <p>
+	 * When the queue is full, threads submitting additional queries block until space is available.
+	 */
+	public static final String QUERY_QUEUE_SIZE = "query.queue_size";
+
+	/**
+	 * The number of threads used to search the segments of an index in parallel within a single query.
+	 * <p>
+	 * When set to a positive value, segments are grouped into slices that are searched concurrently,
+	 * which reduces the latency of heavy queries on large indexes at the cost of more work overall.
+	 * Defaults to {@code 0}, i.e. each query searches all segments in a single thread.
+	 */
+	public static final String QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE = "query.segment_parallelism.thread_pool_size";
+
+	/**
+	 * The number of documents above which a slice is not extended with more segments,
+	 * when {@link #QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE segment parallelism} is enabled.
+	 */
+	public static final String QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE = "query.segment_parallelism.max_docs_per_slice";
+
+	/**
+	 * The maximum number of segments in a slice,
+	 * when {@link #QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE segment parallelism} is enabled.
+	 */
+	public static final String QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE = "query.segment_parallelism.max_segments_per_slice";
+
+	/**
+	 * The default timeout of search queries, in milliseconds.
+	 * <p>
+	 * Queries exceeding this timeout while collecting hits fail with an exception.
+	 * The timeout can be overridden for each query, which can also opt for partial results instead of a failure.
+	 * Defaults to {@link Defaults#QUERY_TIMEOUT}, i.e. no timeout.
+	 */
+	public static final String QUERY_TIMEOUT = "query.timeout";
+
+	/**
+	 * Whether the results of filters (non-scoring queries) should be cached, per segment, across queries.
+	 * <p>
+	 * The tenant and document type filters added to every query are always cached;
+	 * other filters are cached once they have been used frequently enough.
+	 * The cache is shared by all indexes of the backend.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_ENABLED}.
+	 */
+	public static final String QUERY_CACHE_ENABLED = "query.cache.enabled";
+
+	/**
+	 * The maximum number of filters whose results are kept in the query cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_SIZE}.
+	 */
+	public static final String QUERY_CACHE_MAX_SIZE = "query.cache.max_size";
+
+	/**
+	 * The maximum memory used by the query cache, in bytes.
+	 * <p>
+	 * When the cache exceeds this size, the least recently used results are evicted.
+	 * Defaults to 5% of the maximum heap size, capped to 32MB.
+	 */
+	public static final String QUERY_CACHE_MAX_RAM_BYTES = "query.cache.max_ram_bytes";
+
+	/**
+	 * The strategy used to refresh the index readers shared between queries.
+	 * <p>
+	 * Expects one of the values of {@link ReaderRefreshStrategyConfiguration}, in their external representation.
+	 */
+	public static final String READER_REFRESH_STRATEGY = "reader.refresh_strategy";
+
+	/**
+	 * The refresh interval in milliseconds, for the {@code periodic} and {@code max_staleness}
+	 * reader refresh strategies.
+	 */
+	public static final String READER_REFRESH_INTERVAL = "reader.refresh_interval";
+
+	/**
+	 * The maximum number of work lists applied to an index before changes are committed.
+	 */
+	public static final String INDEXING_MAX_BATCH_SIZE = "indexing.max_batch_size";
+
+	/**
+	 * The minimum time in milliseconds between two commits of an index.
+	 * <p>
+	 * When set to a positive value, changes may be visible to queries before they are committed.
+	 * Defaults to {@code 0}, i.e. changes are committed after each batch.
+	 */
+	public static final String INDEXING_COMMIT_INTERVAL = "indexing.commit_interval";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -45,6 +204,38 @@ private Defaults() {
 		 */
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
+		public static final boolean DIRECTORY_MMAP_PRELOAD = false;
+
+		public static final boolean DIRECTORY_NRT_CACHING_ENABLED = false;
+
+		public static final int DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB = 5;
+
+		public static final int DIRECTORY_NRT_CACHING_MAX_CACHED_MB = 60;
+
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+
+		public static final int MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES = 100;
+
+		public static final int QUERY_QUEUE_SIZE = 1000;
+
+		public static final int QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE = 0;
+
+		public static final int QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE = 250_000;
+
+		public static final int QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE = 5;
+
+		public static final long QUERY_TIMEOUT = 0L;
+
+		public static final boolean QUERY_CACHE_ENABLED = true;
+
+		public static final int QUERY_CACHE_MAX_SIZE = 1000;
+
+		public static final ReaderRefreshStrategyConfiguration READER_REFRESH_STRATEGY = ReaderRefreshStrategyConfiguration.ON_DEMAND;
+
+		public static final int READER_REFRESH_INTERVAL = 1000;
+
+		public static final int INDEXING_MAX_BATCH_SIZE = 1000;
+
+		public static final int INDEXING_COMMIT_INTERVAL = 0;
 	}
 }
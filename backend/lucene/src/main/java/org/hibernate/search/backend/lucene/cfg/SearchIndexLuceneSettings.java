@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+
+/**
+ * Configuration properties for Lucene indexes.
+ * <p>
+ * These properties can be set for a given index, or for all indexes of a backend
+ * using the {@code index_defaults} prefix.
+ */
+public final class SearchIndexLuceneSettings {
+
+	private SearchIndexLuceneSettings() {
+	}
+
+	/**
+	 * The number of shards to split the index into.
+	 * <p>
+	 * Each shard has its own directory, index writer and indexing thread.
+	 * Documents are assigned to a shard based on the hash of their routing key if any, or of their identifier otherwise,
+	 * and search queries with routing keys only target the shards matching these routing keys.
+	 * <p>
+	 * Routing must be consistent: a document must be updated and deleted with the routing key it was added with,
+	 * and a document added without a routing key is only found by routed queries using its identifier as routing key.
+	 * <p>
+	 * Defaults to {@link Defaults#SHARDING_NUMBER_OF_SHARDS}, i.e. no sharding.
+	 * Changing this value requires to reindex.
+	 */
+	public static final String SHARDING_NUMBER_OF_SHARDS = "sharding.number_of_shards";
+
+	/**
+	 * The absolute path of the field to sort the index on.
+	 * <p>
+	 * When set, the documents of each segment are stored in the order of this field,
+	 * and queries sorting on this field only, in the same order and without a missing value,
+	 * stop collecting hits early when they do not require an exact hit count.
+	 * The field must be sortable and cannot be a geo-point field,
+	 * and indexes with nested documents cannot be sorted.
+	 * <p>
+	 * Defaults to no value, i.e. the index is not sorted.
+	 * Changing this value requires to reindex.
+	 */
+	public static final String SORT_FIELD = "sort.field";
+
+	/**
+	 * The order of the index sort.
+	 * <p>
+	 * Expects one of the values of {@link IndexSortOrderConfiguration}, in their external representation:
+	 * {@code asc} or {@code desc}.
+	 * Ignored unless {@link #SORT_FIELD} is set.
+	 * <p>
+	 * Defaults to {@link Defaults#SORT_ORDER}.
+	 * Changing this value requires to reindex.
+	 */
+	public static final String SORT_ORDER = "sort.order";
+
+	/**
+	 * Default values for the different settings if no values are given.
+	 */
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final int SHARDING_NUMBER_OF_SHARDS = 1;
+		public static final IndexSortOrderConfiguration SORT_ORDER = IndexSortOrderConfiguration.ASC;
+	}
+}
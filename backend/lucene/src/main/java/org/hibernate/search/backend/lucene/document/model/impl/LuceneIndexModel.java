@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.backend.document.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
@@ -29,6 +30,8 @@ public class LuceneIndexModel implements AutoCloseable {
 
 	private final ScopedAnalyzer scopedAnalyzer;
 
+	private final boolean hasNestedDocuments;
+
 	public LuceneIndexModel(String indexName,
 			ToDocumentIdentifierValueConverter<?> idDslConverter,
 			Map<String, LuceneIndexSchemaObjectNode> objectNodesBuilder,
@@ -39,6 +42,8 @@ public LuceneIndexModel(String indexName,
 		this.fieldNodes = CollectionHelper.toImmutableMap( fieldNodesBuilder );
 		this.objectNodes = CollectionHelper.toImmutableMap( objectNodesBuilder );
 		this.scopedAnalyzer = scopedAnalyzer;
+		this.hasNestedDocuments = objectNodes.values().stream()
+				.anyMatch( node -> ObjectFieldStorage.NESTED.equals( node.getStorage() ) );
 	}
 
 	@Override
@@ -70,6 +75,14 @@ public ScopedAnalyzer getScopedAnalyzer() {
 		return scopedAnalyzer;
 	}
 
+	/**
+	 * @return {@code true} if documents of this index may be indexed along with nested documents,
+	 * i.e. as blocks of Lucene documents.
+	 */
+	public boolean hasNestedDocuments() {
+		return hasNestedDocuments;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.SuppressingCloser;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NRTCachingDirectory;
+
+/**
+ * A provider of directories stored in a subdirectory of a root directory on the local filesystem,
+ * one subdirectory per index.
+ * <p>
+ * Directories can optionally be wrapped in a {@link NRTCachingDirectory},
+ * so that small, freshly flushed segments are kept in memory until they are merged.
+ */
+abstract class AbstractLocalDirectoryProvider implements DirectoryProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.ROOT_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( "." ) )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> DIRECTORY_NRT_CACHING_ENABLED =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_ENABLED )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.DIRECTORY_NRT_CACHING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DIRECTORY_NRT_CACHING_MAX_CACHED_MB =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_MB )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_CACHED_MB )
+					.build();
+
+	private EventContext backendContext;
+
+	private Path rootDirectory;
+
+	private boolean nrtCachingEnabled;
+	private int nrtCachingMaxMergeSizeMB;
+	private int nrtCachingMaxCachedMB;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() +
+				"[" +
+				"rootDirectory=" + rootDirectory +
+				", nrtCachingEnabled=" + nrtCachingEnabled +
+				"]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		ConfigurationPropertySource propertySource = context.getConfigurationPropertySource();
+		this.backendContext = context.getEventContext();
+		this.rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
+		this.nrtCachingEnabled = DIRECTORY_NRT_CACHING_ENABLED.get( propertySource );
+		if ( nrtCachingEnabled ) {
+			this.nrtCachingMaxMergeSizeMB = getNrtCachingSize( DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB, propertySource );
+			this.nrtCachingMaxCachedMB = getNrtCachingSize( DIRECTORY_NRT_CACHING_MAX_CACHED_MB, propertySource );
+		}
+		initializeRootDirectory( rootDirectory );
+	}
+
+	@Override
+	public Directory createDirectory(String indexName) throws IOException {
+		Path directoryPath = rootDirectory.resolve( indexName );
+		initializeIndexDirectory( directoryPath );
+		Directory directory = openDirectory( directoryPath );
+		if ( !nrtCachingEnabled ) {
+			return directory;
+		}
+		try {
+			return new NRTCachingDirectory( directory, nrtCachingMaxMergeSizeMB, nrtCachingMaxCachedMB );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( directory );
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean directoryExists(String indexName) {
+		return Files.isDirectory( rootDirectory.resolve( indexName ) );
+	}
+
+	/**
+	 * @param directoryPath The path of the directory on the filesystem, guaranteed to exist.
+	 * @return The directory.
+	 * @throws IOException If an error occurs while opening the directory.
+	 */
+	protected abstract Directory openDirectory(Path directoryPath) throws IOException;
+
+	private int getNrtCachingSize(ConfigurationProperty<Integer> property, ConfigurationPropertySource propertySource) {
+		int size = property.get( propertySource );
+		if ( size <= 0 ) {
+			throw log.invalidNrtCachingSize( property.resolveOrRaw( propertySource ), size, backendContext );
+		}
+		return size;
+	}
+
+	private void initializeRootDirectory(Path rootDirectory) {
+		if ( Files.exists( rootDirectory ) ) {
+			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
+				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, backendContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( rootDirectory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, backendContext, e );
+			}
+		}
+	}
+
+	private void initializeIndexDirectory(Path indexDirectory) {
+		if ( Files.exists( indexDirectory ) ) {
+			if ( !Files.isDirectory( indexDirectory ) || !Files.isWritable( indexDirectory ) ) {
+				throw log.localDirectoryIndexRootDirectoryNotWritableDirectory( indexDirectory, backendContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( indexDirectory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateIndexRootDirectoryForLocalDirectoryBackend( indexDirectory, backendContext, e );
+			}
+		}
+	}
+}
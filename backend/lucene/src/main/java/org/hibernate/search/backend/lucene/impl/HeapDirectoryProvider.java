@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+/**
+ * A directory provider storing indexes in the JVM heap.
+ * <p>
+ * Indexes are lost when the application stops:
+ * this is only suitable for small indexes that can be rebuilt quickly, or for tests.
+ */
+class HeapDirectoryProvider implements DirectoryProvider {
+
+	static final String NAME = "local_heap";
+
+	private final Set<String> createdIndexNames = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public Directory createDirectory(String indexName) {
+		createdIndexNames.add( indexName );
+		return new RAMDirectory();
+	}
+
+	@Override
+	public boolean directoryExists(String indexName) {
+		return createdIndexNames.contains( indexName );
+	}
+}
@@ -7,9 +7,6 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Optional;
@@ -19,12 +16,15 @@
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.InitialLuceneAnalysisDefinitionContainerContext;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.MultiTenancyStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.IndexPerTenantMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.reader.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.work.impl.LuceneStubWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -39,6 +39,7 @@
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.SuppressingCloser;
 
 import org.apache.lucene.util.Version;
 
@@ -55,15 +56,9 @@ public class LuceneBackendFactory implements BackendFactory {
 					.as( Version.class, LuceneBackendFactory::parseLuceneVersion )
 					.build();
 
-	private static final OptionalConfigurationProperty<String> DIRECTORY_PROVIDER =
+	private static final OptionalConfigurationProperty<BeanReference<? extends DirectoryProvider>> DIRECTORY_PROVIDER =
 			ConfigurationProperty.forKey( SearchBackendLuceneSettings.DIRECTORY_PROVIDER )
-					.asString()
-					.build();
-
-	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
-			ConfigurationProperty.forKey( SearchBackendLuceneSettings.ROOT_DIRECTORY )
-					.as( Path.class, Paths::get )
-					.withDefault( () -> Paths.get( "." ) )
+					.asBeanReference( DirectoryProvider.class )
 					.build();
 
 	private static final ConfigurationProperty<MultiTenancyStrategyConfiguration> MULTI_TENANCY_STRATEGY =
@@ -72,11 +67,93 @@ public class LuceneBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendLuceneSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends LuceneAnalysisConfigurer>> ANALYSIS_CONFIGURER =
 			ConfigurationProperty.forKey( SearchBackendLuceneSettings.ANALYSIS_CONFIGURER )
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> QUERY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUERY_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_TIMEOUT )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUERY_CACHE_ENABLED =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_CACHE_ENABLED )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_CACHE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_CACHE_MAX_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_CACHE_MAX_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_CACHE_MAX_RAM_BYTES =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_CACHE_MAX_RAM_BYTES )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<ReaderRefreshStrategyConfiguration> READER_REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_STRATEGY )
+					.as( ReaderRefreshStrategyConfiguration.class, ReaderRefreshStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_MAX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_MAX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_COMMIT_INTERVAL )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_COMMIT_INTERVAL )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -84,21 +161,55 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 
 		Version luceneVersion = getLuceneVersion( backendContext, propertySource );
 
-		DirectoryProvider directoryProvider = getDirectoryProvider( backendContext, propertySource );
+		BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
+				getDirectoryProvider( backendContext, buildContext, propertySource );
+		try {
+			MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( backendContext, propertySource );
 
-		MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( backendContext, propertySource );
+			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry = getAnalysisDefinitionRegistry(
+					backendContext, buildContext, propertySource, luceneVersion
+			);
 
-		LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry = getAnalysisDefinitionRegistry(
-				backendContext, buildContext, propertySource, luceneVersion
-		);
+			int queryThreadPoolSize = QUERY_THREAD_POOL_SIZE.get( propertySource )
+					.orElseGet( Runtime.getRuntime()::availableProcessors );
+			if ( queryThreadPoolSize <= 0 ) {
+				throw log.invalidQueryThreadPoolSize( queryThreadPoolSize, backendContext );
+			}
+			int queryQueueSize = QUERY_QUEUE_SIZE.get( propertySource );
+			if ( queryQueueSize <= 0 ) {
+				throw log.invalidQueryQueueSize( queryQueueSize, backendContext );
+			}
 
-		return new LuceneBackendImpl(
-				name,
-				directoryProvider,
-				new LuceneStubWorkFactory( multiTenancyStrategy ),
-				analysisDefinitionRegistry,
-				multiTenancyStrategy
-		);
+			LuceneQueryCache queryCache = null;
+			if ( QUERY_CACHE_ENABLED.get( propertySource ) ) {
+				// Same default as the JVM-wide cache of Lucene
+				long queryCacheMaxRamBytes = QUERY_CACHE_MAX_RAM_BYTES.get( propertySource )
+						.orElseGet( () -> Math.min( Runtime.getRuntime().maxMemory() / 20, 32L * 1024 * 1024 ) );
+				queryCache = new LuceneQueryCache( QUERY_CACHE_MAX_SIZE.get( propertySource ), queryCacheMaxRamBytes );
+			}
+
+			return new LuceneBackendImpl(
+					name,
+					directoryProviderHolder,
+					new LuceneStubWorkFactory( multiTenancyStrategy ),
+					analysisDefinitionRegistry,
+					multiTenancyStrategy, MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES.get( propertySource ),
+					queryThreadPoolSize, queryQueueSize,
+					queryCache,
+					QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE.get( propertySource ),
+					QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE.get( propertySource ),
+					QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE.get( propertySource ),
+					QUERY_TIMEOUT.get( propertySource ),
+					READER_REFRESH_STRATEGY.get( propertySource ), READER_REFRESH_INTERVAL.get( propertySource ),
+					INDEXING_MAX_BATCH_SIZE.get( propertySource ), INDEXING_COMMIT_INTERVAL.get( propertySource )
+			);
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( DirectoryProvider::close, directoryProviderHolder.get() )
+					.push( directoryProviderHolder );
+			throw e;
+		}
 	}
 
 	private Version getLuceneVersion(EventContext backendContext, ConfigurationPropertySource propertySource) {
@@ -122,21 +233,33 @@ private Version getLuceneVersion(EventContext backendContext, ConfigurationPrope
 		return luceneVersion;
 	}
 
-	private DirectoryProvider getDirectoryProvider(EventContext backendContext, ConfigurationPropertySource propertySource) {
-		// TODO be more clever about the type, also supports providing a class => use a BeanReference?
-		String directoryProviderString = DIRECTORY_PROVIDER.getOrThrow(
+	private BeanHolder<? extends DirectoryProvider> getDirectoryProvider(EventContext backendContext,
+			BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
+		BeanReference<? extends DirectoryProvider> directoryProviderReference = DIRECTORY_PROVIDER.getOrThrow(
 				propertySource, propertyKey -> log.undefinedLuceneDirectoryProvider( propertyKey, backendContext )
 		);
 
-		if ( "local_directory".equals( directoryProviderString ) ) {
-			// TODO GSM: implement the checks properly
-			Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
-
-			initializeRootDirectory( rootDirectory, backendContext );
-			return new MMapDirectoryProvider( backendContext, rootDirectory );
+		BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
+		try {
+			directoryProviderHolder = buildContext.getServiceManager().getBeanProvider()
+					.getBean( directoryProviderReference );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToCreateLuceneDirectoryProvider(
+					directoryProviderReference, e.getMessage(), backendContext, e
+			);
 		}
 
-		throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext );
+		try {
+			directoryProviderHolder.get().initialize(
+					new DirectoryProviderInitializationContextImpl( backendContext, propertySource )
+			);
+			return directoryProviderHolder;
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( directoryProviderHolder );
+			throw e;
+		}
 	}
 
 	private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext, ConfigurationPropertySource propertySource) {
@@ -147,6 +270,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case INDEX_PER_TENANT:
+				return new IndexPerTenantMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'. %2$s",
@@ -184,22 +309,6 @@ private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventCont
 		}
 	}
 
-	private void initializeRootDirectory(Path rootDirectory, EventContext eventContext) {
-		if ( Files.exists( rootDirectory ) ) {
-			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
-				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, eventContext );
-			}
-		}
-		else {
-			try {
-				Files.createDirectories( rootDirectory );
-			}
-			catch (Exception e) {
-				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, eventContext, e );
-			}
-		}
-	}
-
 	private static Version parseLuceneVersion(String versionString) {
 		try {
 			return Version.parseLeniently( versionString );
@@ -7,10 +7,17 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.IndexSortOrderConfiguration;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.SearchIndexLuceneSettings;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -20,15 +27,25 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.impl.ParentBitSetProducerCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
+import org.hibernate.search.backend.lucene.search.reader.impl.LuceneQueryCache;
+import org.hibernate.search.backend.lucene.search.reader.impl.LuceneQueryCachingPolicy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
@@ -38,37 +55,79 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<Integer> SHARDING_NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( SearchIndexLuceneSettings.SHARDING_NUMBER_OF_SHARDS )
+					.asInteger()
+					.withDefault( SearchIndexLuceneSettings.Defaults.SHARDING_NUMBER_OF_SHARDS )
+					.build();
+
+	private static final OptionalConfigurationProperty<String> SORT_FIELD =
+			ConfigurationProperty.forKey( SearchIndexLuceneSettings.SORT_FIELD )
+					.asString()
+					.build();
+
+	private static final ConfigurationProperty<IndexSortOrderConfiguration> SORT_ORDER =
+			ConfigurationProperty.forKey( SearchIndexLuceneSettings.SORT_ORDER )
+					.as( IndexSortOrderConfiguration.class, IndexSortOrderConfiguration::fromExternalRepresentation )
+					.withDefault( SearchIndexLuceneSettings.Defaults.SORT_ORDER )
+					.build();
+
 	private final String name;
 
-	private final DirectoryProvider directoryProvider;
+	private final BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final ExecutorService segmentSearchExecutor;
+	private final ScheduledExecutorService readerRefreshExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final EventContext eventContext;
 	private final IndexingBackendContext indexingContext;
 	private final SearchBackendContext searchContext;
 
-	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
+	LuceneBackendImpl(String name, BeanHolder<? extends DirectoryProvider> directoryProviderHolder, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy, int maxOpenTenantIndexes,
+			int queryThreadPoolSize, int queryQueueSize,
+			LuceneQueryCache queryCache,
+			int segmentSearchThreadPoolSize, int maxDocsPerSlice, int maxSegmentsPerSlice,
+			long queryTimeout,
+			ReaderRefreshStrategyConfiguration readerRefreshStrategy, int readerRefreshInterval,
+			int indexingMaxBatchSize, int indexingCommitInterval) {
 		this.name = name;
-		this.directoryProvider = directoryProvider;
+		this.directoryProviderHolder = directoryProviderHolder;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
-		this.queryOrchestrator = new LuceneStubQueryWorkOrchestrator();
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.eventContext = EventContexts.fromBackendName( name );
+		this.queryOrchestrator = new LuceneParallelQueryWorkOrchestrator(
+				"Backend " + name, queryThreadPoolSize, queryQueueSize
+		);
+		this.segmentSearchExecutor = segmentSearchThreadPoolSize > 0
+				? Executors.newFixedThreadPool( segmentSearchThreadPoolSize, "Backend " + name + " - Segment search" )
+				: null;
+		this.readerRefreshExecutor = ReaderRefreshStrategyConfiguration.PERIODIC.equals( readerRefreshStrategy )
+				? Executors.newScheduledThreadPool( "Backend " + name + " - Reader refresh" )
+				: null;
 		this.indexingContext = new IndexingBackendContext(
-				eventContext, directoryProvider,
-				workFactory, multiTenancyStrategy
+				eventContext, directoryProviderHolder.get(),
+				workFactory, multiTenancyStrategy, maxOpenTenantIndexes,
+				readerRefreshStrategy, readerRefreshInterval, readerRefreshExecutor,
+				queryCache,
+				indexingMaxBatchSize, indexingCommitInterval
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator,
+				new IndexSearcherFactory(
+						queryCache, new LuceneQueryCachingPolicy(),
+						segmentSearchExecutor, maxDocsPerSlice, maxSegmentsPerSlice
+				),
+				new ParentBitSetProducerCache(),
+				queryTimeout
 		);
 	}
 
@@ -94,6 +153,14 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 			throw log.multiTenancyRequiredButNotSupportedByBackend( indexName, eventContext );
 		}
 
+		int numberOfShards = SHARDING_NUMBER_OF_SHARDS.get( propertySource );
+		if ( numberOfShards < 1 ) {
+			throw log.invalidNumberOfShards( numberOfShards, eventContext.append( EventContexts.fromIndexName( indexName ) ) );
+		}
+
+		Optional<String> sortField = SORT_FIELD.get( propertySource );
+		SortOrder sortOrder = getSortOrder( SORT_ORDER.get( propertySource ) );
+
 		LuceneIndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder =
 				new LuceneIndexSchemaRootNodeBuilder(
 						indexName,
@@ -107,7 +174,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, numberOfShards, sortField.orElse( null ), sortOrder,
+				indexSchemaRootNodeBuilder
 		);
 	}
 
@@ -115,6 +183,14 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			if ( segmentSearchExecutor != null ) {
+				closer.push( ExecutorService::shutdownNow, segmentSearchExecutor );
+			}
+			if ( readerRefreshExecutor != null ) {
+				closer.push( ScheduledExecutorService::shutdownNow, readerRefreshExecutor );
+			}
+			closer.push( DirectoryProvider::close, directoryProviderHolder.get() );
+			closer.push( BeanHolder::close, directoryProviderHolder );
 		}
 	}
 
@@ -123,8 +199,21 @@ public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "name=" ).append( name ).append( ", " )
-				.append( "directoryProvider=" ).append( directoryProvider )
+				.append( "directoryProvider=" ).append( directoryProviderHolder.get() )
 				.append( "]" )
 				.toString();
 	}
+
+	private static SortOrder getSortOrder(IndexSortOrderConfiguration sortOrderConfiguration) {
+		switch ( sortOrderConfiguration ) {
+			case ASC:
+				return SortOrder.ASC;
+			case DESC:
+				return SortOrder.DESC;
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported index sort order '%1$s'.", sortOrderConfiguration
+				) );
+		}
+	}
 }
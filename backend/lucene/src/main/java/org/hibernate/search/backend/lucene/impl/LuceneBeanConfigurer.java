@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.impl;
 
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
@@ -18,5 +19,17 @@ public void configure(BeanConfigurationContext context) {
 				BackendFactory.class, "lucene",
 				factoryCreationContext -> BeanHolder.of( new LuceneBackendFactory() )
 		);
+		context.define(
+				DirectoryProvider.class, MMapDirectoryProvider.NAME,
+				creationContext -> BeanHolder.of( new MMapDirectoryProvider() )
+		);
+		context.define(
+				DirectoryProvider.class, NIOFSDirectoryProvider.NAME,
+				creationContext -> BeanHolder.of( new NIOFSDirectoryProvider() )
+		);
+		context.define(
+				DirectoryProvider.class, HeapDirectoryProvider.NAME,
+				creationContext -> BeanHolder.of( new HeapDirectoryProvider() )
+		);
 	}
 }
@@ -7,58 +7,43 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.io.IOException;
-import java.lang.invoke.MethodHandles;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
-import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.util.EventContext;
-import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.MMapDirectory;
 
-class MMapDirectoryProvider implements DirectoryProvider {
-	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+/**
+ * A local directory provider relying on memory-mapped files.
+ * <p>
+ * Files can optionally be preloaded into physical memory when they are opened,
+ * so that the first queries after startup do not pay for page faults.
+ */
+class MMapDirectoryProvider extends AbstractLocalDirectoryProvider {
 
-	private final EventContext backendContext;
+	static final String NAME = "local_directory";
 
-	private final Path rootDirectory;
+	private static final ConfigurationProperty<Boolean> DIRECTORY_MMAP_PRELOAD =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.DIRECTORY_MMAP_PRELOAD )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.DIRECTORY_MMAP_PRELOAD )
+					.build();
 
-	MMapDirectoryProvider(EventContext backendContext, Path rootDirectory) {
-		this.backendContext = backendContext;
-		this.rootDirectory = rootDirectory;
-	}
+	private boolean preload;
 
 	@Override
-	public String toString() {
-		return getClass().getSimpleName() +
-				"[" +
-				"rootDirectory=" + rootDirectory +
-				"]";
+	public void initialize(DirectoryProviderInitializationContext context) {
+		super.initialize( context );
+		this.preload = DIRECTORY_MMAP_PRELOAD.get( context.getConfigurationPropertySource() );
 	}
 
 	@Override
-	public Directory createDirectory(String indexName) throws IOException {
-		Path directoryPath = rootDirectory.resolve( indexName );
-		initializeIndexDirectory( directoryPath );
-		return new MMapDirectory( directoryPath );
-	}
-
-	private void initializeIndexDirectory(Path indexDirectory) {
-		if ( Files.exists( indexDirectory ) ) {
-			if ( !Files.isDirectory( indexDirectory ) || !Files.isWritable( indexDirectory ) ) {
-				throw log.localDirectoryIndexRootDirectoryNotWritableDirectory( indexDirectory, backendContext );
-			}
-		}
-		else {
-			try {
-				Files.createDirectories( indexDirectory );
-			}
-			catch (Exception e) {
-				throw log.unableToCreateIndexRootDirectoryForLocalDirectoryBackend( indexDirectory, backendContext, e );
-			}
-		}
+	protected Directory openDirectory(Path directoryPath) throws IOException {
+		MMapDirectory directory = new MMapDirectory( directoryPath );
+		directory.setPreload( preload );
+		return directory;
 	}
 }
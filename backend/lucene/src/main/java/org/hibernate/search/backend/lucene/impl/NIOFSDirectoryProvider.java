@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+
+/**
+ * A local directory provider relying on positional reads through {@link java.nio.channels.FileChannel}s.
+ * <p>
+ * Slower than memory-mapped files in most cases, but does not consume virtual address space,
+ * which matters in environments with tight virtual memory limits.
+ */
+class NIOFSDirectoryProvider extends AbstractLocalDirectoryProvider {
+
+	static final String NAME = "local_directory_nio";
+
+	@Override
+	protected Directory openDirectory(Path directoryPath) throws IOException {
+		return new NIOFSDirectory( directoryPath );
+	}
+}
@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.util.Optional;
+
 import org.hibernate.search.engine.backend.index.IndexManager;
 
 public interface LuceneIndexManager extends IndexManager {
 
 	// TODO add Lucene-specific index manager APIs
 
+	/**
+	 * @return Statistics about the use of the backend's query cache by this index,
+	 * or an empty optional if the query cache is disabled.
+	 */
+	Optional<LuceneQueryCacheStatistics> getQueryCacheStatistics();
+
 }
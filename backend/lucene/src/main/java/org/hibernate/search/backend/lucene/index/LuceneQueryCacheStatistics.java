@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+/**
+ * Statistics about the use of the query cache of a Lucene backend by a given index.
+ * <p>
+ * The query cache stores the documents matched by non-scoring queries (filters) for each segment,
+ * so all figures are counted per segment: a single query on an index with ten segments
+ * may result in ten hits.
+ */
+public interface LuceneQueryCacheStatistics {
+
+	/**
+	 * @return The number of times the cached result of a query was reused for a segment of this index.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of times the result of a query was not found in the cache for a segment of this index.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of query results currently cached for segments of this index.
+	 */
+	long getCacheSize();
+
+	/**
+	 * @return The number of query results cached for segments of this index that were evicted from the cache,
+	 * either to make room for other results or because the segment was merged or deleted.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return The memory used by query results currently cached for segments of this index, in bytes.
+	 */
+	long getRamBytesUsed();
+
+}
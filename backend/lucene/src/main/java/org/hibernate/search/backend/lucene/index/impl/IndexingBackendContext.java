@@ -7,17 +7,27 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.util.EventContext;
 
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
@@ -26,15 +36,35 @@ public class IndexingBackendContext {
 	private final DirectoryProvider directoryProvider;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int maxOpenTenantIndexes;
+
+	private final ReaderRefreshStrategyConfiguration readerRefreshStrategy;
+	private final long readerRefreshInterval;
+	private final ScheduledExecutorService readerRefreshExecutor;
+	private final LuceneQueryCache queryCache;
+
+	private final int indexingMaxBatchSize;
+	private final int indexingCommitInterval;
 
 	public IndexingBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy, int maxOpenTenantIndexes,
+			ReaderRefreshStrategyConfiguration readerRefreshStrategy, long readerRefreshInterval,
+			ScheduledExecutorService readerRefreshExecutor,
+			LuceneQueryCache queryCache,
+			int indexingMaxBatchSize, int indexingCommitInterval) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.maxOpenTenantIndexes = maxOpenTenantIndexes;
 		this.workFactory = workFactory;
+		this.readerRefreshStrategy = readerRefreshStrategy;
+		this.readerRefreshInterval = readerRefreshInterval;
+		this.readerRefreshExecutor = readerRefreshExecutor;
+		this.queryCache = queryCache;
+		this.indexingMaxBatchSize = indexingMaxBatchSize;
+		this.indexingCommitInterval = indexingCommitInterval;
 	}
 
 	@Override
@@ -46,29 +76,63 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	LuceneIndexShardsProvider createShardsProvider(String indexName, LuceneIndexShardsFactory shardsFactory) {
+		if ( multiTenancyStrategy.isIndexPerTenant() ) {
+			return new PerTenantLuceneIndexShardsProvider(
+					eventContext.append( EventContexts.fromIndexName( indexName ) ),
+					indexName, shardsFactory, maxOpenTenantIndexes
+			);
+		}
+		else {
+			return new SharedLuceneIndexShardsProvider( shardsFactory.create( indexName ) );
+		}
+	}
+
 	Directory createDirectory(String indexName) throws IOException {
 		return directoryProvider.createDirectory( indexName );
 	}
 
+	boolean directoryExists(String indexName) {
+		return directoryProvider.directoryExists( indexName );
+	}
+
+	LuceneIndexWorkOrchestrator createOrchestrator(IndexWriter indexWriter, SharedReaderProvider readerProvider,
+			String indexName, EventContext indexEventContext) {
+		return new LuceneBatchingIndexWorkOrchestrator( indexEventContext, "Index " + indexName, indexWriter,
+				readerProvider::refreshAfterWrites, indexingMaxBatchSize, indexingCommitInterval );
+	}
+
+	SharedReaderProvider createReaderProvider(IndexWriter indexWriter, String indexName, EventContext indexEventContext)
+			throws IOException {
+		return new SharedReaderProvider( indexEventContext, indexWriter,
+				readerRefreshStrategy, readerRefreshInterval, readerRefreshExecutor,
+				indexName, queryCache );
+	}
+
+	Optional<LuceneQueryCacheStatistics> getQueryCacheStatistics(String indexName) {
+		return queryCache == null ? Optional.empty() : Optional.of( queryCache.getStatistics( indexName ) );
+	}
+
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
-			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneIndexShardsProvider shardsProvider,
+			String indexName, SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, shardsProvider,
+				indexName, sessionContext, refreshStrategy );
 	}
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
-			LuceneIndexWorkOrchestrator orchestrator,
+			LuceneIndexShardsProvider shardsProvider,
 			String indexName, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, shardsProvider,
 				indexName, sessionContext );
 	}
 
-	public IndexWorkExecutor createWorkExecutor(LuceneIndexWorkOrchestrator orchestrator, String indexName) {
-		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, orchestrator, indexName, eventContext );
+	IndexWorkExecutor createWorkExecutor(LuceneIndexShardsProvider shardsProvider, String indexName) {
+		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, shardsProvider, indexName, eventContext );
 	}
 }
@@ -6,14 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
@@ -25,16 +22,16 @@ class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<Lucen
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneIndexShardsProvider shardsProvider;
 	private final String indexName;
 	private final String tenantId;
 
 	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			LuceneIndexShardsProvider shardsProvider,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardsProvider = shardsProvider;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -48,11 +45,9 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		List<LuceneIndexWork<?>> works = new ArrayList<>();
-		works.add( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		works.add( factory.commit( indexName ) );
-
-		return orchestrator.submit( works );
+		LuceneIndexWork<?> work = factory.add( indexName, tenantId, id, routingKey, indexEntry );
+		return shardsProvider.submit(
+				tenantId, shards -> shards.forDocument( id, routingKey ).getOrchestrator().submit( work )
+		);
 	}
 }
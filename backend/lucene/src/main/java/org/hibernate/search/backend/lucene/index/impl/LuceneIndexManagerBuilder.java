@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
@@ -14,16 +13,14 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
-import org.hibernate.search.util.EventContext;
-import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.store.Directory;
+import org.apache.lucene.search.Sort;
 
 /**
  * @author Guillaume Smet
@@ -36,15 +33,21 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
+	private final int numberOfShards;
+	private final String sortField;
+	private final SortOrder sortOrder;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
-			String indexName,
+			String indexName, int numberOfShards, String sortField, SortOrder sortOrder,
 			LuceneIndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
+		this.numberOfShards = numberOfShards;
+		this.sortField = sortField;
+		this.sortOrder = sortOrder;
 		this.schemaRootNodeBuilder = indexSchemaRootNodeBuilder;
 	}
 
@@ -61,42 +64,37 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	@Override
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		LuceneIndexShardsProvider shardsProvider = null;
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			indexWriter = createIndexWriter( model );
+			LuceneIndexShardsFactory shardsFactory = new LuceneIndexShardsFactory(
+					indexingBackendContext, indexName, model, createIndexSort( model ), numberOfShards
+			);
+			shardsProvider = indexingBackendContext.createShardsProvider( indexName, shardsFactory );
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model, shardsProvider
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.push( model )
-					.push( indexWriter );
+					.push( LuceneIndexShardsProvider::close, shardsProvider )
+					.push( model );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
-		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
-		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
-			try {
-				return new IndexWriter( directory, indexWriterConfig );
-			}
-			catch (RuntimeException e) {
-				new SuppressingCloser( e ).push( directory );
-				throw e;
-			}
+	private Sort createIndexSort(LuceneIndexModel model) {
+		if ( sortField == null ) {
+			return null;
 		}
-		catch (IOException | RuntimeException e) {
-			throw log.unableToCreateIndexWriter( getEventContext(), e );
+		if ( model.hasNestedDocuments() ) {
+			// Sorting segments would separate nested documents from their parent document
+			throw log.indexSortNotSupportedWithNestedDocuments( sortField, model.getEventContext() );
 		}
-	}
-
-	private EventContext getEventContext() {
-		return indexingBackendContext.getEventContext().append(
-				EventContexts.fromIndexName( indexName )
-		);
+		LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( sortField );
+		if ( fieldNode == null ) {
+			throw log.unknownFieldForIndexSort( sortField, model.getEventContext() );
+		}
+		return new Sort( fieldNode.getSortBuilderFactory().createIndexSortField( sortField, sortOrder ) );
 	}
 }
@@ -8,8 +8,12 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
@@ -20,8 +24,6 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -30,17 +32,11 @@
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-
-
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
 class LuceneIndexManagerImpl
-		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, ReaderProvider {
+		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -50,22 +46,18 @@
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator workPlanOrchestrator;
-	private final LuceneIndexWorkOrchestrator streamOrchestrator;
-	private final IndexWriter indexWriter;
+	// Work plans and streamed works share the same orchestrators, so that a single thread writes to each shard
+	private final LuceneIndexShardsProvider shardsProvider;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
-			String indexName, LuceneIndexModel model, IndexWriter indexWriter) {
+			String indexName, LuceneIndexModel model, LuceneIndexShardsProvider shardsProvider) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
-
-		this.workPlanOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.streamOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		this.shardsProvider = shardsProvider;
 	}
 
 	LuceneIndexModel getModel() {
@@ -74,17 +66,24 @@ LuceneIndexModel getModel() {
 
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, indexName, sessionContext );
+		// Readers are refreshed according to the reader refresh strategy of the backend
+		return createWorkPlan( sessionContext, DocumentRefreshStrategy.NONE );
+	}
+
+	@Override
+	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		return indexingBackendContext.createWorkPlan( shardsProvider, indexName, sessionContext, refreshStrategy );
 	}
 
 	@Override
 	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createDocumentWorkExecutor( streamOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createDocumentWorkExecutor( shardsProvider, indexName, sessionContext );
 	}
 
 	@Override
 	public IndexWorkExecutor createWorkExecutor() {
-		return indexingBackendContext.createWorkExecutor( streamOrchestrator, indexName );
+		return indexingBackendContext.createWorkExecutor( shardsProvider, indexName );
 	}
 
 	@Override
@@ -116,10 +115,7 @@ public String toString() {
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneIndexWorkOrchestrator::close, workPlanOrchestrator );
-			closer.push( LuceneIndexWorkOrchestrator::close, streamOrchestrator );
-			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.push( LuceneIndexShardsProvider::close, shardsProvider );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -127,28 +123,13 @@ public void close() {
 		}
 	}
 
-	ReaderProvider getReaderProvider() {
-		return this;
-	}
-
-	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
-		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
-		}
+	Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys) {
+		return shardsProvider.getReaderProviders( tenantId, routingKeys );
 	}
 
 	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
-		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
-		}
+	public Optional<LuceneQueryCacheStatistics> getQueryCacheStatistics() {
+		return indexingBackendContext.getQueryCacheStatistics( indexName );
 	}
 
 	@Override
@@ -55,11 +55,14 @@ public SearchTargetContext<?> build() {
 		Set<LuceneIndexModel> indexModels = indexManagers.stream().map( LuceneIndexManagerImpl::getModel )
 				.collect( Collectors.toCollection( LinkedHashSet::new ) );
 
-		// TODO obviously, this will have to be changed once we have the full storage complexity from Search 5
-		Set<ReaderProvider> readerProviders = indexManagers.stream().map( LuceneIndexManagerImpl::getReaderProvider )
-				.collect( Collectors.toCollection( LinkedHashSet::new ) );
-
-		LuceneSearchTargetModel searchTargetModel = new LuceneSearchTargetModel( indexModels, readerProviders );
+		Set<LuceneIndexManagerImpl> targetedIndexManagers = new LinkedHashSet<>( indexManagers );
+		LuceneSearchTargetModel searchTargetModel = new LuceneSearchTargetModel( indexModels, (tenantId, routingKeys) -> {
+			Set<ReaderProvider> readerProviders = new LinkedHashSet<>();
+			for ( LuceneIndexManagerImpl indexManager : targetedIndexManagers ) {
+				readerProviders.addAll( indexManager.getReaderProviders( tenantId, routingKeys ) );
+			}
+			return readerProviders;
+		} );
 
 		return new LuceneSearchTargetContext( searchBackendContext, mappingContext, searchTargetModel );
 	}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.util.impl.common.Closer;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A shard of a Lucene index, i.e. a directory with its own index writer, work orchestrator and reader provider.
+ * <p>
+ * Indexes that are not sharded have exactly one shard.
+ */
+class LuceneIndexShard {
+
+	private final String shardName;
+	private final IndexWriter indexWriter;
+	private final SharedReaderProvider readerProvider;
+	private final LuceneIndexWorkOrchestrator orchestrator;
+
+	LuceneIndexShard(String shardName, IndexWriter indexWriter, SharedReaderProvider readerProvider,
+			LuceneIndexWorkOrchestrator orchestrator) {
+		this.shardName = shardName;
+		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
+		this.orchestrator = orchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "name=" ).append( shardName )
+				.append( "]" )
+				.toString();
+	}
+
+	LuceneIndexWorkOrchestrator getOrchestrator() {
+		return orchestrator;
+	}
+
+	ReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
+
+	void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( LuceneIndexWorkOrchestrator::close, orchestrator );
+			// Close the reader provider and index writer after the orchestrator, when we're sure all works have been performed
+			closer.push( SharedReaderProvider::close, readerProvider );
+			closer.push( IndexWriter::close, indexWriter );
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.util.impl.common.Closer;
+
+/**
+ * The shards of a Lucene index, and the rules to route documents and queries to these shards.
+ * <p>
+ * Similarly to the legacy {@code IdHashShardingStrategy}, documents are assigned to a shard
+ * based on the hash of their routing key if they have one, or of their identifier otherwise.
+ * The hash is {@link String#hashCode()}, which does not change from one JVM to another,
+ * so documents are routed the same way after a restart.
+ * <p>
+ * Works are routed independently from each other: updating or deleting a document
+ * with another routing key than the one it was added with will not affect the original document,
+ * and a routed query will only find documents added without a routing key
+ * if it uses their identifier as routing key.
+ */
+class LuceneIndexShards {
+
+	private final List<LuceneIndexShard> shards;
+
+	LuceneIndexShards(List<LuceneIndexShard> shards) {
+		this.shards = Collections.unmodifiableList( shards );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "shards=" ).append( shards )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * @param id The identifier of a document.
+	 * @param routingKey The routing key of the same document, or {@code null}.
+	 * @return The shard this document belongs to.
+	 */
+	LuceneIndexShard forDocument(String id, String routingKey) {
+		return forKey( routingKey != null ? routingKey : id );
+	}
+
+	/**
+	 * @param routingKeys A set of routing keys, possibly empty.
+	 * @return The reader providers of the shards matching the given routing keys,
+	 * or of all shards if there is no routing key.
+	 */
+	Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		Set<ReaderProvider> result = new LinkedHashSet<>();
+		if ( routingKeys.isEmpty() ) {
+			for ( LuceneIndexShard shard : shards ) {
+				result.add( shard.getReaderProvider() );
+			}
+		}
+		else {
+			for ( String routingKey : routingKeys ) {
+				result.add( forKey( routingKey ).getReaderProvider() );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Submit a work to every shard.
+	 *
+	 * @param submitter A function submitting a new work to the given orchestrator.
+	 * @return A future that completes when the works submitted to every shard complete.
+	 */
+	CompletableFuture<?> submitToAll(Function<LuceneIndexWorkOrchestrator, CompletableFuture<?>> submitter) {
+		if ( shards.size() == 1 ) {
+			return submitter.apply( shards.get( 0 ).getOrchestrator() );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[shards.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = submitter.apply( shards.get( i ).getOrchestrator() );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( LuceneIndexShard::close, shards );
+		}
+	}
+
+	/**
+	 * @param shardIndex The index of a shard, as returned by {@link #getShardIndex(String, int)}.
+	 * @return The corresponding shard.
+	 */
+	LuceneIndexShard get(int shardIndex) {
+		return shards.get( shardIndex );
+	}
+
+	/**
+	 * @param key A routing key, or the identifier of a document that has no routing key.
+	 * @param numberOfShards The number of shards of the index.
+	 * @return The index of the shard matching the given key.
+	 */
+	static int getShardIndex(String key, int numberOfShards) {
+		if ( numberOfShards == 1 ) {
+			return 0;
+		}
+		return Math.floorMod( key.hashCode(), numberOfShards );
+	}
+
+	private LuceneIndexShard forKey(String key) {
+		return shards.get( getShardIndex( key, shards.size() ) );
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.SuppressingCloser;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Creates the shards of an index: directories, index writers, work orchestrators and reader providers.
+ */
+class LuceneIndexShardsFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final IndexingBackendContext indexingBackendContext;
+	private final String indexName;
+	private final LuceneIndexModel model;
+	private final Sort indexSort;
+	private final int numberOfShards;
+
+	LuceneIndexShardsFactory(IndexingBackendContext indexingBackendContext, String indexName,
+			LuceneIndexModel model, Sort indexSort, int numberOfShards) {
+		this.indexingBackendContext = indexingBackendContext;
+		this.indexName = indexName;
+		this.model = model;
+		this.indexSort = indexSort;
+		this.numberOfShards = numberOfShards;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "indexName=" ).append( indexName ).append( ", " )
+				.append( "numberOfShards=" ).append( numberOfShards )
+				.append( "]" )
+				.toString();
+	}
+
+	int getNumberOfShards() {
+		return numberOfShards;
+	}
+
+	/**
+	 * @param baseName The name of the set of shards, used to name the directory of each shard.
+	 * @return The created shards.
+	 */
+	LuceneIndexShards create(String baseName) {
+		List<LuceneIndexShard> shards = new ArrayList<>( numberOfShards );
+		try {
+			for ( int i = 0; i < numberOfShards; i++ ) {
+				shards.add( createShard( getShardName( baseName, i ) ) );
+			}
+			return new LuceneIndexShards( shards );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.pushAll( LuceneIndexShard::close, shards );
+			throw e;
+		}
+	}
+
+	/**
+	 * @param baseName The name of the set of shards.
+	 * @return {@code true} if the directory of at least one of the shards exists, {@code false} otherwise.
+	 */
+	boolean exists(String baseName) {
+		for ( int i = 0; i < numberOfShards; i++ ) {
+			if ( indexingBackendContext.directoryExists( getShardName( baseName, i ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String getShardName(String baseName, int shardIndex) {
+		// Unsharded indexes keep using the base name, so that enabling sharding is the only reason to reindex
+		return numberOfShards == 1 ? baseName : baseName + "." + shardIndex;
+	}
+
+	private LuceneIndexShard createShard(String shardName) {
+		EventContext shardEventContext = indexingBackendContext.getEventContext().append(
+				EventContexts.fromIndexName( shardName )
+		);
+		IndexWriter indexWriter = null;
+		SharedReaderProvider readerProvider = null;
+		try {
+			indexWriter = createIndexWriter( shardName, shardEventContext );
+			readerProvider = createReaderProvider( indexWriter, shardEventContext );
+			LuceneIndexWorkOrchestrator orchestrator = indexingBackendContext.createOrchestrator(
+					indexWriter, readerProvider, shardName, shardEventContext
+			);
+			return new LuceneIndexShard( shardName, indexWriter, readerProvider, orchestrator );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( readerProvider )
+					.push( indexWriter );
+			throw e;
+		}
+	}
+
+	private SharedReaderProvider createReaderProvider(IndexWriter indexWriter, EventContext shardEventContext) {
+		try {
+			// Shards are reported as part of their index in query cache statistics
+			return indexingBackendContext.createReaderProvider( indexWriter, indexName, shardEventContext );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( shardEventContext, e );
+		}
+	}
+
+	private IndexWriter createIndexWriter(String shardName, EventContext shardEventContext) {
+		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
+		if ( indexSort != null ) {
+			indexWriterConfig.setIndexSort( indexSort );
+		}
+		try {
+			Directory directory = indexingBackendContext.createDirectory( shardName );
+			try {
+				return new IndexWriter( directory, indexWriterConfig );
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( directory );
+				throw e;
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToCreateIndexWriter( shardEventContext, e );
+		}
+	}
+}
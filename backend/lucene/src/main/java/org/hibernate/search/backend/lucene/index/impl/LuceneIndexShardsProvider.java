@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+
+/**
+ * Provides access to the shards holding the documents of each tenant.
+ */
+interface LuceneIndexShardsProvider {
+
+	/**
+	 * Submit works to the shards holding the documents of a given tenant.
+	 *
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param submitter A function submitting new works to the given shards.
+	 * @return A future that completes when the submitted works complete.
+	 */
+	CompletableFuture<?> submit(String tenantId, Function<LuceneIndexShards, CompletableFuture<?>> submitter);
+
+	/**
+	 * Submit a work to every shard of every open index.
+	 *
+	 * @param submitter A function submitting a new work to the given orchestrator.
+	 * @return A future that completes when the works submitted to every shard complete.
+	 */
+	CompletableFuture<?> submitToAll(Function<LuceneIndexWorkOrchestrator, CompletableFuture<?>> submitter);
+
+	/**
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param routingKeys A set of routing keys, possibly empty.
+	 * @return The reader providers of the shards holding the documents of the given tenant
+	 * and matching the given routing keys, or of all shards holding the documents of the given tenant
+	 * if there is no routing key.
+	 */
+	Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys);
+
+	void close() throws IOException;
+
+}
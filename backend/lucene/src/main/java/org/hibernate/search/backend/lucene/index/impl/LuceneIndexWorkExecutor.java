@@ -9,7 +9,6 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.util.EventContext;
@@ -18,32 +17,34 @@ class LuceneIndexWorkExecutor implements IndexWorkExecutor {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneIndexShardsProvider shardsProvider;
 	private final String indexName;
 	private final EventContext eventContext;
 
-	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy, LuceneIndexWorkOrchestrator orchestrator, String indexName,
+	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy, LuceneIndexShardsProvider shardsProvider, String indexName,
 			EventContext eventContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardsProvider = shardsProvider;
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 	}
 
 	@Override
 	public CompletableFuture<?> optimize() {
-		return orchestrator.submit( factory.optimize( indexName ) );
+		return shardsProvider.submitToAll( orchestrator -> orchestrator.submit( factory.optimize( indexName ) ) );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(String tenantId) {
 		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
-		return orchestrator.submit( factory.deleteAll( indexName, tenantId ) );
+		return shardsProvider.submit( tenantId, shards -> shards.submitToAll(
+				orchestrator -> orchestrator.submit( factory.deleteAll( indexName, tenantId ) )
+		) );
 	}
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return orchestrator.submit( factory.flush( indexName ) );
+		return shardsProvider.submitToAll( orchestrator -> orchestrator.submit( factory.flush( indexName ) ) );
 	}
 }
@@ -7,16 +7,18 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -29,20 +31,23 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneIndexShardsProvider shardsProvider;
 	private final String indexName;
 	private final String tenantId;
+	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	private final List<RoutedWork> works = new ArrayList<>();
 
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneIndexShardsProvider shardsProvider,
+			String indexName, SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardsProvider = shardsProvider;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.refreshStrategy = refreshStrategy;
 	}
 
 	@Override
@@ -55,9 +60,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -70,9 +73,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -80,28 +81,66 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.delete( indexName, tenantId, id, routingKey ) );
 	}
 
 	@Override
 	public void prepare() {
-		// Nothing to do: we only have to send the works to the orchestrator
+		// Nothing to do: we only have to send the works to the orchestrators
 	}
 
 	@Override
 	public CompletableFuture<?> execute() {
+		if ( works.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
 		try {
-			CompletableFuture<?> future = orchestrator.submit( works );
-			return future;
+			// Shards are resolved on execution, since the shards of a tenant may be closed until then
+			return shardsProvider.submit( tenantId, this::submit );
 		}
 		finally {
 			works.clear();
 		}
 	}
 
-	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+	private CompletableFuture<?> submit(LuceneIndexShards shards) {
+		Map<LuceneIndexShard, List<LuceneIndexWork<?>>> worksByShard = new LinkedHashMap<>();
+		for ( RoutedWork work : works ) {
+			worksByShard.computeIfAbsent( shards.forDocument( work.id, work.routingKey ), ignored -> new ArrayList<>() )
+					.add( work.work );
+		}
+		if ( worksByShard.size() == 1 ) {
+			Map.Entry<LuceneIndexShard, List<LuceneIndexWork<?>>> entry = worksByShard.entrySet().iterator().next();
+			return submit( entry.getKey(), entry.getValue() );
+		}
+		// Shards are written to by distinct orchestrators, thus in parallel
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[worksByShard.size()];
+		int i = 0;
+		for ( Map.Entry<LuceneIndexShard, List<LuceneIndexWork<?>>> entry : worksByShard.entrySet() ) {
+			futures[i] = submit( entry.getKey(), entry.getValue() );
+			++i;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private CompletableFuture<?> submit(LuceneIndexShard shard, List<LuceneIndexWork<?>> shardWorks) {
+		// The orchestrator refreshes the reader once per batch if necessary, not once per work plan
+		return shard.getOrchestrator().submit( shardWorks, refreshStrategy );
+	}
+
+	private void collect(String id, String routingKey, LuceneIndexWork<?> work) {
+		works.add( new RoutedWork( id, routingKey, work ) );
+	}
+
+	private static final class RoutedWork {
+		private final String id;
+		private final String routingKey;
+		private final LuceneIndexWork<?> work;
+
+		private RoutedWork(String id, String routingKey, LuceneIndexWork<?> work) {
+			this.id = id;
+			this.routingKey = routingKey;
+			this.work = work;
+		}
 	}
 }
@@ -0,0 +1,428 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+
+/**
+ * A {@link LuceneIndexShardsProvider} giving each tenant its own shards, i.e. its own directories and index writers.
+ * <p>
+ * The shards of a tenant are created on first write, and closed when they are no longer in use
+ * and more than {@code maxOpenTenantIndexes} tenants have open shards, least recently used tenants first.
+ * Closed shards are simply re-opened the next time the tenant is used.
+ * Reading from a tenant that has no shards on disk yet does not create them: the reader is simply empty.
+ * <p>
+ * Shards are "in use" while works submitted to them are executing or while a reader is open on them.
+ * Evictions only happen when a tenant index is acquired, and are performed by the acquiring thread,
+ * so that orchestrator threads never have to close their own orchestrator.
+ * Evicted shards are closed outside of the lock; if the tenant is used again in the meantime,
+ * its new shards are only opened once the evicted ones are closed, so that the same directory
+ * is never opened by two index writers at once.
+ */
+class PerTenantLuceneIndexShardsProvider implements LuceneIndexShardsProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext indexEventContext;
+	private final String indexName;
+	private final LuceneIndexShardsFactory shardsFactory;
+	private final int maxOpenTenantIndexes;
+
+	// Access-ordered, so that iteration starts with the least recently used tenant index
+	private final Map<String, TenantIndex> tenantIndexes = new LinkedHashMap<>( 16, 0.75f, true );
+	// Tenant indexes that were evicted, but whose shards may not be closed yet
+	private final Map<String, TenantIndex> closingTenantIndexes = new HashMap<>();
+
+	PerTenantLuceneIndexShardsProvider(EventContext indexEventContext, String indexName,
+			LuceneIndexShardsFactory shardsFactory, int maxOpenTenantIndexes) {
+		this.indexEventContext = indexEventContext;
+		this.indexName = indexName;
+		this.shardsFactory = shardsFactory;
+		this.maxOpenTenantIndexes = maxOpenTenantIndexes;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "indexName=" ).append( indexName ).append( ", " )
+				.append( "maxOpenTenantIndexes=" ).append( maxOpenTenantIndexes )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<?> submit(String tenantId, Function<LuceneIndexShards, CompletableFuture<?>> submitter) {
+		TenantIndex tenantIndex = acquire( tenantId );
+		return submitAndRelease( tenantIndex, submitter );
+	}
+
+	@Override
+	public CompletableFuture<?> submitToAll(Function<LuceneIndexWorkOrchestrator, CompletableFuture<?>> submitter) {
+		List<TenantIndex> openTenantIndexes = new ArrayList<>();
+		synchronized ( this ) {
+			for ( TenantIndex tenantIndex : tenantIndexes.values() ) {
+				// Tenant indexes that were never opened have nothing to flush or optimize
+				if ( tenantIndex.getShards() != null ) {
+					++tenantIndex.useCount;
+					openTenantIndexes.add( tenantIndex );
+				}
+			}
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[openTenantIndexes.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = submitAndRelease( openTenantIndexes.get( i ), shards -> shards.submitToAll( submitter ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	@Override
+	public Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys) {
+		int numberOfShards = shardsFactory.getNumberOfShards();
+		Set<Integer> shardIndexes = new LinkedHashSet<>();
+		if ( routingKeys.isEmpty() ) {
+			for ( int i = 0; i < numberOfShards; i++ ) {
+				shardIndexes.add( i );
+			}
+		}
+		else {
+			for ( String routingKey : routingKeys ) {
+				shardIndexes.add( LuceneIndexShards.getShardIndex( routingKey, numberOfShards ) );
+			}
+		}
+		Set<ReaderProvider> result = new LinkedHashSet<>();
+		for ( Integer shardIndex : shardIndexes ) {
+			result.add( new TenantShardReaderProvider( tenantId, shardIndex ) );
+		}
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		List<TenantIndex> toClose;
+		synchronized ( this ) {
+			toClose = new ArrayList<>( tenantIndexes.values() );
+			tenantIndexes.clear();
+		}
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( TenantIndex::close, toClose );
+		}
+	}
+
+	private CompletableFuture<?> submitAndRelease(TenantIndex tenantIndex,
+			Function<LuceneIndexShards, CompletableFuture<?>> submitter) {
+		CompletableFuture<?> future;
+		try {
+			future = submitter.apply( tenantIndex.getShards() );
+		}
+		catch (RuntimeException e) {
+			release( tenantIndex );
+			throw e;
+		}
+		// Keep the tenant index open until the submitted works are complete
+		return future.whenComplete( (result, throwable) -> release( tenantIndex ) );
+	}
+
+	/**
+	 * Mark the index of a tenant as in use, opening it if necessary.
+	 * <p>
+	 * Every call must be followed by a call to {@link #release(TenantIndex)}.
+	 *
+	 * @param tenantId The tenant identifier.
+	 * @return The tenant index, with its shards open.
+	 */
+	private TenantIndex acquire(String tenantId) {
+		TenantIndex tenantIndex;
+		List<TenantIndex> evicted;
+		synchronized ( this ) {
+			tenantIndex = tenantIndexes.get( tenantId );
+			if ( tenantIndex == null ) {
+				tenantIndex = new TenantIndex( tenantId, closingTenantIndexes.get( tenantId ) );
+				tenantIndexes.put( tenantId, tenantIndex );
+			}
+			++tenantIndex.useCount;
+			evicted = evictIdleTenantIndexes();
+		}
+
+		for ( TenantIndex evictedTenantIndex : evicted ) {
+			try {
+				evictedTenantIndex.close();
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToCloseTenantIndex( evictedTenantIndex.tenantId, indexEventContext, e );
+			}
+			finally {
+				synchronized ( this ) {
+					closingTenantIndexes.remove( evictedTenantIndex.tenantId, evictedTenantIndex );
+				}
+			}
+		}
+
+		try {
+			tenantIndex.openShards();
+			return tenantIndex;
+		}
+		catch (RuntimeException e) {
+			release( tenantIndex );
+			throw e;
+		}
+	}
+
+	/**
+	 * Same as {@link #acquire(String)}, unless the tenant has no index yet,
+	 * so that reading from a tenant that was never written to neither creates directories
+	 * nor evicts other tenant indexes.
+	 *
+	 * @param tenantId The tenant identifier.
+	 * @return The tenant index, with its shards open, or {@code null} if the tenant has no index.
+	 */
+	private TenantIndex acquireIfExists(String tenantId) {
+		boolean known;
+		synchronized ( this ) {
+			known = tenantIndexes.containsKey( tenantId ) || closingTenantIndexes.containsKey( tenantId );
+		}
+		if ( !known && !shardsFactory.exists( getBaseName( indexName, tenantId ) ) ) {
+			return null;
+		}
+		return acquire( tenantId );
+	}
+
+	private synchronized void release(TenantIndex tenantIndex) {
+		--tenantIndex.useCount;
+	}
+
+	/**
+	 * @param tenantId The tenant identifier.
+	 * @return The tenant index, which must be in use.
+	 */
+	private synchronized TenantIndex getInUse(String tenantId) {
+		// A tenant index that is in use cannot be evicted, so this is necessarily the one that was acquired
+		return tenantIndexes.get( tenantId );
+	}
+
+	private List<TenantIndex> evictIdleTenantIndexes() {
+		int excess = tenantIndexes.size() - maxOpenTenantIndexes;
+		if ( excess <= 0 ) {
+			return Collections.emptyList();
+		}
+		List<TenantIndex> evicted = new ArrayList<>( excess );
+		Iterator<TenantIndex> iterator = tenantIndexes.values().iterator();
+		while ( excess > 0 && iterator.hasNext() ) {
+			TenantIndex candidate = iterator.next();
+			// Tenant indexes in use will be evicted later, once released
+			if ( candidate.useCount == 0 ) {
+				iterator.remove();
+				// Until it is closed, the evicted tenant index must not be opened again
+				closingTenantIndexes.put( candidate.tenantId, candidate );
+				evicted.add( candidate );
+				--excess;
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param tenantId The tenant identifier.
+	 * @return The name of the shards of the given tenant, suitable for a directory name.
+	 */
+	static String getBaseName(String indexName, String tenantId) {
+		// Use a different separator than shards, so that tenant indexes and shards cannot be mixed up
+		StringBuilder builder = new StringBuilder( indexName ).append( '@' );
+		// Tenant identifiers are arbitrary strings: escape anything that is not safe in a file name,
+		// including upper-case letters so that tenants do not share directories on case-insensitive file systems
+		for ( byte b : tenantId.getBytes( StandardCharsets.UTF_8 ) ) {
+			if ( b >= 'a' && b <= 'z' || b >= '0' && b <= '9' || b == '-' || b == '_' ) {
+				builder.append( (char) b );
+			}
+			else {
+				builder.append( '%' )
+						.append( Character.toUpperCase( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ) )
+						.append( Character.toUpperCase( Character.forDigit( b & 0xF, 16 ) ) );
+			}
+		}
+		return builder.toString();
+	}
+
+	private final class TenantIndex {
+
+		private final String tenantId;
+
+		// Guarded by the enclosing provider
+		private int useCount = 0;
+
+		// The evicted index of the same tenant, which must be closed before this one is opened; guarded by this
+		private TenantIndex previous;
+
+		private volatile LuceneIndexShards shards;
+
+		private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+		private TenantIndex(String tenantId, TenantIndex previous) {
+			this.tenantId = tenantId;
+			this.previous = previous;
+		}
+
+		@Override
+		public String toString() {
+			return new StringBuilder( getClass().getSimpleName() )
+					.append( "[" )
+					.append( "tenantId=" ).append( tenantId )
+					.append( "]" )
+					.toString();
+		}
+
+		LuceneIndexShards getShards() {
+			return shards;
+		}
+
+		synchronized void openShards() {
+			if ( previous != null ) {
+				// The previous index is closed by the thread that evicted it, regardless of failures
+				previous.closed.join();
+				previous = null;
+			}
+			if ( shards == null ) {
+				shards = shardsFactory.create( getBaseName( indexName, tenantId ) );
+			}
+		}
+
+		synchronized void close() throws IOException {
+			try {
+				if ( shards != null ) {
+					shards.close();
+					shards = null;
+				}
+			}
+			finally {
+				closed.complete( null );
+			}
+		}
+	}
+
+	private final class TenantShardReaderProvider implements ReaderProvider {
+
+		private final String tenantId;
+		private final int shardIndex;
+
+		private TenantShardReaderProvider(String tenantId, int shardIndex) {
+			this.tenantId = tenantId;
+			this.shardIndex = shardIndex;
+		}
+
+		@Override
+		public String toString() {
+			return new StringBuilder( getClass().getSimpleName() )
+					.append( "[" )
+					.append( "indexName=" ).append( indexName ).append( ", " )
+					.append( "tenantId=" ).append( tenantId ).append( ", " )
+					.append( "shardIndex=" ).append( shardIndex )
+					.append( "]" )
+					.toString();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			// Providers for the same shard of the same tenant are interchangeable, e.g. to share readers in a batch
+			TenantShardReaderProvider other = (TenantShardReaderProvider) obj;
+			return getIndexShardsProvider() == other.getIndexShardsProvider()
+					&& Objects.equals( tenantId, other.tenantId )
+					&& shardIndex == other.shardIndex;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, shardIndex );
+		}
+
+		private PerTenantLuceneIndexShardsProvider getIndexShardsProvider() {
+			return PerTenantLuceneIndexShardsProvider.this;
+		}
+
+		@Override
+		public IndexReader openIndexReader() {
+			// The tenant index stays in use until the reader is closed
+			TenantIndex tenantIndex = acquireIfExists( tenantId );
+			if ( tenantIndex == null ) {
+				return createEmptyReader();
+			}
+			try {
+				return tenantIndex.getShards().get( shardIndex ).getReaderProvider().openIndexReader();
+			}
+			catch (RuntimeException e) {
+				release( tenantIndex );
+				throw e;
+			}
+		}
+
+		@Override
+		public void closeIndexReader(IndexReader reader) {
+			if ( reader instanceof EmptyTenantIndexReader ) {
+				// No tenant index was acquired
+				MultiReaderFactory.closeReader( reader );
+				return;
+			}
+			TenantIndex tenantIndex = getInUse( tenantId );
+			try {
+				tenantIndex.getShards().get( shardIndex ).getReaderProvider().closeIndexReader( reader );
+			}
+			finally {
+				release( tenantIndex );
+			}
+		}
+
+		private IndexReader createEmptyReader() {
+			try {
+				return new EmptyTenantIndexReader();
+			}
+			catch (IOException e) {
+				throw log.unableToCreateIndexReader( indexEventContext, e );
+			}
+		}
+	}
+
+	/**
+	 * A reader for tenants that have no index yet.
+	 */
+	private static final class EmptyTenantIndexReader extends MultiReader {
+
+		private EmptyTenantIndexReader() throws IOException {
+			super();
+		}
+	}
+}
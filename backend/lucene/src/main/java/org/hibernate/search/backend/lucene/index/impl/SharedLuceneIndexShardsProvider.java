@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+
+/**
+ * A {@link LuceneIndexShardsProvider} where all tenants, if any, share the same shards.
+ */
+class SharedLuceneIndexShardsProvider implements LuceneIndexShardsProvider {
+
+	private final LuceneIndexShards shards;
+
+	SharedLuceneIndexShardsProvider(LuceneIndexShards shards) {
+		this.shards = shards;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "shards=" ).append( shards )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<?> submit(String tenantId, Function<LuceneIndexShards, CompletableFuture<?>> submitter) {
+		return submitter.apply( shards );
+	}
+
+	@Override
+	public CompletableFuture<?> submitToAll(Function<LuceneIndexWorkOrchestrator, CompletableFuture<?>> submitter) {
+		return shards.submitToAll( submitter );
+	}
+
+	@Override
+	public Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys) {
+		return shards.getReaderProviders( routingKeys );
+	}
+
+	@Override
+	public void close() throws IOException {
+		shards.close();
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.LuceneQueryCache;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.ReaderManager;
+import org.apache.lucene.search.ReferenceManager;
+
+/**
+ * A {@link ReaderProvider} sharing a single near-real-time reader between all queries on an index.
+ * <p>
+ * The reader is reference-counted: each call to {@link #openIndexReader()} acquires a reference
+ * that is released by {@link #closeIndexReader(IndexReader)}, so that refreshing the reader
+ * never closes it while queries are still using it.
+ * <p>
+ * When the reader is refreshed depends on the configured {@link ReaderRefreshStrategyConfiguration}.
+ * Each new reader is registered to the query cache, if any, so that cache statistics can be attributed to the index.
+ */
+class SharedReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final ReaderManager readerManager;
+	private final ReaderRefreshStrategyConfiguration refreshStrategy;
+	private final long refreshIntervalNanos;
+	private final ScheduledFuture<?> periodicRefresh;
+
+	private volatile long lastRefreshNanos;
+
+	SharedReaderProvider(EventContext eventContext, IndexWriter indexWriter,
+			ReaderRefreshStrategyConfiguration refreshStrategy, long refreshIntervalMs,
+			ScheduledExecutorService refreshExecutor,
+			String indexName, LuceneQueryCache queryCache) throws IOException {
+		this.eventContext = eventContext;
+		this.readerManager = new ReaderManager( indexWriter );
+		if ( queryCache != null ) {
+			registerCurrentReader( indexName, queryCache );
+			readerManager.addListener( new ReferenceManager.RefreshListener() {
+				@Override
+				public void beforeRefresh() {
+					// Nothing to do
+				}
+
+				@Override
+				public void afterRefresh(boolean didRefresh) throws IOException {
+					if ( didRefresh ) {
+						registerCurrentReader( indexName, queryCache );
+					}
+				}
+			} );
+		}
+		this.refreshStrategy = refreshStrategy;
+		this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos( refreshIntervalMs );
+		this.lastRefreshNanos = System.nanoTime();
+		if ( ReaderRefreshStrategyConfiguration.PERIODIC.equals( refreshStrategy ) ) {
+			this.periodicRefresh = refreshExecutor.scheduleWithFixedDelay(
+					this::refreshInBackground, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS
+			);
+		}
+		else {
+			this.periodicRefresh = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( periodicRefresh != null ) {
+			periodicRefresh.cancel( false );
+		}
+		readerManager.close();
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			switch ( refreshStrategy ) {
+				case ON_DEMAND:
+					DirectoryReader currentReader = readerManager.acquire();
+					if ( currentReader.isCurrent() ) {
+						// Avoid the refresh lock, which would serialize all queries, when nothing changed
+						return currentReader;
+					}
+					readerManager.release( currentReader );
+					refresh();
+					break;
+				case MAX_STALENESS:
+					if ( System.nanoTime() - lastRefreshNanos > refreshIntervalNanos ) {
+						refresh();
+					}
+					break;
+				case PERIODIC:
+					// Refreshed in the background
+					break;
+			}
+			return readerManager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "refreshStrategy=" ).append( refreshStrategy )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * Make the changes applied so far visible to the next queries,
+	 * for work plans using the {@link org.hibernate.search.engine.backend.index.DocumentRefreshStrategy#IMMEDIATE}
+	 * refresh strategy.
+	 */
+	void refreshAfterWrites() {
+		if ( ReaderRefreshStrategyConfiguration.ON_DEMAND.equals( refreshStrategy ) ) {
+			// The reader will be refreshed when the next query opens it
+			return;
+		}
+		try {
+			refresh();
+		}
+		catch (IOException e) {
+			throw log.unableToRefreshIndexReaderAfterWrites( eventContext, e );
+		}
+	}
+
+	private void registerCurrentReader(String indexName, LuceneQueryCache queryCache) throws IOException {
+		DirectoryReader reader = readerManager.acquire();
+		try {
+			queryCache.registerReader( indexName, reader );
+		}
+		finally {
+			readerManager.release( reader );
+		}
+	}
+
+	private void refresh() throws IOException {
+		// Blocking: queries must see the changes that were committed before they started
+		readerManager.maybeRefreshBlocking();
+		lastRefreshNanos = System.nanoTime();
+	}
+
+	private void refreshInBackground() {
+		try {
+			// Don't block: if a refresh is already in progress, the next run will pick up the changes
+			if ( readerManager.maybeRefresh() ) {
+				lastRefreshNanos = System.nanoTime();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToRefreshIndexReader( eventContext, e );
+		}
+	}
+}
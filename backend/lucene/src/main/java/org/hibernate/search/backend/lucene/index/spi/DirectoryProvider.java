@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * A provider of Lucene {@link Directory} instances.
+ * <p>
+ * A directory provider is retrieved as a bean for each backend,
+ * based on the value of the {@link SearchBackendLuceneSettings#DIRECTORY_PROVIDER} configuration property,
+ * then {@link #initialize(DirectoryProviderInitializationContext) initialized} before any directory is created.
+ * It is {@link #close() closed} when the backend is stopped.
+ */
+public interface DirectoryProvider extends AutoCloseable {
+
+	/**
+	 * Initialize this provider, for instance by reading its configuration.
+	 * <p>
+	 * Called exactly once, before any call to {@link #createDirectory(String)}.
+	 *
+	 * @param context The initialization context, giving access to the configuration of the backend in particular.
+	 */
+	default void initialize(DirectoryProviderInitializationContext context) {
+		// No initialization by default
+	}
+
+	/**
+	 * Create a {@link Directory} for a given name, allocating internal resources (filesystem directories, ...)
+	 * as necessary.
+	 * <p>
+	 * The provided index names are raw and do not take into account the limitations of the internal representation
+	 * of indexes. If some characters cannot be used in a given {@link DirectoryProvider},
+	 * this provider is expected to escape characters as necessary using a encoding scheme attributing
+	 * a unique representation to each index name,
+	 * so as to avoid two index names to be encoded into identical internal representations.
+	 * Lower-casing the index name, for example, is not an acceptable encoding scheme,
+	 * as two index names differing only in case could end up using the same directory.
+	 * <p>
+	 * The returned directory is closed by Hibernate Search when the index is stopped.
+	 *
+	 * @param indexName The name of the index in Hibernate Search.
+	 * @return The directory to use for that index name
+	 * @throws IOException If an error occurs while initializing the directory.
+	 */
+	Directory createDirectory(String indexName) throws IOException;
+
+	/**
+	 * Check whether a directory already exists for a given name,
+	 * for instance because it was created by a previous execution of the application.
+	 * <p>
+	 * Used to avoid creating directories when reading from indexes that were never written to.
+	 * Providers that cannot tell should return {@code true}.
+	 *
+	 * @param indexName The name of the index in Hibernate Search.
+	 * @return {@code false} if {@link #createDirectory(String)} would create a new, empty directory,
+	 * {@code true} otherwise.
+	 */
+	default boolean directoryExists(String indexName) {
+		return true;
+	}
+
+	/**
+	 * Release the resources owned by this provider, such as thread pools or caches shared by its directories.
+	 * <p>
+	 * Called when the backend is stopped, after all the directories created by this provider have been closed.
+	 */
+	@Override
+	default void close() {
+		// No resource to release by default
+	}
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.util.EventContext;
+
+/**
+ * The context passed to {@link DirectoryProvider#initialize(DirectoryProviderInitializationContext)}.
+ */
+public interface DirectoryProviderInitializationContext {
+
+	/**
+	 * @return A context to use when reporting failures, referring to the backend.
+	 */
+	EventContext getEventContext();
+
+	/**
+	 * @return The configuration properties of the backend, without the backend prefix.
+	 */
+	ConfigurationPropertySource getConfigurationPropertySource();
+
+}
@@ -416,4 +416,79 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 	@Message(id = ID_OFFSET_2 + 69,
 			value = "An IOException occurred while generating an Explanation.")
 	SearchException ioExceptionOnExplain(@Cause IOException e);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Unknown reader refresh strategy '%1$s'.")
+	SearchException unknownReaderRefreshStrategyConfiguration(String readerRefreshStrategy);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Unable to refresh the index reader. %1$s")
+	void unableToRefreshIndexReader(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Unable to submit work: the index work orchestrator is closed.")
+	SearchException orchestratorClosed(@Param EventContext context);
+
+	@LogMessage(level = Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Unable to commit pending index changes in the background. %1$s")
+	void unableToCommitIndexInBackground(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Invalid search cursor: '%1$s'. Cursors can only be used with the query they were retrieved from.")
+	SearchException invalidSearchCursor(Object cursor, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Invalid number of shards: '%1$s'. The number of shards must be strictly positive.")
+	SearchException invalidNumberOfShards(int numberOfShards, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Unknown sort order '%1$s'. The sort order must be either 'asc' or 'desc'.")
+	SearchException unknownIndexSortOrder(String sortOrder);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "Unknown field '%1$s' for the index sort.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "Cannot sort index on field '%1$s': indexes with nested documents cannot be sorted.")
+	SearchException indexSortNotSupportedWithNestedDocuments(String absoluteFieldPath, @Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "Unable to close the index of tenant '%1$s'. %2$s")
+	void unableToCloseTenantIndex(String tenantId, @FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 81,
+			value = "Query '%2$s' exceeded the timeout of %1$sms.")
+	SearchException searchTimedOut(long timeoutInMilliseconds, Query query, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 82,
+			value = "Invalid query thread pool size: '%1$s'. The thread pool size must be strictly positive.")
+	SearchException invalidQueryThreadPoolSize(int threadPoolSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 83,
+			value = "Invalid query queue size: '%1$s'. The queue size must be strictly positive.")
+	SearchException invalidQueryQueueSize(int queueSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 84,
+			value = "Unable to apply work '%3$s'. The %1$s works preceding it in the same list of %2$s works"
+					+ " were applied and will be committed; the following works were not applied.")
+	SearchException partiallyAppliedWorkList(int appliedWorkCount, int workCount, Object failingWork,
+			@Param EventContext context, @Cause Throwable e);
+
+	@Message(id = ID_OFFSET_2 + 85,
+			value = "Unable to refresh the index reader after applying works.")
+	SearchException unableToRefreshIndexReaderAfterWrites(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 86,
+			value = "Unable to create the Lucene directory provider '%1$s': %2$s")
+	SearchException unableToCreateLuceneDirectoryProvider(Object directoryProviderReference, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 87,
+			value = "Invalid value for '%1$s': '%2$s'. The NRT caching sizes must be strictly positive.")
+	SearchException invalidNrtCachingSize(String propertyKey, int size, @Param EventContext context);
 }
@@ -32,6 +32,11 @@ public boolean isMultiTenancySupported() {
 		return true;
 	}
 
+	@Override
+	public boolean isIndexPerTenant() {
+		return false;
+	}
+
 	@Override
 	public void contributeToIndexedDocument(Document document, String tenantId) {
 		document.add( new StringField( LuceneFields.tenantIdFieldName(), tenantId, Store.YES ) );
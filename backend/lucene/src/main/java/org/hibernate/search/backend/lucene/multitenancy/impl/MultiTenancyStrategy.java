@@ -27,6 +27,13 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if each tenant is stored in its own, physically separate index.
+	 *
+	 * @return {@code true} if each tenant has its own directory and index writer, {@code false} otherwise.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
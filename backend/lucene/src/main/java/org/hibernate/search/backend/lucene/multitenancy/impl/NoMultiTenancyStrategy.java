@@ -27,6 +27,11 @@ public boolean isMultiTenancySupported() {
 		return false;
 	}
 
+	@Override
+	public boolean isIndexPerTenant() {
+		return false;
+	}
+
 	@Override
 	public void contributeToIndexedDocument(Document document, String tenantId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
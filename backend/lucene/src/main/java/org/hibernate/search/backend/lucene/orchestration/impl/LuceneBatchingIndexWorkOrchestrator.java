@@ -0,0 +1,324 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * An index work orchestrator applying works to the index from a single writer thread,
+ * in batches.
+ * <p>
+ * Submitted work lists are queued; the writer thread drains the queue in batches of at most
+ * {@code maxBatchSize} work lists, applies each of them in order, then commits once for the whole batch.
+ * <p>
+ * If a commit interval is configured, the commit is skipped when the previous one happened less
+ * than {@code commitInterval} milliseconds ago, and a commit is scheduled instead:
+ * futures are then completed as soon as the changes are applied to the index writer.
+ * Changes become visible to queries when the shared index reader is refreshed,
+ * according to the reader refresh strategy, but they are not durable until the next commit.
+ * <p>
+ * Work lists submitted with a refresh strategy other than {@link DocumentRefreshStrategy#NONE}
+ * additionally require the index reader to be refreshed before their future completes:
+ * the reader is refreshed at most once per batch, after the commit,
+ * instead of once per work list.
+ * <p>
+ * Lucene cannot roll back a single work list: when a work fails,
+ * the following works of the same list are not applied,
+ * but the works that preceded it are, and they are committed along with the rest of the batch.
+ * <p>
+ * Inspired by {@code SyncWorkProcessor} and {@code ScheduledCommitPolicy} in Search 5.
+ */
+public class LuceneBatchingIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final LuceneStubIndexWorkExecutionContext context;
+	private final Runnable readerRefresher;
+	private final int maxBatchSize;
+	private final long commitIntervalNanos;
+
+	private final BlockingQueue<Changeset> queue;
+	private final AtomicBoolean processingScheduled = new AtomicBoolean( false );
+	private final ScheduledExecutorService writerExecutor;
+
+	// Guards the transition to the closed state: enqueuing holds the read lock, closing the write lock
+	private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+	private volatile boolean closed = false;
+
+	// Only accessed from the writer thread
+	private final List<Changeset> batch;
+	private long lastCommitNanos;
+	private boolean uncommittedChanges = false;
+	private ScheduledFuture<?> scheduledCommit;
+
+	/**
+	 * @param readerRefresher Makes the changes applied so far visible to queries.
+	 * Called from the writer thread.
+	 */
+	public LuceneBatchingIndexWorkOrchestrator(EventContext eventContext, String name, IndexWriter indexWriter,
+			Runnable readerRefresher, int maxBatchSize, int commitInterval) {
+		this.eventContext = eventContext;
+		this.context = new LuceneStubIndexWorkExecutionContext( indexWriter );
+		this.readerRefresher = readerRefresher;
+		this.maxBatchSize = maxBatchSize;
+		this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos( commitInterval );
+		this.queue = new LinkedBlockingQueue<>( Executors.QUEUE_MAX_LENGTH );
+		this.writerExecutor = Executors.newScheduledThreadPool( name + " - Writer" );
+		this.batch = new ArrayList<>( maxBatchSize );
+		this.lastCommitNanos = System.nanoTime();
+	}
+
+	@Override
+	public void close() {
+		lifecycleLock.writeLock().lock();
+		try {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+		}
+		finally {
+			lifecycleLock.writeLock().unlock();
+		}
+		try {
+			// No changeset can be enqueued anymore: process the remaining ones, then commit one last time
+			CompletableFuture.runAsync( this::processQueueAndCommit, writerExecutor ).join();
+		}
+		finally {
+			// The scheduled commit, if any, was cancelled: no need to wait for it
+			writerExecutor.shutdown();
+			// Only happens if the final processing failed: don't leave callers waiting forever
+			Changeset changeset = queue.poll();
+			while ( changeset != null ) {
+				changeset.future.completeExceptionally( log.orchestratorClosed( eventContext ) );
+				changeset = queue.poll();
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The result of a changeset is the result of its last work
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		CompletableFuture<?> future = enqueue( Collections.singletonList( work ), false );
+		return (CompletableFuture<T>) future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		return enqueue( new ArrayList<>( works ), false );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+		// Writes are not refreshed periodically: WAIT_FOR and IMMEDIATE both refresh the reader explicitly
+		return enqueue( new ArrayList<>( works ), !DocumentRefreshStrategy.NONE.equals( refreshStrategy ) );
+	}
+
+	private CompletableFuture<Object> enqueue(List<LuceneIndexWork<?>> works, boolean refresh) {
+		Changeset changeset = new Changeset( works, refresh );
+		lifecycleLock.readLock().lock();
+		try {
+			if ( closed ) {
+				changeset.future.completeExceptionally( log.orchestratorClosed( eventContext ) );
+				return changeset.future;
+			}
+			// Blocks when the queue is full, to apply back pressure on the submitting threads
+			queue.put( changeset );
+			ensureProcessingScheduled();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			changeset.future.completeExceptionally( e );
+		}
+		finally {
+			lifecycleLock.readLock().unlock();
+		}
+		return changeset.future;
+	}
+
+	private void ensureProcessingScheduled() {
+		// Once closed, the remaining changesets are processed by the task submitted in close()
+		if ( !closed && processingScheduled.compareAndSet( false, true ) ) {
+			writerExecutor.execute( this::processQueue );
+		}
+	}
+
+	private void processQueue() {
+		try {
+			while ( true ) {
+				batch.clear();
+				queue.drainTo( batch, maxBatchSize );
+				if ( batch.isEmpty() ) {
+					return;
+				}
+				processBatch();
+			}
+		}
+		finally {
+			processingScheduled.set( false );
+			// A changeset may have been queued after we last drained the queue, but before we reset the flag
+			if ( !queue.isEmpty() ) {
+				ensureProcessingScheduled();
+			}
+		}
+	}
+
+	private void processBatch() {
+		boolean refresh = false;
+		for ( Changeset changeset : batch ) {
+			changeset.apply( context, eventContext );
+			refresh = refresh || changeset.refresh;
+		}
+		uncommittedChanges = true;
+
+		Throwable commitFailure = null;
+		if ( System.nanoTime() - lastCommitNanos >= commitIntervalNanos ) {
+			try {
+				commit();
+			}
+			catch (RuntimeException e) {
+				commitFailure = e;
+			}
+		}
+		else {
+			scheduleCommit();
+		}
+
+		Throwable refreshFailure = null;
+		if ( refresh ) {
+			// A single refresh for all the changesets of the batch that require one
+			try {
+				readerRefresher.run();
+			}
+			catch (RuntimeException e) {
+				refreshFailure = e;
+			}
+		}
+
+		for ( Changeset changeset : batch ) {
+			changeset.complete( commitFailure, refreshFailure );
+		}
+		batch.clear();
+	}
+
+	private void processQueueAndCommit() {
+		processQueue();
+		commitIfNecessary();
+		if ( scheduledCommit != null ) {
+			scheduledCommit.cancel( false );
+		}
+	}
+
+	private void scheduleCommit() {
+		if ( scheduledCommit != null && !scheduledCommit.isDone() ) {
+			return;
+		}
+		long delay = commitIntervalNanos - ( System.nanoTime() - lastCommitNanos );
+		scheduledCommit = writerExecutor.schedule( this::commitIfNecessary, delay, TimeUnit.NANOSECONDS );
+	}
+
+	private void commitIfNecessary() {
+		if ( !uncommittedChanges ) {
+			return;
+		}
+		try {
+			commit();
+		}
+		catch (RuntimeException e) {
+			log.unableToCommitIndexInBackground( eventContext, e );
+		}
+	}
+
+	private void commit() {
+		try {
+			context.getIndexWriter().commit();
+			uncommittedChanges = false;
+		}
+		catch (IOException e) {
+			throw log.unableToCommitIndex( eventContext, e );
+		}
+		finally {
+			lastCommitNanos = System.nanoTime();
+		}
+	}
+
+	private static final class Changeset {
+
+		private final List<LuceneIndexWork<?>> works;
+		private final boolean refresh;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private Object result;
+		private Throwable failure;
+
+		private Changeset(List<LuceneIndexWork<?>> works, boolean refresh) {
+			this.works = works;
+			this.refresh = refresh;
+		}
+
+		void apply(LuceneStubIndexWorkExecutionContext context, EventContext eventContext) {
+			int appliedWorkCount = 0;
+			try {
+				for ( LuceneIndexWork<?> work : works ) {
+					// Works are executed synchronously: we are already on the writer thread
+					result = work.execute( context ).join();
+					++appliedWorkCount;
+				}
+			}
+			catch (CompletionException e) {
+				failure = e.getCause();
+			}
+			catch (Throwable t) {
+				failure = t;
+			}
+			if ( failure != null && appliedWorkCount > 0 ) {
+				// The works applied so far will be committed: make sure the caller knows
+				failure = log.partiallyAppliedWorkList( appliedWorkCount, works.size(),
+						works.get( appliedWorkCount ), eventContext, failure );
+			}
+		}
+
+		void complete(Throwable commitFailure, Throwable refreshFailure) {
+			if ( failure != null ) {
+				future.completeExceptionally( failure );
+			}
+			else if ( commitFailure != null ) {
+				future.completeExceptionally( commitFailure );
+			}
+			else if ( refresh && refreshFailure != null ) {
+				future.completeExceptionally( refreshFailure );
+			}
+			else {
+				future.complete( result );
+			}
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 
 /**
  * @author Guillaume Smet
@@ -20,6 +21,14 @@ public interface LuceneIndexWorkOrchestrator extends AutoCloseable {
 
 	CompletableFuture<?> submit(List<LuceneIndexWork<?>> work);
 
+	/**
+	 * @param works The works to apply.
+	 * @param refreshStrategy Whether the index reader must be refreshed after the works are applied,
+	 * before the returned future completes.
+	 * @return A future completed when the works are applied and, if requested, visible to queries.
+	 */
+	CompletableFuture<?> submit(List<LuceneIndexWork<?>> works, DocumentRefreshStrategy refreshStrategy);
+
 	@Override
 	default void close() {
 	}
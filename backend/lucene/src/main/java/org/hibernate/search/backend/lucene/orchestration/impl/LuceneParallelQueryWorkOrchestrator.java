@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A query work orchestrator executing works concurrently on a bounded thread pool.
+ * <p>
+ * Query works do not depend on each other, so no ordering is enforced:
+ * each work is executed as soon as a thread is available.
+ * When all threads are busy, works are queued up to a configurable limit;
+ * beyond that limit, submitting threads block until space is available in the queue.
+ */
+public class LuceneParallelQueryWorkOrchestrator implements LuceneQueryWorkOrchestrator {
+
+	private final LuceneStubQueryWorkExecutionContext context;
+	private final ExecutorService executor;
+
+	public LuceneParallelQueryWorkOrchestrator(String name, int threadPoolSize, int queueSize) {
+		this.context = new LuceneStubQueryWorkExecutionContext();
+		this.executor = Executors.newFixedThreadPool( threadPoolSize, name + " - Query executor", queueSize );
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			// Let queries that were already submitted finish
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			executor.shutdownNow();
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneQueryWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		executor.execute( () -> Futures.create( () -> work.execute( context ) )
+				.whenComplete( Futures.copyHandler( future ) ) );
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneQueryWork<?>> works) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+		int i = 0;
+		for ( LuceneQueryWork<?> work : works ) {
+			futures[i] = submit( work );
+			++i;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+}
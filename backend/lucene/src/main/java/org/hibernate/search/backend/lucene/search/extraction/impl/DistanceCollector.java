@@ -36,11 +36,13 @@ public class DistanceCollector implements Collector {
 
 	private final String absoluteFieldPath;
 	private final GeoPoint center;
+	private final int hitsCount;
 	private final SpatialResultsCollector distances;
 
 	public DistanceCollector(String absoluteFieldPath, GeoPoint center, int hitsCount) {
 		this.center = center;
 		this.absoluteFieldPath = absoluteFieldPath;
+		this.hitsCount = hitsCount;
 		this.distances = new SpatialResultsCollector( hitsCount );
 	}
 
@@ -48,6 +50,23 @@ public Double getDistance(final int index) {
 		return distances.get( index, center );
 	}
 
+	/**
+	 * @return A new collector for the same field and center, to collect a slice of the index in parallel.
+	 */
+	DistanceCollector createSliceCollector() {
+		return new DistanceCollector( absoluteFieldPath, center, hitsCount );
+	}
+
+	/**
+	 * Append the hits collected by a slice collector to this collector.
+	 *
+	 * @param sliceCollector A collector created by {@link #createSliceCollector()},
+	 * that collected documents located after the documents collected by this collector.
+	 */
+	void merge(DistanceCollector sliceCollector) {
+		distances.orderedEntries.addAll( sliceCollector.distances.orderedEntries );
+	}
+
 	@Override
 	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
 		return new DistanceLeafCollector( context );
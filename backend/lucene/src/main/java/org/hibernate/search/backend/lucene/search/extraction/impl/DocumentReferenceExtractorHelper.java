@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import org.apache.lucene.index.DocValuesType;
 import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.engine.search.DocumentReference;
@@ -20,8 +21,8 @@ public static void contributeCollectors(LuceneCollectorsBuilder luceneCollectorB
 	}
 
 	public static void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( LuceneFields.indexFieldName() );
-		builder.add( LuceneFields.idFieldName() );
+		builder.addDocValues( LuceneFields.indexFieldName(), DocValuesType.SORTED );
+		builder.addDocValues( LuceneFields.idFieldName(), DocValuesType.SORTED );
 	}
 
 	public static DocumentReference extractDocumentReference(LuceneResult documentResult) {
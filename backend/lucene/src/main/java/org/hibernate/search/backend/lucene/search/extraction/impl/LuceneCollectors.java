@@ -6,44 +6,275 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.engine.spatial.GeoPoint;
 
+/**
+ * The collectors required by a query, and their results once the query has been executed.
+ * <p>
+ * Collectors are created through a {@link CollectorManager}, so that searchers splitting segments into slices
+ * get one set of collectors per slice. Per-slice results are merged in slice order:
+ * total hit counts are summed, top docs are merged according to the sort,
+ * and distances are appended to the {@link DistanceCollector}s exposed to projections
+ * through {@link #getDistanceCollector(String, GeoPoint)}.
+ * <p>
+ * When the total hit count need not be exact, hits are not counted separately:
+ * the count of the top docs collector is used instead, which allows it to stop collecting early
+ * in segments whose index sort matches the query sort.
+ * The total hit count is then an estimate.
+ * <p>
+ * When a {@link LuceneTimeLimit time limit} is set, collection stops as soon as it is exceeded,
+ * and the total hit count and top docs only account for the hits collected until then.
+ */
 public class LuceneCollectors {
 
-	private final TopDocsCollector<?> topDocsCollector;
+	private final Sort sort;
+
+	private final int maxDocs;
+
+	private final ScoreDoc after;
+
+	private final boolean exactTotalHitsRequired;
+
+	private final LuceneTimeLimit timeLimit;
+
+	private final boolean topDocsRequired;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final Map<DistanceCollectorKey, DistanceCollector> distanceCollectorsByKey;
 
-	private final Collector compositeCollector;
+	private final List<DistanceCollector> distanceCollectors;
+
+	private boolean distanceCollectorsAssigned = false;
+
+	private final List<SliceCollector> sliceCollectors = new ArrayList<>();
+
+	LuceneCollectors(Sort sort, int maxDocs, ScoreDoc after, boolean exactTotalHitsRequired, LuceneTimeLimit timeLimit,
+			boolean topDocsRequired, Map<DistanceCollectorKey, DistanceCollector> distanceCollectorsByKey) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.exactTotalHitsRequired = exactTotalHitsRequired;
+		this.timeLimit = timeLimit;
+		this.topDocsRequired = topDocsRequired;
+		this.distanceCollectorsByKey = distanceCollectorsByKey;
+		this.distanceCollectors = new ArrayList<>( distanceCollectorsByKey.values() );
+	}
+
+	public void search(IndexSearcher indexSearcher, Query luceneQuery) throws IOException {
+		indexSearcher.search( luceneQuery, new CollectorManager<SliceCollector, Void>() {
+			@Override
+			public SliceCollector newCollector() {
+				return createSliceCollector();
+			}
+
+			@Override
+			public Void reduce(Collection<SliceCollector> collectors) {
+				// Collectors are given in slice order, i.e. in doc ID order
+				sliceCollectors.addAll( collectors );
+				for ( int i = 1; i < sliceCollectors.size(); i++ ) {
+					List<DistanceCollector> sliceDistanceCollectors = sliceCollectors.get( i ).distanceCollectors;
+					for ( int j = 0; j < distanceCollectors.size(); j++ ) {
+						distanceCollectors.get( j ).merge( sliceDistanceCollectors.get( j ) );
+					}
+				}
+				return null;
+			}
+		} );
+	}
 
-	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector) {
-		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = totalHitCountCollector;
-		this.compositeCollector = compositeCollector;
+	/**
+	 * @param absoluteFieldPath The absolute path of the geo-point field.
+	 * @param center The point distances were computed from.
+	 * @return The collector holding the distances of the hits, once the search has been executed.
+	 * @see LuceneCollectorsBuilder#addDistanceCollector(String, GeoPoint)
+	 */
+	public DistanceCollector getDistanceCollector(String absoluteFieldPath, GeoPoint center) {
+		return distanceCollectorsByKey.get( new DistanceCollectorKey( absoluteFieldPath, center ) );
+	}
+
+	public boolean isTopDocsRequired() {
+		return topDocsRequired;
 	}
 
 	public long getTotalHits() {
-		return totalHitCountCollector.getTotalHits();
+		long totalHits = 0L;
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			totalHits += sliceCollector.getTotalHits();
+		}
+		return totalHits;
 	}
 
 	public TopDocs getTopDocs(long firstResultIndex, Long maxResultsCount) {
-		if ( topDocsCollector == null ) {
+		if ( !topDocsRequired ) {
 			return null;
 		}
 
-		if ( maxResultsCount == null ) {
-			return topDocsCollector.topDocs( (int) firstResultIndex );
+		if ( sliceCollectors.size() == 1 ) {
+			TopDocsCollector<?> topDocsCollector = sliceCollectors.get( 0 ).topDocsCollector;
+			if ( maxResultsCount == null ) {
+				return topDocsCollector.topDocs( (int) firstResultIndex );
+			}
+			else {
+				return topDocsCollector.topDocs( (int) firstResultIndex, maxResultsCount.intValue() );
+			}
+		}
+
+		int start = (int) firstResultIndex;
+		int size = maxResultsCount == null ? Math.max( 0, maxDocs - start ) : maxResultsCount.intValue();
+		if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[sliceCollectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = sliceCollectors.get( i ).topDocsCollector.topDocs();
+			}
+			return TopDocs.merge( start, size, sliceTopDocs, true );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[sliceCollectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = (TopFieldDocs) sliceCollectors.get( i ).topDocsCollector.topDocs();
+			}
+			return TopDocs.merge( sort, start, size, sliceTopDocs, true );
+		}
+	}
+
+	private SliceCollector createSliceCollector() {
+		TopDocsCollector<?> topDocsCollector = topDocsRequired
+				? createTopDocsCollector( sort, maxDocs, after, exactTotalHitsRequired )
+				: null;
+		// Without top docs, counting is the whole point of the query
+		TotalHitCountCollector totalHitCountCollector = exactTotalHitsRequired || topDocsCollector == null
+				? new TotalHitCountCollector()
+				: null;
+
+		List<DistanceCollector> sliceDistanceCollectors;
+		if ( !distanceCollectorsAssigned ) {
+			// The first slice, or the only one when searching sequentially, collects distances directly
+			sliceDistanceCollectors = distanceCollectors;
+		}
+		else {
+			sliceDistanceCollectors = new ArrayList<>( distanceCollectors.size() );
+			for ( DistanceCollector distanceCollector : distanceCollectors ) {
+				sliceDistanceCollectors.add( distanceCollector.createSliceCollector() );
+			}
+		}
+		distanceCollectorsAssigned = true;
+
+		return new SliceCollector( totalHitCountCollector, topDocsCollector, sliceDistanceCollectors, timeLimit );
+	}
+
+	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs, ScoreDoc after,
+			boolean exactTotalHitsRequired) {
+		TopDocsCollector<?> topDocsCollector;
+		if ( sort == null ) {
+			topDocsCollector = TopScoreDocCollector.create( maxDocs, after );
 		}
 		else {
-			return topDocsCollector.topDocs( (int) firstResultIndex, maxResultsCount.intValue() );
+			topDocsCollector = TopFieldCollector.create(
+					sort,
+					maxDocs,
+					(FieldDoc) after,
+					true,
+					true,
+					// Lucene only terminates collection early if neither the max score nor the total hits are tracked
+					exactTotalHitsRequired,
+					exactTotalHitsRequired
+			);
 		}
+		return topDocsCollector;
 	}
 
-	public Collector getCompositeCollector() {
-		return compositeCollector;
+	private static final class SliceCollector implements Collector {
+
+		private final TotalHitCountCollector totalHitCountCollector;
+
+		private final TopDocsCollector<?> topDocsCollector;
+
+		private final List<DistanceCollector> distanceCollectors;
+
+		private final Collector compositeCollector;
+
+		private SliceCollector(TotalHitCountCollector totalHitCountCollector, TopDocsCollector<?> topDocsCollector,
+				List<DistanceCollector> distanceCollectors, LuceneTimeLimit timeLimit) {
+			this.totalHitCountCollector = totalHitCountCollector;
+			this.topDocsCollector = topDocsCollector;
+			this.distanceCollectors = distanceCollectors;
+
+			List<Collector> collectors = new ArrayList<>();
+			if ( totalHitCountCollector != null ) {
+				collectors.add( totalHitCountCollector );
+			}
+			if ( topDocsCollector != null ) {
+				collectors.add( topDocsCollector );
+			}
+			collectors.addAll( distanceCollectors );
+			Collector compositeCollector = collectors.size() == 1 ? collectors.get( 0 ) : MultiCollector.wrap( collectors );
+			// Wrap the composite collector, so that reaching the time limit stops every collector at once
+			this.compositeCollector = timeLimit == null ? compositeCollector : timeLimit.wrap( compositeCollector );
+		}
+
+		int getTotalHits() {
+			return totalHitCountCollector != null ? totalHitCountCollector.getTotalHits() : topDocsCollector.getTotalHits();
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			return compositeCollector.getLeafCollector( context );
+		}
+
+		@Override
+		public boolean needsScores() {
+			return compositeCollector.needsScores();
+		}
+	}
+
+	static final class DistanceCollectorKey {
+
+		private final String absoluteFieldPath;
+
+		private final GeoPoint center;
+
+		DistanceCollectorKey(String absoluteFieldPath, GeoPoint center) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.center = center;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DistanceCollectorKey other = (DistanceCollectorKey) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath ) && center.equals( other.center );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( absoluteFieldPath, center );
+		}
 	}
 }
@@ -6,83 +6,74 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors.DistanceCollectorKey;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
 public class LuceneCollectorsBuilder {
 
-	private Sort sort;
+	private final Sort sort;
 
-	private int maxDocs;
+	private final int maxDocs;
 
-	private TopDocsCollector<?> topDocsCollector;
+	private final ScoreDoc after;
 
-	private TotalHitCountCollector totalHitCountCollector;
+	private final boolean exactTotalHitsRequired;
 
-	private List<Collector> luceneCollectors = new ArrayList<>();
+	private final LuceneTimeLimit timeLimit;
 
-	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+	private boolean topDocsRequired = false;
+
+	private final Map<DistanceCollectorKey, DistanceCollector> distanceCollectors = new LinkedHashMap<>();
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top documents to collect.
+	 * @param after The last hit of the previous page, if any:
+	 * only hits sorted after this one will be collected.
+	 * Must be a {@link FieldDoc} if {@code sort} is not {@code null}.
+	 * @param exactTotalHitsRequired Whether the total hit count must be exact.
+	 * If not, and if top documents are required, collection may stop early in segments sorted the same way as the query.
+	 * @param timeLimit The limit on the time spent collecting hits, or {@code null} for no limit.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after, boolean exactTotalHitsRequired,
+			LuceneTimeLimit timeLimit) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
-
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.add( this.totalHitCountCollector );
+		this.after = after;
+		this.exactTotalHitsRequired = exactTotalHitsRequired;
+		this.timeLimit = timeLimit;
 	}
 
 	public void requireTopDocsCollector() {
 		if ( maxDocs > 0 ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
-			luceneCollectors.add( topDocsCollector );
+			topDocsRequired = true;
 		}
 	}
 
-	public void addCollector(Collector collector) {
-		luceneCollectors.add( collector );
-	}
-
-	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
-		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, maxDocs );
-		luceneCollectors.add( distanceCollector );
-		return distanceCollector;
+	/**
+	 * Require distances to the given center to be collected for each hit.
+	 * <p>
+	 * Collected distances are retrieved after the search through
+	 * {@link LuceneCollectors#getDistanceCollector(String, GeoPoint)}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the geo-point field.
+	 * @param center The point to compute distances from.
+	 */
+	public void addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
+		distanceCollectors.computeIfAbsent(
+				new DistanceCollectorKey( absoluteFieldPath, center ),
+				ignored -> new DistanceCollector( absoluteFieldPath, center, maxDocs )
+		);
 	}
 
 	public LuceneCollectors build() {
-		Collector compositeCollector;
-
-		if ( luceneCollectors.size() == 1 ) {
-			compositeCollector = luceneCollectors.get( 0 );
-		}
-		else {
-			compositeCollector = MultiCollector.wrap( luceneCollectors );
-		}
-
-		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
-	}
-
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
-		TopDocsCollector<?> topDocsCollector;
-		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
-		}
-		else {
-			topDocsCollector = TopFieldCollector.create(
-					sort,
-					maxDocs,
-					true,
-					true,
-					true,
-					true
-			);
-		}
-		return topDocsCollector;
+		return new LuceneCollectors( sort, maxDocs, after, exactTotalHitsRequired, timeLimit, topDocsRequired,
+				distanceCollectors );
 	}
 }
@@ -7,13 +7,22 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.lucene.index.DocValuesType;
+
 public class LuceneDocumentStoredFieldVisitorBuilder {
 
 	private boolean entireDocumentRequired = false;
 	private Set<String> explicitlyRequired = new HashSet<>();
+	private Set<String> storedValuesRequired = new LinkedHashSet<>();
+	private Map<String, DocValuesType> docValuesRequired = new LinkedHashMap<>();
 
 	public void addEntireDocument() {
 		entireDocumentRequired = true;
@@ -32,13 +41,73 @@ public void addAll(Collection<String> absoluteFieldPaths) {
 		}
 	}
 
-	public ReusableDocumentStoredFieldVisitor build() {
+	/**
+	 * Require the raw value of a stored field to be loaded, without materializing a Lucene document.
+	 * <p>
+	 * The value will be available through {@link LuceneResult#getValue(String)}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 */
+	public void addStoredValue(String absoluteFieldPath) {
+		storedValuesRequired.add( absoluteFieldPath );
+	}
+
+	/**
+	 * Require a field to be loaded from doc values rather than from stored fields.
+	 * <p>
+	 * The field must also be stored, so that it can be loaded from segments that do not have the doc values.
+	 * The value will be available through {@link LuceneResult#getValue(String)}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param docValuesType The type of doc values holding the value of the field.
+	 */
+	public void addDocValues(String absoluteFieldPath, DocValuesType docValuesType) {
+		docValuesRequired.put( absoluteFieldPath, docValuesType );
+	}
+
+	/**
+	 * @return A new loader, along with new visitors: the result must not be shared between concurrent executions.
+	 */
+	public LuceneResultLoader build() {
+		Map<String, Integer> slots = new HashMap<>();
+		for ( String absoluteFieldPath : storedValuesRequired ) {
+			slots.putIfAbsent( absoluteFieldPath, slots.size() );
+		}
+		for ( String absoluteFieldPath : docValuesRequired.keySet() ) {
+			slots.putIfAbsent( absoluteFieldPath, slots.size() );
+		}
+
+		ReusableDocumentStoredFieldVisitor documentVisitor;
 		if ( entireDocumentRequired ) {
-			return new ReusableDocumentStoredFieldVisitor();
+			documentVisitor = new ReusableDocumentStoredFieldVisitor();
+		}
+		else if ( !explicitlyRequired.isEmpty() ) {
+			documentVisitor = new ReusableDocumentStoredFieldVisitor( explicitlyRequired );
 		}
 		else {
-			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired );
+			documentVisitor = null;
+		}
+
+		SlotStoredFieldVisitor fallbackVisitor = createVisitor( slots, documentVisitor );
+
+		if ( entireDocumentRequired || docValuesRequired.isEmpty() ) {
+			// Stored fields will be loaded anyway: don't bother reading doc values
+			return new LuceneResultLoader( slots, fallbackVisitor, fallbackVisitor, Collections.emptyMap() );
+		}
+
+		Map<String, Integer> storedValueSlots = new HashMap<>( slots );
+		storedValueSlots.keySet().removeAll( docValuesRequired.keySet() );
+		SlotStoredFieldVisitor visitor = createVisitor( storedValueSlots, documentVisitor );
+
+		return new LuceneResultLoader( slots, visitor, fallbackVisitor, docValuesRequired );
+	}
+
+	private static SlotStoredFieldVisitor createVisitor(Map<String, Integer> slots,
+			ReusableDocumentStoredFieldVisitor documentVisitor) {
+		if ( slots.isEmpty() && documentVisitor == null ) {
+			return null;
 		}
+		return new SlotStoredFieldVisitor( slots, documentVisitor );
 	}
 
 }
@@ -6,26 +6,70 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.util.Map;
+
 import org.apache.lucene.document.Document;
 
 public class LuceneResult {
 
 	private final Document document;
 
+	private final Map<String, Integer> slots;
+
+	private final Object[] values;
+
+	private final int offset;
+
+	private final boolean docValuesLoaded;
+
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	public LuceneResult(Document document, Map<String, Integer> slots, Object[] values, int offset,
+			boolean docValuesLoaded, int docId, float score) {
 		this.document = document;
+		this.slots = slots;
+		this.values = values;
+		this.offset = offset;
+		this.docValuesLoaded = docValuesLoaded;
 		this.docId = docId;
 		this.score = score;
 	}
 
 	public String getStringValue(String fieldName) {
-		return document.get( fieldName );
+		Integer slot = slots.get( fieldName );
+		if ( slot != null ) {
+			return (String) values[offset + slot];
+		}
+		return document == null ? null : document.get( fieldName );
+	}
+
+	/**
+	 * @param fieldName The absolute path of a field
+	 * required through {@link LuceneDocumentStoredFieldVisitorBuilder#addStoredValue(String)}
+	 * or {@link LuceneDocumentStoredFieldVisitorBuilder#addDocValues(String, org.apache.lucene.index.DocValuesType)}.
+	 * @return The raw value of this field, or {@code null} if the document has no value for this field.
+	 * @see #isDocValuesLoaded()
+	 */
+	public Object getValue(String fieldName) {
+		return values[offset + slots.get( fieldName )];
+	}
+
+	/**
+	 * @return {@code true} if the values of fields required through
+	 * {@link LuceneDocumentStoredFieldVisitorBuilder#addDocValues(String, org.apache.lucene.index.DocValuesType)}
+	 * were loaded from doc values, {@code false} if they were loaded from stored fields.
+	 */
+	public boolean isDocValuesLoaded() {
+		return docValuesLoaded;
 	}
 
+	/**
+	 * @return The Lucene document, populated with the fields required through
+	 * {@link LuceneDocumentStoredFieldVisitorBuilder#add(String)} and similar methods,
+	 * or {@code null} if no such field was required.
+	 */
 	public Document getDocument() {
 		return document;
 	}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.hibernate.search.util.AssertionFailure;
+
+/**
+ * Loads the stored fields and doc values required by projections for each top hit.
+ * <p>
+ * Values are decoded straight into a single array allocated for the whole page,
+ * each field having its own slot for each hit: no Lucene {@link Document} is materialized
+ * unless some projection requires one.
+ * <p>
+ * Hits are visited in doc ID order, leaf by leaf, so that doc values iterators only ever move forward
+ * and consecutive stored fields reads are likely to hit the same compressed block.
+ * <p>
+ * Segments written before a field started being indexed with doc values are handled transparently:
+ * every field is loaded from stored fields for those segments.
+ * <p>
+ * A LuceneResultLoader is NOT threadsafe, since it relies on {@link SlotStoredFieldVisitor}s:
+ * a new one must be {@link LuceneDocumentStoredFieldVisitorBuilder#build() built} for each execution of a query.
+ */
+public final class LuceneResultLoader {
+
+	private final int slotCount;
+	private final SlotStoredFieldVisitor storedFieldVisitor;
+	private final SlotStoredFieldVisitor fallbackStoredFieldVisitor;
+	private final Map<String, Integer> slots;
+	private final String[] docValuesFieldPaths;
+	private final DocValuesType[] docValuesTypes;
+	private final int[] docValuesSlots;
+
+	/**
+	 * @param slots The slot of each field whose value should be loaded, relative to the offset of each hit.
+	 * @param storedFieldVisitor The visitor to use when all doc values are available in a segment,
+	 * or {@code null} if stored fields need not be loaded in that case.
+	 * @param fallbackStoredFieldVisitor The visitor to use when some doc values are not available in a segment,
+	 * or {@code null} if stored fields need not be loaded in that case.
+	 * @param docValuesFields The fields to load from doc values, along with the expected type of doc values.
+	 */
+	LuceneResultLoader(Map<String, Integer> slots,
+			SlotStoredFieldVisitor storedFieldVisitor,
+			SlotStoredFieldVisitor fallbackStoredFieldVisitor,
+			Map<String, DocValuesType> docValuesFields) {
+		this.slotCount = slots.size();
+		this.slots = slots;
+		this.storedFieldVisitor = storedFieldVisitor;
+		this.fallbackStoredFieldVisitor = fallbackStoredFieldVisitor;
+		this.docValuesFieldPaths = new String[docValuesFields.size()];
+		this.docValuesTypes = new DocValuesType[docValuesFields.size()];
+		this.docValuesSlots = new int[docValuesFields.size()];
+		int i = 0;
+		for ( Map.Entry<String, DocValuesType> entry : docValuesFields.entrySet() ) {
+			docValuesFieldPaths[i] = entry.getKey();
+			docValuesTypes[i] = entry.getValue();
+			docValuesSlots[i] = slots.get( entry.getKey() );
+			++i;
+		}
+	}
+
+	/**
+	 * @param indexSearcher The searcher that produced the hits.
+	 * @param hits The hits to load.
+	 * @return The loaded results, in the same order as {@code hits}.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public LuceneResult[] load(IndexSearcher indexSearcher, ScoreDoc[] hits) throws IOException {
+		LuceneResult[] results = new LuceneResult[hits.length];
+		if ( hits.length == 0 ) {
+			return results;
+		}
+
+		Integer[] hitIndexesInDocIdOrder = new Integer[hits.length];
+		for ( int i = 0; i < hits.length; i++ ) {
+			hitIndexesInDocIdOrder[i] = i;
+		}
+		Arrays.sort( hitIndexesInDocIdOrder, (i1, i2) -> Integer.compare( hits[i1].doc, hits[i2].doc ) );
+
+		// A single array holds the values of every hit in the page
+		Object[] values = new Object[hits.length * slotCount];
+
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+		LeafReaderContext leaf = null;
+		LeafDocValues leafDocValues = null;
+		for ( Integer hitIndex : hitIndexesInDocIdOrder ) {
+			ScoreDoc hit = hits[hitIndex];
+			if ( leaf == null || hit.doc >= leaf.docBase + leaf.reader().maxDoc() ) {
+				leaf = leaves.get( ReaderUtil.subIndex( hit.doc, leaves ) );
+				leafDocValues = openDocValues( leaf.reader() );
+			}
+			int leafDocId = hit.doc - leaf.docBase;
+			int offset = hitIndex * slotCount;
+
+			boolean docValuesLoaded;
+			SlotStoredFieldVisitor visitor;
+			if ( leafDocValues != null ) {
+				leafDocValues.read( leafDocId, values, offset );
+				docValuesLoaded = true;
+				visitor = storedFieldVisitor;
+			}
+			else {
+				docValuesLoaded = false;
+				visitor = fallbackStoredFieldVisitor;
+			}
+
+			Document document = null;
+			if ( visitor != null ) {
+				visitor.reset( values, offset );
+				leaf.reader().document( leafDocId, visitor );
+				document = visitor.getDocumentAndReset();
+			}
+
+			results[hitIndex] = new LuceneResult( document, slots, values, offset, docValuesLoaded, hit.doc, hit.score );
+		}
+
+		return results;
+	}
+
+	/**
+	 * @return The doc values to read for the given leaf,
+	 * or {@code null} if some of them are missing and stored fields should be used instead.
+	 */
+	private LeafDocValues openDocValues(LeafReader reader) throws IOException {
+		NumericDocValues[] numericDocValues = new NumericDocValues[docValuesFieldPaths.length];
+		SortedDocValues[] sortedDocValues = new SortedDocValues[docValuesFieldPaths.length];
+		for ( int i = 0; i < docValuesFieldPaths.length; i++ ) {
+			String absoluteFieldPath = docValuesFieldPaths[i];
+			FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo( absoluteFieldPath );
+			if ( fieldInfo == null ) {
+				// The field does not appear in this segment at all: there is no value to load
+				continue;
+			}
+			if ( fieldInfo.getDocValuesType() != docValuesTypes[i] ) {
+				// The segment was written before doc values were enabled for this field
+				return null;
+			}
+			switch ( docValuesTypes[i] ) {
+				case NUMERIC:
+					numericDocValues[i] = reader.getNumericDocValues( absoluteFieldPath );
+					break;
+				case SORTED:
+					sortedDocValues[i] = reader.getSortedDocValues( absoluteFieldPath );
+					break;
+				default:
+					throw new AssertionFailure( "Unexpected doc values type for projections: " + docValuesTypes[i] );
+			}
+		}
+		return new LeafDocValues( numericDocValues, sortedDocValues );
+	}
+
+	private final class LeafDocValues {
+
+		private final NumericDocValues[] numericDocValues;
+		private final SortedDocValues[] sortedDocValues;
+
+		private LeafDocValues(NumericDocValues[] numericDocValues, SortedDocValues[] sortedDocValues) {
+			this.numericDocValues = numericDocValues;
+			this.sortedDocValues = sortedDocValues;
+		}
+
+		void read(int leafDocId, Object[] values, int offset) throws IOException {
+			for ( int i = 0; i < docValuesFieldPaths.length; i++ ) {
+				NumericDocValues numeric = numericDocValues[i];
+				SortedDocValues sorted = sortedDocValues[i];
+				if ( numeric != null && numeric.advanceExact( leafDocId ) ) {
+					values[offset + docValuesSlots[i]] = numeric.longValue();
+				}
+				else if ( sorted != null && sorted.advanceExact( leafDocId ) ) {
+					values[offset + docValuesSlots[i]] = sorted.binaryValue().utf8ToString();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+
+/**
+ * A limit on the time spent executing a query, shared by the collectors of every slice.
+ * <p>
+ * The limit starts when the query starts executing, so that the time spent opening the reader
+ * and rewriting the query counts towards the limit, but it is only checked while collecting hits.
+ * <p>
+ * Similar to Lucene's {@code TimeLimitingCollector}, except collection is stopped
+ * by throwing a {@link CollectionTerminatedException} instead of failing the search:
+ * the searcher then skips the remaining segments, and the collectors are left with partial results.
+ * It is up to the caller to check whether the limit was {@link #isExceeded() exceeded},
+ * and to either fail or return the partial results.
+ */
+public final class LuceneTimeLimit {
+
+	private final long timeoutInNanos;
+	private final long deadline;
+
+	private volatile boolean exceeded = false;
+
+	/**
+	 * @param timeoutInNanos The maximum time to spend executing the query, starting from now, in nanoseconds.
+	 */
+	public LuceneTimeLimit(long timeoutInNanos) {
+		this.timeoutInNanos = timeoutInNanos;
+		this.deadline = System.nanoTime() + timeoutInNanos;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "timeoutInNanos=" ).append( timeoutInNanos ).append( ", " )
+				.append( "exceeded=" ).append( exceeded )
+				.append( "]" )
+				.toString();
+	}
+
+	public long getTimeoutInNanos() {
+		return timeoutInNanos;
+	}
+
+	/**
+	 * @return {@code true} if collection was stopped because the limit was exceeded, {@code false} otherwise.
+	 */
+	public boolean isExceeded() {
+		return exceeded;
+	}
+
+	public Collector wrap(Collector collector) {
+		return new TimeLimitedCollector( collector );
+	}
+
+	private void check() {
+		if ( exceeded ) {
+			throw new CollectionTerminatedException();
+		}
+		// Compare the difference rather than the values, since nanoTime may overflow
+		if ( System.nanoTime() - deadline > 0 ) {
+			exceeded = true;
+			throw new CollectionTerminatedException();
+		}
+	}
+
+	private final class TimeLimitedCollector extends FilterCollector {
+
+		private TimeLimitedCollector(Collector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			// Skip the remaining segments entirely once the limit is exceeded
+			check();
+			return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					check();
+					super.collect( doc );
+				}
+			};
+		}
+	}
+}
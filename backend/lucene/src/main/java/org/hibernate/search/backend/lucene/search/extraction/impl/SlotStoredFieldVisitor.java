@@ -0,0 +1,152 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.StoredFieldVisitor;
+
+/**
+ * A stored field visitor that writes the raw value of each required field straight into its slot
+ * in a value array shared by all the hits of a page, without materializing a {@link Document}.
+ * <p>
+ * Only the first value of each field is kept, consistently with {@link Document#get(String)}.
+ * Fields that must be exposed as a {@link Document} (entire document projections, multi-field codecs, native fields)
+ * are delegated to a {@link ReusableDocumentStoredFieldVisitor}.
+ * <p>
+ * A SlotStoredFieldVisitor is NOT threadsafe.
+ */
+final class SlotStoredFieldVisitor extends StoredFieldVisitor {
+
+	private final Map<String, Integer> slots;
+	private final ReusableDocumentStoredFieldVisitor documentVisitor;
+
+	private Object[] values;
+	private int offset;
+	private int missingSlots;
+
+	private int currentSlot = -1;
+	private boolean currentFieldToDocument = false;
+
+	/**
+	 * @param slots The slot of each field to load, relative to the offset of each hit in the value array.
+	 * @param documentVisitor The visitor to delegate to for fields that must be exposed as a {@link Document},
+	 * or {@code null} if no such field is required.
+	 */
+	SlotStoredFieldVisitor(Map<String, Integer> slots, ReusableDocumentStoredFieldVisitor documentVisitor) {
+		this.slots = slots;
+		this.documentVisitor = documentVisitor;
+	}
+
+	/**
+	 * Prepare this visitor for the next document.
+	 *
+	 * @param values The value array to write to.
+	 * @param offset The offset of the next document in the value array.
+	 */
+	void reset(Object[] values, int offset) {
+		this.values = values;
+		this.offset = offset;
+		this.missingSlots = slots.size();
+	}
+
+	/**
+	 * @return The document populated with the fields delegated to the document visitor,
+	 * or {@code null} if there is no such field.
+	 */
+	Document getDocumentAndReset() {
+		return documentVisitor == null ? null : documentVisitor.getDocumentAndReset();
+	}
+
+	@Override
+	public Status needsField(FieldInfo fieldInfo) throws IOException {
+		Status documentStatus = documentVisitor == null ? Status.STOP : documentVisitor.needsField( fieldInfo );
+		currentFieldToDocument = documentStatus == Status.YES;
+
+		currentSlot = -1;
+		Integer slot = slots.get( fieldInfo.name );
+		if ( slot != null && values[offset + slot] == null ) {
+			currentSlot = offset + slot;
+			missingSlots--;
+		}
+
+		if ( currentSlot >= 0 || currentFieldToDocument ) {
+			return Status.YES;
+		}
+		else if ( missingSlots == 0 && documentStatus == Status.STOP ) {
+			// An aggressive STOP could prevent unnecessary I/O !
+			return Status.STOP;
+		}
+		else {
+			return Status.NO;
+		}
+	}
+
+	@Override
+	public void binaryField(FieldInfo fieldInfo, byte[] value) throws IOException {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = value;
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.binaryField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void stringField(FieldInfo fieldInfo, byte[] value) throws IOException {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = new String( value, StandardCharsets.UTF_8 );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.stringField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void intField(FieldInfo fieldInfo, int value) {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = value;
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.intField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void longField(FieldInfo fieldInfo, long value) {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = value;
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.longField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void floatField(FieldInfo fieldInfo, float value) {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = value;
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.floatField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void doubleField(FieldInfo fieldInfo, double value) {
+		if ( currentSlot >= 0 ) {
+			values[currentSlot] = value;
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.doubleField( fieldInfo, value );
+		}
+	}
+}
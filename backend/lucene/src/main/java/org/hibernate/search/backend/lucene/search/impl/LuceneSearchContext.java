@@ -16,10 +16,13 @@ public final class LuceneSearchContext {
 
 	private final ToDocumentIdentifierValueConvertContext toDocumentIdentifierValueConvertContext;
 	private final ToDocumentFieldValueConvertContext toDocumentFieldValueConvertContext;
+	private final ParentBitSetProducerCache parentBitSetProducerCache;
 
-	public LuceneSearchContext(MappingContextImplementor mappingContext) {
+	public LuceneSearchContext(MappingContextImplementor mappingContext,
+			ParentBitSetProducerCache parentBitSetProducerCache) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
+		this.parentBitSetProducerCache = parentBitSetProducerCache;
 	}
 
 	public ToDocumentIdentifierValueConvertContext getToDocumentIdentifierValueConvertContext() {
@@ -29,4 +32,8 @@ public ToDocumentIdentifierValueConvertContext getToDocumentIdentifierValueConve
 	public ToDocumentFieldValueConvertContext getToDocumentFieldValueConvertContext() {
 		return toDocumentFieldValueConvertContext;
 	}
+
+	public ParentBitSetProducerCache getParentBitSetProducerCache() {
+		return parentBitSetProducerCache;
+	}
 }
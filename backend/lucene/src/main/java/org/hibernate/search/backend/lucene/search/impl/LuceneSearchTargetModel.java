@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -28,14 +29,20 @@ public class LuceneSearchTargetModel {
 
 	private final Set<LuceneIndexModel> indexModels;
 	private final Set<String> indexNames;
-	private final Set<ReaderProvider> readerProviders;
-
-	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
+	private final BiFunction<String, Set<String>, Set<ReaderProvider>> readerProviderSelector;
+
+	/**
+	 * @param indexModels The models of the targeted indexes.
+	 * @param readerProviderSelector A function returning the reader providers of the shards to target
+	 * for a given tenant identifier and set of routing keys, or of all shards if the set is empty.
+	 */
+	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels,
+			BiFunction<String, Set<String>, Set<ReaderProvider>> readerProviderSelector) {
 		this.indexModels = indexModels;
 		this.indexNames = indexModels.stream()
 				.map( LuceneIndexModel::getIndexName )
 				.collect( Collectors.toSet() );
-		this.readerProviders = readerProviders;
+		this.readerProviderSelector = readerProviderSelector;
 	}
 
 	public Set<String> getIndexNames() {
@@ -50,8 +57,8 @@ public Set<LuceneIndexModel> getIndexModels() {
 		return indexModels;
 	}
 
-	public Set<ReaderProvider> getReaderProviders() {
-		return readerProviders;
+	public Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys) {
+		return readerProviderSelector.apply( tenantId, routingKeys );
 	}
 
 	public ToDocumentIdentifierValueConverter<?> getIdDslConverter() {
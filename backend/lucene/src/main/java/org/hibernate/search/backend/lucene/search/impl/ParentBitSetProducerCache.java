@@ -0,0 +1,146 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A cache of the {@link BitSetProducer}s identifying parent documents in block joins,
+ * shared by all the indexes of a backend.
+ * <p>
+ * There is one producer for each nesting path, and each producer computes the parent bitset of a segment
+ * at most once: bitsets are kept as long as the segment is open, and evicted as soon as its core is closed.
+ * Since a segment belongs to exactly one index, this is effectively a per-index cache.
+ */
+public final class ParentBitSetProducerCache {
+
+	private final CachingBitSetProducer mainDocumentProducer =
+			new CachingBitSetProducer( LuceneQueries.mainDocumentQuery() );
+	private final ConcurrentMap<String, CachingBitSetProducer> nestedDocumentProducers = new ConcurrentHashMap<>();
+
+	/**
+	 * @param nestedPath The absolute path of the nested document acting as parent,
+	 * or {@code null} if the parent is the main document.
+	 * @return A producer of parent bitsets for the given path.
+	 */
+	public BitSetProducer get(String nestedPath) {
+		if ( nestedPath == null ) {
+			return mainDocumentProducer;
+		}
+		return nestedDocumentProducers.computeIfAbsent(
+				nestedPath, path -> new CachingBitSetProducer( LuceneQueries.nestedDocumentPathQuery( path ) )
+		);
+	}
+
+	static final class CachingBitSetProducer implements BitSetProducer {
+
+		private final Query parentQuery;
+		private final ConcurrentMap<IndexReader.CacheKey, DocIdSet> cache = new ConcurrentHashMap<>();
+
+		private CachingBitSetProducer(Query parentQuery) {
+			this.parentQuery = parentQuery;
+		}
+
+		@Override
+		public String toString() {
+			return new StringBuilder( getClass().getSimpleName() )
+					.append( "[" )
+					.append( "parentQuery=" ).append( parentQuery )
+					.append( "]" )
+					.toString();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			CachingBitSetProducer other = (CachingBitSetProducer) obj;
+			return parentQuery.equals( other.parentQuery );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * getClass().hashCode() + parentQuery.hashCode();
+		}
+
+		@Override
+		public BitSet getBitSet(LeafReaderContext context) throws IOException {
+			IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+			if ( cacheHelper == null ) {
+				// This segment cannot be cached
+				return toBitSet( compute( context ) );
+			}
+
+			IndexReader.CacheKey key = cacheHelper.getKey();
+			DocIdSet docIdSet = cache.get( key );
+			if ( docIdSet == null ) {
+				// Compute the bitset and register the eviction listener at most once per segment
+				try {
+					docIdSet = cache.computeIfAbsent( key, ignored -> {
+						DocIdSet computed = computeUnchecked( context );
+						cacheHelper.addClosedListener( cache::remove );
+						return computed;
+					} );
+				}
+				catch (UncheckedIOException e) {
+					throw e.getCause();
+				}
+			}
+			return toBitSet( docIdSet );
+		}
+
+		int getCachedSegmentCount() {
+			return cache.size();
+		}
+
+		private DocIdSet computeUnchecked(LeafReaderContext context) {
+			try {
+				return compute( context );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		private DocIdSet compute(LeafReaderContext context) throws IOException {
+			IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+			IndexSearcher searcher = new IndexSearcher( topLevelContext );
+			// The bitset is cached already, no need to also cache the parent query
+			searcher.setQueryCache( null );
+			Weight weight = searcher.createNormalizedWeight( parentQuery, false );
+			Scorer scorer = weight.scorer( context );
+			if ( scorer == null ) {
+				return DocIdSet.EMPTY;
+			}
+			return new BitDocIdSet( BitSet.of( scorer.iterator(), context.reader().maxDoc() ) );
+		}
+
+		private static BitSet toBitSet(DocIdSet docIdSet) {
+			return docIdSet == DocIdSet.EMPTY ? null : ( (BitDocIdSet) docIdSet ).bits();
+		}
+	}
+}
@@ -7,12 +7,13 @@
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.search.predicate.spi.NestedPredicateBuilder;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.join.ToParentBlockJoinQuery;
 
@@ -23,11 +24,13 @@
 class LuceneNestedPredicateBuilder extends AbstractLuceneSearchPredicateBuilder
 		implements NestedPredicateBuilder<LuceneSearchPredicateBuilder> {
 
+	private final LuceneSearchContext searchContext;
 	private final String absoluteFieldPath;
 
 	private LuceneSearchPredicateBuilder nestedBuilder;
 
-	LuceneNestedPredicateBuilder(String absoluteFieldPath) {
+	LuceneNestedPredicateBuilder(LuceneSearchContext searchContext, String absoluteFieldPath) {
+		this.searchContext = searchContext;
 		this.absoluteFieldPath = absoluteFieldPath;
 	}
 
@@ -45,15 +48,10 @@ protected Query doBuild(LuceneSearchPredicateContext context) {
 		childQueryBuilder.add( LuceneQueries.nestedDocumentPathQuery( absoluteFieldPath ), Occur.FILTER );
 		childQueryBuilder.add( nestedBuilder.build( childContext ), Occur.MUST );
 
-		Query parentQuery;
-		if ( context.getNestedPath() == null ) {
-			parentQuery = LuceneQueries.mainDocumentQuery();
-		}
-		else {
-			parentQuery = LuceneQueries.nestedDocumentPathQuery( context.getNestedPath() );
-		}
+		// Parent bitsets are shared between queries, so that they are computed only once per segment
+		BitSetProducer parentFilter = searchContext.getParentBitSetProducerCache().get( context.getNestedPath() );
 
 		// TODO at some point we should have a parameter for the score mode
-		return new ToParentBlockJoinQuery( childQueryBuilder.build(), new QueryBitSetProducer( parentQuery ), ScoreMode.Avg );
+		return new ToParentBlockJoinQuery( childQueryBuilder.build(), parentFilter, ScoreMode.Avg );
 	}
 }
@@ -121,7 +121,7 @@ public SpatialWithinBoundingBoxPredicateBuilder<LuceneSearchPredicateBuilder> sp
 	@Override
 	public NestedPredicateBuilder<LuceneSearchPredicateBuilder> nested(String absoluteFieldPath) {
 		searchTargetModel.checkNestedField( absoluteFieldPath );
-		return new LuceneNestedPredicateBuilder( absoluteFieldPath );
+		return new LuceneNestedPredicateBuilder( searchContext, absoluteFieldPath );
 	}
 
 	@Override
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
-import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceCollector;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
@@ -23,8 +22,6 @@ class LuceneDistanceToFieldProjection implements LuceneSearchProjection<Double,
 
 	private final DistanceUnit unit;
 
-	private DistanceCollector distanceCollector;
-
 	LuceneDistanceToFieldProjection(String absoluteFieldPath, GeoPoint center, DistanceUnit unit) {
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.center = center;
@@ -33,18 +30,20 @@ class LuceneDistanceToFieldProjection implements LuceneSearchProjection<Double,
 
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
-		this.distanceCollector = luceneCollectorBuilder.addDistanceCollector( absoluteFieldPath, center );
+		luceneCollectorBuilder.addDistanceCollector( absoluteFieldPath, center );
 	}
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( absoluteFieldPath );
+		// Nothing to contribute: distances are computed from doc values by the distance collector
 	}
 
 	@Override
 	public Double extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return unit.fromMeters( distanceCollector.getDistance( documentResult.getDocId() ) );
+		return unit.fromMeters(
+				context.getDistanceCollector( absoluteFieldPath, center ).getDistance( documentResult.getDocId() )
+		);
 	}
 
 	@Override
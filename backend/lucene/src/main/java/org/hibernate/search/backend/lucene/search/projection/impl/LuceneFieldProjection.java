@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import org.apache.lucene.index.DocValuesType;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
 import org.hibernate.search.engine.backend.document.converter.FromDocumentFieldValueConverter;
 import org.hibernate.search.engine.backend.document.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -21,12 +23,24 @@
 
 	private final LuceneFieldCodec<F> codec;
 
+	/**
+	 * The codec if it is able to decode raw stored values,
+	 * {@code null} if values must be decoded from a Lucene document.
+	 */
+	private final LuceneStandardFieldCodec<F, ?> standardCodec;
+
+	private final DocValuesType docValuesType;
+
 	private final FromDocumentFieldValueConverter<? super F, T> converter;
 
+	@SuppressWarnings("unchecked")
 	LuceneFieldProjection(String absoluteFieldPath, LuceneFieldCodec<F> codec,
 			FromDocumentFieldValueConverter<? super F, T> converter) {
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.codec = codec;
+		this.standardCodec = codec instanceof LuceneStandardFieldCodec ? (LuceneStandardFieldCodec<F, ?>) codec : null;
+		this.docValuesType = standardCodec != null && standardCodec.supportsDocValues()
+				? standardCodec.getDocValuesType() : DocValuesType.NONE;
 		this.converter = converter;
 	}
 
@@ -37,7 +51,13 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		if ( codec.getOverriddenStoredFields().isEmpty() ) {
+		if ( docValuesType != DocValuesType.NONE ) {
+			builder.addDocValues( absoluteFieldPath, docValuesType );
+		}
+		else if ( standardCodec != null ) {
+			builder.addStoredValue( absoluteFieldPath );
+		}
+		else if ( codec.getOverriddenStoredFields().isEmpty() ) {
 			builder.add( absoluteFieldPath );
 		}
 		else {
@@ -49,7 +69,20 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 	@Override
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		if ( standardCodec == null ) {
+			return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		}
+
+		Object value = documentResult.getValue( absoluteFieldPath );
+		if ( value == null ) {
+			return null;
+		}
+		else if ( docValuesType != DocValuesType.NONE && documentResult.isDocValuesLoaded() ) {
+			return standardCodec.decodeDocValue( value );
+		}
+		else {
+			return standardCodec.decodeStoredValue( value );
+		}
 	}
 
 	@Override
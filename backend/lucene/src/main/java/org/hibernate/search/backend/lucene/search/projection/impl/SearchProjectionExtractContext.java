@@ -10,6 +10,9 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
@@ -22,10 +25,13 @@ public class SearchProjectionExtractContext {
 
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
+	private final LuceneCollectors luceneCollectors;
 
-	public SearchProjectionExtractContext(IndexSearcher indexSearcher, Query luceneQuery) {
+	public SearchProjectionExtractContext(IndexSearcher indexSearcher, Query luceneQuery,
+			LuceneCollectors luceneCollectors) {
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
+		this.luceneCollectors = luceneCollectors;
 	}
 
 	public Explanation explain(int docId) {
@@ -36,4 +42,8 @@ public Explanation explain(int docId) {
 			throw log.ioExceptionOnExplain( e );
 		}
 	}
+
+	public DistanceCollector getDistanceCollector(String absoluteFieldPath, GeoPoint center) {
+		return luceneCollectors.getDistanceCollector( absoluteFieldPath, center );
+	}
 }
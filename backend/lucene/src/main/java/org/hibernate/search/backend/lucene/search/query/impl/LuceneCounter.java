@@ -0,0 +1,209 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneTimeLimit;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Counts the hits of a query without collecting them.
+ * <p>
+ * The query is first simplified by dropping the required clauses that match every document,
+ * such as the main document filter when the index holds no nested document,
+ * or the tenant filter when the index holds a single tenant.
+ * When what remains is a single term query or a match-all query,
+ * {@link IndexSearcher#count(Query)} answers from index statistics without visiting postings.
+ * <p>
+ * Other queries are subject to the timeout of the search query, if any,
+ * in which case the count either fails or only accounts for the hits counted before the timeout.
+ */
+public class LuceneCounter implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Set<String> indexNames;
+	private final Supplier<IndexReader> indexReaderOpener;
+	private final IndexSearcherFactory indexSearcherFactory;
+
+	private final Query luceneQuery;
+
+	private final long timeoutInNanos;
+	private final boolean truncateOnTimeout;
+
+	private IndexReader indexReader;
+
+	/**
+	 * @param indexReaderOpener Opens the index reader when counting.
+	 * The reader is closed along with this counter.
+	 */
+	public LuceneCounter(Set<String> indexNames,
+			Supplier<IndexReader> indexReaderOpener,
+			IndexSearcherFactory indexSearcherFactory,
+			Query luceneQuery,
+			long timeoutInNanos, boolean truncateOnTimeout) {
+		this.indexNames = indexNames;
+		this.indexReaderOpener = indexReaderOpener;
+		this.indexSearcherFactory = indexSearcherFactory;
+		this.luceneQuery = luceneQuery;
+		this.timeoutInNanos = timeoutInNanos;
+		this.truncateOnTimeout = truncateOnTimeout;
+	}
+
+	public long count() throws IOException {
+		// The time spent opening the reader and rewriting the query counts towards the timeout, as for searches
+		LuceneTimeLimit timeLimit = timeoutInNanos > 0L ? new LuceneTimeLimit( timeoutInNanos ) : null;
+
+		// Only open the reader now: works may wait in a queue for some time before being executed
+		indexReader = indexReaderOpener.get();
+		if ( indexReader == null ) {
+			return 0L;
+		}
+		IndexSearcher indexSearcher = indexSearcherFactory.createSearcher( indexReader );
+		Query simplifiedQuery = simplify( luceneQuery );
+		if ( timeLimit == null || isCountedFromStatistics( simplifiedQuery ) ) {
+			return indexSearcher.count( simplifiedQuery );
+		}
+
+		// Same as IndexSearcher.count(), but with a time-limited collector
+		TotalHitCountCollector collector = new TotalHitCountCollector();
+		indexSearcher.search( simplifiedQuery, timeLimit.wrap( collector ) );
+		if ( timeLimit.isExceeded() && !truncateOnTimeout ) {
+			throw log.searchTimedOut( TimeUnit.NANOSECONDS.toMillis( timeoutInNanos ), luceneQuery, getEventContext() );
+		}
+		return collector.getTotalHits();
+	}
+
+	public Query getLuceneQuery() {
+		return luceneQuery;
+	}
+
+	public EventContext getEventContext() {
+		return EventContexts.fromIndexNames( indexNames );
+	}
+
+	@Override
+	public void close() {
+		MultiReaderFactory.closeReader( indexReader );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + luceneQuery + "]";
+	}
+
+	private Query simplify(Query query) throws IOException {
+		List<Query> requiredClauses = new ArrayList<>();
+		if ( !collectRequiredClauses( query, requiredClauses ) ) {
+			// Disjunctions and exclusions cannot be simplified
+			return query;
+		}
+
+		List<Query> remainingClauses = new ArrayList<>( requiredClauses.size() );
+		for ( Query clause : requiredClauses ) {
+			if ( !matchesAllDocuments( clause ) ) {
+				remainingClauses.add( clause );
+			}
+		}
+
+		switch ( remainingClauses.size() ) {
+			case 0:
+				return new MatchAllDocsQuery();
+			case 1:
+				return remainingClauses.get( 0 );
+			default:
+				return query;
+		}
+	}
+
+	/**
+	 * @return {@code true} if the query is a conjunction of the collected clauses, {@code false} otherwise.
+	 */
+	private static boolean collectRequiredClauses(Query query, List<Query> collector) {
+		// Scores do not matter when counting
+		Query unwrapped = unwrapScoring( query );
+		if ( !( unwrapped instanceof BooleanQuery ) ) {
+			collector.add( unwrapped );
+			return true;
+		}
+
+		BooleanQuery booleanQuery = (BooleanQuery) unwrapped;
+		if ( booleanQuery.clauses().isEmpty() ) {
+			// A boolean query without clauses matches no document, it is not an empty conjunction
+			return false;
+		}
+		if ( booleanQuery.getMinimumNumberShouldMatch() > 0 ) {
+			return false;
+		}
+		for ( BooleanClause clause : booleanQuery.clauses() ) {
+			if ( !clause.isRequired() ) {
+				// SHOULD clauses are not necessarily ignored in the absence of required clauses
+				return false;
+			}
+			if ( clause.isProhibited() || !collectRequiredClauses( clause.getQuery(), collector ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Query unwrapScoring(Query query) {
+		Query result = query;
+		while ( true ) {
+			if ( result instanceof ConstantScoreQuery ) {
+				result = ( (ConstantScoreQuery) result ).getQuery();
+			}
+			else if ( result instanceof BoostQuery ) {
+				result = ( (BoostQuery) result ).getQuery();
+			}
+			else {
+				return result;
+			}
+		}
+	}
+
+	private static boolean isCountedFromStatistics(Query query) {
+		// Mirrors the optimizations in IndexSearcher.count(): these queries are counted in constant time,
+		// at least in the absence of deleted documents
+		return query instanceof MatchAllDocsQuery || query instanceof TermQuery;
+	}
+
+	private boolean matchesAllDocuments(Query query) throws IOException {
+		if ( query instanceof MatchAllDocsQuery ) {
+			return true;
+		}
+		else if ( query instanceof TermQuery ) {
+			// The document frequency includes deleted documents, so this is accurate even with deletions
+			return indexReader.docFreq( ( (TermQuery) query ).getTerm() ) == indexReader.maxDoc();
+		}
+		else {
+			return false;
+		}
+	}
+}
@@ -10,13 +10,17 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.apache.lucene.search.ScoreDoc;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchChunk;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.spi.SimpleSearchChunk;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
 
 /**
@@ -36,14 +40,18 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final ScoreDoc lastScoreDoc;
+	private final boolean timedOut;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, ScoreDoc lastScoreDoc, boolean timedOut) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.lastScoreDoc = lastScoreDoc;
+		this.timedOut = timedOut;
 	}
 
 	long getHitCount() {
@@ -51,9 +59,41 @@ long getHitCount() {
 	}
 
 	SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return new SimpleSearchResult<>( hitCount, loadHitsBlocking( sessionContext ), timedOut );
+	}
+
+	/**
+	 * @param after The last hit of the previous chunk, or {@code null} for the first chunk.
+	 */
+	SearchChunk<T> loadChunkBlocking(SessionContextImplementor sessionContext, ScoreDoc after, int chunkSize) {
+		LuceneSearchCursor nextCursor;
+		if ( timedOut ) {
+			// Collection was interrupted: there may be more hits, resume after the last collected one
+			nextCursor = new LuceneSearchCursor( lastScoreDoc == null ? after : lastScoreDoc );
+		}
+		else if ( extractedData.size() < chunkSize ) {
+			// A complete chunk with fewer hits than requested is necessarily the last one
+			nextCursor = null;
+		}
+		else {
+			nextCursor = new LuceneSearchCursor( lastScoreDoc );
+		}
+		return new SimpleSearchChunk<>( hitCount, loadHitsBlocking( sessionContext ), nextCursor, timedOut );
+	}
+
+	CompletableFuture<SearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> new SimpleSearchResult<>(
+						hitCount, transform( sessionContext, loadingResult ), timedOut
+				) );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	private List<T> loadHitsBlocking(SessionContextImplementor sessionContext) {
+		return transform( sessionContext, projectionHitMapper.loadBlocking() );
+	}
+
+	private List<T> transform(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -67,6 +107,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return loadedHits;
 	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.hibernate.search.engine.search.SearchCursor;
+
+/**
+ * A cursor pointing after a given hit.
+ * <p>
+ * The hit is identified by its sort values (or score) and its document ID;
+ * since document IDs are specific to an index reader,
+ * hits may be skipped or repeated if the index is modified between two chunks,
+ * unless the chunks are collected through a {@link LuceneSearchScroll}, which keeps the same readers for all chunks.
+ */
+final class LuceneSearchCursor implements SearchCursor {
+
+	private final ScoreDoc lastScoreDoc;
+
+	LuceneSearchCursor(ScoreDoc lastScoreDoc) {
+		this.lastScoreDoc = lastScoreDoc;
+	}
+
+	ScoreDoc getLastScoreDoc() {
+		return lastScoreDoc;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[lastScoreDoc=" + lastScoreDoc + "]";
+	}
+}
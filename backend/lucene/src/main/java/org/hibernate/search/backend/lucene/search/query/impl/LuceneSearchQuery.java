@@ -6,53 +6,82 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchChunk;
+import org.hibernate.search.engine.search.SearchCursor;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 
 /**
  * @author Guillaume Smet
  */
-public class LuceneSearchQuery<T> implements SearchQuery<T> {
+public class LuceneSearchQuery<T> implements BatchableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final Set<String> indexNames;
 	private final Set<ReaderProvider> readerProviders;
+	private final IndexSearcherFactory indexSearcherFactory;
 	private final SessionContextImplementor sessionContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
 
 	private Long firstResultIndex = 0L;
 	private Long maxResultsCount;
+	private boolean exactHitCountRequired = true;
+	private long timeoutInNanos;
+	private boolean truncateOnTimeout = false;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
+			IndexSearcherFactory indexSearcherFactory,
 			SessionContextImplementor sessionContext,
 			Query luceneQuery, Sort luceneSort,
-			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor) {
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor,
+			long defaultTimeoutInMilliseconds,
+			LuceneSearchQueryBatchExecutor batchExecutor) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
 		this.readerProviders = readerProviders;
+		this.indexSearcherFactory = indexSearcherFactory;
 		this.sessionContext = sessionContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
+		this.timeoutInNanos = TimeUnit.MILLISECONDS.toNanos( defaultTimeoutInMilliseconds );
+		this.batchExecutor = batchExecutor;
 	}
 
 	@Override
@@ -65,6 +94,23 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void setExactHitCountRequired(boolean exactHitCountRequired) {
+		this.exactHitCountRequired = exactHitCountRequired;
+	}
+
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutInNanos = timeUnit.toNanos( timeout );
+		this.truncateOnTimeout = false;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutInNanos = timeUnit.toNanos( timeout );
+		this.truncateOnTimeout = true;
+	}
+
 	@Override
 	public String getQueryString() {
 		return luceneQuery.toString();
@@ -77,39 +123,111 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
-				new LuceneSearcher<>(
-						indexNames,
-						readerProviders,
-						luceneQuery, luceneSort,
-						firstResultIndex, maxResultsCount,
-						luceneCollectorProvider, searchResultExtractor
-				)
-		);
-		return queryOrchestrator.submit( work ).join()
+		return queryOrchestrator.submit( createSearchWork() ).join()
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Blocking mappers (e.g. relying on JDBC) only support loading from the user thread;
+				 * executeAsync() loads from the thread completing the search instead, and documents it.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		return queryOrchestrator.submit( createSearchWork() )
+				.thenCompose( loadableResult -> loadableResult.loadAsync( sessionContext ) );
+	}
+
+	@Override
+	public SearchQueryBatchExecutor getBatchExecutor() {
+		return batchExecutor;
+	}
+
 	@Override
 	public long executeCount() {
+		LuceneQueryWork<Long> work = workFactory.count(
+				new LuceneCounter(
+						indexNames, this::openReader, indexSearcherFactory, luceneQuery,
+						timeoutInNanos, truncateOnTimeout
+				)
+		);
+		return queryOrchestrator.submit( work ).join();
+	}
+
+	@Override
+	public SearchChunk<T> executeChunk(int chunkSize) {
+		return doExecuteChunk( this::openReader, null, chunkSize );
+	}
+
+	@Override
+	public SearchChunk<T> executeChunk(SearchCursor cursor, int chunkSize) {
+		if ( !( cursor instanceof LuceneSearchCursor ) ) {
+			throw log.invalidSearchCursor( cursor, EventContexts.fromIndexNames( indexNames ) );
+		}
+		return doExecuteChunk( this::openReader, ( (LuceneSearchCursor) cursor ).getLastScoreDoc(), chunkSize );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new LuceneSearchScroll<>( this, chunkSize );
+	}
+
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork() {
+		return workFactory.search(
+				new LuceneSearcher<>(
+						indexNames,
+						this::openReader, indexSearcherFactory,
+						luceneQuery, luceneSort,
+						firstResultIndex, maxResultsCount, null, exactHitCountRequired,
+						timeoutInNanos, truncateOnTimeout,
+						luceneCollectorProvider, searchResultExtractor
+				)
+		);
+	}
+
+	LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork(IndexReaderSnapshot readerSnapshot) {
+		return workFactory.search(
+				new LuceneSearcher<>(
+						indexNames,
+						() -> readerSnapshot.openReader( indexNames, readerProviders ), indexSearcherFactory,
+						luceneQuery, luceneSort,
+						firstResultIndex, maxResultsCount, null, exactHitCountRequired,
+						timeoutInNanos, truncateOnTimeout,
+						luceneCollectorProvider, searchResultExtractor
+				)
+		);
+	}
+
+	@SuppressWarnings("unchecked") // The loadable result was extracted by the result extractor of this query
+	SearchResult<T> loadBlocking(LuceneLoadableSearchResult<?> loadableResult) {
+		return ( (LuceneLoadableSearchResult<T>) loadableResult ).loadBlocking( sessionContext );
+	}
+
+	@SuppressWarnings("unchecked") // The loadable result was extracted by the result extractor of this query
+	CompletionStage<SearchResult<T>> loadAsync(LuceneLoadableSearchResult<?> loadableResult) {
+		return ( (LuceneLoadableSearchResult<T>) loadableResult ).loadAsync( sessionContext );
+	}
+
+	SearchChunk<T> executeChunk(IndexReaderSnapshot readerSnapshot, ScoreDoc after, int chunkSize) {
+		return doExecuteChunk( () -> readerSnapshot.openReader( indexNames, readerProviders ), after, chunkSize );
+	}
+
+	private SearchChunk<T> doExecuteChunk(Supplier<IndexReader> indexReaderOpener, ScoreDoc after, int chunkSize) {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
-						readerProviders,
+						indexReaderOpener, indexSearcherFactory,
 						luceneQuery, luceneSort,
-						0L, 0L,
-						// do not add any TopDocs collector
-						( luceneCollectorBuilder -> { } ),
-						searchResultExtractor
+						0L, (long) chunkSize, after, exactHitCountRequired,
+						timeoutInNanos, truncateOnTimeout,
+						luceneCollectorProvider, searchResultExtractor
 				)
 		);
-		return queryOrchestrator.submit( work ).join().getHitCount();
+		// See execute() regarding the thread in which loading must happen
+		return queryOrchestrator.submit( work ).join().loadChunkBlocking( sessionContext, after, chunkSize );
+	}
+
+	private IndexReader openReader() {
+		return MultiReaderFactory.openReader( indexNames, readerProviders );
 	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * Executes batches of Lucene search queries concurrently, against a single snapshot of the indexes.
+ * <p>
+ * Index readers are opened once for the whole batch,
+ * so all queries of the batch see the indexes in the same state.
+ */
+class LuceneSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+
+	LuceneSearchQueryBatchExecutor(LuceneQueryWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queryOrchestrator=" + queryOrchestrator + "]";
+	}
+
+	@Override
+	public List<SearchResult<?>> execute(List<BatchableSearchQuery<?>> queries) {
+		if ( queries.size() == 1 ) {
+			return Collections.singletonList( queries.get( 0 ).execute() );
+		}
+
+		List<LuceneSearchQuery<?>> luceneQueries = toLuceneQueries( queries );
+		List<LuceneLoadableSearchResult<?>> loadableResults = submit( luceneQueries ).join();
+
+		List<SearchResult<?>> results = new ArrayList<>( luceneQueries.size() );
+		for ( int i = 0; i < luceneQueries.size(); i++ ) {
+			// See LuceneSearchQuery.execute() regarding the thread in which loading must happen
+			results.add( luceneQueries.get( i ).loadBlocking( loadableResults.get( i ) ) );
+		}
+		return results;
+	}
+
+	@Override
+	public CompletableFuture<List<SearchResult<?>>> executeAsync(List<BatchableSearchQuery<?>> queries) {
+		if ( queries.size() == 1 ) {
+			return queries.get( 0 ).executeAsync().toCompletableFuture()
+					.thenApply( result -> Collections.<SearchResult<?>>singletonList( result ) );
+		}
+
+		List<LuceneSearchQuery<?>> luceneQueries = toLuceneQueries( queries );
+		return submit( luceneQueries )
+				.thenCompose( loadableResults -> {
+					List<CompletableFuture<? extends SearchResult<?>>> resultFutures = new ArrayList<>( loadableResults.size() );
+					for ( int i = 0; i < luceneQueries.size(); i++ ) {
+						resultFutures.add( luceneQueries.get( i ).loadAsync( loadableResults.get( i ) )
+								.toCompletableFuture() );
+					}
+					return allOf( resultFutures );
+				} );
+	}
+
+	private CompletableFuture<List<LuceneLoadableSearchResult<?>>> submit(List<LuceneSearchQuery<?>> queries) {
+		IndexReaderSnapshot readerSnapshot = new IndexReaderSnapshot();
+		List<CompletableFuture<? extends LuceneLoadableSearchResult<?>>> futures = new ArrayList<>( queries.size() );
+		for ( LuceneSearchQuery<?> query : queries ) {
+			// The orchestrator executes works concurrently
+			futures.add( Futures.create( () -> queryOrchestrator.submit( query.createSearchWork( readerSnapshot ) ) ) );
+		}
+		return allOf( futures )
+				// Releasing readers may release other resources of the index: wait until all queries are done
+				.whenComplete( (ignored, throwable) -> readerSnapshot.close() );
+	}
+
+	private static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<? extends T>> futures) {
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) )
+				.thenApply( ignored -> {
+					List<T> results = new ArrayList<>( futures.size() );
+					for ( CompletableFuture<? extends T> future : futures ) {
+						results.add( future.join() );
+					}
+					return results;
+				} );
+	}
+
+	private static List<LuceneSearchQuery<?>> toLuceneQueries(List<BatchableSearchQuery<?>> queries) {
+		List<LuceneSearchQuery<?>> result = new ArrayList<>( queries.size() );
+		for ( BatchableSearchQuery<?> query : queries ) {
+			// Only queries created by this backend return this executor
+			result.add( (LuceneSearchQuery<?>) query );
+		}
+		return result;
+	}
+}
@@ -6,57 +6,71 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
-import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchQuery;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 
 class LuceneSearchQueryBuilder<T> implements SearchQueryBuilder<T, LuceneSearchQueryElementCollector> {
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final IndexSearcherFactory indexSearcherFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final SessionContextImplementor sessionContext;
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LuceneDocumentStoredFieldVisitorBuilder storedFieldVisitorBuilder;
+	private final LoadingContext<?, ?> loadingContext;
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
+	private final Set<String> routingKeys;
+	private final long defaultTimeout;
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
 
 	LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			IndexSearcherFactory indexSearcherFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContextImplementor sessionContext,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			ProjectionHitMapper<?, ?> projectionHitMapper,
-			LuceneSearchProjection<?, T> rootProjection) {
+			LuceneDocumentStoredFieldVisitorBuilder storedFieldVisitorBuilder,
+			LoadingContext<?, ?> loadingContext,
+			LuceneSearchProjection<?, T> rootProjection,
+			long defaultTimeout,
+			LuceneSearchQueryBatchExecutor batchExecutor) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.indexSearcherFactory = indexSearcherFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.searchTargetModel = searchTargetModel;
 		this.sessionContext = sessionContext;
 
 		this.elementCollector = new LuceneSearchQueryElementCollector();
-		this.storedFieldVisitor = storedFieldVisitor;
-		this.projectionHitMapper = projectionHitMapper;
+		this.routingKeys = new HashSet<>();
+		this.storedFieldVisitorBuilder = storedFieldVisitorBuilder;
+		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
+		this.defaultTimeout = defaultTimeout;
+		this.batchExecutor = batchExecutor;
 	}
 
 	@Override
@@ -66,13 +80,12 @@ public LuceneSearchQueryElementCollector getQueryElementCollector() {
 
 	@Override
 	public void addRoutingKey(String routingKey) {
-		// TODO see what to do with the routing key
-		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
+		routingKeys.add( routingKey );
 	}
 
 	private SearchQuery<T> build() {
 		LuceneSearchResultExtractor<T> searchResultExtractor = new LuceneSearchResultExtractorImpl<>(
-				storedFieldVisitor, rootProjection, projectionHitMapper
+				storedFieldVisitorBuilder, rootProjection, loadingContext
 		);
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
@@ -81,11 +94,14 @@ private SearchQuery<T> build() {
 
 		return new LuceneSearchQuery<>(
 				queryOrchestrator, workFactory,
-				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
+				searchTargetModel.getIndexNames(),
+				searchTargetModel.getReaderProviders( sessionContext.getTenantIdentifier(), routingKeys ),
+				indexSearcherFactory,
 				sessionContext,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
-				rootProjection, searchResultExtractor
+				rootProjection, searchResultExtractor,
+				defaultTimeout, batchExecutor
 		);
 	}
 
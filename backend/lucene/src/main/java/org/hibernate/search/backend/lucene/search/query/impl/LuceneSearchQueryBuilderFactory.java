@@ -19,7 +19,7 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneReferenceProjection;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchProjection;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilderFactory;
 
@@ -42,29 +42,29 @@
 
 	@Override
 	public <O> SearchQueryBuilder<O, LuceneSearchQueryElementCollector> asObject(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, O> projectionHitMapper) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper, LuceneObjectProjection.<O>get() );
+			SessionContextImplementor sessionContext, LoadingContext<?, O> loadingContext) {
+		return createSearchQueryBuilder( sessionContext, loadingContext, LuceneObjectProjection.<O>get() );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, LuceneSearchQueryElementCollector> asReference(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper, LuceneReferenceProjection.get() );
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext) {
+		return createSearchQueryBuilder( sessionContext, loadingContext, LuceneReferenceProjection.get() );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, LuceneSearchQueryElementCollector> asProjection(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			SearchProjection<T> projection) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper,
+		return createSearchQueryBuilder( sessionContext, loadingContext,
 				searchProjectionFactory.toImplementation( projection ) );
 	}
 
 	@Override
 	public SearchQueryBuilder<List<?>, LuceneSearchQueryElementCollector> asProjections(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			SearchProjection<?>... projections) {
-		return createSearchQueryBuilder( sessionContext, projectionHitMapper, createRootProjection( projections ) );
+		return createSearchQueryBuilder( sessionContext, loadingContext, createRootProjection( projections ) );
 	}
 
 	private LuceneSearchProjection<?, List<?>> createRootProjection(SearchProjection<?>[] projections) {
@@ -78,10 +78,10 @@ private LuceneSearchProjection<?, List<?>> createRootProjection(SearchProjection
 	}
 
 	private <T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
-			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
+			SessionContextImplementor sessionContext, LoadingContext<?, ?> loadingContext,
 			LuceneSearchProjection<?, T> rootProjection) {
 		return searchBackendContext.createSearchQueryBuilder(
-				searchTargetModel, sessionContext, projectionHitMapper, rootProjection
+				searchTargetModel, sessionContext, loadingContext, rootProjection
 		);
 	}
 }
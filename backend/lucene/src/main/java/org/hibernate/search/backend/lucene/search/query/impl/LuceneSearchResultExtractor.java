@@ -16,6 +16,6 @@
 public interface LuceneSearchResultExtractor<T> {
 
 	LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
-			SearchProjectionExtractContext projectionExecutionContext) throws IOException;
+			boolean timedOut, SearchProjectionExtractContext projectionExecutionContext) throws IOException;
 
 }
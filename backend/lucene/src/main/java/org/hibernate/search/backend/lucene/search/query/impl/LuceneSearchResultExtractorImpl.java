@@ -11,56 +11,64 @@
 import java.util.Collections;
 import java.util.List;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
-import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 class LuceneSearchResultExtractorImpl<T> implements LuceneSearchResultExtractor<T> {
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneDocumentStoredFieldVisitorBuilder storedFieldVisitorBuilder;
 	private final LuceneSearchProjection<?, T> rootProjection;
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LoadingContext<?, ?> loadingContext;
 
 	LuceneSearchResultExtractorImpl(
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneDocumentStoredFieldVisitorBuilder storedFieldVisitorBuilder,
 			LuceneSearchProjection<?, T> rootProjection,
-			ProjectionHitMapper<?, ?> projectionHitMapper) {
-		this.storedFieldVisitor = storedFieldVisitor;
+			LoadingContext<?, ?> loadingContext) {
+		this.storedFieldVisitorBuilder = storedFieldVisitorBuilder;
 		this.rootProjection = rootProjection;
-		this.projectionHitMapper = projectionHitMapper;
+		this.loadingContext = loadingContext;
 	}
 
 	@Override
 	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
-			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
-		List<Object> extractedData = extractHits( indexSearcher, topDocs, projectionExecutionContext );
+			boolean timedOut, SearchProjectionExtractContext projectionExecutionContext) throws IOException {
+		// The query may be executed multiple times, possibly concurrently: use a new mapper for each execution
+		ProjectionHitMapper<?, ?> projectionHitMapper = loadingContext.createProjectionHitMapper();
+
+		List<Object> extractedData = extractHits( projectionHitMapper, indexSearcher, topDocs, projectionExecutionContext );
+
+		ScoreDoc lastScoreDoc = null;
+		if ( topDocs != null && topDocs.scoreDocs.length > 0 ) {
+			lastScoreDoc = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, extractedData, lastScoreDoc, timedOut
 		);
 	}
 
 	@SuppressWarnings("unchecked")
-	private List<Object> extractHits(IndexSearcher indexSearcher, TopDocs topDocs,
+	private List<Object> extractHits(ProjectionHitMapper<?, ?> projectionHitMapper,
+			IndexSearcher indexSearcher, TopDocs topDocs,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		if ( topDocs == null ) {
 			return Collections.emptyList();
 		}
 
-		List<Object> extractedData = new ArrayList<>( topDocs.scoreDocs.length );
+		// The loader and its visitors are not thread-safe either: use new ones for each execution
+		LuceneResult[] luceneResults = storedFieldVisitorBuilder.build().load( indexSearcher, topDocs.scoreDocs );
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+		List<Object> extractedData = new ArrayList<>( luceneResults.length );
 
+		for ( LuceneResult luceneResult : luceneResults ) {
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExecutionContext ) );
 		}
 
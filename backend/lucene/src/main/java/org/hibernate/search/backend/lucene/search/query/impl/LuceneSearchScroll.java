@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
+import org.hibernate.search.engine.search.SearchChunk;
+import org.hibernate.search.engine.search.SearchCursor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
+
+/**
+ * A scroll executing the query once per chunk, starting after the last hit of the previous chunk.
+ * <p>
+ * The index readers are acquired when collecting the first chunk and held until the scroll is closed,
+ * so that all chunks are collected on the same state of the indexes
+ * and document IDs in cursors remain valid from one chunk to the next.
+ */
+class LuceneSearchScroll<T> implements SearchScroll<T> {
+
+	private final LuceneSearchQuery<T> query;
+	private final int chunkSize;
+	private final IndexReaderSnapshot readerSnapshot = new IndexReaderSnapshot();
+
+	private LuceneSearchCursor nextCursor;
+	private long lastHitCount;
+	private boolean exhausted = false;
+
+	LuceneSearchScroll(LuceneSearchQuery<T> query, int chunkSize) {
+		this.query = query;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( exhausted ) {
+			return new SimpleSearchResult<>( lastHitCount, Collections.emptyList() );
+		}
+
+		SearchChunk<T> chunk = query.executeChunk(
+				readerSnapshot, nextCursor == null ? null : nextCursor.getLastScoreDoc(), chunkSize
+		);
+
+		lastHitCount = chunk.getHitCount();
+		Optional<SearchCursor> cursor = chunk.getNextCursor();
+		if ( cursor.isPresent() ) {
+			nextCursor = (LuceneSearchCursor) cursor.get();
+		}
+		else {
+			exhausted = true;
+		}
+		return chunk;
+	}
+
+	@Override
+	public void close() {
+		exhausted = true;
+		readerSnapshot.close();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + query + ", chunkSize=" + chunkSize + "]";
+	}
+}
@@ -30,7 +30,9 @@
 	public LuceneSearchTargetContext(SearchBackendContext searchBackendContext,
 			MappingContextImplementor mappingContext,
 			LuceneSearchTargetModel searchTargetModel) {
-		LuceneSearchContext searchContext = new LuceneSearchContext( mappingContext );
+		LuceneSearchContext searchContext = new LuceneSearchContext(
+				mappingContext, searchBackendContext.getParentBitSetProducerCache()
+		);
 		this.searchTargetModel = searchTargetModel;
 		this.searchPredicateFactory = new LuceneSearchPredicateBuilderFactoryImpl( searchContext, searchTargetModel );
 		this.searchSortFactory = new LuceneSearchSortBuilderFactoryImpl( searchContext, searchTargetModel );
@@ -7,74 +7,141 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneTimeLimit;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The number of top documents collected by default when the number of results is not limited.
+	 * <p>
+	 * If more documents match, the query is executed a second time, collecting exactly as many documents.
+	 */
+	private static final int UNBOUNDED_MAX_DOCS_CAP = 1_000;
+
 	private final Set<String> indexNames;
-	private final IndexSearcher indexSearcher;
+	private final Supplier<IndexReader> indexReaderOpener;
+	private final IndexSearcherFactory indexSearcherFactory;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 
 	private final long firstResultIndex;
 	private final Long maxResultsCount;
+	private final ScoreDoc after;
+	private final boolean exactTotalHitsRequired;
+	private final long timeoutInNanos;
+	private final boolean truncateOnTimeout;
 
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
+	private IndexSearcher indexSearcher;
+
+	/**
+	 * @param indexReaderOpener Opens the index reader when the searcher is executed.
+	 * The reader is closed along with this searcher.
+	 */
 	public LuceneSearcher(Set<String> indexNames,
-			Set<ReaderProvider> readerProviders,
+			Supplier<IndexReader> indexReaderOpener,
+			IndexSearcherFactory indexSearcherFactory,
 			Query luceneQuery,
 			Sort luceneSort,
 			Long firstResultIndex,
 			Long maxResultsCount,
+			ScoreDoc after,
+			boolean exactTotalHitsRequired,
+			long timeoutInNanos, boolean truncateOnTimeout,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<T> searchResultExtractor) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.indexReaderOpener = indexReaderOpener;
+		this.indexSearcherFactory = indexSearcherFactory;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex.longValue();
 		this.maxResultsCount = maxResultsCount;
+		this.after = after;
+		this.exactTotalHitsRequired = exactTotalHitsRequired;
+		this.timeoutInNanos = timeoutInNanos;
+		this.truncateOnTimeout = truncateOnTimeout;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
 
 	public LuceneLoadableSearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
+		// The time spent opening the reader and rewriting the query counts towards the timeout
+		LuceneTimeLimit timeLimit = timeoutInNanos > 0L ? new LuceneTimeLimit( timeoutInNanos ) : null;
 
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
-		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
-		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+		// Only open the reader now: works may wait in a queue for some time before being executed
+		indexSearcher = indexSearcherFactory.createSearcher( indexReaderOpener.get() );
+
+		// Rewrite once, even if hits are collected twice
+		Query rewrittenQuery = indexSearcher.rewrite( luceneQuery );
+
+		int maxDocs = getMaxDocs();
+		LuceneCollectors luceneCollectors = search( rewrittenQuery, maxDocs, timeLimit );
+
+		if ( maxResultsCount == null && luceneCollectors.isTopDocsRequired() && luceneCollectors.getTotalHits() > maxDocs
+				&& ( timeLimit == null || !timeLimit.isExceeded() ) ) {
+			// Some hits did not fit in the collector: collect again, this time with the exact number of hits
+			luceneCollectors = search( rewrittenQuery, (int) luceneCollectors.getTotalHits(), timeLimit );
+		}
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		boolean timedOut = timeLimit != null && timeLimit.isExceeded();
+		if ( timedOut && !truncateOnTimeout ) {
+			throw log.searchTimedOut( TimeUnit.NANOSECONDS.toMillis( timeoutInNanos ), luceneQuery, getEventContext() );
+		}
 
 		SearchProjectionExtractContext projectionExecutionContext =
-				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
+				new SearchProjectionExtractContext( indexSearcher, luceneQuery, luceneCollectors );
 
 		return searchResultExtractor.extract(
 				indexSearcher, luceneCollectors.getTotalHits(),
 				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ),
-				projectionExecutionContext
+				timedOut, projectionExecutionContext
 		);
 	}
 
+	private LuceneCollectors search(Query rewrittenQuery, int maxDocs, LuceneTimeLimit timeLimit) throws IOException {
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder(
+				luceneSort, maxDocs, after,
+				// Unbounded queries need an exact count to know whether all hits were collected
+				exactTotalHitsRequired || maxResultsCount == null,
+				timeLimit
+		);
+		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
+		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+
+		luceneCollectors.search( indexSearcher, rewrittenQuery );
+
+		return luceneCollectors;
+	}
+
 	public Query getLuceneQuery() {
 		return luceneQuery;
 	}
@@ -89,15 +156,17 @@ public EventContext getEventContext() {
 
 	@Override
 	public void close() {
-		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		if ( indexSearcher != null ) {
+			MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		}
 	}
 
 	private int getMaxDocs() {
-		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
-		// as it is done in Search 5.
-		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Lucene initializes data structures of this size, so setting it to a large value consumes memory.
+		// Chunked execution (search after) is the preferred way to retrieve a large number of hits.
 		if ( maxResultsCount == null ) {
-			return indexSearcher.getIndexReader().maxDoc();
+			// Most unbounded queries match few documents: start small, and collect again if necessary
+			return Math.min( UNBOUNDED_MAX_DOCS_CAP, indexSearcher.getIndexReader().maxDoc() );
 		}
 		else if ( maxResultsCount == 0L ) {
 			return 0;
@@ -10,10 +10,12 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
+import org.hibernate.search.backend.lucene.search.impl.ParentBitSetProducerCache;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.util.EventContext;
 
 public class SearchBackendContext {
@@ -23,15 +25,26 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final IndexSearcherFactory indexSearcherFactory;
+	private final ParentBitSetProducerCache parentBitSetProducerCache;
+	private final long queryTimeout;
+	private final LuceneSearchQueryBatchExecutor batchExecutor;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator) {
+			LuceneQueryWorkOrchestrator orchestrator,
+			IndexSearcherFactory indexSearcherFactory,
+			ParentBitSetProducerCache parentBitSetProducerCache,
+			long queryTimeout) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.indexSearcherFactory = indexSearcherFactory;
+		this.parentBitSetProducerCache = parentBitSetProducerCache;
+		this.queryTimeout = queryTimeout;
+		this.batchExecutor = new LuceneSearchQueryBatchExecutor( orchestrator );
 	}
 
 	@Override
@@ -43,25 +56,32 @@ public EventContext getEventContext() {
 		return eventContext;
 	}
 
+	ParentBitSetProducerCache getParentBitSetProducerCache() {
+		return parentBitSetProducerCache;
+	}
+
 	<T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper,
+			LoadingContext<?, ?> loadingContext,
 			LuceneSearchProjection<?, T> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		LuceneDocumentStoredFieldVisitorBuilder storedFieldFilterBuilder = new LuceneDocumentStoredFieldVisitorBuilder();
-		rootProjection.contributeFields( storedFieldFilterBuilder );
+		LuceneDocumentStoredFieldVisitorBuilder storedFieldVisitorBuilder = new LuceneDocumentStoredFieldVisitorBuilder();
+		rootProjection.contributeFields( storedFieldVisitorBuilder );
 
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				orchestrator,
+				indexSearcherFactory,
 				multiTenancyStrategy,
 				searchTargetModel,
 				sessionContext,
-				storedFieldFilterBuilder.build(),
-				projectionHitMapper,
-				rootProjection
+				storedFieldVisitorBuilder,
+				loadingContext,
+				rootProjection,
+				queryTimeout,
+				batchExecutor
 		);
 	}
 }
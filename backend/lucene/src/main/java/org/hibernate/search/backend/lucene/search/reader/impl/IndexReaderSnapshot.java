@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+
+/**
+ * A snapshot of the state of indexes, shared by multiple queries.
+ * <p>
+ * Each {@link ReaderProvider} is asked for a reader only once,
+ * and all the readers returned by {@link #openReader(Set, Set)} reuse that reader,
+ * so that all queries see the exact same state of each index.
+ * <p>
+ * Readers returned by {@link #openReader(Set, Set)} hold a reference to the readers of the snapshot:
+ * they can be closed independently, before or after the snapshot itself.
+ * <p>
+ * Readers may be opened concurrently from multiple threads,
+ * but the snapshot must only be closed once no more readers are being opened.
+ */
+public final class IndexReaderSnapshot implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Map<ReaderProvider, IndexReader> readers = new ConcurrentHashMap<>();
+
+	/**
+	 * @param indexNames The names of the indexes to read from.
+	 * @param readerProviders The reader providers of these indexes.
+	 * @return A reader encompassing the given indexes, to be closed with {@link MultiReaderFactory#closeReader(IndexReader)}.
+	 */
+	public IndexReader openReader(Set<String> indexNames, Set<ReaderProvider> readerProviders) {
+		if ( readerProviders.size() == 0 ) {
+			return null;
+		}
+		IndexReader[] subReaders = readerProviders.stream()
+				.map( readerProvider -> readers.computeIfAbsent( readerProvider, ReaderProvider::openIndexReader ) )
+				.toArray( size -> new IndexReader[size] );
+		try {
+			// Sub-readers are not closed along with this reader: their reference count is incremented instead
+			return new MultiReader( subReaders, false );
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnMultiReaderRefresh( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+
+	@Override
+	public void close() {
+		for ( Map.Entry<ReaderProvider, IndexReader> entry : readers.entrySet() ) {
+			entry.getKey().closeIndexReader( entry.getValue() );
+		}
+		readers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[readers=" + readers + "]";
+	}
+}
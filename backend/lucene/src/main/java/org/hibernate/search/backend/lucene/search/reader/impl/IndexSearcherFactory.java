@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * Creates the IndexSearchers used to execute queries.
+ * <p>
+ * All searchers share the query cache and caching policy of the backend, if any.
+ * <p>
+ * When segment parallelism is enabled, searchers split the segments of the reader into slices
+ * and search each slice in a separate thread of a shared executor,
+ * so that a single heavy query can use more than one core.
+ * <p>
+ * Slices are made of contiguous segments, so that merging per-slice results in slice order
+ * breaks ties between hits the same way as a sequential search would.
+ */
+public final class IndexSearcherFactory {
+
+	private final QueryCache queryCache;
+	private final QueryCachingPolicy queryCachingPolicy;
+	private final ExecutorService executor;
+	private final int maxDocsPerSlice;
+	private final int maxSegmentsPerSlice;
+
+	/**
+	 * @param queryCache The query cache, or {@code null} to disable query caching.
+	 * @param queryCachingPolicy The policy deciding which queries are cached.
+	 * @param executor The executor to search slices with, or {@code null} to walk all segments in the calling thread.
+	 * @param maxDocsPerSlice The number of documents above which a slice is not extended with more segments.
+	 * @param maxSegmentsPerSlice The maximum number of segments in a slice.
+	 */
+	public IndexSearcherFactory(QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+			ExecutorService executor, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+		this.queryCache = queryCache;
+		this.queryCachingPolicy = queryCachingPolicy;
+		this.executor = executor;
+		this.maxDocsPerSlice = maxDocsPerSlice;
+		this.maxSegmentsPerSlice = maxSegmentsPerSlice;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "queryCache=" ).append( queryCache )
+				.append( ", executor=" ).append( executor )
+				.append( ", maxDocsPerSlice=" ).append( maxDocsPerSlice )
+				.append( ", maxSegmentsPerSlice=" ).append( maxSegmentsPerSlice )
+				.append( "]" )
+				.toString();
+	}
+
+	public IndexSearcher createSearcher(IndexReader indexReader) {
+		IndexSearcher indexSearcher;
+		if ( executor == null ) {
+			indexSearcher = new IndexSearcher( indexReader );
+		}
+		else {
+			indexSearcher = new SlicingIndexSearcher( indexReader, executor );
+		}
+		// Replaces the JVM-wide default cache of Lucene
+		indexSearcher.setQueryCache( queryCache );
+		indexSearcher.setQueryCachingPolicy( queryCachingPolicy );
+		return indexSearcher;
+	}
+
+	/*
+	 * Not static on purpose: IndexSearcher calls slices() from its constructor,
+	 * before the fields of a subclass are initialized but after the reference to the enclosing instance is set.
+	 */
+	private final class SlicingIndexSearcher extends IndexSearcher {
+
+		private SlicingIndexSearcher(IndexReader indexReader, ExecutorService executor) {
+			super( indexReader, executor );
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			List<LeafSlice> slices = new ArrayList<>();
+			List<LeafReaderContext> currentSlice = new ArrayList<>();
+			long currentSliceDocs = 0L;
+			for ( LeafReaderContext leaf : leaves ) {
+				currentSlice.add( leaf );
+				currentSliceDocs += leaf.reader().maxDoc();
+				if ( currentSliceDocs >= maxDocsPerSlice || currentSlice.size() >= maxSegmentsPerSlice ) {
+					slices.add( toSlice( currentSlice ) );
+					currentSlice.clear();
+					currentSliceDocs = 0L;
+				}
+			}
+			if ( !currentSlice.isEmpty() ) {
+				slices.add( toSlice( currentSlice ) );
+			}
+			return slices.toArray( new LeafSlice[slices.size()] );
+		}
+
+		private LeafSlice toSlice(List<LeafReaderContext> leaves) {
+			return new LeafSlice( leaves.toArray( new LeafReaderContext[leaves.size()] ) );
+		}
+	}
+}
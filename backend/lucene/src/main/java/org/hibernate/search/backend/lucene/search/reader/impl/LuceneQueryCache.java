@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.Query;
+
+/**
+ * A query cache shared by all the indexes of a backend, bounded in number of queries and in memory,
+ * with least-recently-used eviction.
+ * <p>
+ * In addition to the global statistics exposed by {@link LRUQueryCache},
+ * this cache keeps statistics for each index: readers must be {@link #registerReader(String, IndexReader) registered}
+ * so that the segments they contain can be attributed to an index.
+ */
+public final class LuceneQueryCache extends LRUQueryCache {
+
+	private final ConcurrentMap<String, LuceneQueryCacheStatisticsImpl> statisticsByIndexName = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, LuceneQueryCacheStatisticsImpl> statisticsByCoreKey = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxSize The maximum number of queries to cache.
+	 * @param maxRamBytesUsed The maximum memory used by the cache, in bytes.
+	 */
+	public LuceneQueryCache(int maxSize, long maxRamBytesUsed) {
+		super( maxSize, maxRamBytesUsed );
+	}
+
+	/**
+	 * Attribute the segments of the given reader to the given index for statistics purposes.
+	 * <p>
+	 * Segments that were already registered are ignored,
+	 * so this can be called each time a reader is refreshed.
+	 *
+	 * @param indexName The name of the index the reader belongs to.
+	 * @param reader A reader on this index.
+	 */
+	public void registerReader(String indexName, IndexReader reader) {
+		LuceneQueryCacheStatisticsImpl statistics = getStatisticsImpl( indexName );
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper == null ) {
+				// Segments that cannot be cached do not need to be tracked
+				continue;
+			}
+			if ( statisticsByCoreKey.putIfAbsent( cacheHelper.getKey(), statistics ) == null ) {
+				cacheHelper.addClosedListener( this::clearCoreCacheKey );
+			}
+		}
+	}
+
+	public LuceneQueryCacheStatistics getStatistics(String indexName) {
+		return getStatisticsImpl( indexName );
+	}
+
+	@Override
+	public void clearCoreCacheKey(Object coreKey) {
+		// Evictions are reported before the segment is forgotten, so that they are attributed to its index
+		super.clearCoreCacheKey( coreKey );
+		statisticsByCoreKey.remove( coreKey );
+	}
+
+	@Override
+	protected void onHit(Object readerCoreKey, Query query) {
+		super.onHit( readerCoreKey, query );
+		LuceneQueryCacheStatisticsImpl statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.hitCount.increment();
+		}
+	}
+
+	@Override
+	protected void onMiss(Object readerCoreKey, Query query) {
+		super.onMiss( readerCoreKey, query );
+		LuceneQueryCacheStatisticsImpl statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.missCount.increment();
+		}
+	}
+
+	@Override
+	protected void onDocIdSetCache(Object readerCoreKey, long ramBytesUsed) {
+		super.onDocIdSetCache( readerCoreKey, ramBytesUsed );
+		LuceneQueryCacheStatisticsImpl statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.cacheSize.increment();
+			statistics.ramBytesUsed.add( ramBytesUsed );
+		}
+	}
+
+	@Override
+	protected void onDocIdSetEviction(Object readerCoreKey, int numEntries, long sumRamBytesUsed) {
+		super.onDocIdSetEviction( readerCoreKey, numEntries, sumRamBytesUsed );
+		LuceneQueryCacheStatisticsImpl statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.cacheSize.add( -numEntries );
+			statistics.evictionCount.add( numEntries );
+			statistics.ramBytesUsed.add( -sumRamBytesUsed );
+		}
+	}
+
+	@Override
+	protected void onClear() {
+		super.onClear();
+		for ( LuceneQueryCacheStatisticsImpl statistics : statisticsByIndexName.values() ) {
+			statistics.cacheSize.reset();
+			statistics.ramBytesUsed.reset();
+		}
+	}
+
+	private LuceneQueryCacheStatisticsImpl getStatisticsImpl(String indexName) {
+		return statisticsByIndexName.computeIfAbsent( indexName, ignored -> new LuceneQueryCacheStatisticsImpl() );
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
+
+final class LuceneQueryCacheStatisticsImpl implements LuceneQueryCacheStatistics {
+
+	final LongAdder hitCount = new LongAdder();
+	final LongAdder missCount = new LongAdder();
+	final LongAdder cacheSize = new LongAdder();
+	final LongAdder evictionCount = new LongAdder();
+	final LongAdder ramBytesUsed = new LongAdder();
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "hitCount=" ).append( hitCount )
+				.append( ", missCount=" ).append( missCount )
+				.append( ", cacheSize=" ).append( cacheSize )
+				.append( ", evictionCount=" ).append( evictionCount )
+				.append( ", ramBytesUsed=" ).append( ramBytesUsed )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getCacheSize() {
+		return cacheSize.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public long getRamBytesUsed() {
+		return ramBytesUsed.sum();
+	}
+}
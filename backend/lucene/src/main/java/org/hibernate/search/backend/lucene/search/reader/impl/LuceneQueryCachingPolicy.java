@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+
+/**
+ * A caching policy that always caches the tenant and document type filters added to every query,
+ * and caches other filters once they have been used frequently enough.
+ * <p>
+ * Term queries are never cached by {@link UsageTrackingQueryCachingPolicy} because they are usually cheap,
+ * but the tenant and type filters match a large portion of the index and are used by every single query,
+ * so caching them saves a postings traversal per segment and per query.
+ */
+public final class LuceneQueryCachingPolicy extends UsageTrackingQueryCachingPolicy {
+
+	@Override
+	public boolean shouldCache(Query query) throws IOException {
+		if ( isTenantOrTypeFilter( query ) ) {
+			return true;
+		}
+		return super.shouldCache( query );
+	}
+
+	private static boolean isTenantOrTypeFilter(Query query) {
+		if ( !( query instanceof TermQuery ) ) {
+			return false;
+		}
+		String field = ( (TermQuery) query ).getTerm().field();
+		return LuceneFields.tenantIdFieldName().equals( field ) || LuceneFields.typeFieldName().equals( field );
+	}
+}
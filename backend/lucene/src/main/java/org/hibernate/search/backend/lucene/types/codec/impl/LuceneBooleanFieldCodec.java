@@ -12,6 +12,7 @@
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 
 public final class LuceneBooleanFieldCodec implements LuceneNumericFieldCodec<Boolean, Integer> {
@@ -36,7 +37,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			documentBuilder.addField( new StoredField( absoluteFieldPath, intValue ) );
 		}
 
-		if ( sortable ) {
+		// Also used to serve projections without loading stored fields
+		if ( projectable || sortable ) {
 			documentBuilder.addField( new NumericDocValuesField( absoluteFieldPath, intValue.longValue() ) );
 		}
 
@@ -55,6 +57,26 @@ public Boolean decode(Document document, String absoluteFieldPath) {
 		return ( intValue > 0 );
 	}
 
+	@Override
+	public Boolean decodeStoredValue(Object storedValue) {
+		return ( (Integer) storedValue ) > 0;
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		return projectable;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.NUMERIC;
+	}
+
+	@Override
+	public Boolean decodeDocValue(Object docValue) {
+		return ( (Long) docValue ) > 0L;
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
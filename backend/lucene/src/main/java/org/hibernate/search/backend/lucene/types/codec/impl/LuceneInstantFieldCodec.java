@@ -14,6 +14,7 @@
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 
 public final class LuceneInstantFieldCodec implements LuceneNumericFieldCodec<Instant, Long> {
@@ -39,7 +40,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			documentBuilder.addField( new StoredField( absoluteFieldPath, time ) );
 		}
 
-		if ( sortable ) {
+		// Also used to serve projections without loading stored fields
+		if ( projectable || sortable ) {
 			documentBuilder.addField( new NumericDocValuesField( absoluteFieldPath, time ) );
 		}
 
@@ -58,6 +60,26 @@ public Instant decode(Document document, String absoluteFieldPath) {
 		return Instant.ofEpochMilli( time );
 	}
 
+	@Override
+	public Instant decodeStoredValue(Object storedValue) {
+		return Instant.ofEpochMilli( (Long) storedValue );
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		return projectable;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.NUMERIC;
+	}
+
+	@Override
+	public Instant decodeDocValue(Object docValue) {
+		return Instant.ofEpochMilli( (Long) docValue );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -10,6 +10,7 @@
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
@@ -34,7 +35,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			documentBuilder.addField( new StoredField( absoluteFieldPath, value ) );
 		}
 
-		if ( sortable ) {
+		// Also used to serve projections without loading stored fields
+		if ( projectable || sortable ) {
 			documentBuilder.addField( new NumericDocValuesField( absoluteFieldPath, value.longValue() ) );
 		}
 
@@ -52,6 +54,26 @@ public Integer decode(Document document, String absoluteFieldPath) {
 		return (Integer) field.numericValue();
 	}
 
+	@Override
+	public Integer decodeStoredValue(Object storedValue) {
+		return (Integer) storedValue;
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		return projectable;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.NUMERIC;
+	}
+
+	@Override
+	public Integer decodeDocValue(Object docValue) {
+		return ( (Long) docValue ).intValue();
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
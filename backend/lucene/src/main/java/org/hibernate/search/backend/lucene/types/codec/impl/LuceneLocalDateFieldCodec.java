@@ -21,6 +21,7 @@
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
@@ -56,7 +57,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 
 		long valueToEpochDay = encode( value );
 
-		if ( sortable ) {
+		// Also used to serve projections without loading stored fields
+		if ( projectable || sortable ) {
 			documentBuilder.addField( new NumericDocValuesField( absoluteFieldPath, valueToEpochDay ) );
 		}
 
@@ -80,6 +82,26 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 		return LocalDate.parse( value, FORMATTER );
 	}
 
+	@Override
+	public LocalDate decodeStoredValue(Object storedValue) {
+		return LocalDate.parse( (String) storedValue, FORMATTER );
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		return projectable;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.NUMERIC;
+	}
+
+	@Override
+	public LocalDate decodeDocValue(Object docValue) {
+		return LocalDate.ofEpochDay( (Long) docValue );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -12,6 +12,7 @@
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexableField;
 
 public final class LuceneLongFieldCodec implements LuceneNumericFieldCodec<Long, Long> {
@@ -35,7 +36,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			documentBuilder.addField( new StoredField( absoluteFieldPath, value ) );
 		}
 
-		if ( sortable ) {
+		// Also used to serve projections without loading stored fields
+		if ( projectable || sortable ) {
 			documentBuilder.addField( new NumericDocValuesField( absoluteFieldPath, value.longValue() ) );
 		}
 
@@ -53,6 +55,26 @@ public Long decode(Document document, String absoluteFieldPath) {
 		return (Long) field.numericValue();
 	}
 
+	@Override
+	public Long decodeStoredValue(Object storedValue) {
+		return (Long) storedValue;
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		return projectable;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.NUMERIC;
+	}
+
+	@Override
+	public Long decodeDocValue(Object docValue) {
+		return (Long) docValue;
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
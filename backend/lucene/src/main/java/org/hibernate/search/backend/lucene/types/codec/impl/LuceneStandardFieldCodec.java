@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import org.apache.lucene.index.DocValuesType;
+
 /**
  * @param <F> The field type exposed to the mapper.
  * @param <E> The encoded type. For example, for a {@code LocalDate} field this will be {@code Long}.
@@ -21,4 +23,37 @@
 	 */
 	E encode(F value);
 
+	/**
+	 * Decode a value read from the stored field written by this codec, typically used in projections.
+	 *
+	 * @param storedValue The raw stored value, never {@code null}: a {@link String} for string stored fields,
+	 * a boxed {@link Integer}, {@link Long}, {@link Float} or {@link Double} for numeric stored fields.
+	 * @return The decoded value.
+	 */
+	F decodeStoredValue(Object storedValue);
+
+	/**
+	 * Determine whether projections on this field can be served from doc values instead of stored fields.
+	 *
+	 * @return {@code true} if this codec writes doc values holding the projected value,
+	 * in which case {@link #getDocValuesType()} and {@link #decodeDocValue(Object)} may be called.
+	 * {@code false} otherwise.
+	 */
+	boolean supportsDocValues();
+
+	/**
+	 * @return The type of doc values holding the projected value,
+	 * either {@link DocValuesType#NUMERIC} or {@link DocValuesType#SORTED}.
+	 */
+	DocValuesType getDocValuesType();
+
+	/**
+	 * Decode a value read from the doc values written by this codec, typically used in projections.
+	 *
+	 * @param docValue The raw doc value, never {@code null}: a {@link Long} for {@link DocValuesType#NUMERIC} doc values,
+	 * a {@link String} for {@link DocValuesType#SORTED} doc values.
+	 * @return The decoded value.
+	 */
+	F decodeDocValue(Object docValue);
+
 }
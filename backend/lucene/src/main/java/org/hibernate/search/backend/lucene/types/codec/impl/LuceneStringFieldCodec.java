@@ -13,6 +13,7 @@
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.util.impl.AnalyzerUtils;
@@ -52,6 +53,30 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public String decodeStoredValue(Object storedValue) {
+		return (String) storedValue;
+	}
+
+	@Override
+	public boolean supportsDocValues() {
+		/*
+		 * Sort doc values hold the normalized value:
+		 * they can only be used for projections when there is no normalizer.
+		 */
+		return sortable && fieldType.stored() && analyzerOrNormalizer == null;
+	}
+
+	@Override
+	public DocValuesType getDocValuesType() {
+		return DocValuesType.SORTED;
+	}
+
+	@Override
+	public String decodeDocValue(Object docValue) {
+		return (String) docValue;
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.apache.lucene.search.SortField;
+
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.document.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -38,6 +41,19 @@ FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 	DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath, GeoPoint center);
 
+	/**
+	 * Create the sort field to use when sorting the index itself on this field.
+	 * <p>
+	 * The returned sort field must be equal to the one contributed by a {@link FieldSortBuilder}
+	 * with the same order and no missing value,
+	 * so that Lucene can detect queries sorted the same way as the index.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param order The sort order.
+	 * @return The sort field.
+	 */
+	SortField createIndexSortField(String absoluteFieldPath, SortOrder order);
+
 	/**
 	 * Determine whether another sort builder factory is DSL-compatible with this one,
 	 * i.e. whether it creates builders that behave the same way.
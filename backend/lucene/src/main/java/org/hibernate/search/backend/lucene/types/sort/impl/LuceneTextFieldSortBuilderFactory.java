@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.apache.lucene.search.SortField;
+
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.engine.backend.document.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
 public class LuceneTextFieldSortBuilderFactory<F>
@@ -28,4 +31,11 @@ public FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 		return new LuceneTextFieldSortBuilder<>( searchContext, absoluteFieldPath, converter, codec );
 	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		checkSortable( absoluteFieldPath );
+
+		return LuceneTextFieldSortBuilder.createSortField( absoluteFieldPath, order );
+	}
 }
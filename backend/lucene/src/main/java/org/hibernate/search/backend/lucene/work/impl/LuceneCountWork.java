@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneCounter;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class LuceneCountWork implements LuceneQueryWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneCounter counter;
+
+	public LuceneCountWork(LuceneCounter counter) {
+		this.counter = counter;
+	}
+
+	@Override
+	public CompletableFuture<Long> execute(LuceneQueryWorkExecutionContext context) {
+		return Futures.create( () -> CompletableFuture.completedFuture( executeCount( counter ) ) );
+	}
+
+	private Long executeCount(LuceneCounter counter) {
+		try {
+			return counter.count();
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnQueryExecution( counter.getLuceneQuery(), counter.getEventContext(), e );
+		}
+		finally {
+			counter.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "counter=" ).append( counter )
+				.append( "]" );
+		return sb.toString();
+	}
+}
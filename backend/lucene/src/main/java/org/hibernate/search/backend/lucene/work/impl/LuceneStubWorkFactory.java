@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneCounter;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
 
@@ -62,4 +63,9 @@ public LuceneIndexWork<?> optimize(String indexName) {
 	public <T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher) {
 		return new LuceneExecuteQueryWork<>( luceneSearcher );
 	}
+
+	@Override
+	public LuceneCountWork count(LuceneCounter luceneCounter) {
+		return new LuceneCountWork( luceneCounter );
+	}
 }
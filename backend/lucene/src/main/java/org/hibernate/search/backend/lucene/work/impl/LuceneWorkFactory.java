@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneCounter;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
 /**
@@ -30,4 +31,6 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 	LuceneIndexWork<?> optimize(String indexName);
 
 	<T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher);
+
+	LuceneCountWork count(LuceneCounter luceneCounter);
 }
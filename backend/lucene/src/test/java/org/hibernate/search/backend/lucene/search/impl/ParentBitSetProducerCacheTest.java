@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.BitSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParentBitSetProducerCacheTest {
+
+	private final ParentBitSetProducerCache cache = new ParentBitSetProducerCache();
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void openIndex() throws IOException {
+		directory = new RAMDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+	}
+
+	@After
+	public void closeIndex() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void reuse() throws IOException {
+		BitSetProducer producer = cache.get( null );
+		assertThat( cache.get( null ) ).isSameAs( producer );
+		assertThat( cache.get( "nested" ) ).isSameAs( cache.get( "nested" ) );
+		assertThat( cache.get( "nested" ) ).isNotEqualTo( producer );
+
+		addBlock();
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			BitSet bitSet = producer.getBitSet( leaf );
+			assertThat( bitSet.get( 0 ) ).isFalse();
+			assertThat( bitSet.get( 1 ) ).isTrue();
+
+			// The bitset is computed once, then reused
+			assertThat( producer.getBitSet( leaf ) ).isSameAs( bitSet );
+			assertThat( getCachedSegmentCount( producer ) ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void evictionOnClose() throws IOException {
+		BitSetProducer producer = cache.get( null );
+
+		// Readers are not opened from the writer, which would keep their segments open
+		addBlock();
+		DirectoryReader firstReader = DirectoryReader.open( directory );
+		BitSet firstSegmentBitSet = producer.getBitSet( firstReader.leaves().get( 0 ) );
+
+		// A refreshed reader shares the segments that did not change
+		addBlock();
+		DirectoryReader secondReader = DirectoryReader.openIfChanged( firstReader );
+		assertThat( secondReader.leaves() ).hasSize( 2 );
+		assertThat( producer.getBitSet( secondReader.leaves().get( 0 ) ) ).isSameAs( firstSegmentBitSet );
+		producer.getBitSet( secondReader.leaves().get( 1 ) );
+		assertThat( getCachedSegmentCount( producer ) ).isEqualTo( 2 );
+
+		// The first segment is still open in the second reader
+		firstReader.close();
+		assertThat( getCachedSegmentCount( producer ) ).isEqualTo( 2 );
+
+		secondReader.close();
+		assertThat( getCachedSegmentCount( producer ) ).isEqualTo( 0 );
+	}
+
+	private void addBlock() throws IOException {
+		Document child = new Document();
+		child.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_CHILD_DOCUMENT, Field.Store.NO ) );
+		Document parent = new Document();
+		parent.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_MAIN_DOCUMENT, Field.Store.NO ) );
+		indexWriter.addDocuments( Arrays.asList( child, parent ) );
+		indexWriter.commit();
+	}
+
+	private static int getCachedSegmentCount(BitSetProducer producer) {
+		return ( (ParentBitSetProducerCache.CachingBitSetProducer) producer ).getCachedSegmentCount();
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index;
+
+/**
+ * Determines when changes applied by a work plan become visible to search queries.
+ * <p>
+ * Backends that do not need an explicit refresh to make changes visible may ignore this strategy.
+ */
+public enum DocumentRefreshStrategy {
+
+	/**
+	 * Do not refresh the index: changes will become visible whenever the index is next refreshed,
+	 * either periodically or because of another work.
+	 * <p>
+	 * This is the most efficient strategy, recommended for mass indexing.
+	 */
+	NONE,
+
+	/**
+	 * Do not refresh the index, but only consider the works complete once a refresh
+	 * made the changes visible to search queries.
+	 */
+	WAIT_FOR,
+
+	/**
+	 * Refresh the index explicitly after the works were applied,
+	 * and only consider the works complete once the refresh is done.
+	 */
+	IMMEDIATE
+
+}
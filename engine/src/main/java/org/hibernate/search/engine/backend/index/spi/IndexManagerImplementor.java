@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.engine.backend.index.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -23,8 +26,32 @@
 	 */
 	IndexManager toAPI();
 
+	/**
+	 * Start the index manager, for instance by creating or validating the index.
+	 * <p>
+	 * Called exactly once, after all index managers have been built.
+	 * Index managers are started concurrently: implementations should not block,
+	 * but return a future instead.
+	 *
+	 * @return A future that will complete when the index manager is ready to be used.
+	 */
+	default CompletableFuture<?> start() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return A work plan using the default refresh strategy of the backend.
+	 */
 	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext);
 
+	/**
+	 * @param sessionContext The session context.
+	 * @param refreshStrategy The strategy determining when changes become visible to search queries.
+	 * @return A work plan using the given refresh strategy.
+	 */
+	IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext, DocumentRefreshStrategy refreshStrategy);
+
 	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContextImplementor sessionContext);
 
 	IndexWorkExecutor createWorkExecutor();
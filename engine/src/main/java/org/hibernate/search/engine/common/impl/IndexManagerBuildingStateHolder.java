@@ -8,8 +8,11 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
@@ -20,6 +23,7 @@
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
@@ -123,6 +127,32 @@ Map<String, IndexManagerImplementor<?>> getIndexManagersByName() {
 		return indexManagersByName;
 	}
 
+	void startIndexManagers() {
+		// Start all index managers before waiting for any of them, so that they start in parallel
+		Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+		for ( Map.Entry<String, IndexManagerBuildingStateImpl<?>> entry : indexManagerBuildingStateByName.entrySet() ) {
+			String indexName = entry.getKey();
+			try {
+				futures.put( indexName, entry.getValue().getBuilt().start() );
+			}
+			catch (RuntimeException e) {
+				rootBuildContext.getFailureCollector()
+						.withContext( EventContexts.fromIndexName( indexName ) )
+						.add( e );
+			}
+		}
+		for ( Map.Entry<String, CompletableFuture<?>> entry : futures.entrySet() ) {
+			try {
+				entry.getValue().join();
+			}
+			catch (CompletionException e) {
+				rootBuildContext.getFailureCollector()
+						.withContext( EventContexts.fromIndexName( entry.getKey() ) )
+						.add( e.getCause() );
+			}
+		}
+	}
+
 	void closeOnFailure(SuppressingCloser closer) {
 		closer.pushAll( state -> state.closeOnFailure( closer ), indexManagerBuildingStateByName.values() );
 		closer.pushAll( BackendBuildingState::closeOnFailure, backendBuildingStateByName.values() );
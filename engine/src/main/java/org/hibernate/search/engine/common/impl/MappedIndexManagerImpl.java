@@ -9,6 +9,7 @@
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
@@ -38,6 +39,12 @@ public IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext)
 		return implementor.createWorkPlan( sessionContext );
 	}
 
+	@Override
+	public IndexWorkPlan<D> createWorkPlan(SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		return implementor.createWorkPlan( sessionContext, refreshStrategy );
+	}
+
 	@Override
 	public IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
 		return implementor.createDocumentWorkExecutor( sessionContext );
@@ -24,9 +24,9 @@
 import org.hibernate.search.engine.search.dsl.sort.impl.DefaultSearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
-import org.hibernate.search.engine.search.query.impl.DefaultProjectionHitMapper;
-import org.hibernate.search.engine.search.query.impl.NoLoadingProjectionHitMapper;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.impl.DefaultLoadingContext;
+import org.hibernate.search.engine.search.query.impl.NoLoadingContext;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 
 class MappedIndexSearchTargetImpl<C, R, O> implements MappedIndexSearchTarget<R, O> {
@@ -53,11 +53,11 @@ public String toString() {
 	public <T, Q> SearchQueryResultContext<Q> queryAsLoadedObject(SessionContextImplementor sessionContext,
 			ObjectLoader<R, T> objectLoader,
 			Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
-		ProjectionHitMapper<R, T> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+		LoadingContext<R, T> loadingContext =
+				new DefaultLoadingContext<>( documentReferenceTransformer, objectLoader );
 
 		SearchQueryBuilder<T, C> builder = searchTargetContext.getSearchQueryBuilderFactory()
-				.asObject( sessionContext, projectionHitMapper );
+				.asObject( sessionContext, loadingContext );
 
 		return new SearchQueryResultContextImpl<>(
 				searchTargetContext, builder, searchQueryWrapperFactory
@@ -67,10 +67,10 @@ public <T, Q> SearchQueryResultContext<Q> queryAsLoadedObject(SessionContextImpl
 	@Override
 	public <Q> SearchQueryResultContext<Q> queryAsReference(SessionContextImplementor sessionContext,
 			Function<SearchQuery<R>, Q> searchQueryWrapperFactory) {
-		ProjectionHitMapper<R, Void> referenceHitMapper = new NoLoadingProjectionHitMapper<>( documentReferenceTransformer );
+		LoadingContext<R, Void> loadingContext = new NoLoadingContext<>( documentReferenceTransformer );
 
 		SearchQueryBuilder<R, C> builder = searchTargetContext.getSearchQueryBuilderFactory()
-				.asReference( sessionContext, referenceHitMapper );
+				.asReference( sessionContext, loadingContext );
 
 		return new SearchQueryResultContextImpl<>(
 				searchTargetContext, builder, searchQueryWrapperFactory
@@ -81,11 +81,11 @@ public <Q> SearchQueryResultContext<Q> queryAsReference(SessionContextImplemento
 	public <T, Q> SearchQueryResultContext<Q> queryAsProjection(SessionContextImplementor sessionContext,
 			ObjectLoader<R, O> objectLoader,
 			Function<SearchQuery<T>, Q> searchQueryWrapperFactory, SearchProjection<T> projection) {
-		ProjectionHitMapper<R, O> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+		LoadingContext<R, O> loadingContext =
+				new DefaultLoadingContext<>( documentReferenceTransformer, objectLoader );
 
 		SearchQueryBuilder<T, C> builder = searchTargetContext.getSearchQueryBuilderFactory()
-				.asProjection( sessionContext, projectionHitMapper, projection );
+				.asProjection( sessionContext, loadingContext, projection );
 
 		return new SearchQueryResultContextImpl<>(
 				searchTargetContext, builder, searchQueryWrapperFactory
@@ -98,11 +98,11 @@ public <Q> SearchQueryResultContext<Q> queryAsProjections(
 			ObjectLoader<R, O> objectLoader,
 			Function<SearchQuery<List<?>>, Q> searchQueryWrapperFactory,
 			SearchProjection<?>... projections) {
-		ProjectionHitMapper<R, O> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+		LoadingContext<R, O> loadingContext =
+				new DefaultLoadingContext<>( documentReferenceTransformer, objectLoader );
 
 		SearchQueryBuilder<List<?>, C> builder = searchTargetContext.getSearchQueryBuilderFactory()
-				.asProjections( sessionContext, projectionHitMapper, projections );
+				.asProjections( sessionContext, loadingContext, projections );
 
 		return new SearchQueryResultContextImpl<>(
 				searchTargetContext, builder, searchQueryWrapperFactory
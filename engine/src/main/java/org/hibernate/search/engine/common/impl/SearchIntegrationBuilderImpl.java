@@ -196,6 +196,12 @@ public SearchIntegration build() {
 			failureCollector.checkNoFailure();
 			checkingRootFailures = false;
 
+			// Fourth phase: start index managers
+			indexManagerBuildingStateHolder.startIndexManagers();
+			checkingRootFailures = true;
+			failureCollector.checkNoFailure();
+			checkingRootFailures = false;
+
 			return new SearchIntegrationImpl(
 					beanResolver,
 					mappings,
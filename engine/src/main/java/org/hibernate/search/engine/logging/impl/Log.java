@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.logging.spi.MappingKeyFormatter;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
+import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.SearchException;
@@ -250,4 +251,8 @@ SearchException invalidBeanType(
 					+ " Set the property '%2$s' to a supported value or set '%3$s' to set a default value for all indexes."
 	)
 	SearchException indexBackendCannotBeNullOrEmpty(String indexName, String key, String defaultKey);
+
+	@Message(id = ID_OFFSET_2 + 51,
+			value = "Query '%1$s' was not part of the batch when the batch was executed.")
+	SearchException searchQueryNotInBatch(SearchQuery<?> query);
 }
@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Optional;
+
+/**
+ * A chunk of the hits of a search query.
+ *
+ * @param <T> The type of hits.
+ * @see SearchQuery#executeChunk(int)
+ */
+public interface SearchChunk<T> extends SearchResult<T> {
+
+	/**
+	 * @return A cursor pointing after the last hit of this chunk,
+	 * or an empty optional if this chunk is known to be the last one.
+	 */
+	Optional<SearchCursor> getNextCursor();
+
+}
@@ -0,0 +1,18 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * An opaque position in the hits of a search query,
+ * allowing to fetch the hits that follow without collecting the hits that precede.
+ * <p>
+ * Cursors are backend-specific: a cursor can only be used with the query it was retrieved from.
+ *
+ * @see SearchQuery#executeChunk(SearchCursor, int)
+ */
+public interface SearchCursor {
+}
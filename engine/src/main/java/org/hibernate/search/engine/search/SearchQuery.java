@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Yoann Rodiere
  */
@@ -15,10 +18,101 @@
 
 	void setMaxResults(Long maxResultsCount);
 
+	/**
+	 * Set whether the hit count returned by {@link SearchResult#getHitCount()} must be exact.
+	 * <p>
+	 * When it need not be, backends may stop collecting hits as soon as the requested hits are known,
+	 * for instance when hits are sorted the same way as the index,
+	 * in which case the hit count is only an estimate.
+	 * <p>
+	 * This is only a hint: the Lucene backend stops collecting hits early when the index sort allows it,
+	 * while the Elasticsearch backend ignores this setting and always returns an exact hit count.
+	 * <p>
+	 * Defaults to {@code true}.
+	 *
+	 * @param exactHitCountRequired Whether the hit count must be exact.
+	 */
+	void setExactHitCountRequired(boolean exactHitCountRequired);
+
+	/**
+	 * Make the query fail if executing it takes longer than the given timeout.
+	 * <p>
+	 * The timeout also applies to {@link #executeCount()}, except in the Elasticsearch backend.
+	 * <p>
+	 * Overrides the default timeout of the backend, if any, as well as any previous call to
+	 * {@link #truncateAfter(long, TimeUnit)}.
+	 *
+	 * @param timeout The timeout, or {@code 0} to disable the timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Make the query stop collecting hits after the given timeout,
+	 * returning the hits collected so far in a result flagged as {@link SearchResult#isTimedOut() timed out}.
+	 * <p>
+	 * The hit count of a truncated result, as well as the result of {@link #executeCount()},
+	 * only accounts for the hits collected before the timeout.
+	 * <p>
+	 * Overrides the default timeout of the backend, if any, as well as any previous call to
+	 * {@link #failAfter(long, TimeUnit)}.
+	 *
+	 * @param timeout The timeout, or {@code 0} to disable the timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void truncateAfter(long timeout, TimeUnit timeUnit);
+
 	String getQueryString();
 
 	SearchResult<T> execute();
 
+	/**
+	 * Execute the query without blocking the current thread.
+	 * <p>
+	 * Entities, if any, are loaded once hits are available.
+	 * Mappers loading entities through blocking APIs, such as the Hibernate ORM mapper,
+	 * load them in the thread that completes the search:
+	 * the session must not be used until the returned stage completes.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the result of the query.
+	 */
+	CompletionStage<SearchResult<T>> executeAsync();
+
 	long executeCount();
 
+	/**
+	 * Execute the query and return the first {@code chunkSize} hits.
+	 * <p>
+	 * Following hits can be retrieved by passing the {@link SearchChunk#getNextCursor() cursor}
+	 * of the returned chunk to {@link #executeChunk(SearchCursor, int)}.
+	 * Unlike {@link #setFirstResult(Long) offset-based} pagination,
+	 * the cost of fetching a chunk does not depend on the number of hits that precede it.
+	 * <p>
+	 * The first result index and the maximum number of results are ignored.
+	 *
+	 * @param chunkSize The maximum number of hits in the returned chunk.
+	 * @return The first chunk of hits.
+	 */
+	SearchChunk<T> executeChunk(int chunkSize);
+
+	/**
+	 * Execute the query and return the {@code chunkSize} hits following the given cursor.
+	 *
+	 * @param cursor A cursor returned by a previous chunk of this query.
+	 * @param chunkSize The maximum number of hits in the returned chunk.
+	 * @return The chunk of hits following the cursor.
+	 * @see #executeChunk(int)
+	 */
+	SearchChunk<T> executeChunk(SearchCursor cursor, int chunkSize);
+
+	/**
+	 * Start scrolling over the hits of this query, {@code chunkSize} hits at a time.
+	 * <p>
+	 * The first result index and the maximum number of results are ignored.
+	 *
+	 * @param chunkSize The maximum number of hits in each chunk.
+	 * @return A scroll, to be {@link SearchScroll#close() closed} after use.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
 }
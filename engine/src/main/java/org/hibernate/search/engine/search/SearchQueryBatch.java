@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.search.query.impl.SearchQueryBatchImpl;
+
+/**
+ * A batch of independent {@link SearchQuery search queries}, to be executed together.
+ * <p>
+ * Backends may execute queries of the same batch more efficiently than one at a time,
+ * for instance by sending them to a remote cluster in a single request,
+ * or by executing them concurrently against the same state of the indexes.
+ * Queries that cannot be batched are simply executed one after the other.
+ * <p>
+ * Settings of each query (first result index, maximum number of results, timeout, ...)
+ * must be set before the batch is executed.
+ */
+public interface SearchQueryBatch {
+
+	/**
+	 * Add a query to this batch.
+	 * <p>
+	 * Adding the same query twice has no effect.
+	 *
+	 * @param query The query to add.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryBatch add(SearchQuery<?> query);
+
+	/**
+	 * Execute all the queries of this batch.
+	 *
+	 * @return The results of the queries, to be retrieved with {@link SearchQueryBatchResult#get(SearchQuery)}.
+	 */
+	SearchQueryBatchResult execute();
+
+	/**
+	 * Execute all the queries of this batch without blocking the current thread.
+	 * <p>
+	 * Entities, if any, are loaded once hits are available.
+	 * Mappers loading entities through blocking APIs, such as the Hibernate ORM mapper,
+	 * load them in the thread that completes the search:
+	 * the session must not be used until the returned stage completes.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the results of the queries.
+	 */
+	CompletionStage<SearchQueryBatchResult> executeAsync();
+
+	/**
+	 * @return A new, empty batch.
+	 */
+	static SearchQueryBatch create() {
+		return new SearchQueryBatchImpl();
+	}
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * The results of the execution of a {@link SearchQueryBatch}.
+ */
+public interface SearchQueryBatchResult {
+
+	/**
+	 * @param query A query that was part of the batch when it was executed.
+	 * @param <T> The type of query hits.
+	 * @return The result of the given query.
+	 * @throws org.hibernate.search.util.SearchException If the query was not part of the batch.
+	 */
+	<T> SearchResult<T> get(SearchQuery<T> query);
+
+}
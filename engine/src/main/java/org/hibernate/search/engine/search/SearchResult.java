@@ -17,6 +17,13 @@
 
 	List<T> getHits();
 
+	/**
+	 * @return {@code true} if the query timed out and this result is truncated,
+	 * i.e. only contains the hits collected before the timeout, {@code false} otherwise.
+	 * @see SearchQuery#truncateAfter(long, java.util.concurrent.TimeUnit)
+	 */
+	boolean isTimedOut();
+
 	// TODO aggregations, facets, ...
 
 }
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * A scroll over the hits of a search query, retrieving hits chunk by chunk.
+ * <p>
+ * Only the current chunk is held in memory, making scrolls suitable for processing
+ * a large number of hits, e.g. for exports.
+ * <p>
+ * Scrolls may hold resources on the backend side, and must be closed after use.
+ *
+ * @param <T> The type of hits.
+ * @see SearchQuery#scroll(int)
+ */
+public interface SearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Retrieve the next chunk of hits, loading the corresponding entities if necessary.
+	 * <p>
+	 * References to previously returned chunks are not retained by the scroll.
+	 *
+	 * @return The next chunk of hits. Empty if all hits have been retrieved.
+	 */
+	SearchResult<T> next();
+
+	@Override
+	void close();
+
+}
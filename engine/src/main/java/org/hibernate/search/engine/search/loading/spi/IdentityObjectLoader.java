@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings({ "unchecked", "rawtypes" }) // This implementation works for any T
 class IdentityObjectLoader<T> implements ObjectLoader<T, T> {
@@ -21,4 +22,9 @@ public static <T> IdentityObjectLoader<T> get() {
 	public List<T> loadBlocking(List<T> references) {
 		return references;
 	}
+
+	@Override
+	public CompletableFuture<List<T>> loadAsync(List<T> references) {
+		return CompletableFuture.completedFuture( references );
+	}
 }
@@ -7,6 +7,9 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.util.impl.common.Futures;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +28,22 @@
 	 */
 	List<O> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references without blocking the current thread.
+	 * <p>
+	 * The default implementation delegates to {@link #loadBlocking(List)} in the current thread,
+	 * i.e. the thread completing the search, and returns an already completed future:
+	 * this is the only option for loaders relying on blocking, non-thread-safe APIs such as a JDBC session.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A future that will be completed with a list of loaded objects,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	default CompletableFuture<List<O>> loadAsync(List<R> references) {
+		return Futures.create( () -> CompletableFuture.completedFuture( loadBlocking( references ) ) );
+	}
+
 	static <T> ObjectLoader<T, T> identity() {
 		return IdentityObjectLoader.get();
 	}
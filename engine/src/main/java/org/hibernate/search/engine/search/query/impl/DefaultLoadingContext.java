@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+
+public class DefaultLoadingContext<R, O> implements LoadingContext<R, O> {
+
+	private final Function<DocumentReference, R> documentReferenceTransformer;
+	private final ObjectLoader<R, O> objectLoader;
+
+	public DefaultLoadingContext(Function<DocumentReference, R> documentReferenceTransformer,
+			ObjectLoader<R, O> objectLoader) {
+		this.documentReferenceTransformer = documentReferenceTransformer;
+		this.objectLoader = objectLoader;
+	}
+
+	@Override
+	public ProjectionHitMapper<R, O> createProjectionHitMapper() {
+		return new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+	}
+}
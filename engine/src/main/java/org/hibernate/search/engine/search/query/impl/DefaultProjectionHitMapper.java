@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.DocumentReference;
@@ -16,14 +17,20 @@
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.util.impl.common.CollectionHelper;
 
-public class DefaultProjectionHitMapper<R, O> implements ProjectionHitMapper<R, O> {
+/**
+ * A projection hit mapper collecting references to load.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe and must only be used for a single execution of a query;
+ * see {@link DefaultLoadingContext}.
+ */
+class DefaultProjectionHitMapper<R, O> implements ProjectionHitMapper<R, O> {
 
 	private final Function<DocumentReference, R> documentReferenceTransformer;
 	private final ObjectLoader<R, O> objectLoader;
 
 	private final List<R> referencesToLoad = new ArrayList<>();
 
-	public DefaultProjectionHitMapper(Function<DocumentReference, R> documentReferenceTransformer,
+	DefaultProjectionHitMapper(Function<DocumentReference, R> documentReferenceTransformer,
 			ObjectLoader<R, O> objectLoader) {
 		this.documentReferenceTransformer = documentReferenceTransformer;
 		this.objectLoader = objectLoader;
@@ -45,6 +52,11 @@ public LoadingResult<O> loadBlocking() {
 		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
 	}
 
+	@Override
+	public CompletableFuture<LoadingResult<O>> loadAsync() {
+		return objectLoader.loadAsync( referencesToLoad ).thenApply( DefaultLoadingResult::new );
+	}
+
 	private static class DefaultLoadingResult<O> implements LoadingResult<O> {
 
 		private final List<O> loadedObjects;
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+
+public class NoLoadingContext<R> implements LoadingContext<R, Void> {
+
+	// This mapper is stateless, so it can safely be shared between executions
+	private final NoLoadingProjectionHitMapper<R> projectionHitMapper;
+
+	public NoLoadingContext(Function<DocumentReference, R> documentReferenceTransformer) {
+		this.projectionHitMapper = new NoLoadingProjectionHitMapper<>( documentReferenceTransformer );
+	}
+
+	@Override
+	public ProjectionHitMapper<R, Void> createProjectionHitMapper() {
+		return projectionHitMapper;
+	}
+}
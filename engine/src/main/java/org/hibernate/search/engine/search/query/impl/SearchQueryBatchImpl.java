@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryBatch;
+import org.hibernate.search.engine.search.SearchQueryBatchResult;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.impl.common.Contracts;
+
+/**
+ * A batch of search queries.
+ * <p>
+ * Queries are grouped by {@link SearchQueryBatchExecutor}, so that each backend gets all of its queries at once;
+ * queries that do not support batching are executed one by one.
+ */
+public final class SearchQueryBatchImpl implements SearchQueryBatch {
+
+	private final List<SearchQuery<?>> queries = new ArrayList<>();
+
+	@Override
+	public SearchQueryBatch add(SearchQuery<?> query) {
+		Contracts.assertNotNull( query, "query" );
+		if ( indexOf( queries, query ) < 0 ) {
+			queries.add( query );
+		}
+		return this;
+	}
+
+	@Override
+	public SearchQueryBatchResult execute() {
+		List<SearchQuery<?>> batchedQueries = new ArrayList<>( queries );
+		SearchResult<?>[] results = new SearchResult<?>[batchedQueries.size()];
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<Integer>> entry : groupByExecutor( batchedQueries ).entrySet() ) {
+			List<Integer> indices = entry.getValue();
+			List<SearchResult<?>> groupResults = entry.getKey().execute( toBatchableQueries( batchedQueries, indices ) );
+			for ( int i = 0; i < indices.size(); i++ ) {
+				results[indices.get( i )] = groupResults.get( i );
+			}
+		}
+		for ( int i = 0; i < batchedQueries.size(); i++ ) {
+			if ( results[i] == null ) {
+				results[i] = batchedQueries.get( i ).execute();
+			}
+		}
+
+		return new SearchQueryBatchResultImpl( batchedQueries, Arrays.asList( results ) );
+	}
+
+	@Override
+	public CompletionStage<SearchQueryBatchResult> executeAsync() {
+		List<SearchQuery<?>> batchedQueries = new ArrayList<>( queries );
+		SearchResult<?>[] results = new SearchResult<?>[batchedQueries.size()];
+		boolean[] batched = new boolean[batchedQueries.size()];
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<Integer>> entry : groupByExecutor( batchedQueries ).entrySet() ) {
+			List<Integer> indices = entry.getValue();
+			for ( Integer index : indices ) {
+				batched[index] = true;
+			}
+			futures.add( entry.getKey().executeAsync( toBatchableQueries( batchedQueries, indices ) )
+					.thenAccept( groupResults -> {
+						for ( int i = 0; i < indices.size(); i++ ) {
+							results[indices.get( i )] = groupResults.get( i );
+						}
+					} ) );
+		}
+		for ( int i = 0; i < batchedQueries.size(); i++ ) {
+			if ( !batched[i] ) {
+				int index = i;
+				futures.add( batchedQueries.get( i ).executeAsync().toCompletableFuture()
+						.thenAccept( result -> results[index] = result ) );
+			}
+		}
+
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) )
+				.thenApply( ignored -> new SearchQueryBatchResultImpl( batchedQueries, Arrays.asList( results ) ) );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queries=" + queries + "]";
+	}
+
+	static int indexOf(List<SearchQuery<?>> queries, SearchQuery<?> query) {
+		// Queries are compared by identity: two distinct query objects are always two distinct queries
+		for ( int i = 0; i < queries.size(); i++ ) {
+			if ( queries.get( i ) == query ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static Map<SearchQueryBatchExecutor, List<Integer>> groupByExecutor(List<SearchQuery<?>> queries) {
+		Map<SearchQueryBatchExecutor, List<Integer>> result = new LinkedHashMap<>();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			SearchQuery<?> query = queries.get( i );
+			if ( query instanceof BatchableSearchQuery ) {
+				SearchQueryBatchExecutor executor = ( (BatchableSearchQuery<?>) query ).getBatchExecutor();
+				result.computeIfAbsent( executor, ignored -> new ArrayList<>() ).add( i );
+			}
+		}
+		return result;
+	}
+
+	private static List<BatchableSearchQuery<?>> toBatchableQueries(List<SearchQuery<?>> queries, List<Integer> indices) {
+		List<BatchableSearchQuery<?>> result = new ArrayList<>( indices.size() );
+		for ( Integer index : indices ) {
+			result.add( (BatchableSearchQuery<?>) queries.get( index ) );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryBatchResult;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+final class SearchQueryBatchResultImpl implements SearchQueryBatchResult {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<SearchQuery<?>> queries;
+	private final List<SearchResult<?>> results;
+
+	SearchQueryBatchResultImpl(List<SearchQuery<?>> queries, List<SearchResult<?>> results) {
+		this.queries = queries;
+		this.results = results;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The result at a given index was returned by the query at the same index
+	public <T> SearchResult<T> get(SearchQuery<T> query) {
+		int index = SearchQueryBatchImpl.indexOf( queries, query );
+		if ( index < 0 ) {
+			throw log.searchQueryNotInBatch( query );
+		}
+		return (SearchResult<T>) results.get( index );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[results=" + results + "]";
+	}
+}
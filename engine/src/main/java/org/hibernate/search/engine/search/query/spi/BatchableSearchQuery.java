@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.SearchQuery;
+
+/**
+ * A {@link SearchQuery} that can be executed along with other queries
+ * as part of a {@link org.hibernate.search.engine.search.SearchQueryBatch}.
+ *
+ * @param <T> The type of query hits.
+ */
+public interface BatchableSearchQuery<T> extends SearchQuery<T> {
+
+	/**
+	 * @return The executor to pass this query to when it is part of a batch.
+	 * All queries of a batch returning the same executor are passed to that executor together.
+	 */
+	SearchQueryBatchExecutor getBatchExecutor();
+
+}
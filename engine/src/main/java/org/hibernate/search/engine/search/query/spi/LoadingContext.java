@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * The context of a query, giving access to a {@link ProjectionHitMapper} for each execution of the query.
+ * <p>
+ * A query may be executed multiple times, possibly concurrently (scroll chunks, asynchronous executions, batches),
+ * so the mapper, which holds the state of loading, must not be shared between executions.
+ *
+ * @param <R> The type of references.
+ * @param <O> The type of loaded objects.
+ */
+public interface LoadingContext<R, O> {
+
+	/**
+	 * @return A new projection hit mapper, to be used for a single execution of the query.
+	 */
+	ProjectionHitMapper<R, O> createProjectionHitMapper();
+
+}
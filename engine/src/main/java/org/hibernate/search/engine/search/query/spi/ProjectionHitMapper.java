@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.search.DocumentReference;
 
 /**
  * Contract binding result hits and the mapper.
+ * <p>
+ * A mapper holds the state of loading for a single execution of a query:
+ * a new instance must be retrieved from the {@link LoadingContext} for each execution.
  */
 public interface ProjectionHitMapper<R, O> {
 
@@ -35,4 +40,12 @@
 	 * @return The loaded entities.
 	 */
 	LoadingResult<O> loadBlocking();
+
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread.
+	 *
+	 * @return A future that will be completed with the loaded entities.
+	 * @see org.hibernate.search.engine.search.loading.spi.ObjectLoader#loadAsync(java.util.List)
+	 */
+	CompletableFuture<LoadingResult<O>> loadAsync();
 }
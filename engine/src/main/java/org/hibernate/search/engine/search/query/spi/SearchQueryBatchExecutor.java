@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+
+/**
+ * An executor for the {@link BatchableSearchQuery batchable queries} of a backend.
+ */
+public interface SearchQueryBatchExecutor {
+
+	/**
+	 * Execute the given queries.
+	 * <p>
+	 * Entities, if any, must be loaded in the calling thread, as in {@link SearchQuery#execute()}.
+	 *
+	 * @param queries Queries whose {@link BatchableSearchQuery#getBatchExecutor() executor} is this executor.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	List<SearchResult<?>> execute(List<BatchableSearchQuery<?>> queries);
+
+	/**
+	 * Execute the given queries without blocking the current thread.
+	 * <p>
+	 * Entities, if any, are loaded asynchronously, as in {@link SearchQuery#executeAsync()}.
+	 *
+	 * @param queries Queries whose {@link BatchableSearchQuery#getBatchExecutor() executor} is this executor.
+	 * @return A future that will be completed with the results of the queries, in the same order as the queries.
+	 */
+	CompletableFuture<List<SearchResult<?>>> executeAsync(List<BatchableSearchQuery<?>> queries);
+
+}
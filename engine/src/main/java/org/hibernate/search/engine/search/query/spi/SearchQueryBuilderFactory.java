@@ -22,15 +22,15 @@
 public interface SearchQueryBuilderFactory<C> {
 
 	<O> SearchQueryBuilder<O, C> asObject(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, O> projectionHitMapper);
+			LoadingContext<?, O> loadingContext);
 
 	<T> SearchQueryBuilder<T, C> asReference(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper);
+			LoadingContext<?, ?> loadingContext);
 
 	<T> SearchQueryBuilder<T, C> asProjection(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, SearchProjection<T> projection);
+			LoadingContext<?, ?> loadingContext, SearchProjection<T> projection);
 
 	SearchQueryBuilder<List<?>, C> asProjections(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, SearchProjection<?>... projections);
+			LoadingContext<?, ?> loadingContext, SearchProjection<?>... projections);
 
 }
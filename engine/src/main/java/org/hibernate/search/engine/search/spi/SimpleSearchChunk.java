@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.spi;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.engine.search.SearchChunk;
+import org.hibernate.search.engine.search.SearchCursor;
+
+public final class SimpleSearchChunk<T> implements SearchChunk<T> {
+	private final long hitCount;
+	private final List<T> hits;
+	private final SearchCursor nextCursor;
+	private final boolean timedOut;
+
+	public SimpleSearchChunk(long hitCount, List<T> hits, SearchCursor nextCursor) {
+		this( hitCount, hits, nextCursor, false );
+	}
+
+	public SimpleSearchChunk(long hitCount, List<T> hits, SearchCursor nextCursor, boolean timedOut) {
+		this.hitCount = hitCount;
+		this.hits = hits;
+		this.nextCursor = nextCursor;
+		this.timedOut = timedOut;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public List<T> getHits() {
+		return hits;
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@Override
+	public Optional<SearchCursor> getNextCursor() {
+		return Optional.ofNullable( nextCursor );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "hitCount=" + hitCount
+				+ ", hits=" + hits
+				+ ", nextCursor=" + nextCursor
+				+ ", timedOut=" + timedOut
+				+ "]";
+	}
+}
@@ -13,10 +13,16 @@
 public final class SimpleSearchResult<T> implements SearchResult<T> {
 	private final long hitCount;
 	private final List<T> hits;
+	private final boolean timedOut;
 
 	public SimpleSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, false );
+	}
+
+	public SimpleSearchResult(long hitCount, List<T> hits, boolean timedOut) {
 		this.hitCount = hitCount;
 		this.hits = hits;
+		this.timedOut = timedOut;
 	}
 
 	@Override
@@ -29,11 +35,17 @@ public List<T> getHits() {
 		return hits;
 	}
 
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
 				+ ", hits=" + hits
+				+ ", timedOut=" + timedOut
 				+ "]";
 	}
 }
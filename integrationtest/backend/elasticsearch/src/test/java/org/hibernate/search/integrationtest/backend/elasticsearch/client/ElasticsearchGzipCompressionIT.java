@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.client;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks GZIP compression of requests and responses against an Elasticsearch cluster.
+ */
+public class ElasticsearchGzipCompressionIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	/**
+	 * Enough documents for a bulk request body to span many buffer pages.
+	 */
+	private static final int DOCUMENT_COUNT = 500;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void indexAndSearch() {
+		SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendElasticsearchSettings.GZIP_COMPRESSION, true )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		ElasticsearchTransferStatistics statistics = integration.getBackend( BACKEND_NAME )
+				.unwrap( ElasticsearchBackend.class ).getTransferStatistics();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, "Some text \u00e9\u20ac, document number " + value );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+
+		SearchQuery<List<?>> query = indexManager.createSearchTarget().query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.field( "integer", Integer.class )
+						)
+						.toProjection()
+				)
+				.predicate( f -> f.match().onField( "integer" ).matching( 42 ).toPredicate() )
+				.build();
+		assertThat( query ).hasListHitsAnyOrder( b -> b.list( "Some text \u00e9\u20ac, document number 42", 42 ) );
+
+		// Large responses span many buffers when decompressed
+		SearchQuery<Integer> allQuery = indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "integer", Integer.class ).toProjection() )
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		allQuery.setMaxResults( (long) DOCUMENT_COUNT );
+		SearchResult<Integer> result = allQuery.execute();
+		assertThat( result ).hasHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).hasSize( DOCUMENT_COUNT );
+
+		// Both requests and responses were compressed
+		Assertions.assertThat( statistics.getRequestSentBytes() )
+				.isPositive()
+				.isLessThan( statistics.getRequestUncompressedBytes() );
+		Assertions.assertThat( statistics.getResponseReceivedBytes() )
+				.isPositive()
+				.isLessThan( statistics.getResponseUncompressedBytes() );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().projectable( Projectable.YES ).createAccessor();
+			integer = root.field( "integer" ).asInteger().projectable( Projectable.YES ).createAccessor();
+		}
+	}
+}
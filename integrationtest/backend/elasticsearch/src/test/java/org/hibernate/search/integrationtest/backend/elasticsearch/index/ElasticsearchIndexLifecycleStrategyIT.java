@@ -0,0 +1,256 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+
+/**
+ * Checks the index lifecycle strategies against an Elasticsearch cluster.
+ */
+public class ElasticsearchIndexLifecycleStrategyIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private IndexFieldAccessor<String> otherString;
+	private StubMappingIndexManager indexManager;
+
+	private RestClient client;
+
+	@Test
+	public void dropAndCreate() throws IOException {
+		setup( "drop-and-create", this::stringField ).close();
+		deleteIndex();
+
+		// A missing index is not a problem
+		setup( "drop-and-create", this::stringField );
+		index( "1" );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		// An existing index is dropped
+		setup( "drop-and-create", this::stringField );
+		assertThat( createQuery() ).hasNoHits();
+	}
+
+	@Test
+	public void createIfMissing_missing() throws IOException {
+		setup( "drop-and-create", this::stringField ).close();
+		deleteIndex();
+
+		setup( "create-if-missing", this::stringField );
+		index( "1" );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void createIfMissing_existing() {
+		setup( "drop-and-create", this::stringField );
+		index( "1" );
+
+		// The existing index is left untouched
+		setup( "create-if-missing", this::stringField );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void validate_success() {
+		setup( "drop-and-create", this::stringField );
+		index( "1" );
+
+		setup( "validate", this::stringField );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void validate_missingIndex() throws IOException {
+		setup( "drop-and-create", this::stringField ).close();
+		deleteIndex();
+
+		SubTest.expectException(
+				"Validation of a missing index",
+				() -> setup( "validate", this::stringField )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Index '" + INDEX_NAME + "' does not exist" )
+				.hasMessageContaining( "'validate' index lifecycle strategy" );
+	}
+
+	@Test
+	public void validate_mappingMismatch() {
+		setup( "drop-and-create", this::stringField ).close();
+
+		SubTest.expectException(
+				"Validation of an index with a different mapping",
+				() -> setup( "validate", root -> root.field( "string" ).asInteger().createAccessor() )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Validation of the schema of index '" + INDEX_NAME + "' failed" )
+				.hasMessageContaining( "property 'string'" )
+				.hasMessageContaining( "Invalid value for attribute 'type'" );
+	}
+
+	@Test
+	public void validate_missingField() {
+		setup( "drop-and-create", this::stringField ).close();
+
+		SubTest.expectException(
+				"Validation of an index with a missing field",
+				() -> setup( "validate", this::stringAndOtherStringFields )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Validation of the schema of index '" + INDEX_NAME + "' failed" )
+				.hasMessageContaining( "property 'otherString'" )
+				.hasMessageContaining( "Missing property mapping" );
+	}
+
+	@Test
+	public void update_missing() throws IOException {
+		setup( "drop-and-create", this::stringField ).close();
+		deleteIndex();
+
+		setup( "update", this::stringField );
+		index( "1" );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void update_existing() {
+		setup( "drop-and-create", this::stringField );
+		index( "1" );
+
+		// New fields are added to the mapping, existing documents are kept
+		setup( "update", this::stringAndOtherStringFields );
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "2" ), document -> {
+			string.write( document, "text" );
+			otherString.write( document, "other" );
+		} );
+		workPlan.execute().join();
+
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "otherString" ).matching( "other" ).toPredicate() )
+				.build();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+
+		// The updated mapping is valid
+		setup( "validate", this::stringAndOtherStringFields );
+	}
+
+	@Test
+	public void none() throws IOException {
+		setup( "drop-and-create", this::stringField );
+		index( "1" );
+
+		setup( "none", this::stringAndOtherStringFields );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+
+		// The index is not created either
+		deleteIndex();
+		setup( "none", this::stringField );
+		Assertions.assertThat( indexExists() ).isFalse();
+	}
+
+	private void stringField(IndexSchemaElement root) {
+		string = root.field( "string" ).asString().createAccessor();
+	}
+
+	private void stringAndOtherStringFields(IndexSchemaElement root) {
+		stringField( root );
+		otherString = root.field( "otherString" ).asString().createAccessor();
+	}
+
+	private SearchIntegration setup(String lifecycleStrategy, Consumer<IndexSchemaElement> mappingContributor) {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME, SearchBackendElasticsearchSettings.INDEX_LIFECYCLE_STRATEGY, lifecycleStrategy
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> mappingContributor.accept( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(String id) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			string.write( document, "text" );
+		} );
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+	}
+
+	private void deleteIndex() throws IOException {
+		try {
+			getClient().performRequest( new Request( "DELETE", "/" + INDEX_NAME ) );
+		}
+		catch (ResponseException e) {
+			if ( e.getResponse().getStatusLine().getStatusCode() != 404 ) {
+				throw e;
+			}
+		}
+	}
+
+	private boolean indexExists() throws IOException {
+		return getClient().performRequest( new Request( "HEAD", "/" + INDEX_NAME ) )
+				.getStatusLine().getStatusCode() == 200;
+	}
+
+	private RestClient getClient() {
+		if ( client == null ) {
+			// A separate integration, which does not touch the index on startup
+			SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+					.withBackendProperty( BACKEND_NAME, SearchBackendElasticsearchSettings.INDEX_LIFECYCLE_STRATEGY, "none" )
+					.withIndex( "MappedType", INDEX_NAME, ctx -> { }, ignored -> { } )
+					.setup();
+			client = integration.getBackend( BACKEND_NAME ).unwrap( ElasticsearchBackend.class ).getClient( RestClient.class );
+		}
+		return client;
+	}
+}
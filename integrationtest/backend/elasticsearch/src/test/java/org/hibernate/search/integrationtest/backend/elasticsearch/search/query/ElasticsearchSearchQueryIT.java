@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.hibernate.search.backend.elasticsearch.cfg.spi.SearchBackendElasticsearchSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -13,7 +16,9 @@
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryBatch;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientMock;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -66,6 +71,27 @@ public void setup() {
 	public void projection_sourceFiltering() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
 
+		SearchQuery<Object> query = searchTarget.query()
+				.asProjection( f -> f.field( "localDate" ).toProjection() )
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':['localDate']}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.execute();
+	}
+
+	@Test
+	public void projection_storedFields() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
 		SearchQuery<Object> query = searchTarget.query()
 				.asProjection( f -> f.field( "string" ).toProjection() )
 				.predicate( f -> f.matchAll().toPredicate() )
@@ -75,7 +101,31 @@ public void projection_sourceFiltering() {
 				ElasticsearchRequest.post()
 						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
 						.pathComponent( Paths._SEARCH )
-						.body( new Gson().fromJson( "{'_source':['string']}", JsonObject.class ) )
+						.body( new Gson().fromJson( "{'stored_fields':['string'],'_source':false}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.execute();
+	}
+
+	@Test
+	public void projection_docValueFields() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<List<?>> query = searchTarget.query()
+				.asProjection( f -> f.composite(
+						f.reference().toProjection(),
+						f.field( "sortableInteger" ).toProjection()
+				).toProjection() )
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'docvalue_fields':['sortableInteger'],'_source':false}", JsonObject.class ) )
 						.build(),
 				ElasticsearchRequestAssertionMode.EXTENSIBLE
 		);
@@ -108,9 +158,47 @@ public void routing() {
 		query.execute();
 	}
 
+	@Test
+	public void batch_multiSearch() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		String routingKey = "someRoutingKey";
+
+		SearchQuery<?> query1 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+
+		SearchQuery<?> query2 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.routing( routingKey )
+				.build();
+		query2.setFirstResult( 2L );
+		query2.setMaxResults( 5L );
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._MSEARCH )
+						.body( new Gson().fromJson( "{'index':'" + INDEX_NAME + "'}", JsonObject.class ) )
+						.body( new JsonObject() ) // We don't care about the payload
+						.body( new Gson().fromJson( "{'index':'" + INDEX_NAME + "','routing':'" + routingKey + "'}", JsonObject.class ) )
+						.body( new Gson().fromJson( "{'from':2,'size':5}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		SearchQueryBatch.create()
+				.add( query1 )
+				.add( query2 )
+				.execute();
+	}
+
 	private static class IndexAccessors {
 		final IndexFieldAccessor<Integer> integer;
 		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> sortableInteger;
+		final IndexFieldAccessor<LocalDate> localDate;
 
 		IndexAccessors(IndexSchemaElement root) {
 			integer = root.field( "integer" )
@@ -121,6 +209,15 @@ private static class IndexAccessors {
 					.asString()
 					.projectable( Projectable.YES )
 					.createAccessor();
+			sortableInteger = root.field( "sortableInteger" )
+					.asInteger()
+					.projectable( Projectable.YES )
+					.sortable( Sortable.YES )
+					.createAccessor();
+			localDate = root.field( "localDate" )
+					.asLocalDate()
+					.projectable( Projectable.YES )
+					.createAccessor();
 		}
 	}
 
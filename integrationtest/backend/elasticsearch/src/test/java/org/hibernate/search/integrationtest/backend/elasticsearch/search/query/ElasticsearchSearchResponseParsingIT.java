@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+/**
+ * Checks that search responses are parsed the same way
+ * whether they are streamed (the default) or read as a whole because request tracing is enabled.
+ */
+public class ElasticsearchSearchResponseParsingIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final String REQUEST_LOG_CATEGORY = "org.hibernate.search.elasticsearch.request";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final Logger requestLogger = Logger.getLogger( REQUEST_LOG_CATEGORY );
+	private Level originalLevel;
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		originalLevel = requestLogger.getLevel();
+
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@After
+	public void restoreLogLevel() {
+		requestLogger.setLevel( originalLevel );
+	}
+
+	@Test
+	public void streaming() {
+		requestLogger.setLevel( Level.DEBUG );
+		checkQueries();
+	}
+
+	@Test
+	public void traceFallback() {
+		requestLogger.setLevel( Level.TRACE );
+		checkQueries();
+	}
+
+	private void checkQueries() {
+		// The source is not requested
+		SearchQuery<DocumentReference> referenceQuery = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( "text" ).toPredicate() )
+				.build();
+		assertThat( referenceQuery )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2", "3" )
+				.hasHitCount( 3 );
+
+		// The source is requested
+		SearchQuery<List<?>> projectionQuery = indexManager.createSearchTarget().query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.field( "integer", Integer.class )
+						)
+						.toProjection()
+				)
+				.predicate( f -> f.match().onField( "string" ).matching( "text" ).toPredicate() )
+				.build();
+		assertThat( projectionQuery ).hasListHitsAnyOrder( b -> {
+			b.list( "text", 1 );
+			b.list( "text", 2 );
+			b.list( "text", 3 );
+		} );
+
+		// Hits are counted even when none are returned
+		referenceQuery.setMaxResults( 0L );
+		assertThat( referenceQuery )
+				.hasNoHits()
+				.hasHitCount( 3 );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 1; i <= 3; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, "text" );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.add( referenceProvider( "empty" ), document -> { } );
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().projectable( Projectable.YES ).createAccessor();
+			integer = root.field( "integer" ).asInteger().projectable( Projectable.YES ).createAccessor();
+		}
+	}
+}
@@ -9,11 +9,13 @@
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchTransferStatistics;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyReader;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -96,6 +98,11 @@ public void close() throws IOException {
 			delegate.close();
 		}
 
+		@Override
+		public ElasticsearchTransferStatistics getTransferStatistics() {
+			return delegate.getTransferStatistics();
+		}
+
 		@Override
 		public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 			return expectations.verify(
@@ -110,6 +117,20 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 			);
 		}
 
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyReader<T> bodyReader) {
+			return expectations.verify(
+					new ElasticsearchClientSubmitCall( request ),
+					// If there was an expectation, check it is met and forward the request to the actual client
+					(expectedCall, actualCall) -> {
+						expectedCall.verify( actualCall );
+						return delegate.submit( request, bodyReader );
+					},
+					// If there wasn't any expectation, just forward the request to the actual client
+					call -> delegate.submit( request, bodyReader )
+			);
+		}
+
 		@Override
 		public <T> T unwrap(Class<T> clientClass) {
 			throw new UnsupportedOperationException();
@@ -8,6 +8,8 @@
 
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.Collections;
+
 import org.hibernate.search.backend.elasticsearch.cfg.spi.SearchBackendElasticsearchSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
@@ -19,13 +21,17 @@
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientMock;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.assertj.core.api.Assertions;
+
 import com.google.gson.JsonObject;
 
 /**
@@ -36,6 +42,8 @@ public class ElasticsearchIndexingIT {
 	private static final String BACKEND_NAME = "myElasticsearchBackend";
 	private static final String INDEX_NAME = "indexname";
 	private static final String TYPE_NAME = ElasticsearchIndexManagerBuilder.TYPE_NAME;
+	// Elasticsearch rejects identifiers longer than 512 bytes
+	private static final String INVALID_ID = String.join( "", Collections.nCopies( 513, "a" ) );
 
 	@Rule
 	public SearchSetupHelper setupHelper = new SearchSetupHelper();
@@ -114,6 +122,56 @@ public void addUpdateDelete_routing() {
 		clientMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void delete_missingDocument_singleWork() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( "missing" ) );
+		// Deleting a document that does not exist is not an error
+		workPlan.execute().join();
+	}
+
+	@Test
+	public void delete_missingDocument_bulk() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text1" );
+		} );
+		workPlan.delete( referenceProvider( "missing" ) );
+		// Deleting a document that does not exist is not an error
+		workPlan.execute().join();
+	}
+
+	@Test
+	public void add_failure_singleWork() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( INVALID_ID ), document -> {
+			indexAccessors.string.write( document, "text1" );
+		} );
+		SubTest.expectException( workPlan.execute()::join )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.satisfies( e -> Assertions.assertThat( e.getCause().getMessage() )
+						.contains( "Elasticsearch request failed" )
+						.contains( "returned status 400" ) );
+	}
+
+	@Test
+	public void add_failure_bulk() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text1" );
+		} );
+		workPlan.add( referenceProvider( INVALID_ID ), document -> {
+			indexAccessors.string.write( document, "text2" );
+		} );
+		SubTest.expectException( workPlan.execute()::join )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.satisfies( e -> Assertions.assertThat( e.getCause().getMessage() )
+						.contains( "Elasticsearch request failed" )
+						.contains( "_bulk" ) );
+	}
+
 	private static class IndexAccessors {
 		final IndexFieldAccessor<String> string;
 
@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the ordering and concurrency guarantees of Elasticsearch work orchestrators.
+ */
+public class ElasticsearchWorkOrchestrationIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final int WORK_PLAN_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void workPlans_sameDocument() {
+		setup( 2 );
+
+		// Work plans touching the same document may be sent in the same batch, but must be applied in order
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < WORK_PLAN_COUNT; i++ ) {
+			String value = "text" + i;
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			workPlan.update( referenceProvider( "1" ), document -> {
+				indexAccessors.string.write( document, value );
+			} );
+			futures.add( workPlan.execute() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) ).join();
+
+		SearchQuery<String> query = indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "string", String.class ).toProjection() )
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		assertThat( query ).hasHitsExactOrder( "text" + ( WORK_PLAN_COUNT - 1 ) );
+	}
+
+	@Test
+	public void close_waitsForPendingWorks() {
+		SearchIntegration integration = setup( 2 );
+
+		/*
+		 * The last work plan does not require a refresh, so it may complete before the previous ones:
+		 * closing must wait for all of them, not just the last one.
+		 */
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < WORK_PLAN_COUNT; i++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, "text" );
+			} );
+			futures.add( workPlan.execute() );
+		}
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( DocumentRefreshStrategy.NONE );
+		workPlan.add( referenceProvider( "last" ), document -> {
+			indexAccessors.string.write( document, "text" );
+		} );
+		futures.add( workPlan.execute() );
+
+		integration.close();
+
+		for ( CompletableFuture<?> future : futures ) {
+			Assertions.assertThat( future ).isCompleted();
+			// Throws if the work failed, e.g. because the client was closed while it was in progress
+			future.join();
+		}
+	}
+
+	@Test
+	public void queries_moreThanMaxConcurrentRequests() {
+		setup( 1 );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "text1" );
+		} );
+		workPlan.execute().join();
+
+		// Queries exceeding the maximum number of concurrent requests must be queued, then executed
+		List<CompletableFuture<SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < WORK_PLAN_COUNT; i++ ) {
+			SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build();
+			futures.add( query.executeAsync().toCompletableFuture() );
+		}
+
+		for ( CompletableFuture<SearchResult<DocumentReference>> future : futures ) {
+			assertThat( future.join() ).hasHitCount( 1 );
+		}
+	}
+
+	private SearchIntegration setup(int maxConcurrentRequests) {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME, SearchBackendElasticsearchSettings.MAX_CONCURRENT_REQUESTS, maxConcurrentRequests
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" )
+					.asString()
+					.projectable( Projectable.YES )
+					.createAccessor();
+		}
+	}
+}
@@ -31,6 +31,7 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -498,6 +499,19 @@ public void indexManager_unwrap_error_unknownType() {
 		indexManager.unwrap( String.class );
 	}
 
+	@Test
+	public void indexManager_queryCacheStatistics() {
+		LuceneIndexManager luceneIndexManager = integration.getIndexManager( INDEX_NAME )
+				.unwrap( LuceneIndexManager.class );
+
+		// The query cache is enabled by default
+		Optional<LuceneQueryCacheStatistics> statistics = luceneIndexManager.getQueryCacheStatistics();
+		Assertions.assertThat( statistics ).isPresent();
+		// Segments of the test index are too small to be cached
+		Assertions.assertThat( statistics.get().getCacheSize() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.get().getRamBytesUsed() ).isEqualTo( 0L );
+	}
+
 	private void initData() {
 		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
 		workPlan.add( referenceProvider( FIRST_ID ), document -> {
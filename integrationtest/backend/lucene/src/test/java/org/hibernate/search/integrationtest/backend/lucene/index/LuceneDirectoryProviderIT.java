@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneDirectoryProviderIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File rootDirectory;
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void createRootDirectory() throws IOException {
+		rootDirectory = temporaryFolder.newFolder( "indexes" );
+	}
+
+	@Test
+	public void mmap() {
+		checkLocalDirectory( () -> setupContext( "local_directory" ) );
+	}
+
+	@Test
+	public void mmap_preload() {
+		checkLocalDirectory( () -> setupContext( "local_directory" )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_MMAP_PRELOAD, true ) );
+	}
+
+	@Test
+	public void nio() {
+		checkLocalDirectory( () -> setupContext( "local_directory_nio" ) );
+	}
+
+	@Test
+	public void mmap_nrtCaching() {
+		checkLocalDirectory( () -> withNrtCaching( setupContext( "local_directory" ) ) );
+	}
+
+	@Test
+	public void nio_nrtCaching() {
+		checkLocalDirectory( () -> withNrtCaching( setupContext( "local_directory_nio" ) ) );
+	}
+
+	@Test
+	public void heap() {
+		SearchIntegration integration = setup( setupContext( "local_heap" ) );
+		index( "1" );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		integration.close();
+
+		// Nothing is written to disk, and indexes are lost on shutdown
+		Assertions.assertThat( rootDirectory.list() ).isEmpty();
+		setup( setupContext( "local_heap" ) );
+		assertThat( createQuery() ).hasNoHits();
+	}
+
+	@Test
+	public void unknownProvider() {
+		SubTest.expectException(
+				"Unknown directory provider",
+				() -> setup( setupContext( "some_unknown_provider" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to create the Lucene directory provider" )
+				.hasMessageContaining( "some_unknown_provider" );
+	}
+
+	@Test
+	public void nrtCaching_invalidSize() {
+		SubTest.expectException(
+				"Invalid NRT caching size",
+				() -> setup( setupContext( "local_directory" )
+						.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+						.withBackendProperty(
+								BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_MB, 0
+						) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_MB )
+				.hasMessageContaining( "The NRT caching sizes must be strictly positive" );
+	}
+
+	private void checkLocalDirectory(Supplier<SearchSetupHelper.SetupContext> setupContextSupplier) {
+		SearchIntegration integration = setup( setupContextSupplier.get() );
+		index( "1" );
+		index( "2" );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		integration.close();
+
+		// Indexes are stored in a subdirectory of the root directory, and persist after a restart
+		Assertions.assertThat( new File( rootDirectory, INDEX_NAME ) ).isDirectory();
+		Assertions.assertThat( new File( rootDirectory, INDEX_NAME ).list() ).isNotEmpty();
+		setup( setupContextSupplier.get() );
+		assertThat( createQuery() ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	private SearchSetupHelper.SetupContext setupContext(String directoryProvider) {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_PROVIDER, directoryProvider )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.ROOT_DIRECTORY, rootDirectory.getAbsolutePath() );
+	}
+
+	private static SearchSetupHelper.SetupContext withNrtCaching(SearchSetupHelper.SetupContext setupContext) {
+		return setupContext
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE_MB, 1 )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_MB, 10 );
+	}
+
+	private SearchIntegration setup(SearchSetupHelper.SetupContext setupContext) {
+		return setupContext
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(String id) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, "text " + id );
+		} );
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
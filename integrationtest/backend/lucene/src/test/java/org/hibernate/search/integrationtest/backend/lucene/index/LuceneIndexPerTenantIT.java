@@ -0,0 +1,245 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks the "index_per_tenant" multi-tenancy strategy:
+ * isolation of tenants, eviction of tenant indexes and per-tenant purge.
+ */
+public class LuceneIndexPerTenantIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File rootDirectory;
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void createRootDirectory() throws IOException {
+		rootDirectory = temporaryFolder.newFolder( "indexes" );
+	}
+
+	@Test
+	public void isolation() {
+		setup( 10 );
+		index( TENANT_1, "1", "tenant1_text" );
+		index( TENANT_2, "1", "tenant2_text" );
+		index( TENANT_2, "2", "tenant2_text" );
+
+		// Each tenant has its own directory
+		Assertions.assertThat( rootDirectory.list() )
+				.containsExactlyInAnyOrder( INDEX_NAME + "@" + TENANT_1, INDEX_NAME + "@" + TENANT_2 );
+
+		assertThat( createQuery( TENANT_1 ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( TENANT_1, "tenant2_text" ) ).hasNoHits();
+		assertThat( createQuery( TENANT_2 ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( createQuery( TENANT_2, "tenant1_text" ) ).hasNoHits();
+
+		// Documents with the same identifier in other tenants are not affected by updates and deletes
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext( TENANT_1 ) );
+		workPlan.update( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "updated" );
+		} );
+		workPlan.execute().join();
+		workPlan = indexManager.createWorkPlan( sessionContext( TENANT_2 ) );
+		workPlan.delete( referenceProvider( "2" ) );
+		workPlan.execute().join();
+
+		assertThat( createQuery( TENANT_1, "updated" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( TENANT_2, "updated" ) ).hasNoHits();
+		assertThat( createQuery( TENANT_2 ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( TENANT_2, "tenant2_text" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void readWithoutIndex() {
+		setup( 10 );
+		index( TENANT_1, "1", "text" );
+
+		// Reading from a tenant that was never written to does not create its index
+		assertThat( createQuery( TENANT_2 ) ).hasNoHits();
+		Assertions.assertThat( createQuery( TENANT_2 ).executeCount() ).isEqualTo( 0L );
+		Assertions.assertThat( rootDirectory.list() ).containsExactly( INDEX_NAME + "@" + TENANT_1 );
+
+		// The index is created on the first write
+		index( TENANT_2, "2", "text" );
+		Assertions.assertThat( rootDirectory.list() )
+				.containsExactlyInAnyOrder( INDEX_NAME + "@" + TENANT_1, INDEX_NAME + "@" + TENANT_2 );
+		assertThat( createQuery( TENANT_2 ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+	}
+
+	@Test
+	public void tenantIdEscaping() {
+		setup( 10 );
+		index( "../tenant", "1", "text" );
+		index( "Tenant", "2", "text" );
+		index( "tenant", "3", "text" );
+
+		// Tenant identifiers neither escape the root directory nor collide on case-insensitive file systems
+		Assertions.assertThat( temporaryFolder.getRoot().list() ).containsExactly( "indexes" );
+		Assertions.assertThat( rootDirectory.list() ).containsExactlyInAnyOrder(
+				INDEX_NAME + "@%2E%2E%2Ftenant", INDEX_NAME + "@%54enant", INDEX_NAME + "@tenant"
+		);
+
+		assertThat( createQuery( "../tenant" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( "Tenant" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+		assertThat( createQuery( "tenant" ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "3" );
+	}
+
+	@Test
+	public void eviction() {
+		setup( 2 );
+		for ( int i = 0; i < 5; i++ ) {
+			index( "tenant" + i, String.valueOf( i ), "text" );
+		}
+
+		// Evicted tenant indexes are re-opened transparently, with their content
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( createQuery( "tenant" + i ) ).hasDocRefHitsAnyOrder( INDEX_NAME, String.valueOf( i ) );
+		}
+	}
+
+	@Test
+	public void eviction_concurrentUse() throws InterruptedException {
+		setup( 1 );
+		int tenantCount = 3;
+		int documentCountPerTenant = 20;
+
+		// Tenant indexes are constantly evicted and re-opened by concurrent threads
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < documentCountPerTenant; i++ ) {
+				for ( int tenant = 0; tenant < tenantCount; tenant++ ) {
+					String tenantId = "tenant" + tenant;
+					String id = String.valueOf( i );
+					futures.add( CompletableFuture.runAsync(
+							() -> {
+								index( tenantId, id, "text" );
+								createQuery( tenantId ).execute();
+							},
+							executor
+					) );
+				}
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		}
+		finally {
+			executor.shutdown();
+			executor.awaitTermination( 10, TimeUnit.SECONDS );
+		}
+
+		for ( int tenant = 0; tenant < tenantCount; tenant++ ) {
+			assertThat( createQuery( "tenant" + tenant ) ).hasHitCount( documentCountPerTenant );
+		}
+	}
+
+	@Test
+	public void purge() {
+		setup( 10 );
+		index( TENANT_1, "1", "text" );
+		index( TENANT_1, "2", "text" );
+		index( TENANT_2, "1", "text" );
+
+		indexManager.createWorkExecutor().purge( TENANT_1 ).join();
+
+		// Only the index of the purged tenant is emptied
+		assertThat( createQuery( TENANT_1 ) ).hasNoHits();
+		assertThat( createQuery( TENANT_2 ) ).hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	private void setup(int maxOpenTenantIndexes) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.MULTI_TENANCY_STRATEGY, "index_per_tenant" )
+				.withBackendProperty(
+						BACKEND_NAME, SearchBackendLuceneSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES, maxOpenTenantIndexes
+				)
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.ROOT_DIRECTORY, rootDirectory.getAbsolutePath() )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withMultiTenancy()
+				.setup();
+	}
+
+	private void index(String tenantId, String id, String text) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext( tenantId ) );
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, text );
+		} );
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> createQuery(String tenantId) {
+		return indexManager.createSearchTarget().query( sessionContext( tenantId ) )
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+	}
+
+	private SearchQuery<DocumentReference> createQuery(String tenantId, String text) {
+		return indexManager.createSearchTarget().query( sessionContext( tenantId ) )
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( text ).toPredicate() )
+				.build();
+	}
+
+	private static StubSessionContext sessionContext(String tenantId) {
+		return new StubSessionContext( tenantId );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneIndexingIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int WORK_PLAN_COUNT = 200;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void batching() {
+		// Work plans will be applied in several batches, most of them without a commit
+		setup( 10, 60_000 );
+
+		List<CompletableFuture<?>> futures = executeWorkPlans();
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) ).join();
+
+		Assertions.assertThat( count() ).isEqualTo( WORK_PLAN_COUNT );
+	}
+
+	@Test
+	public void close_pendingWorkPlans() {
+		SearchIntegration integration = setup( 10, 60_000 );
+
+		List<CompletableFuture<?>> futures = executeWorkPlans();
+		integration.close();
+
+		// Work plans submitted before closing must be applied, and committed before the index is closed
+		for ( CompletableFuture<?> future : futures ) {
+			Assertions.assertThat( future ).isDone();
+			Assertions.assertThat( future ).hasNotFailed();
+		}
+
+		setup( 10, 60_000 );
+		Assertions.assertThat( count() ).isEqualTo( WORK_PLAN_COUNT );
+	}
+
+	@Test
+	public void close_submitAfterClose() {
+		SearchIntegration integration = setup( 10, 0 );
+		integration.close();
+
+		CompletableFuture<?> future = createWorkPlan( "1" ).execute();
+		Assertions.assertThat( future ).isDone();
+		SubTest.expectException( future::join )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "the index work orchestrator is closed" );
+	}
+
+	private SearchIntegration setup(int maxBatchSize, int commitInterval) {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.INDEXING_MAX_BATCH_SIZE, maxBatchSize )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.INDEXING_COMMIT_INTERVAL, commitInterval )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private List<CompletableFuture<?>> executeWorkPlans() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < WORK_PLAN_COUNT; i++ ) {
+			futures.add( createWorkPlan( String.valueOf( i ) ).execute() );
+		}
+		return futures;
+	}
+
+	private IndexWorkPlan<? extends DocumentElement> createWorkPlan(String id) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, "text " + id );
+		} );
+		return workPlan;
+	}
+
+	private long count() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		return query.executeCount();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneReaderRefreshIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void onDemand() {
+		setup( "on_demand", 1000 );
+
+		Assertions.assertThat( count() ).isEqualTo( 0L );
+
+		index( "1" );
+		Assertions.assertThat( count() ).isEqualTo( 1L );
+		// Nothing changed: the same reader is reused
+		Assertions.assertThat( count() ).isEqualTo( 1L );
+
+		index( "2" );
+		Assertions.assertThat( count() ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void maxStaleness() {
+		// Long enough for the reader not to be refreshed during the test
+		setup( "max_staleness", 3_600_000 );
+
+		Assertions.assertThat( count() ).isEqualTo( 0L );
+
+		index( "1" );
+		Assertions.assertThat( count() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void maxStaleness_workPlanRefreshStrategy() {
+		// Long enough for the reader not to be refreshed during the test
+		setup( "max_staleness", 3_600_000 );
+
+		Assertions.assertThat( count() ).isEqualTo( 0L );
+
+		index( "1", DocumentRefreshStrategy.IMMEDIATE );
+		Assertions.assertThat( count() ).isEqualTo( 1L );
+
+		index( "2", DocumentRefreshStrategy.WAIT_FOR );
+		Assertions.assertThat( count() ).isEqualTo( 2L );
+
+		// The default for Lucene work plans: no refresh
+		index( "3", DocumentRefreshStrategy.NONE );
+		Assertions.assertThat( count() ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void maxStaleness_workPlanRefreshStrategy_concurrentWorkPlans() {
+		// Long enough for the reader not to be refreshed during the test
+		setup( "max_staleness", 3_600_000 );
+
+		// Work plans executed concurrently are applied in batches, with a single refresh per batch
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[100];
+		for ( int i = 0; i < futures.length; i++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( DocumentRefreshStrategy.IMMEDIATE );
+			String id = String.valueOf( i );
+			workPlan.add( referenceProvider( id ), document -> {
+				indexAccessors.string.write( document, "text " + id );
+			} );
+			futures[i] = workPlan.execute();
+		}
+		CompletableFuture.allOf( futures ).join();
+		Assertions.assertThat( count() ).isEqualTo( (long) futures.length );
+	}
+
+	@Test
+	public void periodic() throws InterruptedException {
+		setup( "periodic", 50 );
+
+		Assertions.assertThat( count() ).isEqualTo( 0L );
+
+		index( "1" );
+		long deadline = System.currentTimeMillis() + 10_000L;
+		while ( count() == 0L && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10L );
+		}
+		Assertions.assertThat( count() ).isEqualTo( 1L );
+	}
+
+	private void setup(String refreshStrategy, int refreshInterval) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.READER_REFRESH_STRATEGY, refreshStrategy )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.READER_REFRESH_INTERVAL, refreshInterval )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(String id) {
+		index( indexManager.createWorkPlan(), id );
+	}
+
+	private void index(String id, DocumentRefreshStrategy refreshStrategy) {
+		index( indexManager.createWorkPlan( refreshStrategy ), id );
+	}
+
+	private void index(IndexWorkPlan<? extends DocumentElement> workPlan, String id) {
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, "text " + id );
+		} );
+		workPlan.execute().join();
+	}
+
+	private long count() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		return query.executeCount();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.lucene.cfg.SearchIndexLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.cfg.SearchBackendCommonSettings;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexModelBindingContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that sorted indexes stop collecting hits early when the query sort matches the index sort,
+ * and that index sorts are rejected when they cannot be applied.
+ */
+public class LuceneIndexSortIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 1_000;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<Integer> integer;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void earlyTermination() {
+		setup( "asc", ctx -> integer = createIntegerAccessor( ctx.getSchemaElement() ) );
+		initData();
+
+		// The query sort matches the index sort: only the first hits are collected in each segment,
+		// and the hit count is extrapolated from these hits
+		SearchResult<DocumentReference> result = execute( 0, 599, SortOrder.ASC, false );
+		assertThat( result ).hasDocRefHitsExactOrder( INDEX_NAME, "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+		Assertions.assertThat( result.getHitCount() ).isNotEqualTo( 600L );
+
+		// Requiring an exact hit count disables early termination, but not the sort
+		result = execute( 0, 599, SortOrder.ASC, true );
+		assertThat( result ).hasDocRefHitsExactOrder( INDEX_NAME, "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 600L );
+	}
+
+	@Test
+	public void earlyTermination_descendingIndexSort() {
+		setup( "desc", ctx -> integer = createIntegerAccessor( ctx.getSchemaElement() ) );
+		initData();
+
+		SearchResult<DocumentReference> result = execute( 400, 999, SortOrder.DESC, false );
+		assertThat( result ).hasDocRefHitsExactOrder( INDEX_NAME,
+				"999", "998", "997", "996", "995", "994", "993", "992", "991", "990" );
+		Assertions.assertThat( result.getHitCount() ).isNotEqualTo( 600L );
+
+		result = execute( 400, 999, SortOrder.DESC, true );
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 600L );
+	}
+
+	@Test
+	public void noEarlyTermination_sortNotMatchingIndexSort() {
+		setup( "asc", ctx -> integer = createIntegerAccessor( ctx.getSchemaElement() ) );
+		initData();
+
+		// The query sort is the reverse of the index sort: every hit must be collected
+		SearchResult<DocumentReference> result = execute( 400, 999, SortOrder.DESC, false );
+		assertThat( result ).hasDocRefHitsExactOrder( INDEX_NAME,
+				"999", "998", "997", "996", "995", "994", "993", "992", "991", "990" );
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 600L );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		SubTest.expectException(
+				"Index sort on an index with nested documents",
+				() -> setup( "asc", ctx -> {
+					IndexSchemaElement root = ctx.getSchemaElement();
+					integer = createIntegerAccessor( root );
+					root.objectField( "nested", ObjectFieldStorage.NESTED ).createAccessor();
+				} )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot sort index on field 'integer'" )
+				.hasMessageContaining( "indexes with nested documents cannot be sorted" )
+				.satisfies( FailureReportUtils.hasContext(
+						EventContexts.fromIndexName( INDEX_NAME )
+				) );
+	}
+
+	@Test
+	public void invalidSortOrder() {
+		SubTest.expectException(
+				"Invalid index sort order",
+				() -> setup( "ascending", ctx -> integer = createIntegerAccessor( ctx.getSchemaElement() ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown sort order 'ascending'" );
+	}
+
+	private void setup(String sortOrder, Consumer<IndexModelBindingContext> mappingContributor) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME,
+						SearchBackendCommonSettings.INDEX_DEFAULTS + "." + SearchIndexLuceneSettings.SORT_FIELD,
+						"integer"
+				)
+				.withBackendProperty(
+						BACKEND_NAME,
+						SearchBackendCommonSettings.INDEX_DEFAULTS + "." + SearchIndexLuceneSettings.SORT_ORDER,
+						sortOrder
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						mappingContributor,
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private static IndexFieldAccessor<Integer> createIntegerAccessor(IndexSchemaElement root) {
+		return root.field( "integer" ).asInteger().sortable( Sortable.YES ).createAccessor();
+	}
+
+	private void initData() {
+		// Several segments, each of them sorted; documents are not added in the order of the index sort
+		for ( int segment = 0; segment < 4; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = segment; i < DOCUMENT_COUNT; i += 4 ) {
+				int value = DOCUMENT_COUNT - 1 - i;
+				workPlan.add( referenceProvider( String.valueOf( value ) ), document -> {
+					integer.write( document, value );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private SearchResult<DocumentReference> execute(int lowerBound, int upperBound, SortOrder order,
+			boolean exactHitCountRequired) {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( lowerBound ).to( upperBound ).toPredicate() )
+				.sort( c -> c.byField( "integer" ).order( order ) )
+				.build();
+		query.setMaxResults( 10L );
+		query.setExactHitCountRequired( exactHitCountRequired );
+		return query.execute();
+	}
+}
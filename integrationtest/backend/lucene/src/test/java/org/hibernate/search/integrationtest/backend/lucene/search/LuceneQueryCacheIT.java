@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneQueryCacheStatistics;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks the query cache statistics when filters are executed on a segment large enough to be cached.
+ */
+public class LuceneQueryCacheIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	// Lucene does not cache filters on segments of less than 10,000 documents
+	private static final int DOCUMENT_COUNT = 10_000;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+	private LuceneIndexManager luceneIndexManager;
+
+	@Before
+	public void setup() {
+		SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		luceneIndexManager = integration.getIndexManager( INDEX_NAME ).unwrap( LuceneIndexManager.class );
+
+		// A single work plan, and thus a single segment
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	@Test
+	public void hitsAndMisses() {
+		LuceneQueryCacheStatistics statistics = luceneIndexManager.getQueryCacheStatistics().get();
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getCacheSize() ).isEqualTo( 0L );
+
+		// First execution: the document type filter is cached right away, the range filter is not used often enough
+		assertThat( createQuery() ).hasHitCount( 1_000L );
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+		Assertions.assertThat( statistics.getCacheSize() ).isEqualTo( 1L );
+
+		// Second execution: the document type filter is reused, the range filter is cached
+		assertThat( createQuery() ).hasHitCount( 1_000L );
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 1L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 3L );
+		Assertions.assertThat( statistics.getCacheSize() ).isEqualTo( 2L );
+
+		// Third execution: both filters are reused
+		assertThat( createQuery() ).hasHitCount( 1_000L );
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 3L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 3L );
+		Assertions.assertThat( statistics.getCacheSize() ).isEqualTo( 2L );
+		Assertions.assertThat( statistics.getRamBytesUsed() ).isGreaterThan( 0L );
+		Assertions.assertThat( statistics.getEvictionCount() ).isEqualTo( 0L );
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().onField( "integer" ).from( 1_000 ).to( 1_999 ) )
+						.toPredicate()
+				)
+				.build();
+		query.setMaxResults( 10L );
+		return query;
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer" ).asInteger().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchPredicate;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that counting hits without collecting them, possibly from index statistics,
+ * gives the same results as a full search.
+ */
+public class LuceneSearchCountIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String MULTI_TENANCY_CONFIGURATION_ID = "multi-tenancy";
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	private final StubSessionContext defaultSessionContext = new StubSessionContext();
+
+	@Test
+	public void matchAll() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		assertCount( defaultSessionContext, f -> f.matchAll().toPredicate(), DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void term() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		assertCount( defaultSessionContext, f -> f.match().onField( "string" ).matching( "even" ).toPredicate(),
+				DOCUMENT_COUNT / 2 );
+		// A term matching every document
+		assertCount( defaultSessionContext, f -> f.match().onField( "common" ).matching( "common" ).toPredicate(),
+				DOCUMENT_COUNT );
+		assertCount( defaultSessionContext, f -> f.match().onField( "string" ).matching( "none" ).toPredicate(), 0 );
+	}
+
+	@Test
+	public void conjunction() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		// The clause matching every document is dropped, the other one is counted from statistics
+		assertCount( defaultSessionContext, f -> f.bool()
+						.must( f.match().onField( "common" ).matching( "common" ) )
+						.must( f.match().onField( "string" ).matching( "odd" ) )
+						.toPredicate(),
+				DOCUMENT_COUNT / 2 );
+		// Neither clause matches every document
+		assertCount( defaultSessionContext, f -> f.bool()
+						.must( f.match().onField( "string" ).matching( "odd" ) )
+						.must( f.match().onField( "integer" ).matching( 3 ) )
+						.toPredicate(),
+				1 );
+	}
+
+	@Test
+	public void emptyBoolean() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		// A boolean predicate without clauses matches no document, it must not be dropped as if it matched every document
+		assertCount( defaultSessionContext, f -> f.bool().toPredicate(), 0 );
+		assertCount( defaultSessionContext, f -> f.bool()
+						.must( f.match().onField( "string" ).matching( "odd" ) )
+						.must( f.bool() )
+						.toPredicate(),
+				0 );
+	}
+
+	@Test
+	public void disjunctionAndExclusion() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		assertCount( defaultSessionContext, f -> f.bool()
+						.should( f.match().onField( "common" ).matching( "common" ) )
+						.should( f.match().onField( "string" ).matching( "odd" ) )
+						.toPredicate(),
+				DOCUMENT_COUNT );
+		assertCount( defaultSessionContext, f -> f.bool()
+						.must( f.match().onField( "common" ).matching( "common" ) )
+						.mustNot( f.match().onField( "string" ).matching( "odd" ) )
+						.toPredicate(),
+				DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void deletedDocuments() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( "0" ) );
+		workPlan.delete( referenceProvider( "1" ) );
+		workPlan.delete( referenceProvider( "2" ) );
+		workPlan.execute().join();
+
+		assertCount( defaultSessionContext, f -> f.matchAll().toPredicate(), DOCUMENT_COUNT - 3 );
+		assertCount( defaultSessionContext, f -> f.match().onField( "common" ).matching( "common" ).toPredicate(),
+				DOCUMENT_COUNT - 3 );
+		assertCount( defaultSessionContext, f -> f.match().onField( "string" ).matching( "even" ).toPredicate(),
+				DOCUMENT_COUNT / 2 - 2 );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		setup();
+		initData( defaultSessionContext, 0, DOCUMENT_COUNT );
+
+		// The main document filter must not be dropped: nested documents are not hits
+		assertCount( defaultSessionContext, f -> f.matchAll().toPredicate(), DOCUMENT_COUNT );
+		assertCount( defaultSessionContext, f -> f.nested().onObjectField( "nested" )
+						.nest( f.match().onField( "nested.string" ).matching( "nested" ) )
+						.toPredicate(),
+				DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void multiTenancy() {
+		setupHelper.withConfiguration( MULTI_TENANCY_CONFIGURATION_ID )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withMultiTenancy()
+				.setup();
+		StubSessionContext tenant1SessionContext = new StubSessionContext( TENANT_1 );
+		StubSessionContext tenant2SessionContext = new StubSessionContext( TENANT_2 );
+
+		// A single tenant in the index: the tenant filter matches every document
+		initData( tenant1SessionContext, 0, DOCUMENT_COUNT );
+		assertCount( tenant1SessionContext, f -> f.matchAll().toPredicate(), DOCUMENT_COUNT );
+		assertCount( tenant2SessionContext, f -> f.matchAll().toPredicate(), 0 );
+
+		initData( tenant2SessionContext, 0, 4 );
+		assertCount( tenant1SessionContext, f -> f.matchAll().toPredicate(), DOCUMENT_COUNT );
+		assertCount( tenant2SessionContext, f -> f.matchAll().toPredicate(), 4 );
+		assertCount( tenant2SessionContext, f -> f.match().onField( "string" ).matching( "even" ).toPredicate(), 2 );
+	}
+
+	private void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData(StubSessionContext sessionContext, int firstId, int documentCount) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = firstId; i < firstId + documentCount; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, value % 2 == 0 ? "even" : "odd" );
+				indexAccessors.common.write( document, "common" );
+				indexAccessors.integer.write( document, value );
+				DocumentElement nested = indexAccessors.nested.add( document );
+				indexAccessors.nestedString.write( nested, "nested" );
+				nested = indexAccessors.nested.add( document );
+				indexAccessors.nestedString.write( nested, "other" );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private void assertCount(StubSessionContext sessionContext,
+			Function<? super SearchPredicateFactoryContext, SearchPredicate> predicateContributor,
+			long expectedCount) {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query( sessionContext )
+				.asReference()
+				.predicate( predicateContributor )
+				.build();
+		Assertions.assertThat( query.executeCount() ).isEqualTo( expectedCount );
+		// The count must be consistent with the total hit count of a full search
+		Assertions.assertThat( query.execute().getHitCount() ).isEqualTo( expectedCount );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<String> common;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexObjectFieldAccessor nested;
+		final IndexFieldAccessor<String> nestedString;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+			common = root.field( "common" ).asString().createAccessor();
+			integer = root.field( "integer" ).asInteger().createAccessor();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectFieldStorage.NESTED );
+			nested = nestedField.createAccessor();
+			nestedString = nestedField.field( "string" ).asString().createAccessor();
+		}
+	}
+}
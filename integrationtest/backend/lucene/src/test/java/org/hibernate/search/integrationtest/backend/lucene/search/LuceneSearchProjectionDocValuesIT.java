@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that projections served from doc values fall back to stored fields
+ * in segments that were written without those doc values.
+ */
+public class LuceneSearchProjectionDocValuesIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void segmentsWithoutDocValues() {
+		// Projectable but not sortable string fields are only stored, without doc values
+		SearchIntegration integration = setup( Sortable.NO );
+		index( "1", "old 1", 1 );
+		index( "2", "old 2", 2 );
+		integration.close();
+
+		// Projectable and sortable string fields are projected from doc values when available
+		setup( Sortable.YES );
+		index( "3", "new 3", 3 );
+		// A segment where the field does not appear at all
+		index( "4", null, 4 );
+
+		SearchQuery<List<?>> query = createQuery();
+		assertThat( query ).hasListHitsAnyOrder( b -> b
+				.list( "old 1", 1 )
+				.list( "old 2", 2 )
+				.list( "new 3", 3 )
+				.list( null, 4 )
+		);
+	}
+
+	@Test
+	public void concurrentExecutions() {
+		setup( Sortable.YES );
+		for ( int i = 0; i < 10; i++ ) {
+			index( String.valueOf( i ), "text " + i, i );
+		}
+
+		// The same query executed concurrently: each execution must use its own loader
+		SearchQuery<List<?>> query = createQuery();
+		List<CompletableFuture<SearchResult<List<?>>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			futures.add( query.executeAsync().toCompletableFuture() );
+		}
+
+		for ( CompletableFuture<SearchResult<List<?>>> future : futures ) {
+			assertThat( future.join() ).hasListHitsAnyOrder( b -> {
+				for ( int i = 0; i < 10; i++ ) {
+					b.list( "text " + i, i );
+				}
+			} );
+		}
+	}
+
+	private SearchIntegration setup(Sortable stringSortable) {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement(), stringSortable ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(String id, String string, Integer integer) {
+		// Each work plan is committed separately, and thus creates its own segment
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, string );
+			indexAccessors.integer.write( document, integer );
+		} );
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<List<?>> createQuery() {
+		return indexManager.createSearchTarget().query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.field( "integer", Integer.class )
+						)
+						.toProjection()
+				)
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root, Sortable stringSortable) {
+			string = root.field( "string" ).asString()
+					.projectable( Projectable.YES ).sortable( stringSortable ).createAccessor();
+			integer = root.field( "integer" ).asInteger().projectable( Projectable.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneSearchQueryExecutionIT {
+
+	private static final String MAPPED_TYPE_NAME = "MappedType";
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	// More than the number of hits collected by default for queries without a limit
+	private static final int LARGE_DOCUMENT_COUNT = 2_500;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void queryThreadPoolSize_invalid() {
+		SubTest.expectException(
+				() -> setup( SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE, 0 )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildSingleContextFailureReportPattern()
+						.typeContext( MAPPED_TYPE_NAME )
+						.indexContext( INDEX_NAME )
+						.backendContext( BACKEND_NAME )
+						.failure(
+								"Invalid query thread pool size: '0'",
+								"The thread pool size must be strictly positive"
+						)
+						.build()
+				);
+	}
+
+	@Test
+	public void queryQueueSize_invalid() {
+		SubTest.expectException(
+				() -> setup( SearchBackendLuceneSettings.QUERY_QUEUE_SIZE, -1 )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildSingleContextFailureReportPattern()
+						.typeContext( MAPPED_TYPE_NAME )
+						.indexContext( INDEX_NAME )
+						.backendContext( BACKEND_NAME )
+						.failure(
+								"Invalid query queue size: '-1'",
+								"The queue size must be strictly positive"
+						)
+						.build()
+				);
+	}
+
+	@Test
+	public void queryQueueSize_full() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE, 1 )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.QUERY_QUEUE_SIZE, 1 )
+				.withIndex(
+						MAPPED_TYPE_NAME, INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		initData();
+
+		// Much more queries than the queue can hold: submitting threads should wait instead of failing
+		List<CompletableFuture<SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build();
+			futures.add( query.executeAsync().toCompletableFuture() );
+		}
+
+		for ( CompletableFuture<SearchResult<DocumentReference>> future : futures ) {
+			assertThat( future.join() ).hasHitCount( DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void unbounded_moreHitsThanDefaultCollectorSize() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						MAPPED_TYPE_NAME, INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		initData( LARGE_DOCUMENT_COUNT );
+
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "integer" ) )
+				.build();
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasHitCount( LARGE_DOCUMENT_COUNT );
+		assertThat( result ).hasDocRefHitsExactOrder( b -> {
+			for ( int i = 0; i < LARGE_DOCUMENT_COUNT; i++ ) {
+				b.doc( INDEX_NAME, String.valueOf( i ) );
+			}
+		} );
+
+		query.setFirstResult( (long) LARGE_DOCUMENT_COUNT - 2 );
+		assertThat( query ).hasDocRefHitsExactOrder(
+				INDEX_NAME, String.valueOf( LARGE_DOCUMENT_COUNT - 2 ), String.valueOf( LARGE_DOCUMENT_COUNT - 1 )
+		);
+	}
+
+	private void setup(String propertyRadical, Object value) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, propertyRadical, value )
+				.withIndex(
+						MAPPED_TYPE_NAME, INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData() {
+		initData( DOCUMENT_COUNT );
+	}
+
+	private void initData(int documentCount) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < documentCount; i++ ) {
+			String id = String.valueOf( i );
+			int value = i;
+			workPlan.add( referenceProvider( id ), document -> {
+				indexAccessors.string.write( document, "text " + id );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+			integer = root.field( "integer" ).asInteger().sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks scrolls, which collect each chunk with a search-after query on the same index readers.
+ */
+public class LuceneSearchScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	@Test
+	public void allHits() {
+		List<Integer> hits = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = createQuery().scroll( CHUNK_SIZE ) ) {
+			for ( int expectedSize : new int[] { CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE, DOCUMENT_COUNT % CHUNK_SIZE, 0 } ) {
+				SearchResult<Integer> chunk = scroll.next();
+				Assertions.assertThat( chunk.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				Assertions.assertThat( chunk.getHits() ).hasSize( expectedSize );
+				hits.addAll( chunk.getHits() );
+			}
+		}
+		Assertions.assertThat( hits ).containsExactlyElementsOf( expectedHits( 0, DOCUMENT_COUNT ) );
+	}
+
+	@Test
+	public void indexModifiedDuringScroll() {
+		SearchQuery<Integer> query = createQuery();
+		List<Integer> hits = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = query.scroll( CHUNK_SIZE ) ) {
+			hits.addAll( scroll.next().getHits() );
+
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = 0; i < 10; i++ ) {
+				workPlan.delete( referenceProvider( String.valueOf( i ) ) );
+			}
+			for ( int i = DOCUMENT_COUNT; i < DOCUMENT_COUNT + 20; i++ ) {
+				int value = i;
+				workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					indexAccessors.integer.write( document, value );
+				} );
+			}
+			workPlan.execute().join();
+			// Other queries see the changes
+			Assertions.assertThat( query.execute().getHitCount() ).isEqualTo( DOCUMENT_COUNT + 10 );
+
+			// The scroll does not: it keeps collecting hits from the same index readers
+			SearchResult<Integer> chunk = scroll.next();
+			while ( !chunk.getHits().isEmpty() ) {
+				Assertions.assertThat( chunk.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				hits.addAll( chunk.getHits() );
+				chunk = scroll.next();
+			}
+		}
+		Assertions.assertThat( hits ).containsExactlyElementsOf( expectedHits( 0, DOCUMENT_COUNT ) );
+	}
+
+	@Test
+	public void truncatedChunk() {
+		SearchQuery<Integer> query = createQuery();
+		List<Integer> hits = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = query.scroll( CHUNK_SIZE ) ) {
+			hits.addAll( scroll.next().getHits() );
+
+			// Timeouts of one nanosecond are always exceeded by the time hits are collected
+			query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+			SearchResult<Integer> truncatedChunk = scroll.next();
+			Assertions.assertThat( truncatedChunk.isTimedOut() ).isTrue();
+			Assertions.assertThat( truncatedChunk.getHits().size() ).isLessThan( CHUNK_SIZE );
+			hits.addAll( truncatedChunk.getHits() );
+
+			// A truncated chunk is not the last one: the scroll resumes after its last hit
+			query.truncateAfter( 1L, TimeUnit.HOURS );
+			SearchResult<Integer> chunk = scroll.next();
+			while ( !chunk.getHits().isEmpty() ) {
+				Assertions.assertThat( chunk.isTimedOut() ).isFalse();
+				hits.addAll( chunk.getHits() );
+				chunk = scroll.next();
+			}
+		}
+		Assertions.assertThat( hits ).containsExactlyElementsOf( expectedHits( 0, DOCUMENT_COUNT ) );
+	}
+
+	private SearchQuery<Integer> createQuery() {
+		return indexManager.createSearchTarget().query()
+				.asProjection( f -> f.field( "integer", Integer.class ).toProjection() )
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "integer" ) )
+				.build();
+	}
+
+	private static List<Integer> expectedHits(int first, int count) {
+		List<Integer> expected = new ArrayList<>( count );
+		for ( int i = first; i < first + count; i++ ) {
+			expected.add( i );
+		}
+		return expected;
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer" ).asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES )
+					.createAccessor();
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Projectable;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that searching segments in parallel, in several slices,
+ * gives the same results as searching them sequentially.
+ */
+public class LuceneSearchSegmentParallelismIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	// Each work plan is committed separately, and thus creates its own segment
+	private static final int SEGMENT_COUNT = 5;
+	private static final int DOCUMENTS_PER_SEGMENT = 20;
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+
+	private static final GeoPoint CENTER = GeoPoint.of( 45.749828, 4.854172 );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void sameResultsAsSequentialSearch() {
+		SearchIntegration integration = setup( false );
+		initData();
+		QueryResults sequentialResults = executeQueries();
+		integration.close();
+
+		// Slices of one segment each: the segments above are searched in as many slices
+		setup( true );
+		QueryResults parallelResults = executeQueries();
+
+		Assertions.assertThat( sequentialResults.matchAllCount ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( sequentialResults.termCount ).isEqualTo( DOCUMENT_COUNT / 2 );
+		Assertions.assertThat( sequentialResults.unboundedIds ).hasSize( DOCUMENT_COUNT );
+		Assertions.assertThat( sequentialResults.pageIds ).hasSize( 10 );
+		Assertions.assertThat( sequentialResults.distances ).hasSize( DOCUMENT_COUNT );
+
+		Assertions.assertThat( parallelResults.matchAllCount ).isEqualTo( sequentialResults.matchAllCount );
+		Assertions.assertThat( parallelResults.termCount ).isEqualTo( sequentialResults.termCount );
+		Assertions.assertThat( parallelResults.unboundedIds ).containsExactlyElementsOf( sequentialResults.unboundedIds );
+		Assertions.assertThat( parallelResults.pageIds ).containsExactlyElementsOf( sequentialResults.pageIds );
+		Assertions.assertThat( parallelResults.distances ).containsExactlyElementsOf( sequentialResults.distances );
+		Assertions.assertThat( parallelResults.scores ).containsExactlyElementsOf( sequentialResults.scores );
+	}
+
+	private SearchIntegration setup(boolean segmentParallelism) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, SearchBackendLuceneSettings.INDEXING_COMMIT_INTERVAL, 0 );
+		if ( segmentParallelism ) {
+			setupContext = setupContext
+					.withBackendProperty(
+							BACKEND_NAME, SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_THREAD_POOL_SIZE, 2
+					)
+					.withBackendProperty(
+							BACKEND_NAME, SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_MAX_DOCS_PER_SLICE, 1
+					)
+					.withBackendProperty(
+							BACKEND_NAME, SearchBackendLuceneSettings.QUERY_SEGMENT_PARALLELISM_MAX_SEGMENTS_PER_SLICE, 1
+					);
+		}
+		return setupContext
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData() {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = segment * DOCUMENTS_PER_SEGMENT; i < ( segment + 1 ) * DOCUMENTS_PER_SEGMENT; i++ ) {
+				int value = i;
+				workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					indexAccessors.string.write( document, value % 2 == 0 ? "even" : "odd" );
+					// Many ties, so that the order of hits with the same value is checked too
+					indexAccessors.integer.write( document, value % 7 );
+					indexAccessors.geoPoint.write( document, GeoPoint.of( 45.0 + value * 0.01, 4.0 + value * 0.01 ) );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private QueryResults executeQueries() {
+		QueryResults results = new QueryResults();
+
+		results.matchAllCount = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build()
+				.executeCount();
+
+		results.termCount = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( "even" ).toPredicate() )
+				.build()
+				.executeCount();
+
+		SearchQuery<DocumentReference> unboundedQuery = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "integer" ) )
+				.build();
+		results.unboundedIds = toIds( unboundedQuery.execute() );
+
+		SearchQuery<DocumentReference> pageQuery = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "integer" ).desc() )
+				.build();
+		pageQuery.setFirstResult( 15L );
+		pageQuery.setMaxResults( 10L );
+		results.pageIds = toIds( pageQuery.execute() );
+
+		SearchQuery<List<?>> distanceQuery = indexManager.createSearchTarget().query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "integer", Integer.class ),
+								f.distance( "geoPoint", CENTER )
+						)
+						.toProjection()
+				)
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "integer" ) )
+				.build();
+		results.distances = distanceQuery.execute().getHits();
+
+		SearchQuery<Float> scoreQuery = indexManager.createSearchTarget().query()
+				.asProjection( f -> f.score().toProjection() )
+				.predicate( f -> f.bool()
+						.should( f.match().onField( "string" ).matching( "even" ) )
+						.should( f.match().onField( "integer" ).matching( 3 ) )
+						.toPredicate()
+				)
+				.build();
+		results.scores = scoreQuery.execute().getHits();
+
+		return results;
+	}
+
+	private static List<String> toIds(SearchResult<DocumentReference> result) {
+		List<String> ids = new ArrayList<>();
+		for ( DocumentReference reference : result.getHits() ) {
+			ids.add( reference.getId() );
+		}
+		return ids;
+	}
+
+	private static class QueryResults {
+		long matchAllCount;
+		long termCount;
+		List<String> unboundedIds;
+		List<String> pageIds;
+		List<List<?>> distances;
+		List<Float> scores;
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<GeoPoint> geoPoint;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+			integer = root.field( "integer" ).asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ).createAccessor();
+			geoPoint = root.field( "geoPoint" ).asGeoPoint().projectable( Projectable.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks query timeouts, for searches as well as counts.
+ * <p>
+ * Timeouts of one nanosecond are always exceeded by the time hits are collected,
+ * since the time spent opening the reader and rewriting the query counts towards the timeout.
+ */
+public class LuceneSearchTimeoutIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void noTimeout() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.failAfter( 0L, TimeUnit.NANOSECONDS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result ).hasHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void failAfter() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.failAfter( 1L, TimeUnit.NANOSECONDS );
+
+		SubTest.expectException(
+				"Query exceeding its timeout with failAfter",
+				query::execute
+		)
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "exceeded the timeout of 0ms" );
+	}
+
+	@Test
+	public void failAfter_notExceeded() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.failAfter( 1L, TimeUnit.HOURS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result ).hasHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void truncateAfter() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+
+		// Hits collected before the timeout are returned, along with a flag
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.isTimedOut() ).isTrue();
+		Assertions.assertThat( result.getHitCount() ).isLessThan( DOCUMENT_COUNT );
+		Assertions.assertThat( (long) result.getHits().size() ).isLessThanOrEqualTo( result.getHitCount() );
+	}
+
+	@Test
+	public void truncateAfter_notExceeded() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.truncateAfter( 1L, TimeUnit.HOURS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result ).hasHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void truncateAfter_overridesFailAfter() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.failAfter( 1L, TimeUnit.NANOSECONDS );
+		query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+
+		Assertions.assertThat( query.execute().isTimedOut() ).isTrue();
+	}
+
+	@Test
+	public void count_failAfter() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.failAfter( 1L, TimeUnit.NANOSECONDS );
+
+		SubTest.expectException(
+				"Count exceeding its timeout with failAfter",
+				query::executeCount
+		)
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "exceeded the timeout of 0ms" );
+	}
+
+	@Test
+	public void count_truncateAfter() {
+		SearchQuery<DocumentReference> query = createQuery();
+		query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+
+		Assertions.assertThat( query.executeCount() ).isLessThan( DOCUMENT_COUNT );
+
+		query.truncateAfter( 1L, TimeUnit.HOURS );
+		Assertions.assertThat( query.executeCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void count_fromStatistics() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		query.failAfter( 1L, TimeUnit.NANOSECONDS );
+
+		// Counts answered from index statistics take constant time and are not time-limited
+		Assertions.assertThat( query.executeCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( 0 ).to( DOCUMENT_COUNT ).toPredicate() )
+				.build();
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+		return query;
+	}
+
+	private void initData() {
+		// Several segments
+		for ( int segment = 0; segment < 4; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = segment; i < DOCUMENT_COUNT; i += 4 ) {
+				int value = i;
+				workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					indexAccessors.integer.write( document, value );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer" ).asInteger().createAccessor();
+		}
+	}
+}
@@ -6,10 +6,205 @@
  */
 package org.hibernate.search.integrationtest.backend.tck;
 
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks indexing and searching in a sharded index, with and without routing keys.
+ * <p>
+ * Which shard a routing key targets is a backend implementation detail,
+ * so routed queries are only expected to return at least the documents indexed with the same routing keys.
+ */
 public class RoutingIT {
 
-	// TODO test routing
-	// These tests will probably only be about checking that no exception arises,
-	// since routing is fundamentally a black-box, performance optimization feature.
+	public static final String CONFIGURATION_ID = "sharding";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	private static final List<String> ROUTING_KEYS = Arrays.asList( "routing_1", "routing_2", "routing_3" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withConfiguration( CONFIGURATION_ID )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void noRoutingKey() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			workPlan.add( referenceProvider( id ), document -> {
+				indexAccessors.string.write( document, "text " + id );
+			} );
+		}
+		workPlan.execute().join();
+
+		assertThat( createQuery( null ) ).hasHitCount( DOCUMENT_COUNT );
+
+		// Documents without a routing key are routed based on their identifier
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			Assertions.assertThat( getIds( createQuery( id ) ) ).contains( id );
+		}
+
+		// Updates and deletes without a routing key target the same shard as the original document
+		workPlan = indexManager.createWorkPlan();
+		workPlan.update( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "updated" );
+		} );
+		workPlan.delete( referenceProvider( "2" ) );
+		workPlan.execute().join();
+
+		assertThat( createQuery( null ) ).hasHitCount( DOCUMENT_COUNT - 1 );
+		assertThat( createQuery( "string", "updated" ) )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( "string", "text 1" ) ).hasNoHits();
+		assertThat( createQuery( "string", "text 2" ) ).hasNoHits();
+	}
+
+	@Test
+	public void routingKey() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			String routingKey = getRoutingKey( i );
+			workPlan.add( referenceProvider( id, routingKey ), document -> {
+				indexAccessors.string.write( document, "text " + id );
+				indexAccessors.routingKey.write( document, routingKey );
+			} );
+		}
+		workPlan.execute().join();
+
+		assertThat( createQuery( null ) ).hasHitCount( DOCUMENT_COUNT );
+
+		for ( String routingKey : ROUTING_KEYS ) {
+			List<String> expectedIds = new ArrayList<>();
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				if ( routingKey.equals( getRoutingKey( i ) ) ) {
+					expectedIds.add( String.valueOf( i ) );
+				}
+			}
+
+			// Routed queries may return documents with other routing keys in the same shards, but not less
+			Assertions.assertThat( getIds( createQuery( routingKey ) ) ).containsAll( expectedIds );
+
+			SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.match().onField( "routingKey" ).matching( routingKey ).toPredicate() )
+					.routing( routingKey )
+					.build();
+			Assertions.assertThat( getIds( query ) ).containsExactlyInAnyOrderElementsOf( expectedIds );
+		}
+
+		// Querying with every routing key targets every document
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.routing( ROUTING_KEYS )
+				.build();
+		assertThat( query ).hasHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void routingKey_updateAndDelete() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			workPlan.add( referenceProvider( id, getRoutingKey( i ) ), document -> {
+				indexAccessors.string.write( document, "text " + id );
+			} );
+		}
+		workPlan.execute().join();
+
+		// Updates and deletes with the same routing key as the original document replace or remove it
+		workPlan = indexManager.createWorkPlan();
+		workPlan.update( referenceProvider( "1", getRoutingKey( 1 ) ), document -> {
+			indexAccessors.string.write( document, "updated" );
+		} );
+		workPlan.delete( referenceProvider( "2", getRoutingKey( 2 ) ) );
+		workPlan.execute().join();
+
+		assertThat( createQuery( null ) ).hasHitCount( DOCUMENT_COUNT - 1 );
+		assertThat( createQuery( "string", "updated" ) )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+		assertThat( createQuery( "string", "text 1" ) ).hasNoHits();
+		assertThat( createQuery( "string", "text 2" ) ).hasNoHits();
+	}
+
+	private static String getRoutingKey(int documentIndex) {
+		return ROUTING_KEYS.get( documentIndex % ROUTING_KEYS.size() );
+	}
+
+	private SearchQuery<DocumentReference> createQuery(String routingKey) {
+		if ( routingKey == null ) {
+			return indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build();
+		}
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.routing( routingKey )
+				.build();
+	}
+
+	private SearchQuery<DocumentReference> createQuery(String fieldPath, String value) {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( fieldPath ).matching( value ).toPredicate() )
+				.build();
+	}
+
+	private static List<String> getIds(SearchQuery<DocumentReference> query) {
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+		List<String> ids = new ArrayList<>();
+		for ( DocumentReference reference : query.execute().getHits() ) {
+			ids.add( reference.getId() );
+		}
+		return ids;
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<String> routingKey;
 
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+			routingKey = root.field( "routingKey" ).asString().createAccessor();
+		}
+	}
 }
@@ -17,6 +17,8 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryBatch;
+import org.hibernate.search.engine.search.SearchQueryBatchResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
@@ -194,6 +196,49 @@ public void queryWrapper() {
 		assertThat( queryWrapper.query.getQueryString() ).contains( "platypus" );
 	}
 
+	@Test
+	public void batch() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query1 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		query1.setFirstResult( 1L );
+		query1.setMaxResults( 1L );
+
+		SearchQuery<DocumentReference> query2 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( STRING_3 ).toPredicate() )
+				.build();
+
+		SearchQueryBatchResult result = SearchQueryBatch.create()
+				.add( query1 )
+				.add( query2 )
+				.execute();
+
+		assertThat( result.get( query1 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+		assertThat( result.get( query2 ) )
+				.hasHitCount( 1 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+
+		result = SearchQueryBatch.create()
+				.add( query1 )
+				.add( query2 )
+				.executeAsync()
+				.toCompletableFuture().join();
+
+		assertThat( result.get( query1 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+		assertThat( result.get( query2 ) )
+				.hasHitCount( 1 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+	}
+
 	private void initData() {
 		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
 		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
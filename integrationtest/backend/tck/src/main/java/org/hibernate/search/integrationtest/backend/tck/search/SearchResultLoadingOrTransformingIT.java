@@ -14,7 +14,9 @@
 import static org.junit.Assert.assertEquals;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.easymock.EasyMock;
@@ -29,6 +31,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
@@ -93,6 +96,18 @@ public void references_noReferenceTransformer() {
 				.hasDocRefHitsAnyOrder( INDEX_NAME, MAIN_ID, EMPTY_ID );
 	}
 
+	@Test
+	public void references_async() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+		assertThat( query.executeAsync().toCompletableFuture().join() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, MAIN_ID, EMPTY_ID );
+	}
+
 	@Test
 	public void objects_noObjectLoading() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -105,6 +120,28 @@ public void objects_noObjectLoading() {
 				.hasDocRefHitsAnyOrder( INDEX_NAME, MAIN_ID, EMPTY_ID );
 	}
 
+	@Test
+	public void objects_multipleExecutions() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asObject()
+				.predicate( f -> f.matchAll().toPredicate() )
+				.build();
+
+		// Each execution must load its own hits, even when executions overlap
+		List<CompletableFuture<SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			futures.add( query.executeAsync().toCompletableFuture() );
+		}
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, MAIN_ID, EMPTY_ID );
+		for ( CompletableFuture<SearchResult<DocumentReference>> future : futures ) {
+			assertThat( future.join() )
+					.hasDocRefHitsAnyOrder( INDEX_NAME, MAIN_ID, EMPTY_ID );
+		}
+	}
+
 	@Test
 	public void references_referenceTransformer() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.integrationtest.backend.tck.search.spatial;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.data.Offset;
@@ -110,6 +112,45 @@ public void distanceProjection_several() {
 		checkResult( results.getHits().get( 3 ), null, 3, null, null );
 	}
 
+	@Test
+	public void distanceProjection_concurrentExecutions() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		// Two projections on the same field and center, and the same query executed concurrently
+		SearchQuery<List<?>> query = searchTarget.query()
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.distance( "geoPoint", GeoPoint.of( 45.749828, 4.854172 ) ),
+								f.distance( "geoPoint", GeoPoint.of( 45.749828, 4.854172 ) )
+										.unit( DistanceUnit.KILOMETERS )
+						)
+						.toProjection()
+				)
+				.predicate( f -> f.matchAll().toPredicate() )
+				.sort( c -> c.byField( "string" ).onMissingValue().sortLast().asc() )
+				.build();
+
+		List<CompletableFuture<SearchResult<List<?>>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			futures.add( query.executeAsync().toCompletableFuture() );
+		}
+
+		for ( CompletableFuture<SearchResult<List<?>>> future : futures ) {
+			SearchResult<List<?>> results = future.join();
+
+			checkResult( results.getHits().get( 0 ), "Chez Margotte", 1, 430d, Offset.offset( 10d ) );
+			checkResult( results.getHits().get( 1 ), "Imouto", 1, 1300d, Offset.offset( 10d ) );
+			checkResult( results.getHits().get( 2 ), "L'ourson qui boit", 1, 2730d, Offset.offset( 10d ) );
+			checkResult( results.getHits().get( 3 ), null, 1, null, null );
+
+			checkResult( results.getHits().get( 0 ), "Chez Margotte", 2, 0.430d, Offset.offset( 0.010d ) );
+			checkResult( results.getHits().get( 1 ), "Imouto", 2, 1.300d, Offset.offset( 0.010d ) );
+			checkResult( results.getHits().get( 2 ), "L'ourson qui boit", 2, 2.730d, Offset.offset( 0.010d ) );
+			checkResult( results.getHits().get( 3 ), null, 2, null, null );
+		}
+	}
+
 	@Test
 	public void distanceProjection_distanceSort() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -66,6 +66,8 @@ public void checkAllDocumentsAreSearchable() throws Exception {
 			} );
 		}
 		CompletableFuture.allOf( tasks ).join();
+		// Document work executors do not refresh the index after each work: refresh it explicitly
+		indexManager.createWorkExecutor().flush().join();
 
 		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
 				.asReference()
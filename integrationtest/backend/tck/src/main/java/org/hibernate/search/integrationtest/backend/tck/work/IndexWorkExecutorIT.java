@@ -122,6 +122,8 @@ private void createBookIndexes(StubSessionContext sessionContext) {
 			} );
 		}
 		CompletableFuture.allOf( tasks ).join();
+		// Document work executors do not refresh the index after each work: refresh it explicitly
+		indexManager.createWorkExecutor().flush().join();
 	}
 
 	private void assertBookNumberIsEqualsTo(long bookNumber, StubSessionContext sessionContext) {
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that the refresh strategy configured for automatic indexing is passed to the backend.
+ */
+public class AutomaticIndexingRefreshStrategyIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void defaultStrategy() {
+		SessionFactory sessionFactory = setup( null );
+
+		// No strategy: the backend applies its own default
+		persistAndExpectAdd( sessionFactory, null );
+	}
+
+	@Test
+	public void explicitStrategy() {
+		SessionFactory sessionFactory = setup( "immediate" );
+
+		persistAndExpectAdd( sessionFactory, DocumentRefreshStrategy.IMMEDIATE );
+	}
+
+	@Test
+	public void invalidStrategy() {
+		SubTest.expectException( () -> setup( "invalid" ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown refresh strategy: 'invalid'" );
+	}
+
+	private SessionFactory setup(String refreshStrategy) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		OrmSetupHelper.SetupContext setupContext = ormSetupHelper.withBackendMock( backendMock );
+		if ( refreshStrategy != null ) {
+			setupContext.withProperty( SearchOrmSettings.REFRESH_STRATEGY, refreshStrategy );
+		}
+		SessionFactory sessionFactory = setupContext.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	private void persistAndExpectAdd(SessionFactory sessionFactory, DocumentRefreshStrategy refreshStrategy) {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( b -> b
+							.identifier( "1" )
+							.refreshStrategy( refreshStrategy )
+							.document( StubDocumentNode.document()
+									.field( "indexedField", entity1.getIndexedField() )
+									.build()
+							)
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
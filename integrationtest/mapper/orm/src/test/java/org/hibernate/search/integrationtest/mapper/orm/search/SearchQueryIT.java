@@ -18,6 +18,10 @@
 
 import org.assertj.core.api.Assertions;
 import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryBatch;
+import org.hibernate.search.engine.search.SearchQueryBatchResult;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
 import org.hibernate.search.mapper.orm.hibernate.FullTextSearchTarget;
@@ -103,6 +107,92 @@ public void asEntity() {
 		} );
 	}
 
+	@Test
+	public void asEntity_executeAsync() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			FullTextQuery<Book> query = ftSession.search( Book.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Book.INDEX, "1" ),
+							reference( Book.INDEX, "2" ),
+							reference( Book.INDEX, "3" )
+					)
+			);
+
+			@SuppressWarnings("unchecked")
+			SearchQuery<Book> searchQuery = query.unwrap( SearchQuery.class );
+			SearchResult<Book> result = searchQuery.executeAsync().toCompletableFuture().join();
+			Assertions.assertThat( result.getHits() ).containsExactly(
+					session.load( Book.class, 1 ),
+					session.load( Book.class, 2 ),
+					session.load( Book.class, 3 )
+			);
+		} );
+	}
+
+	@Test
+	public void asEntity_batch_executeAsync() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+
+			@SuppressWarnings("unchecked")
+			SearchQuery<Book> query1 = ftSession.search( Book.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build()
+					.unwrap( SearchQuery.class );
+			@SuppressWarnings("unchecked")
+			SearchQuery<Book> query2 = ftSession.search( Book.class )
+					.query()
+					.asEntity()
+					.predicate( f -> f.matchAll().toPredicate() )
+					.build()
+					.unwrap( SearchQuery.class );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Book.INDEX, "1" ),
+							reference( Book.INDEX, "2" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							1L,
+							reference( Book.INDEX, "3" )
+					)
+			);
+
+			SearchQueryBatchResult result = SearchQueryBatch.create()
+					.add( query1 )
+					.add( query2 )
+					.executeAsync()
+					.toCompletableFuture().join();
+			Assertions.assertThat( result.get( query1 ).getHits() ).containsExactly(
+					session.load( Book.class, 1 ),
+					session.load( Book.class, 2 )
+			);
+			Assertions.assertThat( result.get( query2 ).getHits() ).containsExactly(
+					session.load( Book.class, 3 )
+			);
+		} );
+	}
+
 	@Test
 	public void offsetAndLimit() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work;
+
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.session.JavaBeanSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that the refresh strategy requested when creating a search manager is passed to the backend.
+ */
+public class WorkPlanRefreshStrategyIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = new JavaBeanMappingSetupHelper();
+
+	private JavaBeanMapping mapping;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "value", String.class )
+		);
+
+		mapping = setupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void defaultStrategy() {
+		try ( JavaBeanSearchManager manager = mapping.createSearchManager() ) {
+			manager.getMainWorkPlan().add( createEntity() );
+
+			// No strategy: the backend applies its own default
+			expectAdd( null );
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void explicitStrategy() {
+		for ( DocumentRefreshStrategy refreshStrategy : DocumentRefreshStrategy.values() ) {
+			try ( JavaBeanSearchManager manager = mapping.createSearchManagerWithOptions()
+					.refreshStrategy( refreshStrategy )
+					.build() ) {
+				manager.getMainWorkPlan().add( createEntity() );
+
+				expectAdd( refreshStrategy );
+			}
+			backendMock.verifyExpectationsMet();
+		}
+	}
+
+	private IndexedEntity createEntity() {
+		IndexedEntity entity = new IndexedEntity();
+		entity.setId( 1 );
+		entity.setValue( "val1" );
+		return entity;
+	}
+
+	private void expectAdd(DocumentRefreshStrategy refreshStrategy) {
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( b -> b
+						.identifier( "1" )
+						.refreshStrategy( refreshStrategy )
+						.document( StubDocumentNode.document()
+								.field( "value", "val1" )
+								.build()
+						)
+				)
+				.preparedThenExecuted();
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static final class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		private Integer id;
+
+		private String value;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResultLoader;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneIntegerFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneLocalDateFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.util.impl.common.CollectionHelper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of extracting a document reference and three field projections for each hit of a page.
+ * <p>
+ * {@link #document(Blackhole)} materializes a Lucene {@link Document} for each hit, as hit extraction used to do;
+ * the other benchmarks use the {@link LuceneResultLoader}, which decodes values straight into per-page slots.
+ * Run with {@code -prof gc} to compare allocations per hit.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(HitExtractionBenchmark.HITS_PER_PAGE)
+@State(Scope.Thread)
+public class HitExtractionBenchmark {
+
+	static final int HITS_PER_PAGE = 100;
+
+	private static final int DOCUMENT_COUNT = 10_000;
+
+	private static final String INDEX_NAME = "benchmark";
+	private static final String TITLE = "title";
+	private static final String PAGE_COUNT = "pageCount";
+	private static final String PUBLICATION_DATE = "publicationDate";
+
+	private final LuceneStringFieldCodec titleCodec = new LuceneStringFieldCodec( false, StringField.TYPE_STORED, null );
+	private final LuceneIntegerFieldCodec pageCountCodec = new LuceneIntegerFieldCodec( true, false );
+	private final LuceneLocalDateFieldCodec publicationDateCodec = new LuceneLocalDateFieldCodec( true, false );
+
+	private Directory directory;
+	private DirectoryReader reader;
+	private IndexSearcher searcher;
+	private ScoreDoc[] hits;
+
+	private ReusableDocumentStoredFieldVisitor documentVisitor;
+	private LuceneResultLoader storedValuesLoader;
+	private LuceneResultLoader docValuesLoader;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		directory = new RAMDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				LuceneRootDocumentBuilder documentBuilder = new LuceneRootDocumentBuilder();
+				titleCodec.encode( documentBuilder, TITLE, "Title of book #" + i );
+				pageCountCodec.encode( documentBuilder, PAGE_COUNT, 100 + i % 900 );
+				publicationDateCodec.encode( documentBuilder, PUBLICATION_DATE, LocalDate.of( 1900, 1, 1 ).plusDays( i ) );
+				writer.addDocuments( documentBuilder.build( INDEX_NAME, new NoMultiTenancyStrategy(), null, String.valueOf( i ) ) );
+			}
+		}
+		reader = DirectoryReader.open( directory );
+		searcher = new IndexSearcher( reader );
+
+		// Hits spread over the whole index, not in doc ID order, as they would be when sorted by score
+		hits = new ScoreDoc[HITS_PER_PAGE];
+		for ( int i = 0; i < HITS_PER_PAGE; i++ ) {
+			hits[i] = new ScoreDoc( ( i * 7919 ) % DOCUMENT_COUNT, 1.0f );
+		}
+
+		documentVisitor = new ReusableDocumentStoredFieldVisitor( CollectionHelper.asSet(
+				LuceneFields.indexFieldName(), LuceneFields.idFieldName(), TITLE, PAGE_COUNT, PUBLICATION_DATE
+		) );
+
+		LuceneDocumentStoredFieldVisitorBuilder storedValuesBuilder = new LuceneDocumentStoredFieldVisitorBuilder();
+		storedValuesBuilder.addStoredValue( LuceneFields.indexFieldName() );
+		storedValuesBuilder.addStoredValue( LuceneFields.idFieldName() );
+		storedValuesBuilder.addStoredValue( TITLE );
+		storedValuesBuilder.addStoredValue( PAGE_COUNT );
+		storedValuesBuilder.addStoredValue( PUBLICATION_DATE );
+		storedValuesLoader = storedValuesBuilder.build();
+
+		LuceneDocumentStoredFieldVisitorBuilder docValuesBuilder = new LuceneDocumentStoredFieldVisitorBuilder();
+		docValuesBuilder.addDocValues( LuceneFields.indexFieldName(), DocValuesType.SORTED );
+		docValuesBuilder.addDocValues( LuceneFields.idFieldName(), DocValuesType.SORTED );
+		docValuesBuilder.addStoredValue( TITLE );
+		docValuesBuilder.addDocValues( PAGE_COUNT, DocValuesType.NUMERIC );
+		docValuesBuilder.addDocValues( PUBLICATION_DATE, DocValuesType.NUMERIC );
+		docValuesLoader = docValuesBuilder.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		reader.close();
+		directory.close();
+	}
+
+	@Benchmark
+	public void document(Blackhole blackhole) throws IOException {
+		for ( ScoreDoc hit : hits ) {
+			searcher.doc( hit.doc, documentVisitor );
+			Document document = documentVisitor.getDocumentAndReset();
+			blackhole.consume( document.get( LuceneFields.indexFieldName() ) );
+			blackhole.consume( document.get( LuceneFields.idFieldName() ) );
+			blackhole.consume( titleCodec.decode( document, TITLE ) );
+			blackhole.consume( pageCountCodec.decode( document, PAGE_COUNT ) );
+			blackhole.consume( publicationDateCodec.decode( document, PUBLICATION_DATE ) );
+		}
+	}
+
+	@Benchmark
+	public void storedValues(Blackhole blackhole) throws IOException {
+		for ( LuceneResult result : storedValuesLoader.load( searcher, hits ) ) {
+			blackhole.consume( result.getStringValue( LuceneFields.indexFieldName() ) );
+			blackhole.consume( result.getStringValue( LuceneFields.idFieldName() ) );
+			blackhole.consume( titleCodec.decodeStoredValue( result.getValue( TITLE ) ) );
+			blackhole.consume( pageCountCodec.decodeStoredValue( result.getValue( PAGE_COUNT ) ) );
+			blackhole.consume( publicationDateCodec.decodeStoredValue( result.getValue( PUBLICATION_DATE ) ) );
+		}
+	}
+
+	@Benchmark
+	public void docValues(Blackhole blackhole) throws IOException {
+		for ( LuceneResult result : docValuesLoader.load( searcher, hits ) ) {
+			blackhole.consume( result.getStringValue( LuceneFields.indexFieldName() ) );
+			blackhole.consume( result.getStringValue( LuceneFields.idFieldName() ) );
+			blackhole.consume( titleCodec.decodeStoredValue( result.getValue( TITLE ) ) );
+			blackhole.consume( pageCountCodec.decodeDocValue( result.getValue( PAGE_COUNT ) ) );
+			blackhole.consume( publicationDateCodec.decodeDocValue( result.getValue( PUBLICATION_DATE ) ) );
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.javabean.session;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 
 /**
  * @author Yoann Rodiere
@@ -16,6 +17,13 @@ public interface JavaBeanSearchManagerBuilder {
 
 	JavaBeanSearchManagerBuilder tenantId(String tenantId);
 
+	/**
+	 * @param refreshStrategy The refresh strategy of the {@link JavaBeanSearchManager#getMainWorkPlan() main work plan}.
+	 * Defaults to the default refresh strategy of each backend.
+	 * @return {@code this}, for method chaining.
+	 */
+	JavaBeanSearchManagerBuilder refreshStrategy(DocumentRefreshStrategy refreshStrategy);
+
 	JavaBeanSearchManager build();
 
 }
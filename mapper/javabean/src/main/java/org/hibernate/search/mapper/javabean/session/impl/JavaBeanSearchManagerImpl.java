@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.javabean.mapping.context.impl.JavaBeanMappingContext;
 import org.hibernate.search.mapper.javabean.search.JavaBeanSearchTarget;
 import org.hibernate.search.mapper.javabean.search.impl.JavaBeanSearchTargetImpl;
@@ -23,10 +24,12 @@
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchManager;
 
 public class JavaBeanSearchManagerImpl extends AbstractPojoSearchManager implements JavaBeanSearchManager {
+	private final DocumentRefreshStrategy refreshStrategy;
 	private JavaBeanWorkPlanImpl workPlan;
 
 	private JavaBeanSearchManagerImpl(JavaBeanSearchManagerBuilderImpl builder) {
 		super( builder );
+		this.refreshStrategy = builder.refreshStrategy;
 	}
 
 	@Override
@@ -47,7 +50,11 @@ public <T> JavaBeanSearchTarget search(Collection<? extends Class<? extends T>>
 	@Override
 	public JavaBeanWorkPlan getMainWorkPlan() {
 		if ( workPlan == null ) {
-			workPlan = new JavaBeanWorkPlanImpl( getDelegate().createWorkPlan() );
+			workPlan = new JavaBeanWorkPlanImpl(
+					refreshStrategy == null
+							? getDelegate().createWorkPlan()
+							: getDelegate().createWorkPlan( refreshStrategy )
+			);
 		}
 		return workPlan;
 	}
@@ -55,6 +62,7 @@ public JavaBeanWorkPlan getMainWorkPlan() {
 	public static class JavaBeanSearchManagerBuilderImpl extends AbstractBuilder<JavaBeanSearchManagerImpl> implements JavaBeanSearchManagerBuilder {
 		private final JavaBeanMappingContext mappingContext;
 		private String tenantId;
+		private DocumentRefreshStrategy refreshStrategy;
 
 		public JavaBeanSearchManagerBuilderImpl(PojoMappingDelegate mappingDelegate, JavaBeanMappingContext mappingContext) {
 			super( mappingDelegate );
@@ -67,6 +75,12 @@ public JavaBeanSearchManagerBuilderImpl tenantId(String tenantId) {
 			return this;
 		}
 
+		@Override
+		public JavaBeanSearchManagerBuilderImpl refreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+			this.refreshStrategy = refreshStrategy;
+			return this;
+		}
+
 		@Override
 		protected AbstractPojoSessionContextImplementor buildSessionContext() {
 			return new JavaBeanSessionContext( mappingContext, tenantId, PojoRuntimeIntrospector.noProxy() );
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Refresh strategies for the work plans of automatic indexing.
+ *
+ * @see DocumentRefreshStrategy
+ */
+public enum RefreshStrategyConfiguration {
+
+	/**
+	 * Do not refresh indexes after writes.
+	 *
+	 * @see DocumentRefreshStrategy#NONE
+	 */
+	NONE("none", DocumentRefreshStrategy.NONE),
+
+	/**
+	 * Wait for the next refresh before considering writes complete.
+	 *
+	 * @see DocumentRefreshStrategy#WAIT_FOR
+	 */
+	WAIT_FOR("wait_for", DocumentRefreshStrategy.WAIT_FOR),
+
+	/**
+	 * Refresh indexes explicitly after writes.
+	 *
+	 * @see DocumentRefreshStrategy#IMMEDIATE
+	 */
+	IMMEDIATE("immediate", DocumentRefreshStrategy.IMMEDIATE);
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+	private final DocumentRefreshStrategy refreshStrategy;
+
+	RefreshStrategyConfiguration(String externalRepresentation, DocumentRefreshStrategy refreshStrategy) {
+		this.externalRepresentation = externalRepresentation;
+		this.refreshStrategy = refreshStrategy;
+	}
+
+	/**
+	 * Returns the {@link RefreshStrategyConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#REFRESH_STRATEGY}
+	 * @param refreshStrategy the refresh strategy external representation
+	 * @return the {@link RefreshStrategyConfiguration}
+	 */
+	public static RefreshStrategyConfiguration fromExternalRepresentation(String refreshStrategy) {
+		for ( RefreshStrategyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( refreshStrategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownRefreshStrategy( refreshStrategy );
+	}
+
+	/**
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+
+	/**
+	 * @return the refresh strategy to pass to backends
+	 */
+	public DocumentRefreshStrategy toDocumentRefreshStrategy() {
+		return refreshStrategy;
+	}
+}
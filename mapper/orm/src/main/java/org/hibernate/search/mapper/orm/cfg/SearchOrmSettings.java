@@ -60,6 +60,17 @@ public final class SearchOrmSettings {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * The refresh strategy of the work plans used for automatic indexing,
+	 * i.e. when changes made to entities become visible to search queries.
+	 * <p>
+	 * Expects a {@link RefreshStrategyConfiguration} value, or its external representation as a String:
+	 * <code>none</code>, <code>wait_for</code> or <code>immediate</code>.
+	 * <p>
+	 * Defaults to the default refresh strategy of each backend.
+	 */
+	public static final String REFRESH_STRATEGY = PREFIX + Radicals.REFRESH_STRATEGY;
+
 	public static class Radicals {
 		public static final String ENABLE_CONFIGURATION_PROPERTY_TRACKING = "enable_configuration_property_tracking";
 		public static final String AUTOREGISTER_LISTENERS = "autoregister_listeners";
@@ -67,6 +78,7 @@ public static class Radicals {
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String REFRESH_STRATEGY = "refresh_strategy";
 
 		private Radicals() {
 		}
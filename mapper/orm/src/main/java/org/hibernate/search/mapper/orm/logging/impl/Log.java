@@ -180,4 +180,8 @@ SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.cl
 	@Message(id = ID_OFFSET_2 + 13, value = "Interrupted on batch Indexing; index will be left in unknown state!")
 	SearchException interruptedBatchIndexingException(@Cause Exception cause);
 
+	@Message(id = ID_OFFSET_2 + 14,
+			value = "Unknown refresh strategy: '%1$s'. Valid strategies are: 'none', 'wait_for', 'immediate'.")
+	SearchException unknownRefreshStrategy(String refreshStrategy);
+
 }
@@ -7,14 +7,24 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.mapper.orm.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingFactory;
 
 public final class HibernateOrmMappingFactory implements PojoMappingFactory<HibernateOrmMapping> {
 
+	private static final OptionalConfigurationProperty<RefreshStrategyConfiguration> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.REFRESH_STRATEGY )
+					.as( RefreshStrategyConfiguration.class, RefreshStrategyConfiguration::fromExternalRepresentation )
+					.build();
+
 	private final SessionFactoryImplementor sessionFactoryImplementor;
 
 	public HibernateOrmMappingFactory(SessionFactoryImplementor sessionFactoryImplementor) {
@@ -24,6 +34,9 @@ public HibernateOrmMappingFactory(SessionFactoryImplementor sessionFactoryImplem
 	@Override
 	public MappingImplementor<HibernateOrmMapping> createMapping(ConfigurationPropertySource propertySource,
 			PojoMappingDelegate mappingDelegate) {
-		return new HibernateOrmMappingImpl( mappingDelegate, sessionFactoryImplementor );
+		DocumentRefreshStrategy refreshStrategy = REFRESH_STRATEGY.get( propertySource )
+				.map( RefreshStrategyConfiguration::toDocumentRefreshStrategy )
+				.orElse( null );
+		return new HibernateOrmMappingImpl( mappingDelegate, sessionFactoryImplementor, refreshStrategy );
 	}
 }
@@ -14,6 +14,7 @@
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchManagerImpl;
@@ -31,10 +32,14 @@ public class HibernateOrmMappingImpl extends AbstractPojoMappingImplementor<Hibe
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final HibernateOrmMappingContextImpl mappingContext;
+	// Null to use the default of each backend
+	private final DocumentRefreshStrategy refreshStrategy;
 
-	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor) {
+	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor,
+			DocumentRefreshStrategy refreshStrategy) {
 		super( mappingDelegate );
 		this.mappingContext = new HibernateOrmMappingContextImpl( sessionFactoryImplementor );
+		this.refreshStrategy = refreshStrategy;
 	}
 
 	@Override
@@ -92,6 +97,7 @@ private HibernateOrmSearchManagerBuilder createSearchManagerBuilder(EntityManage
 			throw log.usingDifferentSessionFactories( expectedSessionFactory, givenSessionFactory );
 		}
 
-		return new HibernateOrmSearchManagerImpl.HibernateOrmSearchManagerBuilderImpl( getDelegate(), mappingContext, sessionImplementor );
+		return new HibernateOrmSearchManagerImpl.HibernateOrmSearchManagerBuilderImpl( getDelegate(), mappingContext, sessionImplementor )
+				.refreshStrategy( refreshStrategy );
 	}
 }
@@ -10,6 +10,7 @@
 import java.util.Collections;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.orm.search.impl.HibernateOrmSearchTargetImpl;
 import org.hibernate.search.mapper.orm.search.spi.HibernateOrmSearchTarget;
 import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManager;
@@ -26,10 +27,12 @@
 public class HibernateOrmSearchManagerImpl extends AbstractPojoSearchManager
 		implements HibernateOrmSearchManager {
 	private final SessionImplementor sessionImplementor;
+	private final DocumentRefreshStrategy refreshStrategy;
 
 	private HibernateOrmSearchManagerImpl(HibernateOrmSearchManagerBuilderImpl builder) {
 		super( builder );
 		this.sessionImplementor = builder.sessionImplementor;
+		this.refreshStrategy = builder.refreshStrategy;
 	}
 
 	@Override
@@ -50,7 +53,12 @@ public <T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? exten
 
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return getDelegate().createWorkPlan();
+		if ( refreshStrategy == null ) {
+			return getDelegate().createWorkPlan();
+		}
+		else {
+			return getDelegate().createWorkPlan( refreshStrategy );
+		}
 	}
 
 	@Override
@@ -62,6 +70,7 @@ public static class HibernateOrmSearchManagerBuilderImpl extends AbstractBuilder
 			implements HibernateOrmSearchManagerBuilder {
 		private final HibernateOrmMappingContextImpl mappingContext;
 		private final SessionImplementor sessionImplementor;
+		private DocumentRefreshStrategy refreshStrategy;
 
 		public HibernateOrmSearchManagerBuilderImpl(PojoMappingDelegate mappingDelegate,
 				HibernateOrmMappingContextImpl mappingContext,
@@ -71,6 +80,12 @@ public HibernateOrmSearchManagerBuilderImpl(PojoMappingDelegate mappingDelegate,
 			this.sessionImplementor = sessionImplementor;
 		}
 
+		@Override
+		public HibernateOrmSearchManagerBuilderImpl refreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+			this.refreshStrategy = refreshStrategy;
+			return this;
+		}
+
 		@Override
 		protected AbstractPojoSessionContextImplementor buildSessionContext() {
 			return new HibernateOrmSessionContextImpl( mappingContext, sessionImplementor );
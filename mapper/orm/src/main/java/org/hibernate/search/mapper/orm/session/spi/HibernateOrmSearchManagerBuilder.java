@@ -6,10 +6,20 @@
  */
 package org.hibernate.search.mapper.orm.session.spi;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+
 public interface HibernateOrmSearchManagerBuilder {
 
 	// TODO other options (default query timeout, default query hints, ...)
 
+	/**
+	 * @param refreshStrategy The refresh strategy of work plans created by the search manager,
+	 * or {@code null} to use the default refresh strategy of each backend.
+	 * Defaults to the value of {@link org.hibernate.search.mapper.orm.cfg.SearchOrmSettings#REFRESH_STRATEGY}.
+	 * @return {@code this}, for method chaining.
+	 */
+	HibernateOrmSearchManagerBuilder refreshStrategy(DocumentRefreshStrategy refreshStrategy);
+
 	HibernateOrmSearchManager build();
 
 }
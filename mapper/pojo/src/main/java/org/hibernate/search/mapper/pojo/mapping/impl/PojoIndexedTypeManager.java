@@ -11,7 +11,9 @@
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexSearchTargetBuilder;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
@@ -129,10 +131,12 @@ void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntr
 		);
 	}
 
-	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext) {
-		return new PojoIndexedTypeWorkPlan<>(
-				this, sessionContext, indexManager.createWorkPlan( sessionContext )
-		);
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		IndexWorkPlan<D> delegate = refreshStrategy == null
+				? indexManager.createWorkPlan( sessionContext )
+				: indexManager.createWorkPlan( sessionContext, refreshStrategy );
+		return new PojoIndexedTypeWorkPlan<>( this, sessionContext, delegate );
 	}
 
 	<R, O> MappedIndexSearchTargetBuilder<R, O> createSearchTargetBuilder(MappingContextImplementor mappingContext,
@@ -11,6 +11,7 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.impl.PojoSessionWorkExecutorImpl;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
@@ -56,7 +57,12 @@ public <E, O> PojoSearchTargetDelegate<E, O> createPojoSearchTarget(
 
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext, null );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext, refreshStrategy );
 	}
 
 	@Override
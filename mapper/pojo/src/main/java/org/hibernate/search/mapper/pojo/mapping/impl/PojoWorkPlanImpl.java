@@ -15,6 +15,7 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
@@ -29,6 +30,8 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 	private final AbstractPojoSessionContextImplementor sessionContext;
+	// Null means "use the default strategy of each backend"
+	private final DocumentRefreshStrategy refreshStrategy;
 	private final PojoRuntimeIntrospector introspector;
 
 	// Use a LinkedHashMap for deterministic iteration
@@ -37,10 +40,12 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 
 	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers,
-			AbstractPojoSessionContextImplementor sessionContext) {
+			AbstractPojoSessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 		this.sessionContext = sessionContext;
+		this.refreshStrategy = refreshStrategy;
 		this.introspector = sessionContext.getRuntimeIntrospector();
 	}
 
@@ -140,7 +145,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
 			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeManagerOptional.get()
-					.createWorkPlan( sessionContext );
+					.createWorkPlan( sessionContext, refreshStrategy );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -166,7 +171,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext );
+			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext, refreshStrategy );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.search.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
@@ -18,6 +19,8 @@ public interface PojoSearchManagerDelegate {
 
 	PojoWorkPlan createWorkPlan();
 
+	PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
 	PojoSessionWorkExecutor createSessionWorkExecutor();
 
 }
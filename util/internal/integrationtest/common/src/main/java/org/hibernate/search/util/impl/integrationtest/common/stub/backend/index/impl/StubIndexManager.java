@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
@@ -63,7 +64,13 @@ public String toString() {
 
 	@Override
 	public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContextImplementor context) {
-		return new StubIndexWorkPlan( this, context );
+		return new StubIndexWorkPlan( this, context, null );
+	}
+
+	@Override
+	public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContextImplementor context,
+			DocumentRefreshStrategy refreshStrategy) {
+		return new StubIndexWorkPlan( this, context, refreshStrategy );
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
@@ -21,14 +22,17 @@
 class StubIndexWorkPlan implements IndexWorkPlan<StubDocumentElement> {
 	private final StubIndexManager indexManager;
 	private final SessionContextImplementor sessionContext;
+	private final DocumentRefreshStrategy refreshStrategy;
 
 	private final List<StubIndexWork> works = new ArrayList<>();
 
 	private int preparedIndex = 0;
 
-	StubIndexWorkPlan(StubIndexManager indexManager, SessionContextImplementor sessionContext) {
+	StubIndexWorkPlan(StubIndexManager indexManager, SessionContextImplementor sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		this.sessionContext = sessionContext;
 		this.indexManager = indexManager;
+		this.refreshStrategy = refreshStrategy;
 	}
 
 	@Override
@@ -81,6 +85,7 @@ private void populate(StubIndexWork.Builder builder, DocumentReferenceProvider d
 		builder.tenantIdentifier( sessionContext.getTenantIdentifier() );
 		builder.identifier( documentReferenceProvider.getIdentifier() );
 		builder.routingKey( documentReferenceProvider.getRoutingKey() );
+		builder.refreshStrategy( refreshStrategy );
 	}
 
 	private void addWork(StubIndexWork work) {
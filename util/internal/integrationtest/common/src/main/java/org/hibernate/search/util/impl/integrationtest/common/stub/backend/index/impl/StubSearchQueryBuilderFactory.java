@@ -13,7 +13,7 @@
 import org.hibernate.search.engine.backend.document.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchProjection;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
@@ -36,44 +36,44 @@ class StubSearchQueryBuilderFactory implements SearchQueryBuilderFactory<StubQue
 
 	@Override
 	public <O> SearchQueryBuilder<O, StubQueryElementCollector> asObject(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, O> projectionHitMapper) {
+			LoadingContext<?, O> loadingContext) {
 		return new StubSearchQueryBuilder<>(
 				backend, targetModel, StubSearchWork.ResultType.OBJECTS,
 				new FromDocumentFieldValueConvertContextImpl( sessionContext ),
-				projectionHitMapper,
+				loadingContext,
 				StubObjectSearchProjection.get()
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, StubQueryElementCollector> asReference(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper) {
+			LoadingContext<?, ?> loadingContext) {
 		return new StubSearchQueryBuilder<>(
 				backend, targetModel, StubSearchWork.ResultType.REFERENCES,
 				new FromDocumentFieldValueConvertContextImpl( sessionContext ),
-				projectionHitMapper,
+				loadingContext,
 				StubReferenceSearchProjection.get()
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, StubQueryElementCollector> asProjection(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, SearchProjection<T> projection) {
+			LoadingContext<?, ?> loadingContext, SearchProjection<T> projection) {
 		return new StubSearchQueryBuilder<>(
 				backend, targetModel, StubSearchWork.ResultType.PROJECTIONS,
 				new FromDocumentFieldValueConvertContextImpl( sessionContext ),
-				projectionHitMapper,
+				loadingContext,
 				(StubSearchProjection<T>) projection
 		);
 	}
 
 	@Override
 	public SearchQueryBuilder<List<?>, StubQueryElementCollector> asProjections(SessionContextImplementor sessionContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, SearchProjection<?>... projections) {
+			LoadingContext<?, ?> loadingContext, SearchProjection<?>... projections) {
 		return new StubSearchQueryBuilder<>(
 				backend, targetModel, StubSearchWork.ResultType.PROJECTIONS,
 				new FromDocumentFieldValueConvertContextImpl( sessionContext ),
-				projectionHitMapper,
+				loadingContext,
 				createRootProjection( projections )
 		);
 	}
@@ -7,11 +7,18 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.document.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.search.SearchChunk;
+import org.hibernate.search.engine.search.SearchCursor;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
+import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 
@@ -21,17 +28,17 @@
 	private final List<String> indexNames;
 	private final StubSearchWork.Builder workBuilder;
 	private final FromDocumentFieldValueConvertContext convertContext;
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LoadingContext<?, ?> loadingContext;
 	private final StubSearchProjection<T> rootProjection;
 
 	StubSearchQuery(StubBackend backend, List<String> indexNames, StubSearchWork.Builder workBuilder,
 			FromDocumentFieldValueConvertContext convertContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection) {
+			LoadingContext<?, ?> loadingContext, StubSearchProjection<T> rootProjection) {
 		this.backend = backend;
 		this.indexNames = indexNames;
 		this.workBuilder = workBuilder;
 		this.convertContext = convertContext;
-		this.projectionHitMapper = projectionHitMapper;
+		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
 	}
 
@@ -45,6 +52,21 @@ public void setMaxResults(Long maxResultsCount) {
 		workBuilder.maxResultsCount( maxResultsCount );
 	}
 
+	@Override
+	public void setExactHitCountRequired(boolean exactHitCountRequired) {
+		// Hit counts are provided by the test
+	}
+
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		// Results are provided by the test, the stub backend never times out
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		// Results are provided by the test, the stub backend never times out
+	}
+
 	@Override
 	public String getQueryString() {
 		return getClass().getName() + "@" + Integer.toHexString( hashCode() );
@@ -53,12 +75,33 @@ public String getQueryString() {
 	@Override
 	public SearchResult<T> execute() {
 		return backend.getBehavior().executeSearchWork(
-				indexNames, workBuilder.build(), convertContext, projectionHitMapper, rootProjection
+				indexNames, workBuilder.build(), convertContext, loadingContext.createProjectionHitMapper(), rootProjection
 		);
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		// The stub backend is synchronous
+		return Futures.create( () -> CompletableFuture.completedFuture( execute() ) );
+	}
+
 	@Override
 	public long executeCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public SearchChunk<T> executeChunk(int chunkSize) {
+		throw new UnsupportedOperationException( "Chunked execution is not supported by the stub backend" );
+	}
+
+	@Override
+	public SearchChunk<T> executeChunk(SearchCursor cursor, int chunkSize) {
+		throw new UnsupportedOperationException( "Chunked execution is not supported by the stub backend" );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		throw new UnsupportedOperationException( "Scrolling is not supported by the stub backend" );
+	}
 }
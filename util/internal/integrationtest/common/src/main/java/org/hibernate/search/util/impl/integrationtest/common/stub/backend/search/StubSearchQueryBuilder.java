@@ -10,7 +10,7 @@
 
 import org.hibernate.search.engine.backend.document.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.SearchQuery;
-import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.impl.StubSearchTargetModel;
@@ -22,18 +22,18 @@
 	private final StubSearchTargetModel searchTargetModel;
 	private final StubSearchWork.Builder workBuilder;
 	private final FromDocumentFieldValueConvertContext convertContext;
-	private final ProjectionHitMapper<?, ?> projectionHitMapper;
+	private final LoadingContext<?, ?> loadingContext;
 	private final StubSearchProjection<T> rootProjection;
 
 	public StubSearchQueryBuilder(StubBackend backend, StubSearchTargetModel searchTargetModel,
 			StubSearchWork.ResultType resultType,
 			FromDocumentFieldValueConvertContext convertContext,
-			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection) {
+			LoadingContext<?, ?> loadingContext, StubSearchProjection<T> rootProjection) {
 		this.backend = backend;
 		this.searchTargetModel = searchTargetModel;
 		this.workBuilder = StubSearchWork.builder( resultType );
 		this.convertContext = convertContext;
-		this.projectionHitMapper = projectionHitMapper;
+		this.loadingContext = loadingContext;
 		this.rootProjection = rootProjection;
 	}
 
@@ -51,7 +51,7 @@ public void addRoutingKey(String routingKey) {
 	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
 		StubSearchQuery<T> searchQuery = new StubSearchQuery<>(
 				backend, searchTargetModel.getIndexNames(), workBuilder, convertContext,
-				projectionHitMapper, rootProjection
+				loadingContext, rootProjection
 		);
 
 		return searchQueryWrapperFactory.apply( searchQuery );
@@ -9,6 +9,7 @@
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -38,6 +39,10 @@ public IndexWorkPlan<? extends DocumentElement> createWorkPlan(StubSessionContex
 		return indexManager.createWorkPlan( sessionContext );
 	}
 
+	public IndexWorkPlan<? extends DocumentElement> createWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return indexManager.createWorkPlan( new StubSessionContext(), refreshStrategy );
+	}
+
 	public IndexDocumentWorkExecutor<? extends DocumentElement> createDocumentWorkExecutor() {
 		return createDocumentWorkExecutor( new StubSessionContext() );
 	}